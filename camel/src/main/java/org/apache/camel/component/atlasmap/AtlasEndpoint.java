@@ -30,6 +30,7 @@ import java.util.Properties;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePattern;
 import org.apache.camel.Message;
+import org.apache.camel.api.management.ManagedAttribute;
 import org.apache.camel.component.ResourceEndpoint;
 import org.apache.camel.spi.UriEndpoint;
 import org.apache.camel.spi.UriParam;
@@ -39,11 +40,13 @@ import org.apache.camel.util.ResourceHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.atlasmap.api.AtlasBatchResult;
 import io.atlasmap.api.AtlasContext;
 import io.atlasmap.api.AtlasContextFactory;
 import io.atlasmap.api.AtlasException;
 import io.atlasmap.api.AtlasSession;
 import io.atlasmap.core.ADMArchiveHandler;
+import io.atlasmap.core.AtlasContextCache;
 import io.atlasmap.core.DefaultAtlasContext;
 import io.atlasmap.core.DefaultAtlasContextFactory;
 import io.atlasmap.v2.AtlasMapping;
@@ -63,11 +66,16 @@ public class AtlasEndpoint extends ResourceEndpoint {
     private static final Logger LOG = LoggerFactory.getLogger(AtlasEndpoint.class);
     private AtlasContextFactory atlasContextFactory;
     private AtlasContext atlasContext;
+    private AtlasContextCache contextCache;
 
     @UriParam(defaultValue = "true")
     private boolean loaderCache = true;
     @UriParam
     private String encoding;
+    @UriParam(defaultValue = "64")
+    private int contextCacheSize = 64;
+    @UriParam(defaultValue = "false")
+    private boolean batch;
     @UriParam
     private String propertiesFile;
     @UriParam
@@ -135,6 +143,48 @@ public class AtlasEndpoint extends ResourceEndpoint {
         return encoding;
     }
 
+    /**
+     * The maximum number of AtlasContext to cache for the mapping definitions supplied in the
+     * message header, keyed by the digest of the content. The least recently used one is evicted
+     * when the cache is full. 0 disables the cache.
+     * @param contextCacheSize maximum number of cached contexts
+     */
+    public void setContextCacheSize(int contextCacheSize) {
+        this.contextCacheSize = contextCacheSize;
+    }
+
+    public int getContextCacheSize() {
+        return contextCacheSize;
+    }
+
+    @ManagedAttribute(description = "Number of the header-supplied mappings found in the context cache")
+    public long getContextCacheHits() {
+        AtlasContextCache cache = this.contextCache;
+        return cache != null ? cache.getHitCount() : 0;
+    }
+
+    @ManagedAttribute(description = "Number of the header-supplied mappings not found in the context cache")
+    public long getContextCacheMisses() {
+        AtlasContextCache cache = this.contextCache;
+        return cache != null ? cache.getMissCount() : 0;
+    }
+
+    /**
+     * Whether to process a <code>java.util.List</code> message body as a batch, e.g. the body of an
+     * aggregated exchange. Each element is mapped as the body of the incoming message would be, and
+     * the body is replaced with the list of the target documents in the same order. An element of the
+     * list is a <code>java.util.Map&lt;String, Object&gt;</code> keyed by AtlasMap Document ID if
+     * there're multiple target documents.
+     * @param batch true to process a list body as a batch
+     */
+    public void setBatch(boolean batch) {
+        this.batch = batch;
+    }
+
+    public boolean isBatch() {
+        return batch;
+    }
+
     /**
      * The URI of the properties file which is used for AtlasContextFactory
      * initialization.
@@ -220,31 +270,106 @@ public class AtlasEndpoint extends ResourceEndpoint {
             return;
         }
 
-        AtlasSession atlasSession = getOrCreateAtlasContext(incomingMessage).createSession();
-        populateSourceDocuments(exchange, atlasSession);
-        atlasSession.getAtlasContext().process(atlasSession);
-
-        List<Audit> errors = new ArrayList<>();
-        for (Audit audit : atlasSession.getAudits().getAudit()) {
-            switch (audit.getStatus()) {
-            case ERROR:
-                errors.add(audit);
-                break;
-            case WARN:
-                LOG.warn("{}: docId='{}', path='{}'", audit.getMessage(), audit.getDocId(), audit.getPath());
-                break;
-            default:
-                LOG.info("{}: docId='{}', path='{}'", audit.getMessage(), audit.getDocId(), audit.getPath());
+        AtlasContext atlasContext = getOrCreateAtlasContext(incomingMessage);
+        if (batch && incomingMessage.getBody() instanceof List) {
+            processBatch(atlasContext, incomingMessage.getBody(List.class), exchange);
+            return;
+        }
+        AtlasSession atlasSession = atlasContext.borrowSession();
+        try {
+            populateSourceDocuments(exchange, exchange.getIn(), atlasSession);
+            atlasSession.getAtlasContext().process(atlasSession);
+
+            List<Audit> errors = new ArrayList<>();
+            for (Audit audit : atlasSession.getAudits().getAudit()) {
+                switch (audit.getStatus()) {
+                case ERROR:
+                    errors.add(audit);
+                    break;
+                case WARN:
+                    LOG.warn("{}: docId='{}', path='{}'", audit.getMessage(), audit.getDocId(), audit.getPath());
+                    break;
+                default:
+                    LOG.info("{}: docId='{}', path='{}'", audit.getMessage(), audit.getDocId(), audit.getPath());
+                }
+            }
+            if (!errors.isEmpty()) {
+                StringBuilder buf = new StringBuilder("Errors: ");
+                errors.stream().forEach(a -> buf.append(
+                        String.format("[%s: docId='%s', path='%s'], ", a.getMessage(), a.getDocId(), a.getPath())));
+                throw new AtlasException(buf.toString());
             }
+
+            populateTargetDocuments(atlasSession, exchange);
+        } finally {
+            atlasContext.releaseSession(atlasSession);
         }
-        if (!errors.isEmpty()) {
-            StringBuilder buf = new StringBuilder("Errors: ");
-            errors.stream().forEach(a -> buf.append(
-                    String.format("[%s: docId='%s', path='%s'], ", a.getMessage(), a.getDocId(), a.getPath())));
-            throw new AtlasException(buf.toString());
+    }
+
+    private void processBatch(AtlasContext atlasContext, List<?> items, Exchange exchange) throws Exception {
+        Message inMessage = exchange.getIn();
+        AtlasMapping[] mapping = new AtlasMapping[1];
+        List<AtlasBatchResult> results = atlasContext.processBatch(items, (item, session) -> {
+            // each item is read as the body of a copy of the incoming message, so that the source documents
+            // are resolved the same way as for a single message
+            Message itemMessage = inMessage.copy();
+            itemMessage.setBody(item);
+            populateSourceDocuments(exchange, itemMessage, session);
+            mapping[0] = session.getReadOnlyMapping();
+        });
+
+        StringBuilder errors = new StringBuilder();
+        List<Object> targetDocuments = new ArrayList<>(results.size());
+        for (int i = 0; i < results.size(); i++) {
+            AtlasBatchResult result = results.get(i);
+            for (Audit audit : result.getAudits().getAudit()) {
+                switch (audit.getStatus()) {
+                case ERROR:
+                    errors.append(String.format("[#%d %s: docId='%s', path='%s'], ",
+                            i, audit.getMessage(), audit.getDocId(), audit.getPath()));
+                    break;
+                case WARN:
+                    LOG.warn("#{} {}: docId='{}', path='{}'",
+                            i, audit.getMessage(), audit.getDocId(), audit.getPath());
+                    break;
+                default:
+                    LOG.info("#{} {}: docId='{}', path='{}'",
+                            i, audit.getMessage(), audit.getDocId(), audit.getPath());
+                }
+            }
+            targetDocuments.add(getBatchTargetDocument(mapping[0], result));
+        }
+        if (errors.length() > 0) {
+            throw new AtlasException("Errors: " + errors);
         }
 
-        populateTargetDocuments(atlasSession, exchange);
+        Message message = exchange.getOut();
+        message.setHeaders(exchange.getIn().getHeaders());
+        message.setAttachments(exchange.getIn().getAttachments());
+        message.setBody(targetDocuments);
+    }
+
+    private Object getBatchTargetDocument(AtlasMapping mapping, AtlasBatchResult result) {
+        if (mapping == null || mapping.getDataSource() == null) {
+            return result.getDefaultTargetDocument();
+        }
+        DataSource[] targetDataSources = mapping.getDataSource().stream()
+                .filter(ds -> ds.getDataSourceType() == DataSourceType.TARGET)
+                .toArray(DataSource[]::new);
+        if (targetDataSources.length == 0) {
+            return result.getDefaultTargetDocument();
+        }
+        if (targetDataSources.length == 1) {
+            return result.getTargetDocument(targetDataSources[0].getId());
+        }
+        Map<String, Object> targetDocuments = new HashMap<>();
+        for (DataSource ds : targetDataSources) {
+            String docId = ds.getId();
+            targetDocuments.put(docId == null || docId.isEmpty()
+                    ? io.atlasmap.api.AtlasConstants.DEFAULT_TARGET_DOCUMENT_ID : docId,
+                    result.getTargetDocument(docId));
+        }
+        return targetDocuments;
     }
 
     private AtlasContext getOrCreateAtlasContext(Message incomingMessage) throws Exception {
@@ -262,10 +387,14 @@ public class AtlasEndpoint extends ResourceEndpoint {
             }
             // remove the header to avoid it being propagated in the routing
             incomingMessage.removeHeader(AtlasConstants.ATLAS_MAPPING);
-            AtlasMapping mapping = ((DefaultAtlasContextFactory) getOrCreateAtlasContextFactory())
-                                    .getMappingService()
-                                    .loadMapping(reader);
-            return ((DefaultAtlasContextFactory) getOrCreateAtlasContextFactory()).createContext(mapping);
+            DefaultAtlasContextFactory factory = (DefaultAtlasContextFactory) getOrCreateAtlasContextFactory();
+            AtlasContextCache cache = getOrCreateContextCache();
+            if (cache != null) {
+                return cache.getOrCreate(content,
+                    c -> factory.createContext(factory.getMappingService().loadMapping(new StringReader(c))));
+            }
+            AtlasMapping mapping = factory.getMappingService().loadMapping(reader);
+            return factory.createContext(mapping);
         } else if (getAtlasContext() != null) {
             // no mapping specified in header, and found an existing context
             return getAtlasContext();
@@ -296,6 +425,22 @@ public class AtlasEndpoint extends ResourceEndpoint {
         return atlasContext;
     }
 
+    private synchronized AtlasContextCache getOrCreateContextCache() {
+        if (contextCache == null && contextCacheSize > 0) {
+            contextCache = new AtlasContextCache(contextCacheSize);
+        }
+        return contextCache;
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+        AtlasContextCache cache = this.contextCache;
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
     private synchronized AtlasContextFactory getOrCreateAtlasContextFactory() throws Exception {
         if (atlasContextFactory != null) {
             return atlasContextFactory;
@@ -320,21 +465,21 @@ public class AtlasEndpoint extends ResourceEndpoint {
         return atlasContextFactory;
     }
 
-    private void populateSourceDocuments(Exchange exchange, AtlasSession session) {
-        if (session.getMapping().getDataSource() == null) {
+    private void populateSourceDocuments(Exchange exchange, Message inMessage, AtlasSession session) {
+        if (session.getReadOnlyMapping().getDataSource() == null) {
             return;
         }
-        DataSource[] sourceDataSources = session.getMapping().getDataSource().stream()
+        DataSource[] sourceDataSources = session.getReadOnlyMapping().getDataSource().stream()
                 .filter(ds -> ds.getDataSourceType() == DataSourceType.SOURCE)
                 .toArray(DataSource[]::new);
         if (sourceDataSources.length == 0) {
-            session.setDefaultSourceDocument(exchange.getIn().getBody());
+            session.setDefaultSourceDocument(inMessage.getBody());
             return;
         }
 
         if (sourceDataSources.length == 1) {
             String docId = sourceDataSources[0].getId();
-            Object payload = extractPayload(sourceDataSources[0], exchange.getIn());
+            Object payload = extractPayload(sourceDataSources[0], inMessage);
             if (docId == null || docId.isEmpty()) {
                 session.setDefaultSourceDocument(payload);
             } else {
@@ -350,7 +495,7 @@ public class AtlasEndpoint extends ResourceEndpoint {
             sourceMessages = exchange.getProperty(sourceMapName, Map.class);
         }
         if (sourceMessages == null) {
-            Object body = exchange.getIn().getBody();
+            Object body = inMessage.getBody();
             if (body instanceof Map) {
                 sourceDocuments = (Map<String, Object>)body;
             } else {
@@ -387,10 +532,10 @@ public class AtlasEndpoint extends ResourceEndpoint {
         outMessage.setHeaders(exchange.getIn().getHeaders());
         outMessage.setAttachments(exchange.getIn().getAttachments());
 
-        if (session.getMapping().getDataSource() == null) {
+        if (session.getReadOnlyMapping().getDataSource() == null) {
             return;
         }
-        DataSource[] targetDataSources = session.getMapping().getDataSource().stream()
+        DataSource[] targetDataSources = session.getReadOnlyMapping().getDataSource().stream()
                 .filter(ds -> ds.getDataSourceType() == DataSourceType.TARGET)
                 .toArray(DataSource[]::new);
         if (targetDataSources.length == 0) {
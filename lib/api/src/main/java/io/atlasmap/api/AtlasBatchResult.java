@@ -0,0 +1,69 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.api;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import io.atlasmap.v2.Audit;
+import io.atlasmap.v2.AuditStatus;
+import io.atlasmap.v2.Audits;
+
+/**
+ * The outcome of one item processed by {@link AtlasContext#processBatch(java.util.List)}, i.e. the target
+ * documents and the audits the session had right after processing it.
+ */
+public class AtlasBatchResult {
+
+    private final Map<String, Object> targetDocuments;
+    private final Audits audits;
+
+    public AtlasBatchResult(AtlasSession session) {
+        this.targetDocuments = Collections.unmodifiableMap(new HashMap<>(session.getTargetDocumentMap()));
+        this.audits = new Audits();
+        this.audits.getAudit().addAll(session.getAudits().getAudit());
+    }
+
+    public Object getDefaultTargetDocument() {
+        return targetDocuments.get(AtlasConstants.DEFAULT_TARGET_DOCUMENT_ID);
+    }
+
+    public Object getTargetDocument(String docId) {
+        if (docId == null || docId.isEmpty()) {
+            return getDefaultTargetDocument();
+        }
+        return targetDocuments.get(docId);
+    }
+
+    public Map<String, Object> getTargetDocumentMap() {
+        return targetDocuments;
+    }
+
+    public Audits getAudits() {
+        return audits;
+    }
+
+    public boolean hasErrors() {
+        for (Audit audit : audits.getAudit()) {
+            if (AuditStatus.ERROR.equals(audit.getStatus())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
@@ -15,6 +15,11 @@
  */
 package io.atlasmap.api;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
 import io.atlasmap.v2.Audits;
 import io.atlasmap.v2.Mapping;
 
@@ -24,6 +29,26 @@ public interface AtlasContext {
 
     AtlasSession createSession() throws AtlasException;
 
+    /**
+     * Gets a session which might be reused from a previous message. The session must be handed back
+     * with {@link #releaseSession(AtlasSession)} once the caller is done with its target documents and audits,
+     * and must not be used after that. Implementations that don't pool sessions just create a new one.
+     *
+     * @return session
+     * @throws AtlasException failed to create a session
+     */
+    default AtlasSession borrowSession() throws AtlasException {
+        return createSession();
+    }
+
+    /**
+     * Hands back a session obtained from {@link #borrowSession()} so that it can be reused.
+     *
+     * @param session session to release
+     */
+    default void releaseSession(AtlasSession session) {
+    }
+
     /*
      * https://github.com/atlasmap/atlasmap/issues/872
      * Consider moving following 3 methods into AtlasSession in V2
@@ -33,6 +58,50 @@ public interface AtlasContext {
 
     void processValidation(AtlasSession session) throws AtlasException;
 
+    /**
+     * Processes a batch of source documents. Each item is processed with its own session state as
+     * {@link #process(AtlasSession)} does, and an item which ends up with error audits doesn't stop the others.
+     *
+     * @param sourceDocuments source documents of each item keyed by document ID, use
+     * {@link AtlasConstants#DEFAULT_SOURCE_DOCUMENT_ID} for the default source document
+     * @return target documents and audits of each item, in the same order
+     * @throws AtlasException failed to process
+     */
+    default List<AtlasBatchResult> processBatch(List<Map<String, Object>> sourceDocuments) throws AtlasException {
+        return processBatch(sourceDocuments, (sources, session) -> {
+            for (Map.Entry<String, Object> source : sources.entrySet()) {
+                session.setSourceDocument(source.getKey(), source.getValue());
+            }
+        });
+    }
+
+    /**
+     * Processes a batch of items, e.g. the messages of an aggregated exchange. Each item is processed with
+     * its own session state as {@link #process(AtlasSession)} does, once the source populator has put its
+     * source documents and the property strategy if any into the session.
+     *
+     * @param <T> item type
+     * @param items items
+     * @param sourcePopulator sets the source documents of an item into the session
+     * @return target documents and audits of each item, in the same order
+     * @throws AtlasException failed to process
+     */
+    default <T> List<AtlasBatchResult> processBatch(List<T> items, BiConsumer<T, AtlasSession> sourcePopulator)
+            throws AtlasException {
+        List<AtlasBatchResult> results = new ArrayList<>(items.size());
+        for (T item : items) {
+            AtlasSession session = borrowSession();
+            try {
+                sourcePopulator.accept(item, session);
+                process(session);
+                results.add(new AtlasBatchResult(session));
+            } finally {
+                releaseSession(session);
+            }
+        }
+        return results;
+    }
+
     Audits processPreview(Mapping mapping) throws AtlasException;
 
 }
@@ -39,8 +39,24 @@ public interface AtlasSession {
 
     void setAtlasContext(AtlasContext atlasContext);
 
+    /**
+     * Gets the mapping definition of this session, which might be modified before processing. The
+     * implementation might copy the mapping definition on the first call for that purpose, use
+     * {@link #getReadOnlyMapping()} to just read it.
+     *
+     * @return mapping definition
+     */
     AtlasMapping getMapping();
 
+    /**
+     * Gets the mapping definition to be processed, which must not be modified.
+     *
+     * @return mapping definition
+     */
+    default AtlasMapping getReadOnlyMapping() {
+        return getMapping();
+    }
+
     Object getDefaultSourceDocument();
 
     void setDefaultSourceDocument(Object sourceDoc);
@@ -25,4 +25,16 @@ public interface AtlasContextFactoryMXBean {
 
     String getVersion();
 
+    long getExpressionCacheHitCount();
+
+    long getExpressionCacheMissCount();
+
+    long getExpressionCacheEvictionCount();
+
+    int getExpressionCacheSize();
+
+    int getExpressionCacheMaxSize();
+
+    void setExpressionCacheMaxSize(int maxSize);
+
 }
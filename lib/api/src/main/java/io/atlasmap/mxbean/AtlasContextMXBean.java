@@ -15,6 +15,9 @@
  */
 package io.atlasmap.mxbean;
 
+import javax.management.openmbean.OpenDataException;
+import javax.management.openmbean.TabularData;
+
 public interface AtlasContextMXBean {
 
     String getUuid();
@@ -29,4 +32,14 @@ public interface AtlasContextMXBean {
 
     String getVersion();
 
+    boolean isProfilingEnabled();
+
+    void setProfilingEnabled(boolean enabled);
+
+    TabularData readAndResetProfile() throws OpenDataException;
+
+    String dumpProfileAsJson();
+
+    void logProfile();
+
 }
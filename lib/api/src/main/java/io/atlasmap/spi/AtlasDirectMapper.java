@@ -0,0 +1,35 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.spi;
+
+/**
+ * A mapping compiled by an {@link AtlasDirectMapperCompiler} into direct calls from the source document
+ * to the target document, which bypasses the generic field processing.
+ */
+@FunctionalInterface
+public interface AtlasDirectMapper {
+
+    /**
+     * Maps the source document of the session into the target document. It doesn't add any audit, it returns
+     * false instead if the generic processing should take over the mapping, e.g. to report a null value.
+     *
+     * @param session session
+     * @return true if it's mapped, false if the generic processing should map it
+     * @throws Exception failed to map, the generic processing takes over the mapping as well
+     */
+    boolean map(AtlasInternalSession session) throws Exception;
+
+}
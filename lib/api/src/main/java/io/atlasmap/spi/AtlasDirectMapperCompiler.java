@@ -0,0 +1,36 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.spi;
+
+import io.atlasmap.api.AtlasException;
+import io.atlasmap.v2.Mapping;
+
+/**
+ * An optional capability of a target {@link AtlasModule} to compile a mapping into an {@link AtlasDirectMapper}.
+ */
+public interface AtlasDirectMapperCompiler {
+
+    /**
+     * Compiles the mapping which has a single source field and a single target field without any field action.
+     *
+     * @param mapping mapping
+     * @param sourceModule module of the source field
+     * @return direct mapper, or null if the mapping has constructs this module doesn't support
+     * @throws AtlasException failed to compile
+     */
+    AtlasDirectMapper compileDirectMapper(Mapping mapping, AtlasModule sourceModule) throws AtlasException;
+
+}
@@ -0,0 +1,321 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.atlasmap.benchmarks.model.BenchmarkDocument;
+import io.atlasmap.benchmarks.model.BenchmarkRecord;
+import io.atlasmap.csv.v2.CsvField;
+import io.atlasmap.java.v2.JavaField;
+import io.atlasmap.json.v2.JsonField;
+import io.atlasmap.v2.AtlasMapping;
+import io.atlasmap.v2.AtlasModelFactory;
+import io.atlasmap.v2.DataSource;
+import io.atlasmap.v2.DataSourceType;
+import io.atlasmap.v2.Field;
+import io.atlasmap.v2.FieldType;
+import io.atlasmap.v2.Mapping;
+import io.atlasmap.v2.MappingType;
+import io.atlasmap.xml.v2.XmlField;
+
+/**
+ * Builds the mapping definitions and the source documents the benchmarks process. Everything is
+ * generated deterministically, so that the results are comparable between the runs.
+ * The documents consist of records which have 4 string fields and an integer field, each mapped
+ * to the same path in the target document of the same format.
+ */
+public final class BenchmarkDocuments {
+
+    public static final String SOURCE_DOC_ID = "source";
+    public static final String TARGET_DOC_ID = "target";
+    public static final int FIELD_COUNT = 5;
+
+    private BenchmarkDocuments() {
+    }
+
+    /**
+     * The document format.
+     */
+    public enum Format {
+        JSON, XML, JAVA, CSV
+    }
+
+    /**
+     * The document shape.
+     */
+    public enum Shape {
+        /** A single record, i.e. 5 fields. */
+        SMALL(1, 0, 0),
+        /** 10 records, i.e. 50 fields. */
+        MEDIUM(10, 0, 0),
+        /** A collection of 100 records. */
+        COLLECTION(1, 100, 0),
+        /** A collection of 2000 records with 128 characters long string values, i.e. over 1MB in any format. */
+        LARGE(1, 2000, 128);
+
+        private final int recordCount;
+        private final int collectionSize;
+        private final int valueLength;
+
+        Shape(int recordCount, int collectionSize, int valueLength) {
+            this.recordCount = recordCount;
+            this.collectionSize = collectionSize;
+            this.valueLength = valueLength;
+        }
+
+        public int getRecordCount() {
+            return recordCount;
+        }
+
+        public int getCollectionSize() {
+            return collectionSize;
+        }
+
+        public boolean isCollection() {
+            return collectionSize > 0;
+        }
+
+        /**
+         * Gets the minimum length of the string values.
+         *
+         * @return value length, 0 to leave them as short as possible
+         */
+        public int getValueLength() {
+            return valueLength;
+        }
+    }
+
+    public static AtlasMapping createMapping(Format format, Shape shape) {
+        return createMapping(format, shape, false);
+    }
+
+    /**
+     * Creates the mapping definition.
+     *
+     * @param format document format
+     * @param shape document shape
+     * @param streaming whether the JSON or XML source document is read in a streaming pass
+     * @return mapping definition
+     */
+    public static AtlasMapping createMapping(Format format, Shape shape, boolean streaming) {
+        AtlasMapping mapping = AtlasModelFactory.createAtlasMapping();
+        mapping.setName(String.format("benchmark_%s_%s", format, shape).toLowerCase());
+        DataSource source = createDataSource(format, SOURCE_DOC_ID, DataSourceType.SOURCE);
+        if (streaming && (format == Format.JSON || format == Format.XML)) {
+            source.setUri(source.getUri() + "?streaming=true");
+        }
+        mapping.getDataSource().add(source);
+        mapping.getDataSource().add(createDataSource(format, TARGET_DOC_ID, DataSourceType.TARGET));
+        for (int r = 0; r < shape.getRecordCount(); r++) {
+            for (int f = 0; f < FIELD_COUNT; f++) {
+                Mapping m = AtlasModelFactory.createMapping(MappingType.MAP);
+                m.getInputField().add(createField(format, SOURCE_DOC_ID, path(format, shape, r, f), f));
+                m.getOutputField().add(createField(format, TARGET_DOC_ID, path(format, shape, r, f), f));
+                mapping.getMappings().getMapping().add(m);
+            }
+        }
+        return mapping;
+    }
+
+    public static Object createSource(Format format, Shape shape) {
+        switch (format) {
+        case JSON:
+            return createJson(shape);
+        case XML:
+            return createXml(shape);
+        case JAVA:
+            return createJava(shape);
+        case CSV:
+            return createCsv(shape);
+        default:
+            throw new IllegalArgumentException("Unsupported format: " + format);
+        }
+    }
+
+    private static DataSource createDataSource(Format format, String docId, DataSourceType type) {
+        DataSource ds = new DataSource();
+        ds.setId(docId);
+        ds.setDataSourceType(type);
+        switch (format) {
+        case JAVA:
+            ds.setUri("atlas:java:" + docId + "?className=" + BenchmarkDocument.class.getName());
+            break;
+        case CSV:
+            ds.setUri("atlas:csv:" + docId + "?firstRecordAsHeader=true");
+            break;
+        default:
+            ds.setUri("atlas:" + format.name().toLowerCase() + ":" + docId);
+        }
+        return ds;
+    }
+
+    private static Field createField(Format format, String docId, String path, int f) {
+        Field field;
+        switch (format) {
+        case JSON:
+            field = new JsonField();
+            break;
+        case XML:
+            field = new XmlField();
+            break;
+        case JAVA:
+            field = new JavaField();
+            break;
+        case CSV:
+            field = new CsvField();
+            break;
+        default:
+            throw new IllegalArgumentException("Unsupported format: " + format);
+        }
+        field.setDocId(docId);
+        field.setPath(path);
+        field.setName(path.substring(path.lastIndexOf('/') + 1));
+        field.setFieldType(f == FIELD_COUNT - 1 ? FieldType.INTEGER : FieldType.STRING);
+        return field;
+    }
+
+    private static String path(Format format, Shape shape, int r, int f) {
+        if (format == Format.CSV) {
+            return "/<>/" + column(shape, r, f);
+        }
+        String record = shape.isCollection() ? "/records<>" : "/record" + r;
+        return (format == Format.XML ? "/document" : "") + record + "/field" + f;
+    }
+
+    private static String column(Shape shape, int r, int f) {
+        return shape.isCollection() ? "field" + f : "record" + r + "_field" + f;
+    }
+
+    private static Object value(Shape shape, int r, int f) {
+        if (f == FIELD_COUNT - 1) {
+            return Integer.valueOf(r * 10 + f);
+        }
+        StringBuilder value = new StringBuilder("value-").append(r).append('-').append(f);
+        while (value.length() < shape.getValueLength()) {
+            value.append('-').append(f);
+        }
+        return value.toString();
+    }
+
+    private static String createJson(Shape shape) {
+        StringBuilder buf = new StringBuilder("{");
+        if (shape.isCollection()) {
+            buf.append("\"records\":[");
+            for (int r = 0; r < shape.getCollectionSize(); r++) {
+                buf.append(r > 0 ? "," : "");
+                appendJsonRecord(buf, shape, r);
+            }
+            buf.append(']');
+        } else {
+            for (int r = 0; r < shape.getRecordCount(); r++) {
+                buf.append(r > 0 ? "," : "").append("\"record").append(r).append("\":");
+                appendJsonRecord(buf, shape, r);
+            }
+        }
+        return buf.append('}').toString();
+    }
+
+    private static void appendJsonRecord(StringBuilder buf, Shape shape, int r) {
+        buf.append('{');
+        for (int f = 0; f < FIELD_COUNT; f++) {
+            Object value = value(shape, r, f);
+            buf.append(f > 0 ? "," : "").append("\"field").append(f).append("\":");
+            buf.append(value instanceof String ? "\"" + value + "\"" : value);
+        }
+        buf.append('}');
+    }
+
+    private static String createXml(Shape shape) {
+        StringBuilder buf = new StringBuilder("<document>");
+        int count = shape.isCollection() ? shape.getCollectionSize() : shape.getRecordCount();
+        for (int r = 0; r < count; r++) {
+            String element = shape.isCollection() ? "records" : "record" + r;
+            buf.append('<').append(element).append('>');
+            for (int f = 0; f < FIELD_COUNT; f++) {
+                buf.append("<field").append(f).append('>').append(value(shape, r, f)).append("</field").append(f)
+                        .append('>');
+            }
+            buf.append("</").append(element).append('>');
+        }
+        return buf.append("</document>").toString();
+    }
+
+    private static String createCsv(Shape shape) {
+        StringBuilder header = new StringBuilder();
+        StringBuilder rows = new StringBuilder();
+        if (shape.isCollection()) {
+            for (int f = 0; f < FIELD_COUNT; f++) {
+                header.append(f > 0 ? "," : "").append(column(shape, 0, f));
+            }
+            for (int r = 0; r < shape.getCollectionSize(); r++) {
+                for (int f = 0; f < FIELD_COUNT; f++) {
+                    rows.append(f > 0 ? "," : "").append(value(shape, r, f));
+                }
+                rows.append('\n');
+            }
+        } else {
+            for (int r = 0; r < shape.getRecordCount(); r++) {
+                for (int f = 0; f < FIELD_COUNT; f++) {
+                    boolean first = r == 0 && f == 0;
+                    header.append(first ? "" : ",").append(column(shape, r, f));
+                    rows.append(first ? "" : ",").append(value(shape, r, f));
+                }
+            }
+            rows.append('\n');
+        }
+        return header.append('\n').append(rows).toString();
+    }
+
+    private static BenchmarkDocument createJava(Shape shape) {
+        BenchmarkDocument document = new BenchmarkDocument();
+        if (shape.isCollection()) {
+            List<BenchmarkRecord> records = new ArrayList<>(shape.getCollectionSize());
+            for (int r = 0; r < shape.getCollectionSize(); r++) {
+                records.add(createRecord(shape, r));
+            }
+            document.setRecords(records);
+            return document;
+        }
+        BenchmarkRecord[] records = new BenchmarkRecord[10];
+        for (int r = 0; r < shape.getRecordCount(); r++) {
+            records[r] = createRecord(shape, r);
+        }
+        document.setRecord0(records[0]);
+        document.setRecord1(records[1]);
+        document.setRecord2(records[2]);
+        document.setRecord3(records[3]);
+        document.setRecord4(records[4]);
+        document.setRecord5(records[5]);
+        document.setRecord6(records[6]);
+        document.setRecord7(records[7]);
+        document.setRecord8(records[8]);
+        document.setRecord9(records[9]);
+        return document;
+    }
+
+    private static BenchmarkRecord createRecord(Shape shape, int r) {
+        BenchmarkRecord record = new BenchmarkRecord();
+        record.setField0((String) value(shape, r, 0));
+        record.setField1((String) value(shape, r, 1));
+        record.setField2((String) value(shape, r, 2));
+        record.setField3((String) value(shape, r, 3));
+        record.setField4((Integer) value(shape, r, 4));
+        return record;
+    }
+
+}
@@ -0,0 +1,85 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.atlasmap.api.AtlasConversionException;
+import io.atlasmap.core.DefaultAtlasConversionService;
+import io.atlasmap.v2.FieldType;
+
+/**
+ * Benchmarks {@link DefaultAtlasConversionService#convertType(Object, FieldType, FieldType)}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-XX:+UseParallelGC"})
+@State(Scope.Benchmark)
+public class ConversionBenchmark {
+
+    @Param
+    public Conversion conversion;
+
+    private DefaultAtlasConversionService conversionService;
+
+    /**
+     * The conversions being measured.
+     */
+    public enum Conversion {
+        STRING_TO_INTEGER("12345", FieldType.STRING, FieldType.INTEGER),
+        INTEGER_TO_STRING(12345, FieldType.INTEGER, FieldType.STRING),
+        STRING_TO_DOUBLE("12345.678", FieldType.STRING, FieldType.DOUBLE),
+        STRING_TO_BOOLEAN("true", FieldType.STRING, FieldType.BOOLEAN),
+        STRING_TO_DATE_TIME("2020-01-02T03:04:05Z", FieldType.STRING, FieldType.DATE_TIME),
+        LONG_TO_INTEGER(12345L, FieldType.LONG, FieldType.INTEGER),
+        STRING_TO_STRING("12345", FieldType.STRING, FieldType.STRING);
+
+        private final Object value;
+        private final FieldType sourceType;
+        private final FieldType targetType;
+
+        Conversion(Object value, FieldType sourceType, FieldType targetType) {
+            this.value = value;
+            this.sourceType = sourceType;
+            this.targetType = targetType;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        conversionService = DefaultAtlasConversionService.getInstance();
+    }
+
+    @Benchmark
+    public Object convertType() throws AtlasConversionException {
+        return conversionService.convertType(conversion.value, conversion.sourceType, conversion.targetType);
+    }
+
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.benchmarks;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.atlasmap.api.AtlasContext;
+import io.atlasmap.api.AtlasException;
+import io.atlasmap.api.AtlasSession;
+import io.atlasmap.benchmarks.BenchmarkDocuments.Format;
+import io.atlasmap.benchmarks.BenchmarkDocuments.Shape;
+import io.atlasmap.core.DefaultAtlasContextFactory;
+import io.atlasmap.csv.module.CsvStreamProcessor;
+
+/**
+ * Benchmarks mapping a CSV collection document into a {@link java.io.Writer}, either at once with
+ * {@link AtlasContext#process(AtlasSession)} or record by record with the {@link CsvStreamProcessor}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-XX:+UseParallelGC"})
+@State(Scope.Benchmark)
+public class CsvStreamBenchmark {
+
+    @Param({"COLLECTION", "LARGE"})
+    public Shape shape;
+
+    private AtlasContext context;
+    private CsvStreamProcessor processor;
+    private String source;
+
+    @Setup
+    public void setup() throws AtlasException {
+        context = DefaultAtlasContextFactory.getInstance()
+                .createContext(BenchmarkDocuments.createMapping(Format.CSV, shape));
+        processor = new CsvStreamProcessor(context, BenchmarkDocuments.SOURCE_DOC_ID,
+                BenchmarkDocuments.TARGET_DOC_ID);
+        source = (String) BenchmarkDocuments.createSource(Format.CSV, shape);
+        if (processStream().toString().isEmpty() || processDocument().toString().isEmpty()) {
+            throw new IllegalStateException(String.format("Failed to process %s CSV document", shape));
+        }
+    }
+
+    @Benchmark
+    public Object processDocument() throws AtlasException {
+        StringWriter out = new StringWriter();
+        AtlasSession session = context.borrowSession();
+        try {
+            session.setSourceDocument(BenchmarkDocuments.SOURCE_DOC_ID, source);
+            session.setTargetDocument(BenchmarkDocuments.TARGET_DOC_ID, out);
+            context.process(session);
+            if (session.hasErrors()) {
+                throw new IllegalStateException(String.format("Failed to process %s CSV document", shape));
+            }
+        } finally {
+            context.releaseSession(session);
+        }
+        return out;
+    }
+
+    @Benchmark
+    public Object processStream() throws AtlasException {
+        StringWriter out = new StringWriter();
+        processor.process(new StringReader(source), out);
+        return out;
+    }
+
+}
@@ -0,0 +1,92 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.atlasmap.core.DefaultAtlasFunctionResolver;
+import io.atlasmap.expression.Expression;
+import io.atlasmap.expression.ExpressionCache;
+import io.atlasmap.expression.ExpressionContext;
+import io.atlasmap.expression.ExpressionException;
+import io.atlasmap.v2.Field;
+import io.atlasmap.v2.FieldType;
+import io.atlasmap.v2.SimpleField;
+
+/**
+ * Benchmarks parsing the expressions, with and without the {@link ExpressionCache}, and evaluating them.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-XX:+UseParallelGC"})
+@State(Scope.Benchmark)
+public class ExpressionBenchmark {
+
+    @Param({
+        "${source:/field0} == 'value-0-0' && ${source:/field4} > 1",
+        "IF(ISEMPTY(${source:/field0}), null, TOLOWER(${source:/field0}))"
+    })
+    public String expressionText;
+
+    private ExpressionCache cache;
+    private ExpressionCache noCache;
+    private Expression expression;
+    private ExpressionContext context;
+
+    @Setup
+    public void setup() throws ExpressionException {
+        cache = new ExpressionCache();
+        noCache = new ExpressionCache(0);
+        expression = Expression.parse(expressionText, DefaultAtlasFunctionResolver.getInstance());
+        SimpleField field0 = new SimpleField();
+        field0.setFieldType(FieldType.STRING);
+        field0.setValue("value-0-0");
+        SimpleField field4 = new SimpleField();
+        field4.setFieldType(FieldType.INTEGER);
+        field4.setValue(4);
+        context = name -> name.endsWith("/field4") ? field4 : field0;
+    }
+
+    @Benchmark
+    public Expression parse() throws ExpressionException {
+        return noCache.parse(expressionText, DefaultAtlasFunctionResolver.getInstance());
+    }
+
+    @Benchmark
+    public Expression parseCached() throws ExpressionException {
+        return cache.parse(expressionText, DefaultAtlasFunctionResolver.getInstance());
+    }
+
+    @Benchmark
+    public Field evaluate() throws ExpressionException {
+        return expression.evaluate(context);
+    }
+
+}
@@ -0,0 +1,124 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.benchmarks;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.atlasmap.api.AtlasContext;
+import io.atlasmap.api.AtlasException;
+import io.atlasmap.benchmarks.BenchmarkDocuments.Format;
+import io.atlasmap.benchmarks.BenchmarkDocuments.Shape;
+import io.atlasmap.core.DefaultAtlasContextFactory;
+import io.atlasmap.spi.AtlasFieldActionService;
+import io.atlasmap.spi.AtlasInternalSession;
+import io.atlasmap.v2.Action;
+import io.atlasmap.v2.Capitalize;
+import io.atlasmap.v2.Field;
+import io.atlasmap.v2.FieldType;
+import io.atlasmap.v2.ReplaceAll;
+import io.atlasmap.v2.SimpleField;
+import io.atlasmap.v2.SubString;
+import io.atlasmap.v2.Trim;
+import io.atlasmap.v2.Uppercase;
+
+/**
+ * Benchmarks {@link AtlasFieldActionService#processActions(AtlasInternalSession, Field)}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-XX:+UseParallelGC"})
+@State(Scope.Thread)
+public class FieldActionBenchmark {
+
+    @Param
+    public Actions actions;
+
+    private AtlasFieldActionService fieldActionService;
+    private AtlasInternalSession session;
+    private ArrayList<Action> actionList;
+
+    /**
+     * The field action chains being measured.
+     */
+    public enum Actions {
+        UPPERCASE,
+        TRIM_CAPITALIZE,
+        SUBSTRING,
+        REPLACE_ALL;
+
+        ArrayList<Action> create() {
+            ArrayList<Action> answer = new ArrayList<>();
+            switch (this) {
+            case UPPERCASE:
+                answer.add(new Uppercase());
+                break;
+            case TRIM_CAPITALIZE:
+                answer.add(new Trim());
+                answer.add(new Capitalize());
+                break;
+            case SUBSTRING:
+                SubString substring = new SubString();
+                substring.setStartIndex(2);
+                substring.setEndIndex(8);
+                answer.add(substring);
+                break;
+            case REPLACE_ALL:
+                ReplaceAll replace = new ReplaceAll();
+                replace.setMatch("[aeiou]");
+                replace.setNewString("_");
+                answer.add(replace);
+                break;
+            default:
+                throw new IllegalArgumentException("Unsupported actions: " + this);
+            }
+            return answer;
+        }
+    }
+
+    @Setup
+    public void setup() throws AtlasException {
+        DefaultAtlasContextFactory factory = DefaultAtlasContextFactory.getInstance();
+        AtlasContext context = factory.createContext(BenchmarkDocuments.createMapping(Format.JSON, Shape.SMALL));
+        fieldActionService = factory.getFieldActionService();
+        session = (AtlasInternalSession) context.createSession();
+        actionList = actions.create();
+    }
+
+    @Benchmark
+    public Field processActions() throws AtlasException {
+        SimpleField field = new SimpleField();
+        field.setFieldType(FieldType.STRING);
+        field.setValue("  benchmark field value  ");
+        field.setActions(actionList);
+        return fieldActionService.processActions(session, field);
+    }
+
+}
@@ -0,0 +1,81 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.benchmarks;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.atlasmap.actions.StringSimpleFieldActions;
+import io.atlasmap.v2.Action;
+import io.atlasmap.v2.Uppercase;
+
+/**
+ * Benchmarks the ways to invoke a field action method, i.e. {@link Method#invoke(Object, Object...)}
+ * against the {@link MethodHandle} of the same type {@code DefaultAtlasFieldActionService} binds
+ * the field action methods to, with a direct call as the baseline.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-XX:+UseParallelGC"})
+@State(Scope.Benchmark)
+public class FieldActionInvocationBenchmark {
+
+    private Method method;
+    private MethodHandle handle;
+    private Action action;
+    private Object input;
+
+    @Setup
+    public void setup() throws ReflectiveOperationException {
+        method = StringSimpleFieldActions.class.getMethod("uppercase", Uppercase.class, String.class);
+        handle = MethodHandles.dropArguments(MethodHandles.publicLookup().unreflect(method), 0, Object.class)
+                .asType(MethodType.methodType(Object.class, Object.class, Action.class, Object.class));
+        action = new Uppercase();
+        input = "benchmark field value";
+    }
+
+    @Benchmark
+    public Object direct() {
+        return StringSimpleFieldActions.uppercase((Uppercase) action, (String) input);
+    }
+
+    @Benchmark
+    public Object reflection() throws ReflectiveOperationException {
+        return method.invoke(null, action, input);
+    }
+
+    @Benchmark
+    public Object methodHandle() throws Throwable {
+        return (Object) handle.invokeExact((Object) null, action, input);
+    }
+
+}
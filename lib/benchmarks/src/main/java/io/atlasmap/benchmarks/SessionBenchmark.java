@@ -0,0 +1,74 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.atlasmap.api.AtlasContext;
+import io.atlasmap.api.AtlasException;
+import io.atlasmap.api.AtlasSession;
+import io.atlasmap.benchmarks.BenchmarkDocuments.Format;
+import io.atlasmap.benchmarks.BenchmarkDocuments.Shape;
+import io.atlasmap.core.DefaultAtlasContextFactory;
+
+/**
+ * Benchmarks creating a new session against borrowing a pooled one from the context.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-XX:+UseParallelGC"})
+@State(Scope.Benchmark)
+public class SessionBenchmark {
+
+    @Param({"JSON"})
+    public Format format;
+
+    private AtlasContext context;
+
+    @Setup
+    public void setup() throws AtlasException {
+        context = DefaultAtlasContextFactory.getInstance()
+                .createContext(BenchmarkDocuments.createMapping(format, Shape.MEDIUM));
+        context.createSession();
+    }
+
+    @Benchmark
+    public AtlasSession createSession() throws AtlasException {
+        return context.createSession();
+    }
+
+    @Benchmark
+    public AtlasSession borrowSession() throws AtlasException {
+        AtlasSession session = context.borrowSession();
+        context.releaseSession(session);
+        return session;
+    }
+
+}
@@ -0,0 +1,126 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.benchmarks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.atlasmap.api.AtlasContext;
+import io.atlasmap.api.AtlasException;
+import io.atlasmap.api.AtlasSession;
+import io.atlasmap.benchmarks.BenchmarkDocuments.Format;
+import io.atlasmap.benchmarks.BenchmarkDocuments.Shape;
+import io.atlasmap.core.DefaultAtlasContextFactory;
+import io.atlasmap.v2.Audit;
+
+/**
+ * Benchmarks {@link AtlasContext#process(AtlasSession)} end to end with the streaming modes of the JSON and
+ * XML modules, i.e. reading the source document with {@code streaming=true} and writing the target document
+ * into a {@link java.io.Writer} or an {@link java.io.OutputStream}. Compare with {@link ProcessBenchmark}
+ * for the same format and shape.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 2, jvmArgsAppend = {"-Xms1g", "-Xmx1g", "-XX:+UseParallelGC"})
+@State(Scope.Benchmark)
+public class StreamingProcessBenchmark {
+
+    /**
+     * The streaming mode.
+     */
+    public enum Streaming {
+        /** The source document is read in a streaming pass. */
+        SOURCE,
+        /** The target document is written into a {@link java.io.Writer}. */
+        WRITER,
+        /** The target document is written into an {@link java.io.OutputStream}. */
+        OUTPUT_STREAM
+    }
+
+    @Param({"JSON", "XML"})
+    public Format format;
+
+    @Param
+    public Shape shape;
+
+    @Param
+    public Streaming streaming;
+
+    private AtlasContext context;
+    private Object source;
+
+    @Setup
+    public void setup() throws AtlasException {
+        context = DefaultAtlasContextFactory.getInstance()
+                .createContext(BenchmarkDocuments.createMapping(format, shape, streaming == Streaming.SOURCE));
+        source = BenchmarkDocuments.createSource(format, shape);
+        AtlasSession session = context.createSession();
+        Object target = process(session);
+        if (session.hasErrors() || target == null || target.toString().isEmpty()) {
+            StringBuilder audits = new StringBuilder();
+            for (Audit audit : session.getAudits().getAudit()) {
+                audits.append(String.format("%n  %s %s: %s", audit.getStatus(), audit.getPath(), audit.getMessage()));
+            }
+            throw new IllegalStateException(String.format("Failed to process %s %s document in %s mode:%s", shape,
+                    format, streaming, audits));
+        }
+    }
+
+    @Benchmark
+    public Object process() throws AtlasException {
+        AtlasSession session = context.borrowSession();
+        try {
+            return process(session);
+        } finally {
+            context.releaseSession(session);
+        }
+    }
+
+    private Object process(AtlasSession session) throws AtlasException {
+        session.setSourceDocument(BenchmarkDocuments.SOURCE_DOC_ID, source);
+        switch (streaming) {
+        case WRITER:
+            StringWriter writer = new StringWriter();
+            session.setTargetDocument(BenchmarkDocuments.TARGET_DOC_ID, writer);
+            context.process(session);
+            return writer;
+        case OUTPUT_STREAM:
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            session.setTargetDocument(BenchmarkDocuments.TARGET_DOC_ID, out);
+            context.process(session);
+            return out;
+        default:
+            context.process(session);
+            return session.getTargetDocument(BenchmarkDocuments.TARGET_DOC_ID);
+        }
+    }
+
+}
@@ -0,0 +1,122 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.benchmarks.model;
+
+import java.util.List;
+
+public class BenchmarkDocument {
+
+    private BenchmarkRecord record0;
+    private BenchmarkRecord record1;
+    private BenchmarkRecord record2;
+    private BenchmarkRecord record3;
+    private BenchmarkRecord record4;
+    private BenchmarkRecord record5;
+    private BenchmarkRecord record6;
+    private BenchmarkRecord record7;
+    private BenchmarkRecord record8;
+    private BenchmarkRecord record9;
+    private List<BenchmarkRecord> records;
+
+    public BenchmarkRecord getRecord0() {
+        return record0;
+    }
+
+    public void setRecord0(BenchmarkRecord record0) {
+        this.record0 = record0;
+    }
+
+    public BenchmarkRecord getRecord1() {
+        return record1;
+    }
+
+    public void setRecord1(BenchmarkRecord record1) {
+        this.record1 = record1;
+    }
+
+    public BenchmarkRecord getRecord2() {
+        return record2;
+    }
+
+    public void setRecord2(BenchmarkRecord record2) {
+        this.record2 = record2;
+    }
+
+    public BenchmarkRecord getRecord3() {
+        return record3;
+    }
+
+    public void setRecord3(BenchmarkRecord record3) {
+        this.record3 = record3;
+    }
+
+    public BenchmarkRecord getRecord4() {
+        return record4;
+    }
+
+    public void setRecord4(BenchmarkRecord record4) {
+        this.record4 = record4;
+    }
+
+    public BenchmarkRecord getRecord5() {
+        return record5;
+    }
+
+    public void setRecord5(BenchmarkRecord record5) {
+        this.record5 = record5;
+    }
+
+    public BenchmarkRecord getRecord6() {
+        return record6;
+    }
+
+    public void setRecord6(BenchmarkRecord record6) {
+        this.record6 = record6;
+    }
+
+    public BenchmarkRecord getRecord7() {
+        return record7;
+    }
+
+    public void setRecord7(BenchmarkRecord record7) {
+        this.record7 = record7;
+    }
+
+    public BenchmarkRecord getRecord8() {
+        return record8;
+    }
+
+    public void setRecord8(BenchmarkRecord record8) {
+        this.record8 = record8;
+    }
+
+    public BenchmarkRecord getRecord9() {
+        return record9;
+    }
+
+    public void setRecord9(BenchmarkRecord record9) {
+        this.record9 = record9;
+    }
+
+    public List<BenchmarkRecord> getRecords() {
+        return records;
+    }
+
+    public void setRecords(List<BenchmarkRecord> records) {
+        this.records = records;
+    }
+
+}
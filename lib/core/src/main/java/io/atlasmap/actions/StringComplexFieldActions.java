@@ -18,8 +18,10 @@ package io.atlasmap.actions;
 import java.util.List;
 import java.util.Locale;
 import java.util.UUID;
+import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import io.atlasmap.core.PatternCache;
 import io.atlasmap.spi.AtlasActionProcessor;
 import io.atlasmap.spi.AtlasFieldAction;
 import io.atlasmap.v2.Append;
@@ -180,9 +182,7 @@ public class StringComplexFieldActions implements AtlasFieldAction {
         if (replaceAll == null || replaceAll.getMatch() == null || replaceAll.getMatch().isEmpty()) {
             throw new IllegalArgumentException("ReplaceAll action must be specified with a non-empty old string");
         }
-        String match = replaceAll.getMatch();
-        String newString = replaceAll.getNewString();
-        return input == null ? null : input.replaceAll(match, newString == null ? "" : newString);
+        return input == null ? null : replace(input, replaceAll.getMatch(), replaceAll.getNewString(), true);
     }
 
     @AtlasActionProcessor
@@ -190,9 +190,16 @@ public class StringComplexFieldActions implements AtlasFieldAction {
         if (replaceFirst == null || replaceFirst.getMatch() == null || replaceFirst.getMatch().isEmpty()) {
             throw new IllegalArgumentException("ReplaceFirst action must be specified with a non-empty old string");
         }
-        String match = replaceFirst.getMatch();
-        String newString = replaceFirst.getNewString();
-        return input == null ? null : input.replaceFirst(match, newString == null ? "" : newString);
+        return input == null ? null : replace(input, replaceFirst.getMatch(), replaceFirst.getNewString(), false);
+    }
+
+    private static String replace(String input, String match, String newString, boolean all) {
+        String replacement = newString == null ? "" : newString;
+        if (PatternCache.isLiteral(match) && PatternCache.isLiteralReplacement(replacement)) {
+            return PatternCache.replaceLiteral(input, match, replacement, all);
+        }
+        Matcher matcher = PatternCache.compile(match).matcher(input);
+        return all ? matcher.replaceAll(replacement) : matcher.replaceFirst(replacement);
     }
 
     @AtlasActionProcessor(sourceType = FieldType.ANY)
@@ -201,7 +208,15 @@ public class StringComplexFieldActions implements AtlasFieldAction {
             throw new IllegalArgumentException("Split must be specified with a delimiter");
         }
 
-        return input == null ? null : input.toString().split(split.getDelimiter());
+        if (input == null) {
+            return null;
+        }
+        String delimiter = split.getDelimiter();
+        // String.split() doesn't compile a regex for a single literal character
+        if (delimiter.length() == 1 && PatternCache.isLiteral(delimiter)) {
+            return input.split(delimiter);
+        }
+        return PatternCache.compile(delimiter).split(input);
     }
 
     @AtlasActionProcessor
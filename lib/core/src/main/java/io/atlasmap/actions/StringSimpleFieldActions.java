@@ -37,6 +37,7 @@ public class StringSimpleFieldActions implements AtlasFieldAction {
 
     public static final String STRING_SEPARATOR_REGEX = "[\\s+\\:\\_\\+\\=\\-]+";
     public static final Pattern STRING_SEPARATOR_PATTERN = Pattern.compile(STRING_SEPARATOR_REGEX);
+    private static final Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
 
     @AtlasActionProcessor
     public static String capitalize(Capitalize action, String input) {
@@ -79,7 +80,7 @@ public class StringSimpleFieldActions implements AtlasFieldAction {
 
     @AtlasActionProcessor
     public static String normalize(Normalize action, String input) {
-        return input == null ? null : input.replaceAll("\\s+", " ").trim();
+        return input == null ? null : WHITESPACE_PATTERN.matcher(input).replaceAll(" ").trim();
     }
 
     @AtlasActionProcessor
@@ -19,6 +19,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 
 import io.atlasmap.api.AtlasConversionException;
+import io.atlasmap.core.PatternCache;
 import io.atlasmap.spi.AtlasConversionConcern;
 import io.atlasmap.spi.AtlasConversionInfo;
 import io.atlasmap.spi.AtlasConverter;
@@ -46,7 +47,7 @@ public class CharacterConverter implements AtlasConverter<Character> {
         }
 
         String regex = sourceFormat != null && !"".equals(sourceFormat) ? sourceFormat : TRUE_REGEX;
-        if (Character.toString(value).matches(regex)) {
+        if (PatternCache.compile(regex).matcher(Character.toString(value)).matches()) {
             return Boolean.TRUE;
         }
         return Boolean.FALSE;
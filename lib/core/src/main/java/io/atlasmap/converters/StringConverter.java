@@ -28,6 +28,7 @@ import java.util.Date;
 import java.util.regex.Pattern;
 
 import io.atlasmap.api.AtlasConversionException;
+import io.atlasmap.core.PatternCache;
 import io.atlasmap.spi.AtlasConversionConcern;
 import io.atlasmap.spi.AtlasConversionInfo;
 import io.atlasmap.spi.AtlasConverter;
@@ -36,6 +37,7 @@ import io.atlasmap.v2.FieldType;
 public class StringConverter implements AtlasConverter<String> {
 
     private static final Pattern TRUE_PATTERN = Pattern.compile("true|t|yes|y", Pattern.CASE_INSENSITIVE);
+    private static final Pattern DIGITS_PATTERN = Pattern.compile("\\d+");
 
     @AtlasConversionInfo(sourceType = FieldType.STRING, targetType = FieldType.DECIMAL,
             concerns = AtlasConversionConcern.FORMAT)
@@ -68,7 +70,7 @@ public class StringConverter implements AtlasConverter<String> {
         // string expression of true?
         Pattern pattern;
         if (sourceFormat != null && !sourceFormat.isEmpty()) {
-            pattern = Pattern.compile(sourceFormat, Pattern.CASE_INSENSITIVE);
+            pattern = PatternCache.compile(sourceFormat, Pattern.CASE_INSENSITIVE);
         } else {
             pattern = TRUE_PATTERN;
         }
@@ -134,7 +136,7 @@ public class StringConverter implements AtlasConverter<String> {
     @AtlasConversionInfo(sourceType = FieldType.STRING, targetType = FieldType.DATE_TIME)
     public Date toDate(String date, String sourceFormat, String targetFormat) {
 
-        DateTimeFormatter formater = sourceFormat != null ? DateTimeFormatter.ofPattern(sourceFormat)
+        DateTimeFormatter formater = sourceFormat != null ? PatternCache.ofPattern(sourceFormat)
                 : DateTimeFormatter.ISO_ZONED_DATE_TIME;
         return Date.from(ZonedDateTime.parse(date, formater).toInstant());
     }
@@ -301,7 +303,7 @@ public class StringConverter implements AtlasConverter<String> {
         if (value == null || value.trim().isEmpty()) {
             return null;
         }
-        if (value.matches("\\d+")) {
+        if (DIGITS_PATTERN.matcher(value).matches()) {
             return new BigInteger(value);
         }
         try {
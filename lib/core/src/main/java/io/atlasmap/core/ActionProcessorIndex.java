@@ -0,0 +1,108 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import io.atlasmap.core.DefaultAtlasFieldActionService.ActionProcessor;
+import io.atlasmap.v2.Action;
+import io.atlasmap.v2.ActionDetail;
+import io.atlasmap.v2.FieldType;
+
+/**
+ * An immutable lookup index of the loaded {@link ActionProcessor}s. It's built once when the field
+ * actions are loaded so that finding the processor for an action doesn't need to scan all of them.
+ * Processors are keyed by the action class, the custom action class and method name, and the
+ * upper-cased action name. When there are multiple candidates for a key, the one whose source type
+ * matches the value type is picked, otherwise the first one registered.
+ */
+final class ActionProcessorIndex {
+
+    static final ActionProcessorIndex EMPTY = new ActionProcessorIndex(Collections.emptyList());
+
+    private final List<ActionProcessor> processors;
+    private final Map<Class<? extends Action>, Candidates> byActionClass = new HashMap<>();
+    private final Map<String, ActionProcessor> byCustomMethod = new HashMap<>();
+    private final Map<String, Candidates> byName = new HashMap<>();
+
+    ActionProcessorIndex(List<ActionProcessor> processors) {
+        this.processors = Collections.unmodifiableList(new ArrayList<>(processors));
+        for (ActionProcessor processor : this.processors) {
+            ActionDetail detail = processor.getActionDetail();
+            if (processor.getActionClass() != null) {
+                byActionClass.computeIfAbsent(processor.getActionClass(), k -> new Candidates()).add(processor);
+            }
+            if (detail.getClassName() != null && detail.getMethod() != null) {
+                byCustomMethod.putIfAbsent(customMethodKey(detail.getClassName(), detail.getMethod()), processor);
+            }
+            if (detail.getName() != null) {
+                byName.computeIfAbsent(detail.getName().toUpperCase(Locale.ROOT), k -> new Candidates()).add(processor);
+            }
+        }
+    }
+
+    private static String customMethodKey(String className, String methodName) {
+        return className + '#' + methodName;
+    }
+
+    List<ActionProcessor> getProcessors() {
+        return processors;
+    }
+
+    ActionProcessor findByActionClass(Class<? extends Action> actionClass, FieldType sourceType) {
+        Candidates candidates = byActionClass.get(actionClass);
+        return candidates != null ? candidates.best(sourceType) : null;
+    }
+
+    ActionProcessor findByCustomMethod(String className, String methodName) {
+        return byCustomMethod.get(customMethodKey(className, methodName));
+    }
+
+    ActionProcessor findByName(String name, FieldType sourceType) {
+        Candidates candidates = byName.get(name.toUpperCase(Locale.ROOT));
+        return candidates != null ? candidates.best(sourceType) : null;
+    }
+
+    private static final class Candidates {
+        private ActionProcessor first;
+        private final Map<FieldType, ActionProcessor> bySourceType = new EnumMap<>(FieldType.class);
+
+        private void add(ActionProcessor processor) {
+            if (first == null) {
+                first = processor;
+            }
+            FieldType sourceType = processor.getActionDetail().getSourceType();
+            if (sourceType != null) {
+                bySourceType.putIfAbsent(sourceType, processor);
+            }
+        }
+
+        private ActionProcessor best(FieldType sourceType) {
+            if (sourceType == null || sourceType == FieldType.ANY || sourceType == FieldType.NONE) {
+                return first;
+            }
+            ActionProcessor answer = bySourceType.get(sourceType);
+            return answer != null ? answer : first;
+        }
+    }
+
+}
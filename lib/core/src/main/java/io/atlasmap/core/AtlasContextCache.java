@@ -0,0 +1,172 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.core;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.atlasmap.api.AtlasContext;
+import io.atlasmap.api.AtlasException;
+
+/**
+ * A bounded cache of {@link AtlasContext} keyed by the SHA-256 digest of the mapping definition
+ * content, for the callers which receive the mapping definition along with each message. The least
+ * recently used context is evicted when the cache is full, and unregistered from JMX.
+ * <p>
+ * A context evicted while a session created from it is still processing is left usable for that session.
+ */
+public class AtlasContextCache {
+    private static final Logger LOG = LoggerFactory.getLogger(AtlasContextCache.class);
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final int maxSize;
+    private final Map<String, AtlasContext> contexts;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public AtlasContextCache(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be greater than 0: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.contexts = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    /**
+     * Gets the context for the mapping definition content, creates and caches it if it's not cached yet.
+     *
+     * @param content mapping definition content
+     * @param loader creates the context from the content on a cache miss
+     * @return context
+     * @throws AtlasException failed to create the context
+     */
+    public AtlasContext getOrCreate(String content, Loader loader) throws AtlasException {
+        String key = digest(content);
+        synchronized (contexts) {
+            AtlasContext context = contexts.get(key);
+            if (context != null) {
+                hits.increment();
+                return context;
+            }
+        }
+        misses.increment();
+        // created outside the lock so that a slow mapping doesn't block the others
+        AtlasContext created = loader.load(content);
+        List<AtlasContext> evicted = new ArrayList<>(1);
+        AtlasContext answer;
+        synchronized (contexts) {
+            answer = contexts.putIfAbsent(key, created);
+            if (answer != null) {
+                evicted.add(created);
+            } else {
+                answer = created;
+                while (contexts.size() > maxSize) {
+                    String eldest = contexts.keySet().iterator().next();
+                    evicted.add(contexts.remove(eldest));
+                    evictions.increment();
+                }
+            }
+        }
+        for (AtlasContext context : evicted) {
+            release(context);
+        }
+        return answer;
+    }
+
+    /**
+     * Removes all the contexts and unregisters them from JMX.
+     */
+    public void clear() {
+        List<AtlasContext> removed;
+        synchronized (contexts) {
+            removed = new ArrayList<>(contexts.values());
+            contexts.clear();
+        }
+        for (AtlasContext context : removed) {
+            release(context);
+        }
+    }
+
+    public int size() {
+        synchronized (contexts) {
+            return contexts.size();
+        }
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictions.sum();
+    }
+
+    /**
+     * Computes the cache key of the mapping definition content.
+     *
+     * @param content mapping definition content
+     * @return hex encoded SHA-256 digest
+     */
+    public static String digest(String content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            char[] hex = new char[digest.length * 2];
+            for (int i = 0; i < digest.length; i++) {
+                hex[i * 2] = HEX[(digest[i] >> 4) & 0xf];
+                hex[i * 2 + 1] = HEX[digest[i] & 0xf];
+            }
+            return new String(hex);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void release(AtlasContext context) {
+        if (context instanceof DefaultAtlasContext) {
+            ((DefaultAtlasContext) context).unregisterJmx();
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Released AtlasContext {}", context);
+        }
+    }
+
+    /**
+     * Creates a context from the mapping definition content.
+     */
+    @FunctionalInterface
+    public interface Loader {
+        AtlasContext load(String content) throws AtlasException;
+    }
+
+}
@@ -0,0 +1,307 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.atlasmap.api.AtlasException;
+import io.atlasmap.spi.AtlasConversionService;
+import io.atlasmap.spi.AtlasDirectMapper;
+import io.atlasmap.v2.AtlasMapping;
+import io.atlasmap.v2.BaseMapping;
+import io.atlasmap.v2.Collection;
+import io.atlasmap.v2.CopyTo;
+import io.atlasmap.v2.Field;
+import io.atlasmap.v2.FieldGroup;
+import io.atlasmap.v2.LookupTable;
+import io.atlasmap.v2.Mapping;
+import io.atlasmap.v2.MappingType;
+
+/**
+ * An immutable, pre-processed form of the {@link AtlasMapping} which is compiled once
+ * when the {@link DefaultAtlasContext} is initialized and then shared by all the sessions.
+ * Collection mappings are unwrapped, lookup tables are resolved and indexed and CopyTo actions are
+ * applied up front, so that processing a message only needs to take a cheap working copy
+ * of the fields of each mapping.
+ */
+public final class AtlasExecutionPlan {
+    private static final Logger LOG = LoggerFactory.getLogger(AtlasExecutionPlan.class);
+
+    private final AtlasMapping mapping;
+    private final List<CompiledMapping> compiledMappings;
+
+    private AtlasExecutionPlan(AtlasMapping mapping, List<CompiledMapping> compiledMappings) {
+        this.mapping = mapping;
+        this.compiledMappings = Collections.unmodifiableList(compiledMappings);
+    }
+
+    /**
+     * Compiles the mapping definition into an execution plan. The mapping definition is copied
+     * so that the plan is not affected by later modifications made on the original.
+     *
+     * @param objectMapper ObjectMapper to copy the mapping definition with
+     * @param definition mapping definition
+     * @param lookupTables lookup tables keyed by name
+     * @param conversionService conversion service to compile the lookup tables with
+     * @return compiled execution plan
+     * @throws AtlasException failed to copy the mapping definition
+     */
+    static AtlasExecutionPlan compile(ObjectMapper objectMapper, AtlasMapping definition,
+            Map<String, LookupTable> lookupTables, AtlasConversionService conversionService) throws AtlasException {
+        AtlasMapping snapshot;
+        try {
+            snapshot = objectMapper.readValue(objectMapper.writeValueAsString(definition), AtlasMapping.class);
+        } catch (Exception e) {
+            throw new AtlasException("Failed to reload mapping definition", e);
+        }
+
+        List<CompiledMapping> compiled = new ArrayList<>();
+        Map<String, CompiledLookupTable> compiledLookupTables = new HashMap<>();
+        if (snapshot.getMappings() != null) {
+            for (BaseMapping baseMapping : snapshot.getMappings().getMapping()) {
+                for (Mapping m : unwrapCollectionMappings(baseMapping)) {
+                    LookupTable lookupTable = lookupTables != null ? lookupTables.get(m.getLookupTableName()) : null;
+                    CompiledLookupTable compiledLookupTable = lookupTable != null
+                            ? compiledLookupTables.computeIfAbsent(m.getLookupTableName(),
+                                    k -> CompiledLookupTable.compile(lookupTable, conversionService))
+                            : null;
+                    compiled.add(new CompiledMapping(m, lookupTable, compiledLookupTable));
+                }
+            }
+        }
+        return new AtlasExecutionPlan(snapshot, compiled);
+    }
+
+    // just unwrap collection mappings to be compatible with older UI
+    static List<Mapping> unwrapCollectionMappings(BaseMapping baseMapping) {
+        if (baseMapping.getMappingType() == null || !baseMapping.getMappingType().equals(MappingType.COLLECTION)) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Mapping is not a collection mapping, not cloning: {}", baseMapping);
+            }
+            return Collections.singletonList((Mapping) baseMapping);
+        }
+
+        List<Mapping> mappings = new LinkedList<>();
+        for (BaseMapping m : ((Collection) baseMapping).getMappings().getMapping()) {
+            mappings.add((Mapping) m);
+        }
+        return mappings;
+    }
+
+    /**
+     * Gets the compiled copy of the mapping definition. It's shared by all the sessions
+     * and must not be modified.
+     *
+     * @return mapping definition
+     */
+    public AtlasMapping getMapping() {
+        return mapping;
+    }
+
+    /**
+     * Gets the compiled mapping entries in execution order.
+     *
+     * @return compiled mappings
+     */
+    public List<CompiledMapping> getCompiledMappings() {
+        return compiledMappings;
+    }
+
+    /**
+     * A single {@link Mapping} entry in the execution plan.
+     */
+    public static final class CompiledMapping {
+        private final Mapping mapping;
+        private final LookupTable lookupTable;
+        private final CompiledLookupTable compiledLookupTable;
+        private final boolean[] collectionTargets;
+        private final RuntimeException error;
+        private AtlasDirectMapper directMapper;
+
+        private CompiledMapping(Mapping mapping, LookupTable lookupTable, CompiledLookupTable compiledLookupTable) {
+            this.mapping = mapping;
+            this.lookupTable = lookupTable;
+            this.compiledLookupTable = compiledLookupTable;
+            RuntimeException copyToError = null;
+            if (mapping.getExpression() == null && mapping.getInputFieldGroup() == null
+                    && !mapping.getInputField().isEmpty()) {
+                try {
+                    applyCopyToActions(mapping.getInputField());
+                } catch (RuntimeException e) {
+                    copyToError = e;
+                }
+            }
+            this.error = copyToError;
+            List<Field> outputFields = mapping.getOutputField();
+            this.collectionTargets = new boolean[outputFields.size()];
+            for (int i = 0; i < outputFields.size(); i++) {
+                String path = outputFields.get(i).getPath();
+                if (path != null) {
+                    AtlasPath targetPath = new AtlasPath(path);
+                    collectionTargets[i] = targetPath.hasCollection() && !targetPath.isIndexedCollection();
+                }
+            }
+        }
+
+        /**
+         * Checks for CopyTo actions and correctly sets the path for targetField by setting the indexes specified in each action
+         */
+        private void applyCopyToActions(List<Field> sourceFields) {
+            for (Field sourceField : sourceFields) {
+
+                if (sourceField instanceof FieldGroup) {
+                    applyCopyToActions(((FieldGroup) sourceField).getField());
+                    continue;
+                }
+
+                if (sourceField.getActions() == null) {
+                    continue;
+                }
+
+                List<CopyTo> copyTos = sourceField.getActions().stream().filter(a -> a instanceof CopyTo).map(a -> (CopyTo) a).collect(Collectors.toList());
+                if (copyTos.size() == 0) {
+                    return;
+                }
+
+                if (copyTos.stream().flatMap(c -> c.getIndexes().stream().filter(i -> i < 0)).count() > 0) {
+                    throw new IllegalArgumentException("Indexes must be >= 0");
+                }
+
+                /*
+                 * For each index present in CopyTo, set the corresponding index in the path.
+                 * each index of copyTo is supposed to have a counterpart in the path.
+                 */
+                for (CopyTo copyTo : copyTos) {
+                    for (Field field : mapping.getOutputField()) {
+                        AtlasPath path = new AtlasPath(field.getPath());
+                        List<AtlasPath.SegmentContext> segments = path.getCollectionSegments(true);
+                        for (int i = 0; i < copyTo.getIndexes().size(); i++) {
+                            if (i < segments.size()) { // In case there are too many indexes specified
+                                path.setCollectionIndex(i + 1, copyTo.getIndexes().get(i));// +1 since 0 is the root segment
+                            }
+                        }
+                        field.setPath(path.toString());
+                    }
+                    // The processor associated to this action is a fake. It shall not execute, so remove the action.
+                    sourceField.getActions().remove(copyTo);
+                }
+            }
+        }
+
+        /**
+         * Gets the compiled {@link Mapping}. It's shared by all the sessions and must not be modified.
+         *
+         * @return mapping
+         */
+        public Mapping getMapping() {
+            return mapping;
+        }
+
+        public LookupTable getLookupTable() {
+            return lookupTable;
+        }
+
+        /**
+         * Gets the hash index of the lookup table.
+         *
+         * @return compiled lookup table or null
+         */
+        public CompiledLookupTable getCompiledLookupTable() {
+            return compiledLookupTable;
+        }
+
+        /**
+         * Gets the error detected while compiling this mapping, which is reported when the
+         * mapping is processed.
+         *
+         * @return compile error or null
+         */
+        public RuntimeException getError() {
+            return error;
+        }
+
+        /**
+         * Gets the direct mapper this mapping is compiled into, which takes precedence over the
+         * generic processing.
+         *
+         * @return direct mapper or null
+         */
+        public AtlasDirectMapper getDirectMapper() {
+            return directMapper;
+        }
+
+        void setDirectMapper(AtlasDirectMapper directMapper) {
+            this.directMapper = directMapper;
+        }
+
+        /**
+         * Whether the output field at the specified position is a collection field without index.
+         *
+         * @param index position of the output field
+         * @return true if it's a non-indexed collection
+         */
+        public boolean isCollectionTarget(int index) {
+            return collectionTargets[index];
+        }
+
+        /**
+         * Creates a working copy of the input field group for processing a message.
+         *
+         * @return copied input field group or null
+         */
+        public FieldGroup newInputFieldGroup() {
+            return mapping.getInputFieldGroup() != null ? mapping.getInputFieldGroup().clone() : null;
+        }
+
+        /**
+         * Creates working copies of the input fields for processing a message.
+         *
+         * @return copied input fields
+         */
+        public List<Field> newInputFields() {
+            return copyFields(mapping.getInputField());
+        }
+
+        /**
+         * Creates working copies of the output fields for processing a message.
+         *
+         * @return copied output fields
+         */
+        public List<Field> newOutputFields() {
+            return copyFields(mapping.getOutputField());
+        }
+
+        private static List<Field> copyFields(List<Field> fields) {
+            List<Field> answer = new ArrayList<>(fields.size());
+            for (Field f : fields) {
+                answer.add(f.clone());
+            }
+            return answer;
+        }
+    }
+
+}
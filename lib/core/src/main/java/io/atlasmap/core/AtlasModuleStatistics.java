@@ -0,0 +1,207 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.core;
+
+import javax.management.openmbean.CompositeDataSupport;
+import javax.management.openmbean.CompositeType;
+import javax.management.openmbean.OpenDataException;
+import javax.management.openmbean.OpenType;
+import javax.management.openmbean.SimpleType;
+import javax.management.openmbean.TabularData;
+import javax.management.openmbean.TabularDataSupport;
+import javax.management.openmbean.TabularType;
+
+import io.atlasmap.api.AtlasException;
+import io.atlasmap.core.LatencyHistogram.Snapshot;
+import io.atlasmap.spi.AtlasFieldReader;
+import io.atlasmap.spi.AtlasInternalSession;
+import io.atlasmap.spi.AtlasModule;
+import io.atlasmap.v2.Field;
+
+/**
+ * Per-module execution statistics, i.e. the invocation count, error count and a latency histogram
+ * for each {@link Operation} the context invokes on the module. Latencies are in nanoseconds,
+ * see {@link LatencyHistogram} for the percentile accuracy.
+ */
+public class AtlasModuleStatistics {
+
+    public static final String ITEM_OPERATION = "operation";
+    public static final String ITEM_COUNT = "count";
+    public static final String ITEM_ERROR_COUNT = "errorCount";
+    public static final String ITEM_MIN_TIME = "minExecutionTime";
+    public static final String ITEM_MAX_TIME = "maxExecutionTime";
+    public static final String ITEM_TOTAL_TIME = "totalExecutionTime";
+    public static final String ITEM_P50_TIME = "p50ExecutionTime";
+    public static final String ITEM_P90_TIME = "p90ExecutionTime";
+    public static final String ITEM_P99_TIME = "p99ExecutionTime";
+
+    private static final String[] ITEM_NAMES = new String[] {ITEM_OPERATION, ITEM_COUNT, ITEM_ERROR_COUNT,
+        ITEM_MIN_TIME, ITEM_MAX_TIME, ITEM_TOTAL_TIME, ITEM_P50_TIME, ITEM_P90_TIME, ITEM_P99_TIME};
+
+    private final LatencyHistogram[] histograms;
+
+    /**
+     * The module operations being measured.
+     */
+    public enum Operation {
+        PRE_SOURCE_EXECUTION(false) {
+            @Override
+            void invoke(AtlasModule module, AtlasInternalSession session) throws AtlasException {
+                module.processPreSourceExecution(session);
+            }
+        },
+        PRE_TARGET_EXECUTION(false) {
+            @Override
+            void invoke(AtlasModule module, AtlasInternalSession session) throws AtlasException {
+                module.processPreTargetExecution(session);
+            }
+        },
+        READ_SOURCE_VALUE(true) {
+            @Override
+            void invoke(AtlasModule module, AtlasInternalSession session) throws AtlasException {
+                module.readSourceValue(session);
+            }
+        },
+        POPULATE_TARGET_FIELD(true) {
+            @Override
+            void invoke(AtlasModule module, AtlasInternalSession session) throws AtlasException {
+                module.populateTargetField(session);
+            }
+        },
+        WRITE_TARGET_VALUE(true) {
+            @Override
+            void invoke(AtlasModule module, AtlasInternalSession session) throws AtlasException {
+                module.writeTargetValue(session);
+            }
+        },
+        POST_SOURCE_EXECUTION(false) {
+            @Override
+            void invoke(AtlasModule module, AtlasInternalSession session) throws AtlasException {
+                module.processPostSourceExecution(session);
+            }
+        },
+        POST_TARGET_EXECUTION(false) {
+            @Override
+            void invoke(AtlasModule module, AtlasInternalSession session) throws AtlasException {
+                module.processPostTargetExecution(session);
+            }
+        };
+
+        private final boolean perField;
+
+        Operation(boolean perField) {
+            this.perField = perField;
+        }
+
+        abstract void invoke(AtlasModule module, AtlasInternalSession session) throws AtlasException;
+    }
+
+    @FunctionalInterface
+    private interface Invocation<T> {
+        T invoke() throws AtlasException;
+    }
+
+    public AtlasModuleStatistics() {
+        this.histograms = new LatencyHistogram[Operation.values().length];
+        for (int i = 0; i < histograms.length; i++) {
+            histograms[i] = new LatencyHistogram();
+        }
+    }
+
+    /**
+     * Invokes the operation on the module, and records it if the module has statistics enabled.
+     * The per-field operations count as an error when the head of the session got an error audit.
+     *
+     * @param module module
+     * @param operation operation
+     * @param session session
+     * @throws AtlasException the operation failed
+     */
+    public static void invoke(AtlasModule module, Operation operation, AtlasInternalSession session)
+            throws AtlasException {
+        invoke(module, operation, session, () -> {
+            operation.invoke(module, session);
+            return null;
+        });
+    }
+
+    /**
+     * Reads the source field with the reader, and records it as a {@link Operation#READ_SOURCE_VALUE}
+     * if the module has statistics enabled. This is for the reads which don't go through
+     * {@link AtlasModule#readSourceValue(AtlasInternalSession)}, i.e. the ones an expression issues.
+     *
+     * @param module source module, might be null
+     * @param reader field reader
+     * @param session session
+     * @return field read
+     * @throws AtlasException the read failed
+     */
+    public static Field read(AtlasModule module, AtlasFieldReader reader, AtlasInternalSession session)
+            throws AtlasException {
+        return invoke(module, Operation.READ_SOURCE_VALUE, session, () -> reader.read(session));
+    }
+
+    private static <T> T invoke(AtlasModule module, Operation operation, AtlasInternalSession session,
+            Invocation<T> invocation) throws AtlasException {
+        AtlasModuleStatistics statistics = module instanceof BaseAtlasModule
+                ? ((BaseAtlasModule) module).getStatistics() : null;
+        if (statistics == null) {
+            return invocation.invoke();
+        }
+        boolean hadError = operation.perField && session.head().hasError();
+        boolean error = true;
+        long start = System.nanoTime();
+        try {
+            T answer = invocation.invoke();
+            error = operation.perField && !hadError && session.head().hasError();
+            return answer;
+        } finally {
+            statistics.record(operation, System.nanoTime() - start, error);
+        }
+    }
+
+    public void record(Operation operation, long nanos, boolean error) {
+        histograms[operation.ordinal()].record(nanos, error);
+    }
+
+    public LatencyHistogram get(Operation operation) {
+        return histograms[operation.ordinal()];
+    }
+
+    /**
+     * Reads the statistics into the {@link TabularData} with a row for each {@link Operation},
+     * and resets them.
+     *
+     * @return statistics
+     * @throws OpenDataException failed to build the tabular data
+     */
+    public TabularData readAndReset() throws OpenDataException {
+        OpenType<?>[] itemTypes = new OpenType<?>[] {SimpleType.STRING, SimpleType.LONG, SimpleType.LONG,
+            SimpleType.LONG, SimpleType.LONG, SimpleType.LONG, SimpleType.LONG, SimpleType.LONG, SimpleType.LONG};
+        CompositeType rowType = new CompositeType("AtlasModuleOperationStatistics",
+                "Execution statistics of a module operation", ITEM_NAMES, ITEM_NAMES, itemTypes);
+        TabularData data = new TabularDataSupport(new TabularType("AtlasModuleStatistics",
+                "Execution statistics of a module", rowType, new String[] {ITEM_OPERATION}));
+        for (Operation operation : Operation.values()) {
+            Snapshot s = get(operation).snapshotAndReset();
+            data.put(new CompositeDataSupport(rowType, ITEM_NAMES, new Object[] {operation.name(), s.getCount(),
+                s.getErrorCount(), s.getMin(), s.getMax(), s.getTotal(), s.getPercentile(50.0), s.getPercentile(90.0),
+                s.getPercentile(99.0)}));
+        }
+        return data;
+    }
+
+}
@@ -19,12 +19,20 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
+import io.atlasmap.expression.internal.BoundedCache;
 import io.atlasmap.v2.AtlasModelFactory;
 import io.atlasmap.v2.CollectionType;
 import io.atlasmap.v2.Field;
 import io.atlasmap.v2.FieldGroup;
 
-public class AtlasPath {
+/**
+ * The path of a field. Parsed segments are immutable and interned per path string and
+ * {@code AtlasPath} class in a bounded cache, so that parsing the same path again only copies
+ * the segment list.
+ * Indexed variants of a path are derived with {@link #withCollectionIndex(int, Integer)}
+ * without serializing and parsing the path string again.
+ */
+public class AtlasPath implements Cloneable {
     public static final String PATH_SEPARATOR = "/";
     public static final char PATH_SEPARATOR_CHAR = '/';
     public static final String PATH_SEPARATOR_ESCAPED = "/";
@@ -37,13 +45,22 @@ public class AtlasPath {
     public static final String PATH_ATTRIBUTE_PREFIX = "@";
     public static final String PATH_NAMESPACE_SEPARATOR = ":";
 
+    private static final int MAX_INTERNED_PATHS = 10000;
+    private static final ClassValue<BoundedCache<String, List<SegmentContext>>> INTERNED_PATHS =
+        new ClassValue<BoundedCache<String, List<SegmentContext>>>() {
+            @Override
+            protected BoundedCache<String, List<SegmentContext>> computeValue(Class<?> type) {
+                return new BoundedCache<>(MAX_INTERNED_PATHS);
+            }
+        };
+
     protected List<SegmentContext> segmentContexts;
     private String originalPath = null;
 
     public AtlasPath(String p) {
         String path = p;
         this.originalPath = path;
-        this.segmentContexts = parse(path);
+        this.segmentContexts = new ArrayList<>(parseInterned(path));
     }
 
     protected AtlasPath(List<SegmentContext> segments) {
@@ -99,8 +116,8 @@ public class AtlasPath {
                 }
             } else {
                 selected.add(entryField.getField().get(relativeRootSegment.getCollectionIndex()));
-                entrySegment.collectionIndex = relativeRootSegment.getCollectionIndex();
-                extractedSegments.set(entrySegments.size() - 1, entrySegment.rebuild());
+                extractedSegments.set(entrySegments.size() - 1,
+                    entrySegment.withCollectionIndex(relativeRootSegment.getCollectionIndex()));
             }
         } else {
             selected.addAll(entryField.getField());
@@ -159,6 +176,48 @@ public class AtlasPath {
         }
     }
 
+    /**
+     * Creates a copy of this path with the collection index set on the specified segment.
+     * The segments are shared and only the indexed one is created, the path string is not parsed again.
+     *
+     * @param segmentIndex index of the segment, 0 is the root segment
+     * @param collectionIndex collection index to set
+     * @return indexed copy of this path
+     */
+    public AtlasPath withCollectionIndex(int segmentIndex, Integer collectionIndex) {
+        AtlasPath answer = copy();
+        answer.setCollectionIndex(segmentIndex, collectionIndex);
+        return answer;
+    }
+
+    /**
+     * Creates a copy of this path with the collection index set on the first collection segment
+     * which doesn't have one yet, see {@link #setVacantCollectionIndex(Integer)}.
+     *
+     * @param collectionIndex collection index to set
+     * @return indexed copy of this path
+     */
+    public AtlasPath withVacantCollectionIndex(Integer collectionIndex) {
+        AtlasPath answer = copy();
+        answer.setVacantCollectionIndex(collectionIndex);
+        return answer;
+    }
+
+    /**
+     * Creates a copy of this path which shares the immutable segments.
+     *
+     * @return copy
+     */
+    protected AtlasPath copy() {
+        try {
+            AtlasPath answer = (AtlasPath) super.clone();
+            answer.segmentContexts = new ArrayList<>(this.segmentContexts);
+            return answer;
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     public AtlasPath appendField(String fieldExpression) {
         this.segmentContexts.add(createSegmentContext(fieldExpression));
         return this;
@@ -259,9 +318,9 @@ public class AtlasPath {
                     "Cannnot set negative collection index %s for the path %s",
                     collectionIndex, this.toString()));
         }
-        SegmentContext sc = this.segmentContexts.get(segmentIndex);
-        sc.collectionIndex = collectionIndex;
-        return this.segmentContexts.set(segmentIndex, sc.rebuild());
+        SegmentContext sc = this.segmentContexts.get(segmentIndex).withCollectionIndex(collectionIndex);
+        this.segmentContexts.set(segmentIndex, sc);
+        return sc;
     }
 
     public List<SegmentContext> getCollectionSegments(boolean includeRoot) {
@@ -322,6 +381,13 @@ public class AtlasPath {
         return answer;
     }
 
+    private List<SegmentContext> parseInterned(String path) {
+        if (path == null) {
+            return parse(path);
+        }
+        return INTERNED_PATHS.get(getClass()).get(path, p -> Collections.unmodifiableList(parse(p)));
+    }
+
     protected List<SegmentContext> parse(String path) {
         List<SegmentContext> segmentContexts = new ArrayList<>();
         if (path != null && !"".equals(path)) {
@@ -348,7 +414,10 @@ public class AtlasPath {
         return new SegmentContext(expression);
     }
 
-    public static class SegmentContext {
+    /**
+     * A segment of the path. It's immutable so that it can be shared among the paths.
+     */
+    public static class SegmentContext implements Cloneable {
 
         private String name;
         private String expression;
@@ -410,21 +479,43 @@ public class AtlasPath {
             return isRoot;
         }
 
-        protected SegmentContext rebuild() {
+        /**
+         * Creates a copy of this segment with the specified collection index.
+         *
+         * @param index collection index
+         * @return indexed copy
+         */
+        protected SegmentContext withCollectionIndex(Integer index) {
+            SegmentContext answer;
+            try {
+                answer = (SegmentContext) super.clone();
+            } catch (CloneNotSupportedException e) {
+                throw new IllegalStateException(e);
+            }
+            answer.collectionIndex = index;
+            answer.expression = answer.buildExpression();
+            return answer;
+        }
+
+        protected String buildExpression() {
+            return buildExpression(name);
+        }
+
+        protected String buildExpression(String segmentName) {
             StringBuilder buf = new StringBuilder();
             if (this.isAttribute) {
                 buf.append(PATH_ATTRIBUTE_PREFIX);
             }
-            buf.append(name);
+            buf.append(segmentName);
             String index = collectionIndex != null ? collectionIndex.toString() : "";
             if (this.collectionType == CollectionType.ARRAY) {
                 buf.append(PATH_ARRAY_START).append(index).append(PATH_ARRAY_END);
             } else if (this.collectionType == CollectionType.LIST) {
                 buf.append(PATH_LIST_START).append(index).append(PATH_LIST_END);
             } else if (this.collectionType == CollectionType.MAP) {
-                buf.append(PATH_LIST_START).append(mapKey).append(PATH_LIST_END);
+                buf.append(PATH_MAP_START).append(mapKey != null ? mapKey : "").append(PATH_MAP_END);
             }
-            return new SegmentContext(buf.toString());
+            return buf.toString();
         }
 
         @Override
@@ -274,7 +274,7 @@ public class AtlasUtil {
 
     public static void addAudit(AtlasSession session, String docId, String message, String path, AuditStatus status,
             String value) {
-        String docName = session != null ? getDocumentNameById(session.getMapping(), docId) : null;
+        String docName = session != null ? getDocumentNameById(session.getReadOnlyMapping(), docId) : null;
         session.getAudits().getAudit().add(createAudit(status, docId, docName, path, value, message));
     }
 
@@ -301,7 +301,7 @@ public class AtlasUtil {
     public static void addAudits(AtlasInternalSession session, String docId, List<Audit> audits) {
         for (Audit audit: audits) {
             audit.setDocId(docId);
-            audit.setDocName(getDocumentNameById(session.getMapping(), docId));
+            audit.setDocName(getDocumentNameById(session.getReadOnlyMapping(), docId));
             session.getAudits().getAudit().add(audit);
         }
     }
@@ -21,6 +21,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import javax.management.openmbean.OpenDataException;
 import javax.management.openmbean.TabularData;
 
 import org.slf4j.Logger;
@@ -47,6 +48,7 @@ import io.atlasmap.v2.SimpleField;
 
 public abstract class BaseAtlasModule implements AtlasModule, AtlasModuleMXBean {
     private static final Logger LOG = LoggerFactory.getLogger(BaseAtlasModule.class);
+    private static final AtlasModuleStatistics EMPTY_STATISTICS = new AtlasModuleStatistics();
 
     private boolean automaticallyProcessOutputFieldActions = true;
     private AtlasConversionService atlasConversionService = null;
@@ -59,6 +61,7 @@ public abstract class BaseAtlasModule implements AtlasModule, AtlasModuleMXBean
     private Map<String,String> uriParameters = new HashMap<>();
     private ClassLoader classLoader;
     private DataSourceMetadata dataSourceMetadata;
+    private volatile AtlasModuleStatistics statistics;
 
     @Override
     public void init() throws AtlasException {
@@ -116,19 +119,15 @@ public abstract class BaseAtlasModule implements AtlasModule, AtlasModuleMXBean
 
     protected void processLookupField(AtlasInternalSession session, LookupTable lookupTable, Object sourceValue,
             Field targetField) throws AtlasException {
-        String lookupValue = null;
-        FieldType lookupType = null;
-        for (LookupEntry lkp : lookupTable.getLookupEntry()) {
-            if (lkp.getSourceValue().equals(sourceValue)) {
-                lookupValue = lkp.getTargetValue();
-                lookupType = lkp.getTargetType();
-                break;
-            }
-        }
+        CompiledLookupTable.Target lookupTarget = findLookupTarget(session, lookupTable, sourceValue);
+        String lookupValue = lookupTarget != null ? lookupTarget.getValue() : null;
+        FieldType lookupType = lookupTarget != null ? lookupTarget.getType() : null;
 
         Object targetValue = null;
         if (lookupType == null || FieldType.STRING.equals(lookupType)) {
             targetValue = lookupValue;
+        } else if (lookupTarget.getConvertedValue() != null) {
+            targetValue = lookupTarget.getConvertedValue();
         } else {
             targetValue = atlasConversionService.convertType(lookupValue, FieldType.STRING, lookupType);
         }
@@ -140,6 +139,31 @@ public abstract class BaseAtlasModule implements AtlasModule, AtlasModuleMXBean
         targetField.setValue(targetValue);
     }
 
+    /**
+     * Finds the lookup target for the source value, using the index compiled into the execution plan
+     * if the session has one for the lookup table.
+     *
+     * @param session session
+     * @param lookupTable lookup table
+     * @param sourceValue source value
+     * @return lookup target, or null if there's no entry for the value
+     */
+    public static CompiledLookupTable.Target findLookupTarget(AtlasInternalSession session, LookupTable lookupTable,
+            Object sourceValue) {
+        if (session instanceof DefaultAtlasSession) {
+            CompiledLookupTable compiled = ((DefaultAtlasSession) session).getCompiledLookupTable();
+            if (compiled != null && compiled.getTable() == lookupTable) {
+                return compiled.find(sourceValue);
+            }
+        }
+        for (LookupEntry lkp : lookupTable.getLookupEntry()) {
+            if (lkp.getSourceValue().equals(sourceValue)) {
+                return new CompiledLookupTable.Target(lkp.getTargetValue(), lkp.getTargetType(), null);
+            }
+        }
+        return null;
+    }
+
     protected Field applyTargetFieldActions(AtlasInternalSession session) throws AtlasException {
         Field field = session.head().getTargetField();
         if (isAutomaticallyProcessOutputFieldActions() && field.getActions() != null
@@ -169,12 +193,21 @@ public abstract class BaseAtlasModule implements AtlasModule, AtlasModuleMXBean
 
     @Override
     public Boolean isStatisticsSupported() {
-        return false;
+        return true;
     }
 
     @Override
     public Boolean isStatisticsEnabled() {
-        return false;
+        return statistics != null;
+    }
+
+    /**
+     * Gets the execution statistics of this module.
+     *
+     * @return statistics, or null if the statistics is not enabled
+     */
+    public AtlasModuleStatistics getStatistics() {
+        return statistics;
     }
 
     @Override
@@ -289,62 +322,62 @@ public abstract class BaseAtlasModule implements AtlasModule, AtlasModuleMXBean
 
     @Override
     public long getSourceErrorCount() {
-        return 0L;
+        return statistics(AtlasModuleStatistics.Operation.READ_SOURCE_VALUE).getErrorCount();
     }
 
     @Override
     public long getSourceCount() {
-        return 0L;
+        return statistics(AtlasModuleStatistics.Operation.READ_SOURCE_VALUE).getCount();
     }
 
     @Override
     public long getSourceMaxExecutionTime() {
-        return 0L;
+        return statistics(AtlasModuleStatistics.Operation.READ_SOURCE_VALUE).getMax();
     }
 
     @Override
     public long getSourceMinExecutionTime() {
-        return 0L;
+        return statistics(AtlasModuleStatistics.Operation.READ_SOURCE_VALUE).getMin();
     }
 
     @Override
     public long getSourceSuccessCount() {
-        return 0L;
+        return statistics(AtlasModuleStatistics.Operation.READ_SOURCE_VALUE).getSuccessCount();
     }
 
     @Override
     public long getSourceTotalExecutionTime() {
-        return 0L;
+        return statistics(AtlasModuleStatistics.Operation.READ_SOURCE_VALUE).getTotal();
     }
 
     @Override
     public long getTargetCount() {
-        return 0L;
+        return statistics(AtlasModuleStatistics.Operation.WRITE_TARGET_VALUE).getCount();
     }
 
     @Override
     public long getTargetErrorCount() {
-        return 0L;
+        return statistics(AtlasModuleStatistics.Operation.WRITE_TARGET_VALUE).getErrorCount();
     }
 
     @Override
     public long getTargetMaxExecutionTime() {
-        return 0L;
+        return statistics(AtlasModuleStatistics.Operation.WRITE_TARGET_VALUE).getMax();
     }
 
     @Override
     public long getTargetMinExecutionTime() {
-        return 0L;
+        return statistics(AtlasModuleStatistics.Operation.WRITE_TARGET_VALUE).getMin();
     }
 
     @Override
     public long getTargetSuccessCount() {
-        return 0L;
+        return statistics(AtlasModuleStatistics.Operation.WRITE_TARGET_VALUE).getSuccessCount();
     }
 
     @Override
     public long getTargetTotalExecutionTime() {
-        return 0L;
+        return statistics(AtlasModuleStatistics.Operation.WRITE_TARGET_VALUE).getTotal();
     }
 
     @Override
@@ -358,13 +391,23 @@ public abstract class BaseAtlasModule implements AtlasModule, AtlasModuleMXBean
     }
 
     @Override
-    public TabularData readAndResetStatistics() {
-        return null;
+    public TabularData readAndResetStatistics() throws OpenDataException {
+        AtlasModuleStatistics answer = statistics;
+        return answer != null ? answer.readAndReset() : null;
     }
 
     @Override
     public void setStatisticsEnabled(boolean enabled) {
-        LOG.warn("Statistics is not yet implemented");
+        if (!enabled) {
+            statistics = null;
+        } else if (statistics == null) {
+            statistics = new AtlasModuleStatistics();
+        }
+    }
+
+    private LatencyHistogram statistics(AtlasModuleStatistics.Operation operation) {
+        AtlasModuleStatistics answer = statistics;
+        return answer != null ? answer.get(operation) : EMPTY_STATISTICS.get(operation);
     }
 
     @Override
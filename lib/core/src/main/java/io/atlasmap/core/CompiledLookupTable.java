@@ -0,0 +1,145 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.core;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.atlasmap.api.AtlasConversionException;
+import io.atlasmap.spi.AtlasConversionService;
+import io.atlasmap.v2.FieldType;
+import io.atlasmap.v2.LookupEntry;
+import io.atlasmap.v2.LookupTable;
+
+/**
+ * A hash index of a {@link LookupTable} compiled into the execution plan, i.e. a map from the source
+ * value to the target value, converted into its declared {@link FieldType} ahead. The {@link LookupTable}
+ * itself is left untouched. Same as the linear lookup over the entries, only a String source value
+ * matches, and when several entries have the same source value the first one wins.
+ */
+public class CompiledLookupTable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(CompiledLookupTable.class);
+
+    private final LookupTable table;
+    private final Map<String, Target> index;
+
+    private CompiledLookupTable(LookupTable table, Map<String, Target> index) {
+        this.table = table;
+        this.index = index;
+    }
+
+    /**
+     * Compiles the lookup table.
+     *
+     * @param table lookup table
+     * @param conversionService conversion service to convert the target values into their declared type
+     * @return compiled lookup table
+     */
+    public static CompiledLookupTable compile(LookupTable table, AtlasConversionService conversionService) {
+        List<LookupEntry> entries = table.getLookupEntry();
+        Map<String, Target> index = new HashMap<>(entries.size() * 4 / 3 + 1);
+        for (LookupEntry entry : entries) {
+            if (entry.getSourceValue() == null || index.containsKey(entry.getSourceValue())) {
+                continue;
+            }
+            index.put(entry.getSourceValue(), new Target(entry.getTargetValue(), entry.getTargetType(),
+                    convert(table, entry.getTargetValue(), entry.getTargetType(), conversionService)));
+        }
+        return new CompiledLookupTable(table, index);
+    }
+
+    private static Object convert(LookupTable table, String value, FieldType type,
+            AtlasConversionService conversionService) {
+        if (value == null || type == null || type == FieldType.STRING) {
+            return null;
+        }
+        try {
+            return conversionService.convertType(value, FieldType.STRING, type);
+        } catch (AtlasConversionException e) {
+            // left to be converted and reported on lookup
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Lookup table '{}' value '{}' cannot be converted into {}: {}", table.getName(), value,
+                        type, e.getMessage());
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Finds the target for the source value.
+     *
+     * @param sourceValue source value
+     * @return target, or null if there's no entry for the value
+     */
+    public Target find(Object sourceValue) {
+        return sourceValue instanceof String ? index.get(sourceValue) : null;
+    }
+
+    /**
+     * Gets the lookup table this index is compiled from.
+     *
+     * @return lookup table
+     */
+    public LookupTable getTable() {
+        return table;
+    }
+
+    public int getSize() {
+        return index.size();
+    }
+
+    /**
+     * The target of a lookup entry.
+     */
+    public static final class Target implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String value;
+        private final FieldType type;
+        private final Object convertedValue;
+
+        Target(String value, FieldType type, Object convertedValue) {
+            this.value = value;
+            this.type = type;
+            this.convertedValue = convertedValue;
+        }
+
+        public String getValue() {
+            return value;
+        }
+
+        public FieldType getType() {
+            return type;
+        }
+
+        /**
+         * Gets the target value converted into its type.
+         *
+         * @return converted value, or null if the type is String or the value is left to be converted on lookup
+         */
+        public Object getConvertedValue() {
+            return convertedValue;
+        }
+    }
+
+}
@@ -17,31 +17,43 @@ package io.atlasmap.core;
 
 import java.lang.management.ManagementFactory;
 import java.net.URI;
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Date;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
-import java.util.TimeZone;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.function.BiConsumer;
 
+import javax.management.MalformedObjectNameException;
 import javax.management.ObjectName;
+import javax.management.openmbean.OpenDataException;
+import javax.management.openmbean.TabularData;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import io.atlasmap.api.AtlasBatchResult;
 import io.atlasmap.api.AtlasConstants;
 import io.atlasmap.api.AtlasContext;
 import io.atlasmap.api.AtlasContextFactory;
 import io.atlasmap.api.AtlasConversionException;
 import io.atlasmap.api.AtlasException;
 import io.atlasmap.api.AtlasSession;
+import io.atlasmap.core.AtlasExecutionPlan.CompiledMapping;
+import io.atlasmap.core.AtlasModuleStatistics.Operation;
+import io.atlasmap.core.MappingProfiler.Phase;
 import io.atlasmap.mxbean.AtlasContextMXBean;
+import io.atlasmap.spi.AtlasDirectMapper;
+import io.atlasmap.spi.AtlasDirectMapperCompiler;
+import io.atlasmap.spi.AtlasFieldReader;
 import io.atlasmap.spi.AtlasModule;
 import io.atlasmap.spi.AtlasModuleInfo;
 import io.atlasmap.spi.AtlasModuleInfoRegistry;
@@ -52,10 +64,7 @@ import io.atlasmap.v2.AtlasMapping;
 import io.atlasmap.v2.AtlasModelFactory;
 import io.atlasmap.v2.AuditStatus;
 import io.atlasmap.v2.Audits;
-import io.atlasmap.v2.BaseMapping;
-import io.atlasmap.v2.Collection;
 import io.atlasmap.v2.ConstantField;
-import io.atlasmap.v2.CopyTo;
 import io.atlasmap.v2.DataSource;
 import io.atlasmap.v2.DataSourceKey;
 import io.atlasmap.v2.DataSourceMetadata;
@@ -70,7 +79,6 @@ import io.atlasmap.v2.Mappings;
 import io.atlasmap.v2.PropertyField;
 import io.atlasmap.v2.SimpleField;
 import io.atlasmap.v2.Validation;
-import io.atlasmap.v2.Validations;
 
 public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
 
@@ -78,6 +86,9 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
     public static final String PROPERTIES_DOCUMENT_ID = "io.atlasmap.core.DefaultAtlasContext.properties.docId";
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultAtlasContext.class);
+    private static final int DEFAULT_SESSION_POOL_SIZE = 16;
+    private static final DateTimeFormatter CREATED_DATE_TIME_FORMAT
+        = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ssZ");
     private ObjectName jmxObjectName;
     private final UUID uuid;
     private DefaultAtlasContextFactory factory;
@@ -87,6 +98,11 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
     private Map<String, AtlasModule> targetModules = new HashMap<>();
     private Map<String, LookupTable> lookupTables = new HashMap<>();
     private Map<DataSourceKey, DataSourceMetadata> dataSourceMetadataMap;
+    private volatile AtlasExecutionPlan executionPlan;
+    private volatile MappingValidations mappingValidations;
+    private Boolean runtimeValidation;
+    private volatile BlockingQueue<DefaultAtlasSession> sessionPool;
+    private volatile MappingProfiler profiler;
     private boolean initialized;
 
     public DefaultAtlasContext(URI atlasMappingUri) {
@@ -117,6 +133,9 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
         }
 
         registerJmx(this);
+        if (isProfiling()) {
+            setProfilingEnabled(true);
+        }
 
         if (this.atlasMappingUri != null) {
             this.mappingDefinition = factory.getMappingService().loadMapping(this.atlasMappingUri);
@@ -128,6 +147,7 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
             return;
         }
 
+        unregisterModulesJmx();
         sourceModules.clear();
         ConstantModule constant = new ConstantModule();
         constant.setConversionService(factory.getConversionService());
@@ -209,14 +229,156 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
                         moduleInfo.toString()), t);
             }
         }
+        if (isModuleStatistics()) {
+            registerModulesJmx();
+        }
+        compileExecutionPlan();
+        try {
+            getMappingValidations((DefaultAtlasSession) doCreateSession());
+        } catch (Exception e) {
+            // left to be reported by process()
+            LOG.warn("Failed to validate the mapping definition on initialization: {}", e.getMessage());
+            LOG.debug(e.getMessage(), e);
+        }
         initialized = true;
     }
 
+    /**
+     * Compiles the mapping definition into an {@link AtlasExecutionPlan} which is shared by
+     * all the sessions created from this context.
+     *
+     * @throws AtlasException failed to compile
+     */
+    protected synchronized void compileExecutionPlan() throws AtlasException {
+        if (this.mappingDefinition == null) {
+            this.executionPlan = null;
+            return;
+        }
+        AtlasExecutionPlan plan = AtlasExecutionPlan.compile(factory.getMappingService().getObjectMapper(),
+                this.mappingDefinition, this.lookupTables, factory.getConversionService());
+        if (isDirectMappers()) {
+            compileDirectMappers(plan);
+        }
+        this.executionPlan = plan;
+    }
+
+    /**
+     * Compiles each mapping of the plan into an {@link AtlasDirectMapper} if it has a single source field and
+     * a single target field without any field action, expression nor lookup table, and the target module is an
+     * {@link AtlasDirectMapperCompiler} which supports it. The other mappings are left to the generic processing.
+     *
+     * @param plan execution plan
+     */
+    private void compileDirectMappers(AtlasExecutionPlan plan) {
+        int count = 0;
+        for (CompiledMapping compiled : plan.getCompiledMappings()) {
+            Mapping mapping = compiled.getMapping();
+            if (compiled.getError() != null || compiled.getLookupTable() != null || mapping.getExpression() != null
+                    || (mapping.getMappingType() != null && mapping.getMappingType() != MappingType.MAP)
+                    || mapping.getInputFieldGroup() != null || mapping.getInputField().size() != 1
+                    || mapping.getOutputField().size() != 1) {
+                continue;
+            }
+            Field sourceField = mapping.getInputField().get(0);
+            Field targetField = mapping.getOutputField().get(0);
+            if (sourceField instanceof FieldGroup || hasActions(sourceField) || hasActions(targetField)) {
+                continue;
+            }
+            AtlasModule sourceModule = resolveModule(FieldDirection.SOURCE, sourceField);
+            AtlasModule targetModule = resolveModule(FieldDirection.TARGET, targetField);
+            if (sourceModule == null || !(targetModule instanceof AtlasDirectMapperCompiler)) {
+                continue;
+            }
+            try {
+                AtlasDirectMapper mapper = ((AtlasDirectMapperCompiler) targetModule)
+                        .compileDirectMapper(mapping, sourceModule);
+                if (mapper != null) {
+                    compiled.setDirectMapper(mapper);
+                    count++;
+                }
+            } catch (Exception e) {
+                LOG.debug("Failed to compile a direct mapper for the mapping '{}', ignoring: {}",
+                        mapping.getAlias(), e.getMessage());
+            }
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Compiled {} of {} mappings into direct mappers", count, plan.getCompiledMappings().size());
+        }
+    }
+
+    private static boolean hasActions(Field field) {
+        return field.getActions() != null && !field.getActions().isEmpty();
+    }
+
+    /**
+     * Gets the compiled execution plan, compiles it if it's not yet done.
+     *
+     * @return execution plan or null if there's no mapping definition
+     * @throws AtlasException failed to compile
+     */
+    public AtlasExecutionPlan getExecutionPlan() throws AtlasException {
+        AtlasExecutionPlan plan = this.executionPlan;
+        if (plan == null && this.mappingDefinition != null) {
+            synchronized (this) {
+                if (this.executionPlan == null) {
+                    compileExecutionPlan();
+                }
+                plan = this.executionPlan;
+            }
+        }
+        return plan;
+    }
+
+    /**
+     * Gets the validation results of the mapping definition the session is going to process. The
+     * mapping definition is validated once per compiled mapping and the result is shared by all the
+     * sessions, unless the runtime validation is enabled.
+     *
+     * @param session session to validate with
+     * @return validation results
+     * @throws AtlasException failed to validate
+     */
+    private List<Validation> getMappingValidations(DefaultAtlasSession session) throws AtlasException {
+        AtlasMapping mapping = session.getReadOnlyMapping();
+        MappingValidations cached = this.mappingValidations;
+        if (cached != null && cached.mapping == mapping && !isRuntimeValidation()) {
+            return cached.validations;
+        }
+        processValidation(session);
+        List<Validation> validations = Collections.unmodifiableList(
+                new ArrayList<>(session.getValidations().getValidation()));
+        if (session.getCopiedMapping() == null) {
+            // the copy is owned by the session and might be modified, it's validated every time
+            this.mappingValidations = new MappingValidations(mapping, validations);
+        }
+        return validations;
+    }
+
+    /**
+     * Whether to validate the mapping definition on every {@link #process(AtlasSession)} call.
+     * If it's not set on the context, the {@link DefaultAtlasContextFactory#PROPERTY_RUNTIME_VALIDATION}
+     * factory property is used, which is false by default.
+     *
+     * @return true if runtime validation is enabled
+     */
+    public boolean isRuntimeValidation() {
+        if (this.runtimeValidation != null) {
+            return this.runtimeValidation;
+        }
+        Map<String, String> properties = factory.getProperties();
+        return properties != null
+                && Boolean.parseBoolean(properties.get(DefaultAtlasContextFactory.PROPERTY_RUNTIME_VALIDATION));
+    }
+
+    public void setRuntimeValidation(boolean runtimeValidation) {
+        this.runtimeValidation = runtimeValidation;
+    }
+
     protected void registerJmx(DefaultAtlasContext context) {
         try {
             setJmxObjectName(new ObjectName(
                     getDefaultAtlasContextFactory().getJmxObjectName() + ",context=Contexts,uuid=" + uuid.toString()));
-            if (ManagementFactory.getPlatformMBeanServer().isRegistered(getJmxObjectName())) {
+            if (!ManagementFactory.getPlatformMBeanServer().isRegistered(getJmxObjectName())) {
                 ManagementFactory.getPlatformMBeanServer().registerMBean(this, getJmxObjectName());
                 if (LOG.isDebugEnabled()) {
                     LOG.debug("Registered AtlasContext {} with JMX", context.getUuid());
@@ -228,6 +390,118 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
         }
     }
 
+    /**
+     * Whether the {@link DefaultAtlasContextFactory#PROPERTY_PROFILING} factory property is set,
+     * which enables the {@link MappingProfiler} on initialization. It can be switched at runtime
+     * with {@link #setProfilingEnabled(boolean)}, also through JMX.
+     *
+     * @return true if the profiling is enabled
+     */
+    protected boolean isProfiling() {
+        Map<String, String> properties = factory.getProperties();
+        return properties != null
+                && Boolean.parseBoolean(properties.get(DefaultAtlasContextFactory.PROPERTY_PROFILING));
+    }
+
+    /**
+     * Whether the {@link DefaultAtlasContextFactory#PROPERTY_MODULE_STATISTICS} factory property is set,
+     * which enables the statistics of the modules and registers them with JMX on initialization.
+     *
+     * @return true if the module statistics is enabled
+     */
+    protected boolean isModuleStatistics() {
+        Map<String, String> properties = factory.getProperties();
+        return properties != null
+                && Boolean.parseBoolean(properties.get(DefaultAtlasContextFactory.PROPERTY_MODULE_STATISTICS));
+    }
+
+    /**
+     * Whether the {@link DefaultAtlasContextFactory#PROPERTY_DIRECT_MAPPERS} factory property is set,
+     * which compiles the eligible mappings into {@link AtlasDirectMapper}s with the execution plan.
+     *
+     * @return true if the direct mappers are enabled
+     */
+    protected boolean isDirectMappers() {
+        Map<String, String> properties = factory.getProperties();
+        return properties != null
+                && Boolean.parseBoolean(properties.get(DefaultAtlasContextFactory.PROPERTY_DIRECT_MAPPERS));
+    }
+
+    protected void registerModulesJmx() {
+        for (Map.Entry<String, AtlasModule> entry : getStatisticsModules()) {
+            AtlasModule module = entry.getValue();
+            try {
+                ((BaseAtlasModule) module).setStatisticsEnabled(true);
+                ObjectName name = getModuleObjectName(module.getMode(), entry.getKey());
+                if (!ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
+                    ManagementFactory.getPlatformMBeanServer().registerMBean(module, name);
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Registered {} module {} with JMX", module.getMode(), entry.getKey());
+                    }
+                }
+            } catch (Exception t) {
+                LOG.warn("Failed to register {} module {} with JMX", module.getMode(), entry.getKey());
+                LOG.warn(t.getMessage(), t);
+            }
+        }
+    }
+
+    protected void unregisterModulesJmx() {
+        for (Map.Entry<String, AtlasModule> entry : getStatisticsModules()) {
+            AtlasModule module = entry.getValue();
+            if (!module.isStatisticsEnabled()) {
+                continue;
+            }
+            try {
+                ObjectName name = getModuleObjectName(module.getMode(), entry.getKey());
+                if (ManagementFactory.getPlatformMBeanServer().isRegistered(name)) {
+                    ManagementFactory.getPlatformMBeanServer().unregisterMBean(name);
+                    if (LOG.isDebugEnabled()) {
+                        LOG.debug("Unregistered {} module {} with JMX", module.getMode(), entry.getKey());
+                    }
+                }
+            } catch (Exception t) {
+                LOG.warn("Failed to unregister {} module {} with JMX", module.getMode(), entry.getKey());
+                LOG.warn(t.getMessage(), t);
+            }
+        }
+    }
+
+    private List<Map.Entry<String, AtlasModule>> getStatisticsModules() {
+        List<Map.Entry<String, AtlasModule>> answer = new ArrayList<>();
+        for (Map<String, AtlasModule> modules : Arrays.asList(sourceModules, targetModules)) {
+            for (Map.Entry<String, AtlasModule> entry : modules.entrySet()) {
+                if (entry.getValue() instanceof BaseAtlasModule) {
+                    answer.add(entry);
+                }
+            }
+        }
+        return answer;
+    }
+
+    private ObjectName getModuleObjectName(AtlasModuleMode mode, String docId) throws MalformedObjectNameException {
+        return new ObjectName(getDefaultAtlasContextFactory().getJmxObjectName() + ",context=Contexts,uuid="
+                + uuid.toString() + ",modules=" + mode + ",docId=" + ObjectName.quote(docId));
+    }
+
+    protected void unregisterJmx() {
+        unregisterModulesJmx();
+        if (getJmxObjectName() == null) {
+            return;
+        }
+        try {
+            if (ManagementFactory.getPlatformMBeanServer().isRegistered(getJmxObjectName())) {
+                ManagementFactory.getPlatformMBeanServer().unregisterMBean(getJmxObjectName());
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Unregistered AtlasContext {} with JMX", getUuid());
+                }
+            }
+        } catch (Exception t) {
+            LOG.warn("Failed to unregister AtlasContext {} with JMX", getUuid());
+            LOG.warn(t.getMessage(), t);
+        }
+    }
+
     /**
      * Process single mapping entry in preview mode. Since modules don't participate
      * in preview mode, any document format specific function won't be applied.
@@ -383,7 +657,7 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
 
     private boolean restoreSourceFieldType(DefaultAtlasSession session, Field sourceField) {
         try {
-            Object sourceValue = factory.getConversionService().convertType(
+            Object sourceValue = convertType(session,
                     sourceField.getValue(), null, sourceField.getFieldType(), null);
             sourceField.setValue(sourceValue);
         } catch (AtlasConversionException e) {
@@ -404,7 +678,7 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
             targetValue = sourceField.getValue();
         } else if (sourceField.getValue() != null) {
             try {
-                targetValue = factory.getConversionService().convertType(sourceField.getValue(), sourceField.getFormat(),
+                targetValue = convertType(session, sourceField.getValue(), sourceField.getFormat(),
                         targetField.getFieldType(), targetField.getFormat());
             } catch (AtlasConversionException e) {
                 AtlasUtil.addAudit(session, targetField.getDocId(), String.format(
@@ -424,6 +698,8 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
         if (field.getActions() == null) {
             return field;
         }
+        MappingProfiler.Entry profile = session.getProfileEntry();
+        long start = profile != null ? System.nanoTime() : 0L;
         try {
             return factory.getFieldActionService().processActions(session, field);
         } catch (AtlasException e) {
@@ -434,6 +710,65 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
                 LOG.error("", e);
             }
             return field;
+        } finally {
+            if (profile != null) {
+                profile.record(Phase.FIELD_ACTIONS, System.nanoTime() - start);
+            }
+        }
+    }
+
+    private void invokeModule(AtlasModule module, Operation operation, DefaultAtlasSession session)
+            throws AtlasException {
+        MappingProfiler.Entry profile = session.getProfileEntry();
+        if (profile == null) {
+            AtlasModuleStatistics.invoke(module, operation, session);
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            AtlasModuleStatistics.invoke(module, operation, session);
+        } finally {
+            profile.record(operation == Operation.READ_SOURCE_VALUE ? Phase.SOURCE_READ : Phase.TARGET_WRITE,
+                    System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Reads the source field on behalf of an expression, measured the same way as the
+     * {@link AtlasModule#readSourceValue(io.atlasmap.spi.AtlasInternalSession)} invocations.
+     *
+     * @param session session
+     * @param docId document ID of the source field
+     * @param reader field reader of the document
+     * @return field read
+     * @throws AtlasException the read failed
+     */
+    Field readSourceField(DefaultAtlasSession session, String docId, AtlasFieldReader reader)
+            throws AtlasException {
+        AtlasModule module = getSourceModules().get(docId);
+        MappingProfiler.Entry profile = session.getProfileEntry();
+        if (profile == null) {
+            return AtlasModuleStatistics.read(module, reader, session);
+        }
+        long start = System.nanoTime();
+        try {
+            return AtlasModuleStatistics.read(module, reader, session);
+        } finally {
+            profile.record(Phase.SOURCE_READ, System.nanoTime() - start);
+        }
+    }
+
+    private Object convertType(DefaultAtlasSession session, Object sourceValue, String sourceFormat,
+            FieldType targetType, String targetFormat) throws AtlasConversionException {
+        MappingProfiler.Entry profile = session.getProfileEntry();
+        if (profile == null) {
+            return factory.getConversionService().convertType(sourceValue, sourceFormat, targetType, targetFormat);
+        }
+        long start = System.nanoTime();
+        try {
+            return factory.getConversionService().convertType(sourceValue, sourceFormat, targetType, targetFormat);
+        } finally {
+            profile.record(Phase.CONVERSION, System.nanoTime() - start);
         }
     }
 
@@ -454,19 +789,25 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
         if (LOG.isDebugEnabled()) {
             LOG.debug("Begin process {}", (session == null ? null : session.toString()));
         }
+        AtlasExecutionPlan plan = getExecutionPlan();
+        if (plan == null) {
+            throw new AtlasException("AtlasContext doesn't have a mapping definition to process");
+        }
+        if (session.getCopiedMapping() != null) {
+            plan = AtlasExecutionPlan.compile(factory.getMappingService().getObjectMapper(),
+                    session.getCopiedMapping(), this.lookupTables, factory.getConversionService());
+        }
 
         session.head().unset();
         session.getAudits().getAudit().clear();
         session.getValidations().getValidation().clear();
 
-        // TODO https://github.com/atlasmap/atlasmap/issues/863 - Add an option to enable/disable runtime validation
-        processValidation(session);
-        for (Validation v : session.getValidations().getValidation()) {
+        for (Validation v : getMappingValidations(session)) {
             AtlasUtil.addAudit(session, v);
         }
 
         // Additional runtime only audit
-        Mappings mappings = session.getMapping().getMappings();
+        Mappings mappings = session.getReadOnlyMapping().getMappings();
         if (mappings != null && mappings.getMapping().isEmpty()) {
             AtlasUtil.addAudit(session, null,
                 String.format("Field mappings should not be empty"),
@@ -482,10 +823,10 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
         }
 
         for (AtlasModule module : getSourceModules().values()) {
-            module.processPreSourceExecution(session);
+            AtlasModuleStatistics.invoke(module, Operation.PRE_SOURCE_EXECUTION, session);
         }
         for (AtlasModule module : getTargetModules().values()) {
-            module.processPreTargetExecution(session);
+            AtlasModuleStatistics.invoke(module, Operation.PRE_TARGET_EXECUTION, session);
         }
 
         if (session.hasErrors()) {
@@ -495,69 +836,94 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
             return;
         }
 
-        for (BaseMapping baseMapping : session.getMapping().getMappings().getMapping()) {
-            for (Mapping mapping : unwrapCollectionMappings(session, baseMapping)) {
-                session.head().setMapping(mapping).setLookupTable(lookupTables.get(mapping.getLookupTableName()));
+        MappingProfiler profiler = this.profiler;
+        int index = -1;
+        for (CompiledMapping compiled : plan.getCompiledMappings()) {
+            index++;
+            Mapping mapping = compiled.getMapping();
+            session.head().setMapping(mapping).setLookupTable(compiled.getLookupTable());
+            session.setCompiledLookupTable(compiled.getCompiledLookupTable());
+
+            if (mapping.getOutputField() == null || mapping.getOutputField().isEmpty()) {
+                AtlasUtil.addAudit(session, null,
+                        String.format("Mapping does not contain at least one target field: alias=%s desc=%s",
+                                mapping.getAlias(), mapping.getDescription()),
+                        null, AuditStatus.WARN, null);
+                continue;
+            }
 
-                if (mapping.getOutputField() == null || mapping.getOutputField().isEmpty()) {
-                    AtlasUtil.addAudit(session, null,
-                            String.format("Mapping does not contain at least one target field: alias=%s desc=%s",
-                                    mapping.getAlias(), mapping.getDescription()),
-                            null, AuditStatus.WARN, null);
-                    continue;
+            long start = 0L;
+            if (profiler != null) {
+                session.setProfileEntry(profiler.entry(index, mapping.getAlias()));
+                start = System.nanoTime();
+            }
+            if (compiled.getDirectMapper() != null && mapDirectly(session, compiled)) {
+                if (profiler != null) {
+                    session.getProfileEntry().record(System.nanoTime() - start, false);
+                    session.setProfileEntry(null);
                 }
-
-                try {
-                    if (mapping.getInputFieldGroup() != null) {
-                        if (mapping.getExpression() != null) {
-                            session.head().setSourceField(mapping.getInputFieldGroup());
-                            DefaultAtlasExpressionProcessor.processExpression(session, mapping.getExpression());
-                        } else {
-                            processSourceFieldGroup(session, mapping.getInputFieldGroup());
-                        }
-                    } else if (mapping.getInputField() != null && !mapping.getInputField().isEmpty()) {
-                        if (mapping.getExpression() != null) {
-                            FieldGroup group = new FieldGroup();
-                            group.getField().addAll(mapping.getInputField());
-                            session.head().setSourceField(group);
-                            DefaultAtlasExpressionProcessor.processExpression(session, mapping.getExpression());
-                        } else {
-                            applyCopyToActions(mapping.getInputField(), mapping);
-                            processSourceFieldMappings(session, mapping.getInputField());
-                        }
+                session.head().unset();
+                continue;
+            }
+            FieldGroup sourceFieldGroup = compiled.newInputFieldGroup();
+            List<Field> sourceFields = compiled.newInputFields();
+            List<Field> targetFields = compiled.newOutputFields();
+            try {
+                if (compiled.getError() != null) {
+                    throw compiled.getError();
+                }
+                if (sourceFieldGroup != null) {
+                    if (mapping.getExpression() != null) {
+                        session.head().setSourceField(sourceFieldGroup);
+                        DefaultAtlasExpressionProcessor.processExpression(session, mapping.getExpression());
+                    } else {
+                        processSourceFieldGroup(session, sourceFieldGroup);
+                    }
+                } else if (!sourceFields.isEmpty()) {
+                    if (mapping.getExpression() != null) {
+                        FieldGroup group = new FieldGroup();
+                        group.getField().addAll(sourceFields);
+                        session.head().setSourceField(group);
+                        DefaultAtlasExpressionProcessor.processExpression(session, mapping.getExpression());
                     } else {
-                        session.head().addAudit(AuditStatus.WARN, null, null, String.format(
-                            "Mapping does not contain expression or at least one source field: alias=%s desc=%s",
-                            mapping.getAlias(), mapping.getDescription()));
+                        processSourceFieldMappings(session, sourceFields);
                     }
+                } else {
+                    session.head().addAudit(AuditStatus.WARN, null, null, String.format(
+                        "Mapping does not contain expression or at least one source field: alias=%s desc=%s",
+                        mapping.getAlias(), mapping.getDescription()));
+                }
+            } catch (Exception t) {
+                Field sourceField = session.head().getSourceField();
+                String docId = sourceField != null ? sourceField.getDocId() : null;
+                String path =  sourceField != null ? sourceField.getPath() : null;
+                session.head().addAudit(AuditStatus.ERROR, docId, path, String.format(
+                        "Unexpected exception is thrown while reading source field: %s", t.getMessage()));
+                if (LOG.isDebugEnabled()) {
+                    LOG.error("", t);
+                }
+            }
+
+            if (!session.head().hasError()) {
+                try {
+                    processTargetFieldMappings(session, compiled, sourceFields, targetFields);
                 } catch (Exception t) {
-                    Field sourceField = session.head().getSourceField();
-                    String docId = sourceField != null ? sourceField.getDocId() : null;
-                    String path =  sourceField != null ? sourceField.getPath() : null;
+                    Field targetField = session.head().getTargetField();
+                    String docId = targetField != null ? targetField.getDocId() : null;
+                    String path = targetField != null ? targetField.getPath() : null;
                     session.head().addAudit(AuditStatus.ERROR, docId, path, String.format(
-                            "Unexpected exception is thrown while reading source field: %s", t.getMessage()));
+                            "Unexpected exception is thrown while populating target field: %s", t.getMessage()));
                     if (LOG.isDebugEnabled()) {
                         LOG.error("", t);
                     }
                 }
-
-                if (!session.head().hasError()) {
-                    try {
-                        processTargetFieldMappings(session, mapping);
-                    } catch (Exception t) {
-                        Field targetField = session.head().getTargetField();
-                        String docId = targetField != null ? targetField.getDocId() : null;
-                        String path = targetField != null ? targetField.getPath() : null;
-                        session.head().addAudit(AuditStatus.ERROR, docId, path, String.format(
-                                "Unexpected exception is thrown while populating target field: %s", t.getMessage()));
-                        if (LOG.isDebugEnabled()) {
-                            LOG.error("", t);
-                        }
-                    }
-                }
-                session.getAudits().getAudit().addAll(session.head().getAudits());
-                session.head().unset();
             }
+            if (profiler != null) {
+                session.getProfileEntry().record(System.nanoTime() - start, session.head().hasError());
+                session.setProfileEntry(null);
+            }
+            session.getAudits().getAudit().addAll(session.head().getAudits());
+            session.head().unset();
         }
 
         for (AtlasModule module : getSourceModules().values()) {
@@ -568,10 +934,10 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
         }
 
         for (AtlasModule module : getSourceModules().values()) {
-            module.processPostSourceExecution(session);
+            AtlasModuleStatistics.invoke(module, Operation.POST_SOURCE_EXECUTION, session);
         }
         for (AtlasModule module : getTargetModules().values()) {
-            module.processPostTargetExecution(session);
+            AtlasModuleStatistics.invoke(module, Operation.POST_TARGET_EXECUTION, session);
         }
 
         if (LOG.isDebugEnabled()) {
@@ -579,20 +945,16 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
         }
     }
 
-    // just unwrap collection mappings to be compatible with older UI
-    private List<Mapping> unwrapCollectionMappings(DefaultAtlasSession session, BaseMapping baseMapping) {
-        if (baseMapping.getMappingType() == null || !baseMapping.getMappingType().equals(MappingType.COLLECTION)) {
+    private boolean mapDirectly(DefaultAtlasSession session, CompiledMapping compiled) {
+        try {
+            return compiled.getDirectMapper().map(session);
+        } catch (Exception e) {
             if (LOG.isDebugEnabled()) {
-                LOG.debug("Mapping is not a collection mapping, not cloning: {}", baseMapping);
+                LOG.debug("Direct mapper failed, falling back to the generic processing: alias={}, error={}",
+                        compiled.getMapping().getAlias(), e.getMessage());
             }
-            return Arrays.asList((Mapping) baseMapping);
-        }
-
-        List<Mapping> mappings = new LinkedList<>();
-        for(BaseMapping m : ((Collection) baseMapping).getMappings().getMapping()) {
-            mappings.add((Mapping) m);
+            return false;
         }
-        return mappings;
     }
 
     private AtlasModule resolveModule(FieldDirection direction, Field field) {
@@ -643,62 +1005,17 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
                 return;
             }
 
-            module.readSourceValue(session);
+            invokeModule(module, Operation.READ_SOURCE_VALUE, session);
             Field processed = applyFieldActions(session, session.head().getSourceField());
             session.head().setSourceField(processed);
             sourceFields.set(i, processed);
         }
     }
 
-    /**
-     * Checks for CopyTo actions and correctly sets the path for targetField by setting the indexes specified in each action
-     */
-    private void applyCopyToActions(List<Field> sourceFields, Mapping mapping) {
-        for (Field sourceField : sourceFields) {
-
-            if (sourceField instanceof FieldGroup) {
-                applyCopyToActions(((FieldGroup) sourceField).getField(), mapping);
-                continue;
-            }
-
-            if (sourceField.getActions() == null) {
-                continue;
-            }
-
-            List<CopyTo> copyTos = sourceField.getActions().stream().filter(a -> a instanceof CopyTo).map(a -> (CopyTo) a).collect(Collectors.toList());
-            if (copyTos.size() == 0) {
-                return;
-            }
-
-            if (copyTos.stream().flatMap(c -> c.getIndexes().stream().filter(i -> i < 0)).count() > 0) {
-                throw new IllegalArgumentException("Indexes must be >= 0");
-            }
-
-            /*
-             * For each index present in CopyTo, set the corresponding index in the path.
-             * each index of copyTo is supposed to have a counterpart in the path.
-             */
-            for (CopyTo copyTo : copyTos) {
-                for (Field field : mapping.getOutputField()) {
-                    AtlasPath path = new AtlasPath(field.getPath());
-                    List<AtlasPath.SegmentContext> segments = path.getCollectionSegments(true);
-                    for (int i = 0; i < copyTo.getIndexes().size(); i++) {
-                        if (i < segments.size()) { // In case there are too many indexes specified
-                            path.setCollectionIndex(i + 1, copyTo.getIndexes().get(i));// +1 since 0 is the root segment
-                        }
-                    }
-                    field.setPath(path.toString());
-                }
-                // The processor associated to this action is a fake. It shall not execute, so remove the action.
-                sourceField.getActions().remove(copyTo);
-            }
-        }
-    }
-
-    private void processTargetFieldMappings(DefaultAtlasSession session, Mapping mapping) throws AtlasException {
+    private void processTargetFieldMappings(DefaultAtlasSession session, CompiledMapping compiled,
+            List<Field> sourceFields, List<Field> targetFields) throws AtlasException {
+        Mapping mapping = compiled.getMapping();
         MappingType mappingType = mapping.getMappingType();
-        List<Field> sourceFields = mapping.getInputField();
-        List<Field> targetFields = mapping.getOutputField();
 
         AtlasModule module = null;
         Field targetField = null;
@@ -708,8 +1025,8 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
             if (sourceField instanceof FieldGroup) {
                 sourceFieldGroup = (FieldGroup)sourceField;
             }
-            for (Field f : targetFields) {
-                targetField = f;
+            for (int i = 0; i < targetFields.size(); i++) {
+                targetField = targetFields.get(i);
                 module = resolveModule(FieldDirection.TARGET, targetField);
                 if (!auditTargetFieldType(session, module, targetField)) {
                     continue;
@@ -717,8 +1034,7 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
                 session.head().setTargetField(targetField);
                 if (sourceFieldGroup != null) {
                     Integer index = targetField.getIndex();
-                    AtlasPath targetPath = new AtlasPath(targetField.getPath());
-                    if (targetPath.hasCollection() && !targetPath.isIndexedCollection()) {
+                    if (compiled.isCollectionTarget(i)) {
                         if (targetFields.size() > 1) {
                             AtlasUtil.addAudit(session, targetField.getDocId(),
                                     "It's not yet supported to have a collection field as a part of multiple target fields in a same mapping",
@@ -742,10 +1058,10 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
                         }
                     }
                 }
-                module.populateTargetField(session);
+                invokeModule(module, Operation.POPULATE_TARGET_FIELD, session);
                 Field processed = applyFieldActions(session, session.head().getTargetField());
                 session.head().setTargetField(processed);
-                module.writeTargetValue(session);
+                invokeModule(module, Operation.WRITE_TARGET_VALUE, session);
             }
             return;
 
@@ -757,9 +1073,9 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
             }
             Field sourceField = processCombineField(session, mapping, sourceFields, targetField);
             session.head().setSourceField(sourceField).setTargetField(targetField);
-            module.populateTargetField(session);
+            invokeModule(module, Operation.POPULATE_TARGET_FIELD, session);
             applyFieldActions(session, session.head().getTargetField());
-            module.writeTargetValue(session);
+            invokeModule(module, Operation.WRITE_TARGET_VALUE, session);
             return;
 
         } else if (mappingType == MappingType.SEPARATE) {
@@ -789,10 +1105,10 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
                     break;
                 }
                 session.head().setSourceField(separatedFields.get(targetField.getIndex())).setTargetField(targetField);
-                module.populateTargetField(session);
+                invokeModule(module, Operation.POPULATE_TARGET_FIELD, session);
                 Field processed = applyFieldActions(session, session.head().getTargetField());
                 session.head().setTargetField(processed);
-                module.writeTargetValue(session);
+                invokeModule(module, Operation.WRITE_TARGET_VALUE, session);
             }
             return;
         }
@@ -839,7 +1155,7 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
             if (sourceField.getValue() != null) {
                 String sourceValue;
                 try {
-                    sourceValue = (String) factory.getConversionService().convertType(sourceField.getValue(),
+                    sourceValue = (String) convertType(session, sourceField.getValue(),
                             sourceField.getFormat(), FieldType.STRING, null);
                 } catch (AtlasConversionException e) {
                     AtlasUtil.addAudit(session, targetField.getDocId(),
@@ -883,7 +1199,7 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
             return null;
         }
         if (!sourceField.getValue().getClass().isAssignableFrom(String.class)) {
-            Object converted = factory.getConversionService().convertType(
+            Object converted = convertType(session,
                     sourceField.getValue(), sourceField.getFormat(), FieldType.STRING, null);
             sourceField.setValue(converted);
         }
@@ -892,7 +1208,7 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
 
         String sourceValue;
         try {
-            sourceValue = (String) factory.getConversionService().convertType(sourceField.getValue(),
+            sourceValue = (String) convertType(session, sourceField.getValue(),
                     sourceField.getFormat(), FieldType.STRING, null);
         } catch (AtlasConversionException e) {
             AtlasUtil.addAudit(session, sourceField.getDocId(), String
@@ -921,6 +1237,30 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
         return answer;
     }
 
+    /**
+     * Processes a batch of items with a single session which is reset between the items,
+     * so that the context initialization, the mapping validation and the session setup are done once
+     * per batch.
+     */
+    @Override
+    public <T> List<AtlasBatchResult> processBatch(List<T> items, BiConsumer<T, AtlasSession> sourcePopulator)
+            throws AtlasException {
+        List<AtlasBatchResult> results = new ArrayList<>(items.size());
+        DefaultAtlasSession session = (DefaultAtlasSession) borrowSession();
+        try {
+            for (T item : items) {
+                sourcePopulator.accept(item, session);
+                process(session);
+                results.add(new AtlasBatchResult(session));
+                session.reset();
+                setDefaultSessionProperties(session);
+            }
+        } finally {
+            releaseSession(session);
+        }
+        return results;
+    }
+
     @Override
     public void processValidation(AtlasSession userSession) throws AtlasException {
         if (!(userSession instanceof DefaultAtlasSession)) {
@@ -935,7 +1275,7 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
             LOG.debug("Begin processValidation {}", session);
         }
 
-        List<Validation> validations = getContextFactory().getValidationService().validateMapping(session.getMapping());
+        List<Validation> validations = getContextFactory().getValidationService().validateMapping(session.getReadOnlyMapping());
         if (validations != null && !validations.isEmpty()) {
             session.getValidations().getValidation().addAll(validations);
         }
@@ -983,20 +1323,84 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
         return doCreateSession();
     }
 
+    /**
+     * Gets a session from the session pool, or creates a new one if the pool is empty. A pooled session
+     * is only reused while the mapping definition it was created for is the current one. The pool size
+     * is configured with the {@link DefaultAtlasContextFactory#PROPERTY_SESSION_POOL_SIZE} factory property,
+     * 0 disables pooling.
+     */
+    @Override
+    public AtlasSession borrowSession() throws AtlasException {
+        init();
+        AtlasExecutionPlan plan = getExecutionPlan();
+        BlockingQueue<DefaultAtlasSession> pool = getSessionPool();
+        DefaultAtlasSession session;
+        while ((session = pool.poll()) != null) {
+            if (plan != null && session.getExecutionPlan() == plan) {
+                setDefaultSessionProperties(session);
+                return session;
+            }
+        }
+        return doCreateSession();
+    }
+
+    /**
+     * Resets the session and puts it back to the session pool. The session is discarded if the pool is full
+     * or the mapping definition has been changed since it was created.
+     */
+    @Override
+    public void releaseSession(AtlasSession userSession) {
+        if (!(userSession instanceof DefaultAtlasSession) || userSession.getAtlasContext() != this) {
+            return;
+        }
+        DefaultAtlasSession session = (DefaultAtlasSession) userSession;
+        AtlasExecutionPlan plan = this.executionPlan;
+        if (plan == null || session.getExecutionPlan() != plan) {
+            return;
+        }
+        session.reset();
+        getSessionPool().offer(session);
+    }
+
+    private BlockingQueue<DefaultAtlasSession> getSessionPool() {
+        BlockingQueue<DefaultAtlasSession> pool = this.sessionPool;
+        if (pool == null) {
+            synchronized (this) {
+                pool = this.sessionPool;
+                if (pool == null) {
+                    int size = getSessionPoolSize();
+                    // a SynchronousQueue never holds an element, i.e. pooling is disabled
+                    pool = size > 0 ? new ArrayBlockingQueue<>(size) : new SynchronousQueue<>();
+                    this.sessionPool = pool;
+                }
+            }
+        }
+        return pool;
+    }
+
+    private int getSessionPoolSize() {
+        Map<String, String> properties = factory.getProperties();
+        String size = properties != null ? properties.get(DefaultAtlasContextFactory.PROPERTY_SESSION_POOL_SIZE) : null;
+        if (size == null) {
+            return DEFAULT_SESSION_POOL_SIZE;
+        }
+        try {
+            return Integer.parseInt(size.trim());
+        } catch (NumberFormatException e) {
+            LOG.warn("Ignoring invalid {} property value '{}'", DefaultAtlasContextFactory.PROPERTY_SESSION_POOL_SIZE,
+                    size);
+            return DEFAULT_SESSION_POOL_SIZE;
+        }
+    }
+
     private AtlasSession doCreateSession() throws AtlasException {
         AtlasSession session = new DefaultAtlasSession(this);
-        session.setAtlasContext(this);
-        session.setAudits(new Audits());
-        session.setValidations(new Validations());
         setDefaultSessionProperties(session);
         return session;
     }
 
     protected void setDefaultSessionProperties(AtlasSession session) {
-        Date date = new Date();
-        DateFormat df = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssZ");
-        df.setTimeZone(TimeZone.getDefault());
-        session.getProperties().put("Atlas.CreatedDateTimeTZ", df.format(date));
+        session.getProperties().put("Atlas.CreatedDateTimeTZ", CREATED_DATE_TIME_FORMAT.format(ZonedDateTime.now()));
     }
 
     public void setDataSourceMetadata(Map<DataSourceKey, DataSourceMetadata> dataSourceMetadataMap) throws AtlasException {
@@ -1070,6 +1474,58 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
         return Thread.currentThread().getName();
     }
 
+    @Override
+    public boolean isProfilingEnabled() {
+        return profiler != null;
+    }
+
+    @Override
+    public void setProfilingEnabled(boolean enabled) {
+        if (!enabled) {
+            profiler = null;
+        } else if (profiler == null) {
+            profiler = new MappingProfiler();
+        }
+    }
+
+    /**
+     * Gets the per-mapping profiler.
+     *
+     * @return profiler, or null if the profiling is not enabled
+     */
+    public MappingProfiler getProfiler() {
+        return profiler;
+    }
+
+    @Override
+    public TabularData readAndResetProfile() throws OpenDataException {
+        MappingProfiler answer = profiler;
+        return answer != null ? answer.readAndReset() : null;
+    }
+
+    @Override
+    public String dumpProfileAsJson() {
+        MappingProfiler answer = profiler;
+        if (answer == null) {
+            return null;
+        }
+        try {
+            return answer.toJson();
+        } catch (AtlasException e) {
+            LOG.warn("Failed to dump the mapping profile of AtlasContext {}: {}", getUuid(), e.getMessage());
+            LOG.debug(e.getMessage(), e);
+            return null;
+        }
+    }
+
+    @Override
+    public void logProfile() {
+        String json = dumpProfileAsJson();
+        if (json != null) {
+            LOG.info("AtlasContext {} mapping profile: {}", getUuid(), json);
+        }
+    }
+
     @Override
     public String toString() {
         return "DefaultAtlasContext [jmxObjectName=" + jmxObjectName + ", uuid=" + uuid + ", factory=" + factory
@@ -1077,4 +1533,14 @@ public class DefaultAtlasContext implements AtlasContext, AtlasContextMXBean {
                 + sourceModules + ", targetModules=" + targetModules + "]";
     }
 
+    private static final class MappingValidations {
+        private final AtlasMapping mapping;
+        private final List<Validation> validations;
+
+        private MappingValidations(AtlasMapping mapping, List<Validation> validations) {
+            this.mapping = mapping;
+            this.validations = validations;
+        }
+    }
+
 }
@@ -41,6 +41,7 @@ import io.atlasmap.api.AtlasContext;
 import io.atlasmap.api.AtlasContextFactory;
 import io.atlasmap.api.AtlasException;
 import io.atlasmap.api.AtlasValidationService;
+import io.atlasmap.expression.ExpressionCache;
 import io.atlasmap.mxbean.AtlasContextFactoryMXBean;
 import io.atlasmap.spi.AtlasCombineStrategy;
 import io.atlasmap.spi.AtlasConversionService;
@@ -55,6 +56,19 @@ import io.atlasmap.v2.AtlasMapping;
 
 public class DefaultAtlasContextFactory implements AtlasContextFactory, AtlasContextFactoryMXBean {
 
+    /** Factory property to configure the maximum number of parsed expressions to be cached. */
+    public static final String PROPERTY_EXPRESSION_CACHE_SIZE = "atlas.expression.cache.size";
+    /** Factory property to validate the mapping definition on every message instead of once per context. */
+    public static final String PROPERTY_RUNTIME_VALIDATION = "atlas.validation.runtime";
+    /** Factory property to configure the maximum number of idle sessions each context keeps for reuse. */
+    public static final String PROPERTY_SESSION_POOL_SIZE = "atlas.session.pool.size";
+    /** Factory property to enable the module statistics and register the modules with JMX. */
+    public static final String PROPERTY_MODULE_STATISTICS = "atlas.module.statistics";
+    /** Factory property to enable the per-mapping profiler when a context is initialized. */
+    public static final String PROPERTY_PROFILING = "atlas.profiling";
+    /** Factory property to compile the eligible mappings into direct mappers on initialization. */
+    public static final String PROPERTY_DIRECT_MAPPERS = "atlas.mapping.direct";
+
     private static final Logger LOG = LoggerFactory.getLogger(DefaultAtlasContextFactory.class);
 
     private static DefaultAtlasContextFactory factory = null;
@@ -71,6 +85,7 @@ public class DefaultAtlasContextFactory implements AtlasContextFactory, AtlasCon
     private AtlasValidationService atlasValidationService = new DefaultAtlasValidationService();
     private AtlasModuleInfoRegistry moduleInfoRegistry;
     private Map<String, String> properties = null;
+    private ExpressionCache expressionCache = new ExpressionCache();
     private CompoundClassLoader classLoader = null;
 
     private DefaultAtlasContextFactory() {
@@ -107,12 +122,25 @@ public class DefaultAtlasContextFactory implements AtlasContextFactory, AtlasCon
     @Override
     public void setProperties(Map<String, String> properties) {
         this.properties = properties;
+        applyProperties();
     }
 
     @Override
     public void setProperties(Properties properties) {
         this.properties = new HashMap<>();
         properties.forEach((key, value) -> this.properties.put(key.toString(), value.toString()));
+        applyProperties();
+    }
+
+    private void applyProperties() {
+        String cacheSize = this.properties != null ? this.properties.get(PROPERTY_EXPRESSION_CACHE_SIZE) : null;
+        if (cacheSize != null) {
+            try {
+                this.expressionCache.setMaxSize(Integer.parseInt(cacheSize.trim()));
+            } catch (IllegalArgumentException e) {
+                LOG.warn("Ignoring invalid {} property value '{}'", PROPERTY_EXPRESSION_CACHE_SIZE, cacheSize);
+            }
+        }
     }
 
     @Override
@@ -207,6 +235,40 @@ public class DefaultAtlasContextFactory implements AtlasContextFactory, AtlasCon
         return this.objectName;
     }
 
+    public ExpressionCache getExpressionCache() {
+        return this.expressionCache;
+    }
+
+    @Override
+    public long getExpressionCacheHitCount() {
+        return this.expressionCache.getHitCount();
+    }
+
+    @Override
+    public long getExpressionCacheMissCount() {
+        return this.expressionCache.getMissCount();
+    }
+
+    @Override
+    public long getExpressionCacheEvictionCount() {
+        return this.expressionCache.getEvictionCount();
+    }
+
+    @Override
+    public int getExpressionCacheSize() {
+        return this.expressionCache.getSize();
+    }
+
+    @Override
+    public int getExpressionCacheMaxSize() {
+        return this.expressionCache.getMaxSize();
+    }
+
+    @Override
+    public void setExpressionCacheMaxSize(int maxSize) {
+        this.expressionCache.setMaxSize(maxSize);
+    }
+
     public AtlasMappingService getMappingService() {
         return this.atlasMappingService;
     }
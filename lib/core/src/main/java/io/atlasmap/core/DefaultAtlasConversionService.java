@@ -17,7 +17,9 @@ package io.atlasmap.core;
 
 import static java.util.Objects.hash;
 
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.math.BigInteger;
@@ -26,6 +28,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -54,11 +57,15 @@ public class DefaultAtlasConversionService implements AtlasConversionService {
             Arrays.asList("java.lang.Boolean", "java.lang.Byte", "java.lang.Character", "java.lang.Double",
                     "java.lang.Float", "java.lang.Integer", "java.lang.Long", "java.lang.Short", "java.lang.String")));
 
+    private static final MethodType CONVERTER_METHOD_TYPE = MethodType.methodType(Object.class, Object.class, String.class, String.class);
     private static volatile DefaultAtlasConversionService instance = null;
     private static final Object SINGLETON_LOCK = new Object();
 
     private Map<ConverterKey, ConverterMethodHolder> converterMethods = null;
     private Map<ConverterKey, ConverterMethodHolder> customConverterMethods = null;
+    // The converters between the classes which represent each FieldType, indexed by the FieldType ordinals
+    private Map<Class<?>, FieldType> representativeFieldTypes = null;
+    private ConverterMethodHolder[][] converterTable = null;
 
     // Used as the lookup key in the converter methods map
     private class ConverterKey {
@@ -85,19 +92,36 @@ public class DefaultAtlasConversionService implements AtlasConversionService {
         }
     }
 
-    // used to hold converter and method for future reflection use
+    // used to hold converter and the method handle bound to it
     private class ConverterMethodHolder {
         private AtlasConverter<?> converter;
         private Method method;
-        private boolean staticMethod;
-        private boolean containsFormat;
+        // (Object sourceValue, String sourceFormat, String targetFormat)Object, formats are dropped if unused
+        private MethodHandle handle;
 
         public ConverterMethodHolder(AtlasConverter<?> converter, Method method, boolean staticMethod,
                 boolean containsFormat) {
             this.converter = converter;
             this.method = method;
-            this.staticMethod = staticMethod;
-            this.containsFormat = containsFormat;
+            try {
+                MethodHandle h;
+                try {
+                    h = MethodHandles.publicLookup().unreflect(method);
+                } catch (IllegalAccessException e) {
+                    method.setAccessible(true);
+                    h = MethodHandles.lookup().unreflect(method);
+                }
+                h = h.asFixedArity();
+                if (!staticMethod) {
+                    h = h.bindTo(converter);
+                }
+                if (!containsFormat) {
+                    h = MethodHandles.dropArguments(h, 1, String.class, String.class);
+                }
+                this.handle = h.asType(CONVERTER_METHOD_TYPE);
+            } catch (Exception e) {
+                LOG.warn(String.format("Failed to bind converter method %s: %s", method, e.getMessage()), e);
+            }
         }
 
         public AtlasConverter<?> getConverter() {
@@ -177,6 +201,33 @@ public class DefaultAtlasConversionService implements AtlasConversionService {
         if (!methodsLoadMap.isEmpty()) {
             customConverterMethods = Collections.unmodifiableMap(customMethodsLoadMap);
         }
+        buildConverterTable();
+    }
+
+    private void buildConverterTable() {
+        FieldType[] fieldTypes = FieldType.values();
+        Map<Class<?>, FieldType> types = new IdentityHashMap<>();
+        for (FieldType fieldType : fieldTypes) {
+            Class<?> clazz;
+            try {
+                clazz = classFromFieldType(fieldType);
+            } catch (IllegalArgumentException e) {
+                // umbrella types like ANY_DATE don't have a representative class
+                continue;
+            }
+            if (clazz != null) {
+                types.putIfAbsent(clazz, fieldType);
+            }
+        }
+        ConverterMethodHolder[][] table = new ConverterMethodHolder[fieldTypes.length][fieldTypes.length];
+        for (Map.Entry<Class<?>, FieldType> source : types.entrySet()) {
+            for (Map.Entry<Class<?>, FieldType> target : types.entrySet()) {
+                table[source.getValue().ordinal()][target.getValue().ordinal()] =
+                    lookupConverter(source.getKey(), target.getKey());
+            }
+        }
+        representativeFieldTypes = types;
+        converterTable = table;
     }
 
     private void loadConverterMethod(AtlasConverter<?> atlasConverter,
@@ -313,13 +364,12 @@ public class DefaultAtlasConversionService implements AtlasConversionService {
 
         ConverterMethodHolder methodHolder = getConverter(sourceValue, targetType);
         if (methodHolder != null) {
+            if (methodHolder.handle == null) {
+                throw new AtlasConversionException("Invalid type convertor method " + methodHolder.method);
+            }
             try {
-                Object target = methodHolder.staticMethod ? null : methodHolder.converter;
-                if (methodHolder.containsFormat) {
-                    return methodHolder.method.invoke(target, sourceValue, sourceFormat, targetFormat);
-                }
-                return methodHolder.method.invoke(target, sourceValue);
-            } catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
+                return (Object) methodHolder.handle.invokeExact(sourceValue, sourceFormat, targetFormat);
+            } catch (Throwable e) {
                 throw new AtlasConversionException("Invoking type convertor failed", e);
             }
         }
@@ -342,6 +392,18 @@ public class DefaultAtlasConversionService implements AtlasConversionService {
             boxedTargetClass = boxOrUnboxPrimitive(boxedTargetClass);
         }
 
+        // fast path for the classes which represent a FieldType
+        FieldType sourceFieldType = representativeFieldTypes.get(boxedSourceClass);
+        if (sourceFieldType != null) {
+            FieldType targetFieldType = representativeFieldTypes.get(boxedTargetClass);
+            if (targetFieldType != null) {
+                return converterTable[sourceFieldType.ordinal()][targetFieldType.ordinal()];
+            }
+        }
+        return lookupConverter(boxedSourceClass, boxedTargetClass);
+    }
+
+    private ConverterMethodHolder lookupConverter(Class<?> boxedSourceClass, Class<?> boxedTargetClass) {
         ConverterKey converterKey = new ConverterKey(boxedSourceClass.getCanonicalName(),
                 boxedTargetClass.getCanonicalName());
         // use custom converter first
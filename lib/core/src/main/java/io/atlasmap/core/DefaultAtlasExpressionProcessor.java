@@ -22,6 +22,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import io.atlasmap.expression.Expression;
+import io.atlasmap.expression.ExpressionCache;
 import io.atlasmap.expression.ExpressionException;
 import io.atlasmap.spi.AtlasFieldReader;
 import io.atlasmap.v2.AtlasModelFactory;
@@ -54,7 +55,9 @@ public class DefaultAtlasExpressionProcessor {
                 }
             }
 
-            Expression parsedExpression = Expression.parse(expression, DefaultAtlasFunctionResolver.getInstance());
+            ExpressionCache cache = ((DefaultAtlasContextFactory) session.getAtlasContext().getContextFactory())
+                    .getExpressionCache();
+            Expression parsedExpression = cache.parse(expression, DefaultAtlasFunctionResolver.getInstance());
             Object answer = parsedExpression.evaluate((path) -> {
                 if (path == null || path.isEmpty()) {
                     return null;
@@ -67,7 +70,8 @@ public class DefaultAtlasExpressionProcessor {
                         return null;
                     }
                     session.head().setSourceField(f);
-                    return reader.read(session);
+                    return ((DefaultAtlasContext) session.getAtlasContext())
+                            .readSourceField(session, splitted[0], reader);
                 } catch (Exception e) {
                     throw new ExpressionException(e);
                 }
@@ -1,5 +1,8 @@
 package io.atlasmap.core;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Parameter;
@@ -8,15 +11,14 @@ import java.lang.reflect.Type;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.ServiceLoader;
 import java.util.Set;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
@@ -53,6 +55,7 @@ import io.atlasmap.v2.SimpleField;
 public class DefaultAtlasFieldActionService implements AtlasFieldActionService {
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultAtlasFieldActionService.class);
+    private static final MethodType ACTION_METHOD_TYPE = MethodType.methodType(Object.class, Object.class, Action.class, Object.class);
     private static DefaultAtlasFieldActionService instance;
     private static Set<String> listClasses = new HashSet<>(Arrays.asList("java.util.List", "java.util.ArrayList", "java.util.LinkedList", "java.util.Vector",
             "java.util.Stack", "java.util.AbstractList", "java.util.AbstractSequentialList"));
@@ -61,8 +64,8 @@ public class DefaultAtlasFieldActionService implements AtlasFieldActionService {
         "java.util.LinkedHashMap", "java.util.SortedMap", "java.util.WeakHashMap", "java.util.Properties",
         "java.util.concurrent.ConcurrentHashMap", "java.util.concurrent.ConcurrentMap"));
 
-    private List<ActionProcessor> actionProcessors = new ArrayList<>();
-    private ReadWriteLock actionProcessorsLock = new ReentrantReadWriteLock();
+    private volatile ActionProcessorIndex actionProcessorIndex = ActionProcessorIndex.EMPTY;
+    private final Map<Class<? extends Action>, ActionBuilder> actionBuilders = new ConcurrentHashMap<>();
     private AtlasConversionService conversionService = null;
     private ActionResolver actionResolver = null;
 
@@ -92,16 +95,11 @@ public class DefaultAtlasFieldActionService implements AtlasFieldActionService {
         return TypeFactory.defaultInstance().constructType(type);
     }
 
-    public void init(ClassLoader classLoader) {
-        Lock writeLock = actionProcessorsLock.writeLock();
-        try {
-            writeLock.lock();
-            actionProcessors.clear();
-            this.actionResolver = ActionResolver.getInstance(classLoader);
-            actionProcessors.addAll(loadFieldActions(classLoader));
-        } finally {
-            writeLock.unlock();
-        }
+    public synchronized void init(ClassLoader classLoader) {
+        this.actionResolver = ActionResolver.getInstance(classLoader);
+        this.actionBuilders.clear();
+        // build the index aside and swap it at once so that lookups never need a lock
+        this.actionProcessorIndex = new ActionProcessorIndex(loadFieldActions(classLoader));
     }
 
     public List<ActionProcessor> loadFieldActions() {
@@ -201,6 +199,15 @@ public class DefaultAtlasFieldActionService implements AtlasFieldActionService {
             LOG.trace("Loaded FieldAction: " + det.getName());
         }
 
+        boolean custom = det.isCustom() != null && det.isCustom();
+        boolean zeroToOne = det.getMultiplicity() == Multiplicity.ZERO_TO_ONE;
+        final MethodHandle handle = bindActionMethod(method, !custom, !zeroToOne);
+        final boolean isStatic = Modifier.isStatic(method.getModifiers());
+        final Class<?> paramType = method.getParameterCount() < 2 ? null : method.getParameterTypes()[1];
+        if (actionClazz != null) {
+            actionBuilders.computeIfAbsent(actionClazz, ActionBuilder::new);
+        }
+
         Class<? extends Action> finalActionClazz = actionClazz;
         return new ActionProcessor() {
 
@@ -220,44 +227,26 @@ public class DefaultAtlasFieldActionService implements AtlasFieldActionService {
                     return sourceObject;
                 }
 
-                Object targetObject = null;
+                if (handle == null) {
+                    throw new AtlasException(String.format("Error processing action %s: unexpected method signature %s", det.getName(), method));
+                }
                 try {
                     Object convertedSourceObject = convertSourceObject(sourceObject);
-
-                    if (Modifier.isStatic(method.getModifiers())) {
-                        // TODO eliminate Action parameter even for OOTB
-                        // we can use annotation also for the parameters instead
-                        // cf. https://github.com/atlasmap/atlasmap/issues/536
-                        if (det.isCustom() != null && det.isCustom()) {
-                            targetObject = det.getMultiplicity() == Multiplicity.ZERO_TO_ONE
-                                ? method.invoke(null) : method.invoke(null, convertedSourceObject);
-                        } else {
-                            targetObject = det.getMultiplicity() == Multiplicity.ZERO_TO_ONE
-                                ? method.invoke(null, action) : method.invoke(null, action, convertedSourceObject);
-                        }
-                    } else {
-                        Object object = clazz.newInstance();
-                        if (det.isCustom() != null && det.isCustom()) {
-                            targetObject = det.getMultiplicity() == Multiplicity.ZERO_TO_ONE
-                                ? method.invoke(object) : method.invoke(object, convertedSourceObject);
-                        } else {
-                            targetObject = det.getMultiplicity() == Multiplicity.ZERO_TO_ONE
-                                ? method.invoke(object, action) : method.invoke(object, action, convertedSourceObject);
-                        }
-                    }
+                    // TODO eliminate Action parameter even for OOTB
+                    // we can use annotation also for the parameters instead
+                    // cf. https://github.com/atlasmap/atlasmap/issues/536
+                    // legacy actions are not required to be thread-safe, so keep a new instance per call
+                    Object object = isStatic ? null : clazz.newInstance();
+                    return (Object) handle.invokeExact(object, action, convertedSourceObject);
                 } catch (Throwable e) {
                     throw new AtlasException(String.format("Error processing action %s", det.getName()), e);
                 }
-                return targetObject;
             }
 
             private Object convertSourceObject(Object sourceObject) throws AtlasConversionException {
-                Class<?> paramType;
-                int paramCount = method.getParameterCount();
-                if (paramCount < 2) {
+                if (paramType == null) {
                     return null;
                 }
-                paramType = method.getParameterTypes()[1];
                 if (paramType.isInstance(sourceObject)) {
                     return sourceObject;
                 }
@@ -335,11 +324,19 @@ public class DefaultAtlasFieldActionService implements AtlasFieldActionService {
 
         Object o = null;
         try {
-            o = Modifier.isStatic(method.getModifiers()) ? clazz.newInstance() : null;
+            o = Modifier.isStatic(method.getModifiers()) ? null : clazz.newInstance();
         } catch (Throwable e) {
             LOG.error(String.format("Error creating object instance for action=%s msg=%s", det.getName(), e.getMessage()), e);
         }
         final Object object = o;
+        final MethodHandle handle = bindActionMethod(method, true, det.getMultiplicity() != Multiplicity.ZERO_TO_ONE);
+        final Class<?> paramType = method.getParameterCount() < 2 ? null : method.getParameterTypes()[1];
+        final CollectionType paramCollectionType = paramType != null ? toFieldCollectionType(paramType) : CollectionType.NONE;
+        final Class<?> itemClass = paramCollectionType == CollectionType.NONE ? null
+            : toItemClass(paramType, method.getGenericParameterTypes()[1]);
+        if (actionClazz != null) {
+            actionBuilders.computeIfAbsent(actionClazz, ActionBuilder::new);
+        }
 
         Class<? extends Action> finalActionClazz = actionClazz;
 
@@ -356,13 +353,14 @@ public class DefaultAtlasFieldActionService implements AtlasFieldActionService {
 
             @Override
             public Object process(Action action, Object sourceObject) throws AtlasException {
+                if (handle == null) {
+                    throw new AtlasException(String.format("Error processing action %s: unexpected method signature %s", det.getName(), method));
+                }
                 try {
-                    if( det.getMultiplicity() == Multiplicity.ZERO_TO_ONE ) {
-                        return method.invoke(object, action);
-                    } else {
+                    if (det.getMultiplicity() != Multiplicity.ZERO_TO_ONE) {
                         sourceObject = convertSourceObject(sourceObject);
-                        return method.invoke(object, action, sourceObject);
                     }
+                    return (Object) handle.invokeExact(object, action, sourceObject);
                 } catch (Throwable e) {
                     throw new AtlasException(String.format("Error processing action %s", det.getName()), e);
                 }
@@ -373,16 +371,9 @@ public class DefaultAtlasFieldActionService implements AtlasFieldActionService {
                     return null;
                 }
 
-                Class<?> paramType;
-                paramType = method.getParameterTypes()[1];
-                CollectionType paramCollectionType = toFieldCollectionType(paramType);
                 CollectionType sourceCollectionType = toFieldCollectionType(sourceObject.getClass()) ;
                 if (paramCollectionType != CollectionType.NONE) {
                     List<Object> sourceList;
-                    Type itemType = method.getGenericParameterTypes()[1];
-                    Class<?> itemClass = paramType.isArray() ? paramType.getComponentType()
-                        : (Class<?>)((ParameterizedType) itemType).getActualTypeArguments()[0];
-
                     if (sourceCollectionType != CollectionType.NONE) {
                         if (sourceCollectionType == CollectionType.ARRAY) {
                             sourceList = Arrays.asList(sourceObject);
@@ -412,6 +403,57 @@ public class DefaultAtlasFieldActionService implements AtlasFieldActionService {
         };
     }
 
+    /**
+     * Binds the field action method into a {@link MethodHandle} of type {@code (Object, Action, Object)Object}
+     * which takes the instance, the action and the source value regardless of the actual method signature,
+     * so that it can be invoked without reflection on each call.
+     * @return the handle, or null if the method signature doesn't match
+     */
+    private MethodHandle bindActionMethod(Method method, boolean withAction, boolean withSource) {
+        int expectedParamCount = (withAction ? 1 : 0) + (withSource ? 1 : 0);
+        if (method.getParameterCount() != expectedParamCount) {
+            LOG.warn("Invalid field action method. Expected {} parameter(s): {}", expectedParamCount, method);
+            return null;
+        }
+        try {
+            MethodHandle handle;
+            try {
+                handle = MethodHandles.publicLookup().unreflect(method);
+            } catch (IllegalAccessException e) {
+                method.setAccessible(true);
+                handle = MethodHandles.lookup().unreflect(method);
+            }
+            handle = handle.asFixedArity();
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            if (!withAction) {
+                handle = MethodHandles.dropArguments(handle, 1, Action.class);
+            }
+            if (!withSource) {
+                handle = MethodHandles.dropArguments(handle, 2, Object.class);
+            }
+            return handle.asType(ACTION_METHOD_TYPE);
+        } catch (Exception e) {
+            LOG.warn(String.format("Failed to bind field action method %s: %s", method, e.getMessage()), e);
+            return null;
+        }
+    }
+
+    private Class<?> toItemClass(Class<?> paramType, Type genericParamType) {
+        if (paramType.isArray()) {
+            return paramType.getComponentType();
+        }
+        if (genericParamType instanceof ParameterizedType) {
+            Type[] typeArguments = ((ParameterizedType) genericParamType).getActualTypeArguments();
+            Type itemType = typeArguments[typeArguments.length - 1];
+            if (itemType instanceof Class) {
+                return (Class<?>) itemType;
+            }
+        }
+        return Object.class;
+    }
+
     private void convertItems(List<Object> sourceList, Class<?> itemClass) throws AtlasConversionException {
         for (int i=0; i<sourceList.size(); i++) {
             Object item = sourceList.get(i);
@@ -495,13 +537,7 @@ public class DefaultAtlasFieldActionService implements AtlasFieldActionService {
 
     @Override
     public List<ActionDetail> listActionDetails() {
-        Lock readLock = this.actionProcessorsLock.readLock();
-        try {
-            readLock.lock();
-            return actionProcessors.stream().map(x->x.getActionDetail()).collect(Collectors.toList());
-        } finally {
-            readLock.unlock();
-        }
+        return actionProcessorIndex.getProcessors().stream().map(x->x.getActionDetail()).collect(Collectors.toList());
     }
 
     /*
@@ -543,69 +579,19 @@ public class DefaultAtlasFieldActionService implements AtlasFieldActionService {
     }
 
     public ActionProcessor findActionProcessor(Action action, FieldType sourceType) throws AtlasException {
-        CustomAction customAction = null;
         if (action instanceof CustomAction) {
-            customAction = (CustomAction) action;
+            CustomAction customAction = (CustomAction) action;
             if (customAction.getClassName() == null || customAction.getMethodName() == null) {
                 throw new AtlasException("The class name and method name must be specified for custom FieldAction: " + customAction.getName());
             }
+            return actionProcessorIndex.findByCustomMethod(customAction.getClassName(), customAction.getMethodName());
         }
-        List<ActionProcessor> matches = new ArrayList<>();
-        Lock readLock = actionProcessorsLock.readLock();
-        try {
-            readLock.lock();
-            for (ActionProcessor processor : actionProcessors) {
-                if (customAction != null) {
-                    ActionDetail detail = processor.getActionDetail();
-                    if (customAction.getClassName().equals(detail.getClassName())
-                        && customAction.getMethodName().equals(detail.getMethod())) {
-                        matches.add(processor);
-                        break;
-                    }
-                } else if (processor.getActionClass() == action.getClass()) {
-                    matches.add(processor);
-                }
-            }
-        } finally {
-            readLock.unlock();
-        }
-
-        return findBestActionProcessor(matches, sourceType);
+        return actionProcessorIndex.findByActionClass(action.getClass(), sourceType);
     }
 
     public ActionProcessor findActionProcessor(String name, Object value) {
         FieldType valueType = (value != null ? getConversionService().fieldTypeFromClass(value.getClass()) : FieldType.NONE);
-        String uppercaseName = name.toUpperCase();
-
-        List<ActionProcessor> processors = new ArrayList<>();
-        Lock readLock = actionProcessorsLock.readLock();
-        try {
-            readLock.lock();
-            for (ActionProcessor processor : actionProcessors) {
-                if (processor.getActionDetail().getName().toUpperCase().equals(uppercaseName)) {
-                    processors.add(processor);
-                }
-            }
-        } finally {
-            readLock.unlock();
-        }
-
-        return findBestActionProcessor(processors, valueType);
-    }
-
-    private ActionProcessor findBestActionProcessor(List<ActionProcessor> processors, FieldType valueType) {
-        if (processors.isEmpty()) {
-            return null;
-        } else if (processors.size() == 1) {
-            return processors.get(0);
-        } else if (valueType != null && !Arrays.asList(FieldType.ANY, FieldType.NONE).contains(valueType)) {
-            for (ActionProcessor processor: processors) {
-                if (valueType.equals(processor.getActionDetail().getSourceType())) {
-                    return processor;
-                }
-            }
-        }
-        return processors.get(0);
+        return actionProcessorIndex.findByName(name, valueType);
     }
 
     private Object flattenList(Object value) {
@@ -640,14 +626,13 @@ public class DefaultAtlasFieldActionService implements AtlasFieldActionService {
         }
         FieldType valueType = determineFieldType(flattenedValue);
         try {
-            Action action = actionProcessor.getActionClass().newInstance();
-            for (Map.Entry<String, Object> property : actionParameters.entrySet()) {
-                String setter = "set" + property.getKey().substring(0, 1).toUpperCase() + property.getKey().substring(1);
-                action.getClass().getMethod(setter, property.getValue().getClass()).invoke(action, property.getValue());
-            }
+            Action action = actionBuilders.computeIfAbsent(actionProcessor.getActionClass(), ActionBuilder::new)
+                .build(actionParameters);
 
             return processAction(action, actionProcessor, valueType, flattenedValue);
-        } catch (Exception e) {
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
             throw new IllegalArgumentException(String.format("The action '%s' cannot be processed", actionProcessor.getActionDetail().getName()), e);
         }
     }
@@ -939,4 +924,59 @@ public class DefaultAtlasFieldActionService implements AtlasFieldActionService {
         return new String(c);
     }
 
+    /**
+     * Creates {@link Action} instances with the constructor and the parameter setters
+     * looked up only once per action class.
+     */
+    private static final class ActionBuilder {
+        private final Class<? extends Action> actionClass;
+        private final MethodHandle constructor;
+        private final Map<String, Map<Class<?>, MethodHandle>> setters = new HashMap<>();
+
+        private ActionBuilder(Class<? extends Action> actionClass) {
+            this.actionClass = actionClass;
+            MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            MethodHandle c = null;
+            try {
+                c = lookup.findConstructor(actionClass, MethodType.methodType(void.class))
+                    .asType(MethodType.methodType(Action.class));
+            } catch (Exception e) {
+                LOG.debug("No public default constructor found for action class {}", actionClass.getName());
+            }
+            this.constructor = c;
+            for (Method method : actionClass.getMethods()) {
+                if (method.getParameterCount() != 1 || !method.getName().startsWith("set")) {
+                    continue;
+                }
+                try {
+                    MethodHandle setter = lookup.unreflect(method)
+                        .asType(MethodType.methodType(void.class, Action.class, Object.class));
+                    setters.computeIfAbsent(method.getName(), k -> new HashMap<>())
+                        .put(method.getParameterTypes()[0], setter);
+                } catch (Exception e) {
+                    LOG.debug("Ignoring inaccessible setter {}", method);
+                }
+            }
+        }
+
+        private Action build(Map<String, Object> parameters) throws Throwable {
+            if (constructor == null) {
+                throw new InstantiationException(actionClass.getName());
+            }
+            Action action = (Action) constructor.invokeExact();
+            for (Map.Entry<String, Object> property : parameters.entrySet()) {
+                String name = "set" + property.getKey().substring(0, 1).toUpperCase() + property.getKey().substring(1);
+                Object value = property.getValue();
+                Map<Class<?>, MethodHandle> candidates = setters.get(name);
+                MethodHandle setter = candidates != null ? candidates.get(value.getClass()) : null;
+                if (setter == null) {
+                    throw new NoSuchMethodException(String.format("%s.%s(%s)",
+                        actionClass.getName(), name, value.getClass().getName()));
+                }
+                setter.invokeExact(action, value);
+            }
+            return action;
+        }
+    }
+
 }
@@ -80,7 +80,7 @@ public class DefaultAtlasPropertyStrategy implements AtlasPropertyStrategy {
                 }
                 break;
             case MAPPING_DEFINED_PROPERTIES:
-                if (session != null && processMappingDefinedProperties(propertyField, session.getMapping())) {
+                if (session != null && processMappingDefinedProperties(propertyField, session.getReadOnlyMapping())) {
                     return;
                 }
                 break;
@@ -67,7 +67,8 @@ public class DefaultAtlasSeparateStrategy implements AtlasSeparateStrategy {
             return values;
         }
 
-        values.addAll(Arrays.asList(value.split((delimiter == null ? DEFAULT_SEPARATE_DELIMITER.getRegex() : delimiter.getRegex()),
+        String regex = delimiter == null ? DEFAULT_SEPARATE_DELIMITER.getRegex() : delimiter.getRegex();
+        values.addAll(Arrays.asList(PatternCache.compile(regex).split(value,
                 (limit == null ? DEFAULT_SEPARATE_LIMIT : limit))));
         return values;
     }
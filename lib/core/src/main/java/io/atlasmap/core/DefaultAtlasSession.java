@@ -15,9 +15,9 @@
  */
 package io.atlasmap.core;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
@@ -43,7 +43,8 @@ import io.atlasmap.v2.Validations;
 public class DefaultAtlasSession implements AtlasInternalSession {
 
     private AtlasContext atlasContext;
-    private final AtlasMapping mapping;
+    private final AtlasExecutionPlan executionPlan;
+    private AtlasMapping mapping;
     private Audits audits;
     private Validations validations;
     private Map<String, Object> sourceProperties;
@@ -54,21 +55,13 @@ public class DefaultAtlasSession implements AtlasInternalSession {
     private Map<String, AtlasFieldReader> fieldReaderMap;
     private Map<String, AtlasFieldWriter> fieldWriterMap;
     private Head head = new HeadImpl(this);
+    private MappingProfiler.Entry profileEntry;
+    private CompiledLookupTable compiledLookupTable;
 
     public DefaultAtlasSession(DefaultAtlasContext context) throws AtlasException {
         this.atlasContext = context;
         initialize();
-        if (context.getMapping() == null) {
-            this.mapping = null;
-            return;
-        }
-        try {
-            ObjectMapper om = ((DefaultAtlasContextFactory)context.getContextFactory()).getMappingService().getObjectMapper();
-            String serialized = om.writeValueAsString(context.getMapping());
-            this.mapping = om.readValue(serialized, AtlasMapping.class);
-        } catch (Exception e) {
-            throw new AtlasException("Failed to reload mapping definition", e);
-        }
+        this.executionPlan = context.getExecutionPlan();
     }
 
     protected void initialize() {
@@ -83,6 +76,28 @@ public class DefaultAtlasSession implements AtlasInternalSession {
         head.unset();
     }
 
+    /**
+     * Clears the documents, readers, writers, properties, audits and validations in place so that the session
+     * can be reused for the next message without reallocating them. The property strategy is dropped as well,
+     * as it's usually bound to the message the previous borrower processed.
+     * @see DefaultAtlasContext#borrowSession()
+     */
+    public void reset() {
+        sourceProperties.clear();
+        targetProperties.clear();
+        validations.getValidation().clear();
+        audits.getAudit().clear();
+        sourceMap.clear();
+        targetMap.clear();
+        fieldReaderMap.clear();
+        fieldWriterMap.clear();
+        head.unset();
+        profileEntry = null;
+        compiledLookupTable = null;
+        propertyStrategy = null;
+        mapping = null;
+    }
+
     @Override
     public AtlasContext getAtlasContext() {
         return atlasContext;
@@ -94,11 +109,62 @@ public class DefaultAtlasSession implements AtlasInternalSession {
         head.unset();
     }
 
+    /**
+     * Gets the mapping definition of this session, which might be modified before {@link
+     * DefaultAtlasContext#process(AtlasSession)}. It's copied from the one the context shares with all the
+     * sessions on the first call, and then the session processes its own copy, compiled on every process call.
+     * The sessions which never call this method process the shared execution plan without copying it.
+     *
+     * @return mapping definition
+     */
     @Override
     public AtlasMapping getMapping() {
+        if (mapping == null && executionPlan != null) {
+            try {
+                ObjectMapper om = ((DefaultAtlasContextFactory) atlasContext.getContextFactory()).getMappingService()
+                        .getObjectMapper();
+                mapping = om.readValue(om.writeValueAsString(executionPlan.getMapping()), AtlasMapping.class);
+            } catch (Exception e) {
+                throw new IllegalStateException("Failed to reload mapping definition", e);
+            }
+        }
+        return mapping;
+    }
+
+    /**
+     * Gets the mapping definition to be processed without copying it, i.e. the copy made by
+     * {@link #getMapping()} if any, or the one shared by all the sessions.
+     */
+    @Override
+    public final AtlasMapping getReadOnlyMapping() {
+        if (mapping != null) {
+            return mapping;
+        }
+        if (executionPlan != null) {
+            return executionPlan.getMapping();
+        }
+        // no execution plan, the mapping definition is up to getMapping()
+        return getMapping();
+    }
+
+    /**
+     * Gets the mapping definition copied by {@link #getMapping()}.
+     *
+     * @return mapping definition, or null if it has not been copied
+     */
+    AtlasMapping getCopiedMapping() {
         return mapping;
     }
 
+    /**
+     * Gets the execution plan the context shared when the session was created.
+     *
+     * @return execution plan
+     */
+    AtlasExecutionPlan getExecutionPlan() {
+        return executionPlan;
+    }
+
     @Override
     public Validations getValidations() {
         return this.validations;
@@ -291,6 +357,32 @@ public class DefaultAtlasSession implements AtlasInternalSession {
         return this.head;
     }
 
+    /**
+     * Gets the profile entry of the mapping being processed.
+     *
+     * @return profile entry, or null if the profiler is not enabled
+     */
+    MappingProfiler.Entry getProfileEntry() {
+        return this.profileEntry;
+    }
+
+    void setProfileEntry(MappingProfiler.Entry profileEntry) {
+        this.profileEntry = profileEntry;
+    }
+
+    /**
+     * Gets the hash index of the lookup table of the mapping being processed.
+     *
+     * @return compiled lookup table or null
+     */
+    CompiledLookupTable getCompiledLookupTable() {
+        return this.compiledLookupTable;
+    }
+
+    void setCompiledLookupTable(CompiledLookupTable compiledLookupTable) {
+        this.compiledLookupTable = compiledLookupTable;
+    }
+
     @Override
     @Deprecated
     public Map<String, Object> getProperties() {
@@ -364,7 +456,7 @@ public class DefaultAtlasSession implements AtlasInternalSession {
         private LookupTable lookupTable;
         private Field sourceField;
         private Field targetField;
-        private List<Audit> audits = new LinkedList<Audit>();
+        private List<Audit> audits = new ArrayList<Audit>();
 
         public HeadImpl(DefaultAtlasSession session) {
             this.session = session;
@@ -420,6 +512,7 @@ public class DefaultAtlasSession implements AtlasInternalSession {
             this.lookupTable = null;
             this.sourceField = null;
             this.targetField = null;
+            this.audits.clear();
             return this;
         }
 
@@ -435,7 +528,7 @@ public class DefaultAtlasSession implements AtlasInternalSession {
 
         @Override
         public Head addAudit(AuditStatus status, String docId, String path, String message) {
-            String docName = AtlasUtil.getDocumentNameById(session.getMapping(), docId);
+            String docName = AtlasUtil.getDocumentNameById(session.getReadOnlyMapping(), docId);
             Audit audit = AtlasUtil.createAudit(status, docId, docName, path, null, message);
             this.audits.add(audit);
             return this;
@@ -0,0 +1,168 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.core;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A concurrent latency histogram shared by the {@link AtlasModuleStatistics} and the {@link MappingProfiler}.
+ * Recording is lock free, and the buckets are log-linear with a bounded relative error as in HdrHistogram,
+ * so the percentiles are approximations. Values below {@link #SUB_BUCKET_COUNT} get their own bucket,
+ * and every power of two above is split into {@link #SUB_BUCKET_COUNT} linear sub-buckets, i.e. the
+ * relative error is below {@code 1 / SUB_BUCKET_COUNT}.
+ */
+public final class LatencyHistogram {
+
+    public static final int SUB_BUCKET_BITS = 4;
+    public static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    public static final int BUCKET_COUNT = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT;
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder errorCount = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0L);
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+
+    public void record(long value, boolean error) {
+        long v = value < 0 ? 0 : value;
+        count.increment();
+        if (error) {
+            errorCount.increment();
+        }
+        total.add(v);
+        min.accumulate(v);
+        max.accumulate(v);
+        buckets.incrementAndGet(bucketIndex(v));
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getErrorCount() {
+        return errorCount.sum();
+    }
+
+    public long getSuccessCount() {
+        return getCount() - getErrorCount();
+    }
+
+    public long getTotal() {
+        return total.sum();
+    }
+
+    public long getMin() {
+        long answer = min.get();
+        return answer == Long.MAX_VALUE ? 0L : answer;
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    public long getPercentile(double percentile) {
+        return snapshot(false).getPercentile(percentile);
+    }
+
+    Snapshot snapshotAndReset() {
+        return snapshot(true);
+    }
+
+    Snapshot snapshot(boolean reset) {
+        Snapshot s = new Snapshot();
+        s.count = reset ? count.sumThenReset() : count.sum();
+        s.errorCount = reset ? errorCount.sumThenReset() : errorCount.sum();
+        s.total = reset ? total.sumThenReset() : total.sum();
+        s.min = reset ? min.getThenReset() : min.get();
+        s.min = s.min == Long.MAX_VALUE ? 0L : s.min;
+        s.max = reset ? max.getThenReset() : max.get();
+        s.buckets = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            s.buckets[i] = reset ? buckets.getAndSet(i, 0L) : buckets.get(i);
+        }
+        return s;
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT + sub;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKET_COUNT + SUB_BUCKET_BITS - 1;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        long lower = (1L << exponent) + (index % SUB_BUCKET_COUNT) * width;
+        return lower + width - 1;
+    }
+
+    /**
+     * A point in time copy of the histogram.
+     */
+    static final class Snapshot {
+        private long count;
+        private long errorCount;
+        private long total;
+        private long min;
+        private long max;
+        private long[] buckets;
+
+        long getCount() {
+            return count;
+        }
+
+        long getErrorCount() {
+            return errorCount;
+        }
+
+        long getTotal() {
+            return total;
+        }
+
+        long getMin() {
+            return min;
+        }
+
+        long getMax() {
+            return max;
+        }
+
+        long getPercentile(double percentile) {
+            if (count == 0) {
+                return 0L;
+            }
+            long rank = Math.max(1L, (long) Math.ceil(count * percentile / 100.0));
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank) {
+                    return Math.min(bucketUpperBound(i), max);
+                }
+            }
+            return max;
+        }
+    }
+
+}
@@ -0,0 +1,221 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.core;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.openmbean.CompositeDataSupport;
+import javax.management.openmbean.CompositeType;
+import javax.management.openmbean.OpenDataException;
+import javax.management.openmbean.OpenType;
+import javax.management.openmbean.SimpleType;
+import javax.management.openmbean.TabularData;
+import javax.management.openmbean.TabularDataSupport;
+import javax.management.openmbean.TabularType;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import io.atlasmap.api.AtlasException;
+import io.atlasmap.v2.Json;
+
+/**
+ * Per-mapping execution profile of an {@link DefaultAtlasContext}, i.e. the count, error count and latency
+ * of each mapping in the mapping definition, keyed by its index, with the time split into {@link Phase}s.
+ * Latencies are in nanoseconds. The context doesn't touch the profiler at all unless it's enabled.
+ */
+public class MappingProfiler {
+
+    public static final String ITEM_INDEX = "index";
+    public static final String ITEM_ALIAS = "alias";
+    public static final String ITEM_COUNT = "count";
+    public static final String ITEM_ERROR_COUNT = "errorCount";
+    public static final String ITEM_P50_TIME = "p50ExecutionTime";
+    public static final String ITEM_P99_TIME = "p99ExecutionTime";
+    public static final String ITEM_MAX_TIME = "maxExecutionTime";
+    public static final String ITEM_TOTAL_TIME = "totalExecutionTime";
+
+    private final ConcurrentMap<Integer, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * The phases the execution time of a mapping is split into. The time spent outside of them,
+     * e.g. evaluating an expression apart from the source fields it reads, is only included in the total.
+     */
+    public enum Phase {
+        /** Reading the source fields, i.e. {@code AtlasModule#readSourceValue()} and the reads of an expression. */
+        SOURCE_READ("sourceReadTime"),
+        /** Applying the field actions. */
+        FIELD_ACTIONS("fieldActionsTime"),
+        /** Type conversions the context performs, the ones within the modules are not included. */
+        CONVERSION("conversionTime"),
+        /** Writing the target fields, i.e. {@code AtlasModule#populateTargetField()} and {@code writeTargetValue()}. */
+        TARGET_WRITE("targetWriteTime");
+
+        private final String itemName;
+
+        Phase(String itemName) {
+            this.itemName = itemName;
+        }
+
+        public String getItemName() {
+            return itemName;
+        }
+    }
+
+    /**
+     * Gets the profile entry of the mapping.
+     *
+     * @param index index of the mapping in the mapping definition
+     * @param alias alias of the mapping
+     * @return entry
+     */
+    public Entry entry(int index, String alias) {
+        Entry entry = entries.get(index);
+        if (entry == null) {
+            entry = entries.computeIfAbsent(index, Entry::new);
+        }
+        entry.alias = alias;
+        return entry;
+    }
+
+    public List<Entry> getEntries() {
+        List<Entry> answer = new ArrayList<>(entries.values());
+        answer.sort((e1, e2) -> Integer.compare(e1.index, e2.index));
+        return answer;
+    }
+
+    /**
+     * Reads the profile into the {@link TabularData} with a row for each mapping, and resets it.
+     *
+     * @return profile
+     * @throws OpenDataException failed to build the tabular data
+     */
+    public TabularData readAndReset() throws OpenDataException {
+        List<String> names = new ArrayList<>();
+        List<OpenType<?>> types = new ArrayList<>();
+        names.add(ITEM_INDEX);
+        types.add(SimpleType.INTEGER);
+        names.add(ITEM_ALIAS);
+        types.add(SimpleType.STRING);
+        for (String name : new String[] {ITEM_COUNT, ITEM_ERROR_COUNT, ITEM_P50_TIME, ITEM_P99_TIME, ITEM_MAX_TIME,
+            ITEM_TOTAL_TIME}) {
+            names.add(name);
+            types.add(SimpleType.LONG);
+        }
+        for (Phase phase : Phase.values()) {
+            names.add(phase.getItemName());
+            types.add(SimpleType.LONG);
+        }
+        String[] itemNames = names.toArray(new String[names.size()]);
+        CompositeType rowType = new CompositeType("AtlasMappingProfile", "Execution profile of a mapping",
+                itemNames, itemNames, types.toArray(new OpenType<?>[types.size()]));
+        TabularData data = new TabularDataSupport(new TabularType("AtlasMappingProfiles",
+                "Execution profile of the mappings", rowType, new String[] {ITEM_INDEX}));
+        for (Entry entry : getEntries()) {
+            Map<String, Object> row = entry.toMap(true);
+            row.putIfAbsent(ITEM_ALIAS, "");
+            data.put(new CompositeDataSupport(rowType, row));
+        }
+        return data;
+    }
+
+    /**
+     * Dumps the profile as a JSON array with an object for each mapping.
+     *
+     * @return JSON
+     * @throws AtlasException failed to serialize
+     */
+    public String toJson() throws AtlasException {
+        List<Map<String, Object>> answer = new ArrayList<>();
+        for (Entry entry : getEntries()) {
+            answer.add(entry.toMap(false));
+        }
+        try {
+            return Json.mapper().writer().without(SerializationFeature.WRAP_ROOT_VALUE)
+                    .without(SerializationFeature.INDENT_OUTPUT).writeValueAsString(answer);
+        } catch (JsonProcessingException e) {
+            throw new AtlasException(e);
+        }
+    }
+
+    /**
+     * The profile of a mapping.
+     */
+    public static final class Entry {
+        private final int index;
+        private volatile String alias;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder[] phases = new LongAdder[Phase.values().length];
+
+        Entry(int index) {
+            this.index = index;
+            for (int i = 0; i < phases.length; i++) {
+                phases[i] = new LongAdder();
+            }
+        }
+
+        public void record(long nanos, boolean error) {
+            latency.record(nanos, error);
+        }
+
+        public void record(Phase phase, long nanos) {
+            phases[phase.ordinal()].add(nanos);
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public String getAlias() {
+            return alias;
+        }
+
+        public LatencyHistogram getLatency() {
+            return latency;
+        }
+
+        public long getPhaseTime(Phase phase) {
+            return phases[phase.ordinal()].sum();
+        }
+
+        private Map<String, Object> toMap(boolean reset) {
+            LatencyHistogram.Snapshot s = reset ? latency.snapshotAndReset() : latency.snapshot(false);
+            Map<String, Object> answer = new LinkedHashMap<>();
+            answer.put(ITEM_INDEX, index);
+            if (alias != null) {
+                answer.put(ITEM_ALIAS, alias);
+            }
+            answer.put(ITEM_COUNT, s.getCount());
+            answer.put(ITEM_ERROR_COUNT, s.getErrorCount());
+            answer.put(ITEM_P50_TIME, s.getPercentile(50.0));
+            answer.put(ITEM_P99_TIME, s.getPercentile(99.0));
+            answer.put(ITEM_MAX_TIME, s.getMax());
+            answer.put(ITEM_TOTAL_TIME, s.getTotal());
+            for (Phase phase : Phase.values()) {
+                LongAdder adder = phases[phase.ordinal()];
+                answer.put(phase.getItemName(), reset ? adder.sumThenReset() : adder.sum());
+            }
+            return answer;
+        }
+    }
+
+}
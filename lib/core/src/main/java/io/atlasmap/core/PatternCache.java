@@ -0,0 +1,154 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.core;
+
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+import io.atlasmap.expression.internal.BoundedCache;
+
+/**
+ * A thread safe, size bounded cache of compiled regex {@link Pattern} and {@link DateTimeFormatter}
+ * shared by the converters and field actions which receive the pattern text with each value.
+ * When the cache is full the oldest entries are evicted first.
+ * <p>
+ * It also offers literal replace helpers for the patterns which don't contain any regex metacharacter,
+ * so that those don't go through the regex engine at all.
+ */
+public final class PatternCache {
+
+    public static final int DEFAULT_MAX_SIZE = 256;
+
+    private static final String REGEX_METACHARS = "\\^$.|?*+()[]{}";
+    private static final BoundedCache<PatternKey, Pattern> PATTERNS = new BoundedCache<>(DEFAULT_MAX_SIZE);
+    private static final BoundedCache<String, DateTimeFormatter> FORMATTERS = new BoundedCache<>(DEFAULT_MAX_SIZE);
+
+    private PatternCache() {
+    }
+
+    /**
+     * Gets the compiled regex pattern from the cache, or compiles and caches it.
+     *
+     * @param regex regular expression
+     * @return compiled pattern
+     * @throws java.util.regex.PatternSyntaxException If the expression's syntax is invalid
+     */
+    public static Pattern compile(String regex) {
+        return compile(regex, 0);
+    }
+
+    /**
+     * Gets the compiled regex pattern from the cache, or compiles and caches it.
+     *
+     * @param regex regular expression
+     * @param flags match flags, see {@link Pattern#compile(String, int)}
+     * @return compiled pattern
+     * @throws java.util.regex.PatternSyntaxException If the expression's syntax is invalid
+     */
+    public static Pattern compile(String regex, int flags) {
+        return PATTERNS.get(new PatternKey(regex, flags), k -> Pattern.compile(k.regex, k.flags));
+    }
+
+    /**
+     * Gets the date time formatter from the cache, or creates and caches it.
+     *
+     * @param pattern date time pattern, see {@link DateTimeFormatter#ofPattern(String)}
+     * @return formatter
+     * @throws IllegalArgumentException If the pattern is invalid
+     */
+    public static DateTimeFormatter ofPattern(String pattern) {
+        return FORMATTERS.get(pattern, DateTimeFormatter::ofPattern);
+    }
+
+    /**
+     * Whether the regex matches itself literally, i.e. contains no regex metacharacter.
+     *
+     * @param regex regular expression
+     * @return true if the regex is a plain string
+     */
+    public static boolean isLiteral(String regex) {
+        for (int i = 0; i < regex.length(); i++) {
+            if (REGEX_METACHARS.indexOf(regex.charAt(i)) != -1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether the regex replacement string is inserted literally, i.e. contains no group reference or escape.
+     *
+     * @param replacement replacement string
+     * @return true if the replacement is a plain string
+     */
+    public static boolean isLiteralReplacement(String replacement) {
+        return replacement.indexOf('$') == -1 && replacement.indexOf('\\') == -1;
+    }
+
+    /**
+     * Replaces the occurrences of the literal target string without using regex.
+     *
+     * @param input input string
+     * @param target string to be replaced
+     * @param replacement replacement string
+     * @param all true to replace all the occurrences, false to replace the first one only
+     * @return replaced string
+     */
+    public static String replaceLiteral(String input, String target, String replacement, boolean all) {
+        int index = input.indexOf(target);
+        if (index == -1) {
+            return input;
+        }
+        StringBuilder buf = new StringBuilder(input.length() + Math.max(0, replacement.length() - target.length()));
+        int start = 0;
+        do {
+            buf.append(input, start, index).append(replacement);
+            start = index + target.length();
+            index = all ? input.indexOf(target, start) : -1;
+        } while (index != -1);
+        buf.append(input, start, input.length());
+        return buf.toString();
+    }
+
+    private static final class PatternKey {
+        private final String regex;
+        private final int flags;
+
+        private PatternKey(String regex, int flags) {
+            this.regex = Objects.requireNonNull(regex);
+            this.flags = flags;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof PatternKey)) {
+                return false;
+            }
+            PatternKey other = (PatternKey) obj;
+            return flags == other.flags && regex.equals(other.regex);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * regex.hashCode() + flags;
+        }
+    }
+
+}
@@ -0,0 +1,75 @@
+package io.atlasmap.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import io.atlasmap.core.DefaultAtlasFieldActionService.ActionProcessor;
+import io.atlasmap.v2.Action;
+import io.atlasmap.v2.ActionDetail;
+import io.atlasmap.v2.FieldType;
+import io.atlasmap.v2.IndexOf;
+import io.atlasmap.v2.Length;
+
+public class ActionProcessorIndexTest {
+
+    @Test
+    public void testFindByActionClass() {
+        ActionProcessor string = processor(IndexOf.class, "IndexOf", FieldType.STRING);
+        ActionProcessor number = processor(IndexOf.class, "IndexOf", FieldType.NUMBER);
+        ActionProcessor length = processor(Length.class, "Length", FieldType.STRING);
+        ActionProcessorIndex index = new ActionProcessorIndex(Arrays.asList(string, number, length));
+
+        assertSame(string, index.findByActionClass(IndexOf.class, FieldType.STRING));
+        assertSame(number, index.findByActionClass(IndexOf.class, FieldType.NUMBER));
+        assertSame(string, index.findByActionClass(IndexOf.class, FieldType.BOOLEAN));
+        assertSame(string, index.findByActionClass(IndexOf.class, FieldType.ANY));
+        assertSame(string, index.findByActionClass(IndexOf.class, null));
+        assertSame(length, index.findByActionClass(Length.class, FieldType.NUMBER));
+        assertNull(index.findByActionClass(Action.class, FieldType.STRING));
+        assertEquals(3, index.getProcessors().size());
+    }
+
+    @Test
+    public void testFindByName() {
+        ActionProcessor string = processor(IndexOf.class, "IndexOf", FieldType.STRING);
+        ActionProcessor number = processor(IndexOf.class, "IndexOf", FieldType.NUMBER);
+        ActionProcessorIndex index = new ActionProcessorIndex(Arrays.asList(string, number));
+
+        assertSame(string, index.findByName("indexof", FieldType.STRING));
+        assertSame(number, index.findByName("INDEXOF", FieldType.NUMBER));
+        assertSame(string, index.findByName("IndexOf", FieldType.NONE));
+        assertNull(index.findByName("Length", FieldType.STRING));
+    }
+
+    @Test
+    public void testFindByCustomMethod() {
+        ActionProcessor first = processor(null, "custom", FieldType.STRING);
+        ActionProcessor second = processor(null, "custom", FieldType.NUMBER);
+        ActionProcessorIndex index = new ActionProcessorIndex(Arrays.asList(first, second));
+
+        assertSame(first, index.findByCustomMethod("io.example.CustomActions", "custom"));
+        assertNull(index.findByCustomMethod("io.example.CustomActions", "other"));
+        assertNull(index.findByCustomMethod("io.example.OtherActions", "custom"));
+    }
+
+    private ActionProcessor processor(Class<? extends Action> actionClass, String name, FieldType sourceType) {
+        ActionDetail detail = new ActionDetail();
+        detail.setName(name);
+        detail.setClassName("io.example.CustomActions");
+        detail.setMethod(name.substring(0, 1).toLowerCase() + name.substring(1));
+        detail.setSourceType(sourceType);
+        ActionProcessor processor = mock(ActionProcessor.class);
+        when(processor.getActionDetail()).thenReturn(detail);
+        doReturn(actionClass).when(processor).getActionClass();
+        return processor;
+    }
+
+}
@@ -0,0 +1,87 @@
+package io.atlasmap.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+import io.atlasmap.api.AtlasContext;
+import io.atlasmap.v2.AtlasMapping;
+
+public class AtlasContextCacheTest {
+
+    private List<String> loaded = new ArrayList<>();
+
+    @Test
+    public void testHitAndMiss() throws Exception {
+        AtlasContextCache cache = new AtlasContextCache(2);
+        AtlasContext first = cache.getOrCreate("{\"a\":1}", this::load);
+        assertSame(first, cache.getOrCreate("{\"a\":1}", this::load));
+        assertNotSame(first, cache.getOrCreate("{\"a\":2}", this::load));
+        assertEquals(2, loaded.size());
+        assertEquals(1, cache.getHitCount());
+        assertEquals(2, cache.getMissCount());
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEvicted() throws Exception {
+        AtlasContextCache cache = new AtlasContextCache(2);
+        AtlasContext a = cache.getOrCreate("a", this::load);
+        cache.getOrCreate("b", this::load);
+        // touch a so that b is the eldest
+        cache.getOrCreate("a", this::load);
+        cache.getOrCreate("c", this::load);
+        assertEquals(1, cache.getEvictionCount());
+        assertEquals(2, cache.size());
+
+        assertSame(a, cache.getOrCreate("a", this::load));
+        cache.getOrCreate("b", this::load);
+        assertEquals(4, loaded.size());
+        assertEquals("b", loaded.get(3));
+    }
+
+    @Test
+    public void testEvictedContextUnregistered() throws Exception {
+        DefaultAtlasContextFactory factory = DefaultAtlasContextFactory.getInstance();
+        AtlasContextCache cache = new AtlasContextCache(1);
+        DefaultAtlasContext evicted = (DefaultAtlasContext) cache.getOrCreate("a",
+                c -> factory.createContext(new AtlasMapping()));
+        // registered with JMX on initialization
+        evicted.createSession();
+        assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(evicted.getJmxObjectName()));
+
+        DefaultAtlasContext remaining = (DefaultAtlasContext) cache.getOrCreate("b",
+                c -> factory.createContext(new AtlasMapping()));
+        remaining.createSession();
+        assertEquals(1, cache.getEvictionCount());
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(evicted.getJmxObjectName()));
+        assertTrue(ManagementFactory.getPlatformMBeanServer().isRegistered(remaining.getJmxObjectName()));
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertFalse(ManagementFactory.getPlatformMBeanServer().isRegistered(remaining.getJmxObjectName()));
+    }
+
+    @Test
+    public void testDigest() {
+        assertEquals(64, AtlasContextCache.digest("{}").length());
+        assertEquals(AtlasContextCache.digest("{}"), AtlasContextCache.digest("{}"));
+        assertNotEquals(AtlasContextCache.digest("{}"), AtlasContextCache.digest("{ }"));
+    }
+
+    private AtlasContext load(String content) {
+        loaded.add(content);
+        return mock(AtlasContext.class);
+    }
+
+}
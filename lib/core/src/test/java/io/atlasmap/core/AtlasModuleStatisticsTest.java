@@ -0,0 +1,127 @@
+package io.atlasmap.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+
+import org.junit.Test;
+
+import io.atlasmap.api.AtlasException;
+import io.atlasmap.core.AtlasModuleStatistics.Operation;
+import io.atlasmap.spi.AtlasInternalSession;
+import io.atlasmap.spi.AtlasInternalSession.Head;
+import io.atlasmap.v2.AtlasModelFactory;
+
+public class AtlasModuleStatisticsTest {
+
+    @Test
+    public void testRecord() throws Exception {
+        AtlasModuleStatistics statistics = new AtlasModuleStatistics();
+        for (long i = 1; i <= 100; i++) {
+            statistics.record(Operation.READ_SOURCE_VALUE, i * 1000, i % 10 == 0);
+        }
+        LatencyHistogram histogram = statistics.get(Operation.READ_SOURCE_VALUE);
+        assertEquals(100, histogram.getCount());
+        assertEquals(10, histogram.getErrorCount());
+        assertEquals(90, histogram.getSuccessCount());
+        assertEquals(1000, histogram.getMin());
+        assertEquals(100000, histogram.getMax());
+        assertEquals(5050000, histogram.getTotal());
+        long p50 = histogram.getPercentile(50.0);
+        assertTrue(p50 >= 50000 && p50 < 50000 * (1.0 + 1.0 / LatencyHistogram.SUB_BUCKET_COUNT));
+        assertEquals(0, statistics.get(Operation.WRITE_TARGET_VALUE).getCount());
+        assertEquals(0, statistics.get(Operation.WRITE_TARGET_VALUE).getMin());
+
+        TabularData data = statistics.readAndReset();
+        assertEquals(Operation.values().length, data.size());
+        CompositeData row = data.get(new Object[] {Operation.READ_SOURCE_VALUE.name()});
+        assertEquals(100L, row.get(AtlasModuleStatistics.ITEM_COUNT));
+        assertEquals(10L, row.get(AtlasModuleStatistics.ITEM_ERROR_COUNT));
+        assertEquals(100000L, row.get(AtlasModuleStatistics.ITEM_MAX_TIME));
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+    }
+
+    @Test
+    public void testInvoke() throws Exception {
+        PropertyModule module = mock(PropertyModule.class);
+        AtlasInternalSession session = mock(AtlasInternalSession.class);
+        Head head = mock(Head.class);
+        when(session.head()).thenReturn(head);
+        when(module.getStatistics()).thenReturn(null);
+        AtlasModuleStatistics.invoke(module, Operation.READ_SOURCE_VALUE, session);
+
+        AtlasModuleStatistics statistics = new AtlasModuleStatistics();
+        when(module.getStatistics()).thenReturn(statistics);
+        AtlasModuleStatistics.invoke(module, Operation.READ_SOURCE_VALUE, session);
+        when(head.hasError()).thenReturn(false, true);
+        AtlasModuleStatistics.invoke(module, Operation.READ_SOURCE_VALUE, session);
+        doThrow(new AtlasException("expected")).when(module).writeTargetValue(session);
+        try {
+            AtlasModuleStatistics.invoke(module, Operation.WRITE_TARGET_VALUE, session);
+        } catch (AtlasException e) {
+            assertEquals("expected", e.getMessage());
+        }
+        assertEquals(2, statistics.get(Operation.READ_SOURCE_VALUE).getCount());
+        assertEquals(1, statistics.get(Operation.READ_SOURCE_VALUE).getErrorCount());
+        assertEquals(1, statistics.get(Operation.WRITE_TARGET_VALUE).getErrorCount());
+    }
+
+    @Test
+    public void testRegisterModulesJmx() throws Exception {
+        DefaultAtlasContextFactory factory = DefaultAtlasContextFactory.getInstance();
+        Map<String, String> properties = factory.getProperties();
+        Map<String, String> enabled = new HashMap<>();
+        enabled.put(DefaultAtlasContextFactory.PROPERTY_MODULE_STATISTICS, "true");
+        factory.setProperties(enabled);
+        try {
+            DefaultAtlasContext context = new DefaultAtlasContext(factory, AtlasModelFactory.createAtlasMapping());
+            context.init();
+            ObjectName name = new ObjectName(factory.getJmxObjectName() + ",context=Contexts,uuid="
+                    + context.getUuid() + ",modules=TARGET,docId=" + ObjectName.quote(
+                            DefaultAtlasContext.PROPERTIES_DOCUMENT_ID));
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            assertTrue(server.isRegistered(name));
+            assertTrue(context.getTargetModules().get(DefaultAtlasContext.PROPERTIES_DOCUMENT_ID)
+                    .isStatisticsEnabled());
+            assertEquals(0L, server.getAttribute(name, "TargetCount"));
+            context.unregisterJmx();
+            assertFalse(server.isRegistered(name));
+        } finally {
+            factory.setProperties(properties);
+        }
+    }
+
+    @Test
+    public void testModuleStatistics() throws Exception {
+        PropertyModule module = new PropertyModule(new DefaultAtlasPropertyStrategy());
+        assertFalse(module.isStatisticsEnabled());
+        assertNull(module.readAndResetStatistics());
+        assertEquals(0, module.getSourceCount());
+        module.setStatisticsEnabled(true);
+        assertTrue(module.isStatisticsEnabled());
+        module.getStatistics().record(Operation.READ_SOURCE_VALUE, 10, false);
+        module.getStatistics().record(Operation.WRITE_TARGET_VALUE, 20, true);
+        assertEquals(1, module.getSourceCount());
+        assertEquals(1, module.getSourceSuccessCount());
+        assertEquals(10, module.getSourceTotalExecutionTime());
+        assertEquals(1, module.getTargetErrorCount());
+        assertEquals(20, module.getTargetMaxExecutionTime());
+        module.setStatisticsEnabled(false);
+        assertEquals(0, module.getTargetCount());
+    }
+
+}
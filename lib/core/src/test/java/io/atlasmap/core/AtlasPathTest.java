@@ -19,6 +19,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
@@ -27,6 +28,7 @@ import java.util.List;
 import org.junit.Test;
 
 import io.atlasmap.core.AtlasPath.SegmentContext;
+import io.atlasmap.v2.CollectionType;
 
 public class AtlasPathTest {
 
@@ -239,4 +241,55 @@ public class AtlasPathTest {
         assertEquals(segments.get(3), path.getParentSegmentOf(segments.get(4)));
     }
 
+    @Test
+    public void testWithCollectionIndex() {
+        AtlasPath path = new AtlasPath("/orders<>/items[]/name");
+        AtlasPath indexed = path.withCollectionIndex(1, 3).withCollectionIndex(2, 5);
+        assertEquals("/orders<3>/items[5]/name", indexed.toString());
+        assertEquals("/orders<>/items[]/name", path.toString());
+        assertNull(path.getSegments(true).get(1).getCollectionIndex());
+        assertEquals(Integer.valueOf(3), indexed.getSegments(true).get(1).getCollectionIndex());
+        assertEquals(Integer.valueOf(5), indexed.getSegments(true).get(2).getCollectionIndex());
+        assertSame(path.getLastSegment(), indexed.getLastSegment());
+        assertTrue(indexed.isIndexedCollection());
+    }
+
+    @Test
+    public void testInternedSegments() {
+        AtlasPath first = new AtlasPath("/orders<>/id");
+        AtlasPath second = new AtlasPath("/orders<>/id");
+        assertSame(first.getLastSegment(), second.getLastSegment());
+        first.setCollectionIndex(1, 0);
+        assertEquals("/orders<0>/id", first.toString());
+        assertEquals("/orders<>/id", second.toString());
+        assertEquals("/orders<>/id", new AtlasPath("/orders<>/id").toString());
+    }
+
+    @Test
+    public void testWithVacantCollectionIndex() {
+        AtlasPath path = new AtlasPath("/orders<1>/items[]/name");
+        assertEquals("/orders<1>/items[0]/name", path.withVacantCollectionIndex(0).toString());
+        assertEquals("/orders<1>/items[]/name", path.toString());
+    }
+
+    @Test
+    public void testMapSegmentKeepsMapBrackets() {
+        AtlasPath path = new AtlasPath("/orders{key}/items<>/name");
+        AtlasPath indexed = path.withCollectionIndex(2, 1);
+        assertEquals("/orders{key}/items<1>/name", indexed.toString());
+        SegmentContext mapSegment = path.setCollectionIndex(1, null);
+        assertEquals(CollectionType.MAP, mapSegment.getCollectionType());
+        assertEquals("key", mapSegment.getMapKey());
+        assertEquals("orders{key}", mapSegment.getExpression());
+    }
+
+    @Test
+    public void testInternedSegmentsAreBounded() {
+        for (int i = 0; i < 10100; i++) {
+            new AtlasPath("/bounded" + i + "<>/id");
+        }
+        AtlasPath first = new AtlasPath("/bounded10099<>/id");
+        assertSame(first.getLastSegment(), new AtlasPath("/bounded10099<>/id").getLastSegment());
+    }
+
 }
@@ -46,8 +46,9 @@ public abstract class BaseDefaultAtlasContextTest {
     public void init() throws AtlasException {
         mapping = AtlasTestData.generateAtlasMapping();
         context = new DefaultAtlasContext(DefaultAtlasContextFactory.getInstance(), mapping) {
-            protected void init() {
-                // hijack initialization
+            protected void init() throws AtlasException {
+                // hijack initialization, just recompile the mapping which might be modified by the test
+                compileExecutionPlan();
             }
         };
         sourceModule = mockAtlasModule();
@@ -0,0 +1,82 @@
+package io.atlasmap.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import io.atlasmap.v2.FieldType;
+import io.atlasmap.v2.LookupEntry;
+import io.atlasmap.v2.LookupTable;
+
+public class CompiledLookupTableTest {
+
+    @Test
+    public void testFind() {
+        LookupTable table = new LookupTable();
+        table.setName("codes");
+        addEntry(table, "USD", null, "Dollar", null);
+        addEntry(table, "USD", null, "Duplicated", null);
+        addEntry(table, "840", FieldType.INTEGER, "1.5", FieldType.DOUBLE);
+        addEntry(table, "XXX", null, "not a number", FieldType.INTEGER);
+
+        CompiledLookupTable compiled = CompiledLookupTable.compile(table,
+                DefaultAtlasConversionService.getInstance());
+        assertSame(table, compiled.getTable());
+        assertEquals(3, compiled.getSize());
+        assertEquals("Dollar", compiled.find("USD").getValue());
+        assertNull(compiled.find("EUR"));
+        assertNull(compiled.find(null));
+
+        CompiledLookupTable.Target typed = compiled.find("840");
+        assertEquals("1.5", typed.getValue());
+        assertEquals(FieldType.DOUBLE, typed.getType());
+        assertEquals(1.5d, typed.getConvertedValue());
+        assertNull(compiled.find("USD").getConvertedValue());
+        CompiledLookupTable.Target invalid = compiled.find("XXX");
+        assertEquals(FieldType.INTEGER, invalid.getType());
+        assertNull(invalid.getConvertedValue());
+
+        assertEquals("Dollar", BaseAtlasModule.findLookupTarget(null, table, "USD").getValue());
+    }
+
+    @Test
+    public void testFindOnlyStringSourceValue() {
+        LookupTable table = new LookupTable();
+        addEntry(table, "840", FieldType.INTEGER, "Dollar", null);
+
+        // same as the linear lookup, the source type doesn't make a non-String source value match
+        CompiledLookupTable compiled = CompiledLookupTable.compile(table,
+                DefaultAtlasConversionService.getInstance());
+        assertNull(compiled.find(840));
+        assertNull(BaseAtlasModule.findLookupTarget(null, table, 840));
+        assertEquals("Dollar", compiled.find("840").getValue());
+    }
+
+    @Test
+    public void testTableUntouched() {
+        LookupTable table = new LookupTable();
+        table.setName("codes");
+        LookupEntry entry = addEntry(table, "USD", null, "Dollar", null);
+
+        CompiledLookupTable.compile(table, DefaultAtlasConversionService.getInstance());
+        assertEquals("codes", table.getName());
+        assertEquals(1, table.getLookupEntry().size());
+        assertSame(entry, table.getLookupEntry().get(0));
+        table.getLookupEntry().add(new LookupEntry());
+        assertEquals(2, table.getLookupEntry().size());
+    }
+
+    private LookupEntry addEntry(LookupTable table, String source, FieldType sourceType, String target,
+            FieldType targetType) {
+        LookupEntry entry = new LookupEntry();
+        entry.setSourceValue(source);
+        entry.setSourceType(sourceType);
+        entry.setTargetValue(target);
+        entry.setTargetType(targetType);
+        table.getLookupEntry().add(entry);
+        return entry;
+    }
+
+}
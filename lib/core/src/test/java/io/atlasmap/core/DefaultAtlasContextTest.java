@@ -18,25 +18,34 @@ package io.atlasmap.core;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
+import java.lang.management.ManagementFactory;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
+import javax.management.Attribute;
+import javax.management.MBeanServer;
+
 import org.junit.Test;
 
 import io.atlasmap.api.AtlasConstants;
 import io.atlasmap.api.AtlasException;
 import io.atlasmap.api.AtlasSession;
+import io.atlasmap.core.AtlasExecutionPlan.CompiledMapping;
 import io.atlasmap.spi.AtlasInternalSession.Head;
 import io.atlasmap.spi.AtlasModule;
 import io.atlasmap.spi.StringDelimiter;
@@ -80,6 +89,29 @@ public class DefaultAtlasContextTest extends BaseDefaultAtlasContextTest {
         assertEquals("foo", writer.targets.get("/target"));
     }
 
+    @Test
+    public void testMapSessionMapping() throws AtlasException {
+        Mapping m = (Mapping) AtlasModelFactory.createMapping(MappingType.MAP);
+        mapping.getMappings().getMapping().add(m);
+        populateSourceField(m, FieldType.STRING, "foo");
+        prepareTargetField(m, "/target");
+        recreateSession();
+        AtlasMapping sessionMapping = session.getMapping();
+        assertNotSame(context.getExecutionPlan().getMapping(), sessionMapping);
+        assertSame(sessionMapping, session.getMapping());
+        ((Mapping) sessionMapping.getMappings().getMapping().get(0)).getOutputField().get(0).setPath("/other");
+        context.process(session);
+        assertFalse(printAudit(session), session.hasErrors());
+        assertEquals("foo", writer.targets.get("/other"));
+        assertNull(writer.targets.get("/target"));
+
+        // the other sessions are not affected
+        recreateSession();
+        context.process(session);
+        assertFalse(printAudit(session), session.hasErrors());
+        assertEquals("foo", writer.targets.get("/target"));
+    }
+
     @Test
     public void testMapNotExistingDocId() throws AtlasException {
         Mapping m = (Mapping) AtlasModelFactory.createMapping(MappingType.MAP);
@@ -112,6 +144,81 @@ public class DefaultAtlasContextTest extends BaseDefaultAtlasContextTest {
         assertFalse(printAudit(session), session.hasWarns());
     }
 
+    @Test
+    public void testProcessReusesValidations() throws AtlasException {
+        recreateSession();
+        context.process(session);
+        context.process(session);
+        verify(sourceModule, times(1)).processPreValidation(any());
+        assertEquals(1, session.getAudits().getAudit().size());
+    }
+
+    @Test
+    public void testProcessRuntimeValidation() throws AtlasException {
+        context.setRuntimeValidation(true);
+        recreateSession();
+        context.process(session);
+        context.process(session);
+        verify(sourceModule, times(2)).processPreValidation(any());
+        assertEquals(1, session.getAudits().getAudit().size());
+    }
+
+    @Test
+    public void testProcessProfiling() throws AtlasException {
+        Mapping m = (Mapping) AtlasModelFactory.createMapping(MappingType.MAP);
+        m.setAlias("upper");
+        mapping.getMappings().getMapping().add(m);
+        populateSourceField(m, FieldType.STRING, "foo");
+        m.getInputField().get(0).setActions(new ArrayList<>());
+        m.getInputField().get(0).getActions().add(new Uppercase());
+        prepareTargetField(m, "/target");
+        Mapping m2 = (Mapping) AtlasModelFactory.createMapping(MappingType.MAP);
+        mapping.getMappings().getMapping().add(m2);
+        populateSourceField(m2, FieldType.INTEGER, 1);
+        prepareTargetField(m2, "/target2");
+        assertFalse(context.isProfilingEnabled());
+        assertNull(context.dumpProfileAsJson());
+        context.setProfilingEnabled(true);
+        recreateSession();
+        context.process(session);
+        context.process(session);
+        assertFalse(printAudit(session), session.hasErrors());
+        assertEquals("FOO", writer.targets.get("/target"));
+
+        List<MappingProfiler.Entry> entries = context.getProfiler().getEntries();
+        assertEquals(2, entries.size());
+        MappingProfiler.Entry entry = entries.get(0);
+        assertEquals(0, entry.getIndex());
+        assertEquals("upper", entry.getAlias());
+        assertEquals(2, entry.getLatency().getCount());
+        assertEquals(0, entry.getLatency().getErrorCount());
+        assertTrue(entry.getPhaseTime(MappingProfiler.Phase.SOURCE_READ) > 0);
+        assertTrue(entry.getPhaseTime(MappingProfiler.Phase.FIELD_ACTIONS) > 0);
+        assertTrue(entry.getPhaseTime(MappingProfiler.Phase.TARGET_WRITE) > 0);
+        assertEquals(0, entries.get(1).getPhaseTime(MappingProfiler.Phase.FIELD_ACTIONS));
+        assertTrue(context.dumpProfileAsJson().contains("\"alias\":\"upper\""));
+
+        context.setProfilingEnabled(false);
+        context.process(session);
+        assertNull(context.getProfiler());
+    }
+
+    @Test
+    public void testRegisteredWithJmxWithoutProfiling() throws Exception {
+        DefaultAtlasContext context = new DefaultAtlasContext(DefaultAtlasContextFactory.getInstance(), mapping);
+        context.createSession();
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            assertTrue(server.isRegistered(context.getJmxObjectName()));
+            assertEquals(Boolean.FALSE, server.getAttribute(context.getJmxObjectName(), "ProfilingEnabled"));
+            server.setAttribute(context.getJmxObjectName(), new Attribute("ProfilingEnabled", true));
+            assertTrue(context.isProfilingEnabled());
+        } finally {
+            context.unregisterJmx();
+        }
+        assertFalse(server.isRegistered(context.getJmxObjectName()));
+    }
+
     @Test
     public void testCombineNonStringFields() throws AtlasException {
         Mapping m = (Mapping) AtlasModelFactory.createMapping(MappingType.COMBINE);
@@ -218,6 +325,11 @@ public class DefaultAtlasContextTest extends BaseDefaultAtlasContextTest {
         context.process(session);
         assertFalse(printAudit(session), session.hasErrors());
         assertEquals("bar", writer.targets.get("/target"));
+        // the index is kept in the plan, the lookup table itself is left as is
+        assertSame(table, context.getLookupTables().get("table"));
+        assertEquals(1, table.getLookupEntry().size());
+        List<CompiledMapping> compiled = context.getExecutionPlan().getCompiledMappings();
+        assertSame(table, compiled.get(compiled.size() - 1).getCompiledLookupTable().getTable());
     }
 
     @Test
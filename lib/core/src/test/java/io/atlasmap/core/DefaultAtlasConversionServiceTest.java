@@ -27,6 +27,7 @@ import static org.junit.Assert.assertTrue;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -37,6 +38,7 @@ import java.time.YearMonth;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.GregorianCalendar;
 import java.util.List;
 import java.util.Optional;
 
@@ -783,6 +785,17 @@ public class DefaultAtlasConversionServiceTest {
         assertEquals("passthrough", service.convertType("passthrough", FieldType.TIME, FieldType.ANY));
     }
 
+    @Test
+    public void testConvertTypePrimitiveAndNonRepresentativeClasses() throws AtlasConversionException {
+        assertEquals(1L, service.convertType(1, null, long.class, null));
+        assertEquals(Integer.valueOf(1), service.convertType("1", null, int.class, null));
+        assertTrue(service.isConvertionAvailableFor(1, long.class));
+        Timestamp timestamp = new Timestamp(0);
+        assertNotNull(service.convertType(timestamp, null, GregorianCalendar.class, null));
+        assertEquals(service.convertType(new Date(0), null, GregorianCalendar.class, null),
+            service.convertType(timestamp, null, GregorianCalendar.class, null));
+    }
+
     @Test(expected = AtlasConversionException.class)
     public void testConvertTypeAtlasConversionException() throws AtlasConversionException {
         assertNotNull(service.convertType(new Object(), null, null));
@@ -17,6 +17,7 @@ package io.atlasmap.core;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
@@ -39,6 +40,21 @@ public class DefaultAtlasExpressionProcessorTest extends BaseDefaultAtlasContext
         assertEquals("foo", session.head().getSourceField().getValue());
     }
 
+    @Test
+    public void testSourceReadRecorded() throws AtlasException {
+        Field source = populateSourceField(null, AtlasConstants.DEFAULT_SOURCE_DOCUMENT_ID, FieldType.STRING, "foo");
+        String expression = String.format("${%s:/testPathfoo}", AtlasConstants.DEFAULT_SOURCE_DOCUMENT_ID);
+        recreateSession();
+        sourceModule.setStatisticsEnabled(true);
+        MappingProfiler.Entry profile = new MappingProfiler().entry(0, null);
+        session.setProfileEntry(profile);
+        session.head().setSourceField(source);
+        DefaultAtlasExpressionProcessor.processExpression(session, expression);
+        assertFalse(printAudit(session), session.hasErrors());
+        assertEquals(1, sourceModule.getSourceCount());
+        assertTrue(profile.getPhaseTime(MappingProfiler.Phase.SOURCE_READ) > 0);
+    }
+
     @Test
     public void testCollection() throws Exception {
         FieldGroup source = populateCollectionSourceField(null, AtlasConstants.DEFAULT_SOURCE_DOCUMENT_ID, "foo");
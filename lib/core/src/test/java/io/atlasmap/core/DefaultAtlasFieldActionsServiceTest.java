@@ -4,10 +4,17 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.After;
 import org.junit.Before;
@@ -177,6 +184,38 @@ public class DefaultAtlasFieldActionsServiceTest {
         assertEquals(1L, processor.process(action, sourceObject));
     }
 
+    @Test
+    public void testBuildAndProcessAction() {
+        DefaultAtlasFieldActionService.ActionProcessor processor = fieldActionsService.findActionProcessor("prepend", "bar");
+        SimpleField field = new SimpleField();
+        field.setValue("bar");
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("string", "foo");
+        assertEquals(Arrays.asList("foobar"), fieldActionsService.buildAndProcessAction(processor, parameters, Arrays.asList(field)));
+        assertEquals(Arrays.asList("foobar"), fieldActionsService.buildAndProcessAction(processor, parameters, Arrays.asList(field)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testBuildAndProcessActionUnknownParameter() {
+        DefaultAtlasFieldActionService.ActionProcessor processor = fieldActionsService.findActionProcessor("prepend", "bar");
+        SimpleField field = new SimpleField();
+        field.setValue("bar");
+        fieldActionsService.buildAndProcessAction(processor, Collections.singletonMap("string", 1), Arrays.asList(field));
+    }
+
+    @Test(expected = StackOverflowError.class)
+    public void testBuildAndProcessActionError() throws Exception {
+        ActionDetail detail = new ActionDetail();
+        detail.setSourceType(FieldType.STRING);
+        DefaultAtlasFieldActionService.ActionProcessor processor = mock(DefaultAtlasFieldActionService.ActionProcessor.class);
+        when(processor.getActionDetail()).thenReturn(detail);
+        doReturn(Prepend.class).when(processor).getActionClass();
+        when(processor.process(any(), any())).thenThrow(new StackOverflowError());
+        SimpleField field = new SimpleField();
+        field.setValue("bar");
+        fieldActionsService.buildAndProcessAction(processor, Collections.emptyMap(), Arrays.asList(field));
+    }
+
     @Test
     @SuppressWarnings("deprecation")
     public void testGetActionDetailByActionName() {
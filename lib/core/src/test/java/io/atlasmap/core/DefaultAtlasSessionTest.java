@@ -3,7 +3,9 @@ package io.atlasmap.core;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 import java.net.URI;
@@ -320,4 +322,59 @@ public class DefaultAtlasSessionTest {
         assertNotNull(head.unset());
 
     }
+
+    @Test
+    public void testReset() throws Exception {
+        session.setDefaultSourceDocument("source");
+        session.setDefaultTargetDocument("target");
+        session.getSourceProperties().put("prop", "value");
+        session.getTargetProperties().put("prop", "value");
+        AtlasUtil.addAudit(session, null, "audit", null, AuditStatus.WARN, null);
+        session.head().addAudit(AuditStatus.ERROR, null, null, "head audit");
+        Audits audits = session.getAudits();
+
+        session.reset();
+        assertNull(session.getDefaultSourceDocument());
+        assertNull(session.getDefaultTargetDocument());
+        assertTrue(session.getSourceProperties().isEmpty());
+        assertTrue(session.getTargetProperties().isEmpty());
+        assertSame(audits, session.getAudits());
+        assertTrue(session.getAudits().getAudit().isEmpty());
+        assertFalse(session.head().hasError());
+    }
+
+    @Test
+    public void testBorrowAndReleaseSession() throws Exception {
+        DefaultAtlasContext context = (DefaultAtlasContext) session.getAtlasContext();
+        AtlasInternalSession borrowed = (AtlasInternalSession) context.borrowSession();
+        borrowed.setDefaultSourceDocument("source");
+        context.releaseSession(borrowed);
+
+        AtlasInternalSession reused = (AtlasInternalSession) context.borrowSession();
+        assertSame(borrowed, reused);
+        assertNull(reused.getDefaultSourceDocument());
+        assertNotNull(reused.getSourceProperties().get("Atlas.CreatedDateTimeTZ"));
+        assertNotSame(reused, context.borrowSession());
+    }
+
+    @Test
+    public void testBorrowedSessionHasNoPropertyStrategy() throws Exception {
+        DefaultAtlasContext context = (DefaultAtlasContext) session.getAtlasContext();
+        AtlasInternalSession borrowed = (AtlasInternalSession) context.borrowSession();
+        borrowed.setAtlasPropertyStrategy(new DefaultAtlasPropertyStrategy());
+        context.releaseSession(borrowed);
+
+        AtlasInternalSession reused = (AtlasInternalSession) context.borrowSession();
+        assertSame(borrowed, reused);
+        assertNull(reused.getAtlasPropertyStrategy());
+    }
+
+    @Test
+    public void testReleaseStaleSession() throws Exception {
+        DefaultAtlasContext context = (DefaultAtlasContext) session.getAtlasContext();
+        AtlasInternalSession borrowed = (AtlasInternalSession) context.borrowSession();
+        context.createSession(AtlasTestData.generateAtlasMapping());
+        context.releaseSession(borrowed);
+        assertNotSame(borrowed, context.borrowSession());
+    }
 }
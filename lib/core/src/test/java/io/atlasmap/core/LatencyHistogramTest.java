@@ -0,0 +1,48 @@
+package io.atlasmap.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    @Test
+    public void testBucketIndex() {
+        for (long v = 0; v < 100000; v++) {
+            int index = LatencyHistogram.bucketIndex(v);
+            assertTrue(v <= LatencyHistogram.bucketUpperBound(index));
+            assertTrue(index == 0 || v > LatencyHistogram.bucketUpperBound(index - 1));
+        }
+        assertEquals(LatencyHistogram.BUCKET_COUNT - 1, LatencyHistogram.bucketIndex(Long.MAX_VALUE));
+        assertEquals(Long.MAX_VALUE, LatencyHistogram.bucketUpperBound(LatencyHistogram.BUCKET_COUNT - 1));
+    }
+
+    @Test
+    public void testPercentileRelativeError() {
+        for (long v = LatencyHistogram.SUB_BUCKET_COUNT; v < 1000000; v = v * 3 + 1) {
+            LatencyHistogram histogram = new LatencyHistogram();
+            histogram.record(v, false);
+            histogram.record(Long.MAX_VALUE, false);
+            long p50 = histogram.getPercentile(50.0);
+            assertTrue(p50 >= v);
+            assertTrue((double) (p50 - v) / v < 1.0 / LatencyHistogram.SUB_BUCKET_COUNT);
+        }
+    }
+
+    @Test
+    public void testSnapshotAndReset() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(10, false);
+        histogram.record(-1, true);
+        LatencyHistogram.Snapshot s = histogram.snapshotAndReset();
+        assertEquals(2, s.getCount());
+        assertEquals(1, s.getErrorCount());
+        assertEquals(0, s.getMin());
+        assertEquals(10, s.getMax());
+        assertEquals(10, s.getPercentile(100.0));
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(50.0));
+    }
+
+}
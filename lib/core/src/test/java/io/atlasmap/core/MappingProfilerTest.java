@@ -0,0 +1,60 @@
+package io.atlasmap.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import javax.management.openmbean.CompositeData;
+import javax.management.openmbean.TabularData;
+
+import org.junit.Test;
+
+import io.atlasmap.core.MappingProfiler.Entry;
+import io.atlasmap.core.MappingProfiler.Phase;
+
+public class MappingProfilerTest {
+
+    @Test
+    public void testEntry() {
+        MappingProfiler profiler = new MappingProfiler();
+        Entry second = profiler.entry(1, null);
+        Entry first = profiler.entry(0, "first");
+        assertSame(first, profiler.entry(0, "first"));
+        assertEquals(2, profiler.getEntries().size());
+        assertSame(first, profiler.getEntries().get(0));
+        assertSame(second, profiler.getEntries().get(1));
+    }
+
+    @Test
+    public void testReadAndReset() throws Exception {
+        MappingProfiler profiler = new MappingProfiler();
+        Entry entry = profiler.entry(0, "first");
+        entry.record(100, false);
+        entry.record(300, true);
+        entry.record(Phase.CONVERSION, 50);
+        profiler.entry(1, null).record(10, false);
+
+        TabularData data = profiler.readAndReset();
+        assertEquals(2, data.size());
+        CompositeData row = data.get(new Object[] {0});
+        assertEquals("first", row.get(MappingProfiler.ITEM_ALIAS));
+        assertEquals(2L, row.get(MappingProfiler.ITEM_COUNT));
+        assertEquals(1L, row.get(MappingProfiler.ITEM_ERROR_COUNT));
+        assertEquals(300L, row.get(MappingProfiler.ITEM_MAX_TIME));
+        assertEquals(400L, row.get(MappingProfiler.ITEM_TOTAL_TIME));
+        assertEquals(50L, row.get(Phase.CONVERSION.getItemName()));
+        assertEquals("", data.get(new Object[] {1}).get(MappingProfiler.ITEM_ALIAS));
+        assertEquals(0, entry.getLatency().getCount());
+        assertEquals(0, entry.getPhaseTime(Phase.CONVERSION));
+    }
+
+    @Test
+    public void testToJson() throws Exception {
+        MappingProfiler profiler = new MappingProfiler();
+        profiler.entry(0, "a\"b").record(100, false);
+        assertEquals("[{\"index\":0,\"alias\":\"a\\\"b\",\"count\":1,\"errorCount\":0,\"p50ExecutionTime\":100,"
+                + "\"p99ExecutionTime\":100,\"maxExecutionTime\":100,\"totalExecutionTime\":100,"
+                + "\"sourceReadTime\":0,\"fieldActionsTime\":0,\"conversionTime\":0,\"targetWriteTime\":0}]",
+                profiler.toJson());
+    }
+
+}
@@ -0,0 +1,59 @@
+package io.atlasmap.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+public class PatternCacheTest {
+
+    @Test
+    public void testCompile() {
+        Pattern pattern = PatternCache.compile("a+b");
+        assertSame(pattern, PatternCache.compile("a+b"));
+        Pattern insensitive = PatternCache.compile("a+b", Pattern.CASE_INSENSITIVE);
+        assertNotSame(pattern, insensitive);
+        assertSame(insensitive, PatternCache.compile("a+b", Pattern.CASE_INSENSITIVE));
+        assertTrue(insensitive.matcher("AAB").matches());
+    }
+
+    @Test
+    public void testCompileKeyedOnRegexAndFlags() {
+        Pattern insensitive = PatternCache.compile("yes", Pattern.CASE_INSENSITIVE);
+        Pattern prefixed = PatternCache.compile(Pattern.CASE_INSENSITIVE + ":yes", 0);
+        assertNotSame(insensitive, prefixed);
+        assertEquals("yes", insensitive.pattern());
+        assertEquals(Pattern.CASE_INSENSITIVE, insensitive.flags());
+        assertEquals(Pattern.CASE_INSENSITIVE + ":yes", prefixed.pattern());
+        assertEquals(0, prefixed.flags());
+    }
+
+    @Test
+    public void testOfPattern() {
+        assertSame(PatternCache.ofPattern("yyyy-MM-dd"), PatternCache.ofPattern("yyyy-MM-dd"));
+    }
+
+    @Test
+    public void testIsLiteral() {
+        assertTrue(PatternCache.isLiteral("foo bar,"));
+        assertFalse(PatternCache.isLiteral("foo."));
+        assertFalse(PatternCache.isLiteral("\\s"));
+        assertTrue(PatternCache.isLiteralReplacement("foo"));
+        assertFalse(PatternCache.isLiteralReplacement("$1"));
+    }
+
+    @Test
+    public void testReplaceLiteral() {
+        assertEquals("xbcxbc", PatternCache.replaceLiteral("abcabc", "a", "x", true));
+        assertEquals("xbcabc", PatternCache.replaceLiteral("abcabc", "a", "x", false));
+        assertEquals("aaa", PatternCache.replaceLiteral("aaaaaa", "aa", "a", true));
+        assertEquals("abc", PatternCache.replaceLiteral("abc", "d", "x", true));
+        assertEquals("c", PatternCache.replaceLiteral("abc", "ab", "", true));
+    }
+
+}
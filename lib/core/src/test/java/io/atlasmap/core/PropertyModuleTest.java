@@ -4,6 +4,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -134,7 +135,7 @@ public class PropertyModuleTest {
 
     @Test
     public void testIsStatisticsSupported() {
-        assertFalse(module.isStatisticsSupported());
+        assertTrue(module.isStatisticsSupported());
     }
 
     @Test
@@ -16,11 +16,6 @@
  */
 package io.atlasmap.expression;
 
-import java.io.StringReader;
-
-import io.atlasmap.expression.internal.LRUCache;
-import io.atlasmap.expression.parser.ParseException;
-import io.atlasmap.expression.parser.Parser;
 import io.atlasmap.v2.Field;
 
 /**
@@ -33,7 +28,7 @@ import io.atlasmap.v2.Field;
  */
 public interface Expression {
 
-    LRUCache<String, Object> CACHE = new LRUCache<>(100);
+    ExpressionCache CACHE = new ExpressionCache();
 
     /**
      * Execute the expression against the given context.
@@ -44,31 +39,16 @@ public interface Expression {
      */
     Field evaluate(ExpressionContext expressionContext) throws ExpressionException;
 
+    /**
+     * Parses the expression text using the shared default {@link ExpressionCache}.
+     *
+     * @param expessionText expression
+     * @param functionResolver {@link FunctionResolver} to resolve functions
+     * @return parsed expression
+     * @throws ExpressionException If parsing fails
+     */
     static Expression parse(String expessionText, FunctionResolver functionResolver) throws ExpressionException {
-        if (functionResolver == null) {
-            functionResolver = (name, args) -> {
-                throw new ParseException("Function not found: " + name);
-            };
-        }
-        Object result = CACHE.get(expessionText);
-        if (result instanceof ExpressionException) {
-            throw (ExpressionException) result;
-        } else if (result instanceof Expression) {
-            return (Expression) result;
-        } else {
-            String actual = expessionText;
-            try {
-                Parser parser = new Parser(new StringReader(actual));
-                parser.functionResolver = functionResolver;
-                Expression e = parser.parse();
-                CACHE.put(expessionText, e);
-                return e;
-            } catch (Throwable e) {
-                ExpressionException fe = new ExpressionException(actual, e);
-                CACHE.put(expessionText, fe);
-                throw fe;
-            }
-        }
+        return CACHE.parse(expessionText, functionResolver);
     }
 
     static void clearCache() {
@@ -0,0 +1,102 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.expression;
+
+import java.io.StringReader;
+
+import io.atlasmap.expression.internal.BoundedCache;
+import io.atlasmap.expression.parser.ParseException;
+import io.atlasmap.expression.parser.Parser;
+
+/**
+ * A thread safe, size bounded cache of parsed {@link Expression}. Expressions which failed
+ * to parse are also cached so that the error is reported without parsing it again.
+ * When the cache is full the oldest entries are evicted first, see {@link BoundedCache}.
+ */
+public class ExpressionCache {
+
+    public static final int DEFAULT_MAX_SIZE = 100;
+
+    private final BoundedCache<String, Object> cache;
+
+    public ExpressionCache() {
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    public ExpressionCache(int maxSize) {
+        cache = new BoundedCache<>(maxSize);
+    }
+
+    /**
+     * Returns the parsed expression from the cache, or parses and caches it if it's not yet cached.
+     *
+     * @param expressionText expression
+     * @param functionResolver {@link FunctionResolver} to resolve functions while parsing
+     * @return parsed expression
+     * @throws ExpressionException If parsing fails
+     */
+    public Expression parse(String expressionText, FunctionResolver functionResolver) throws ExpressionException {
+        Object result = cache.get(expressionText, text -> doParse(text, functionResolver));
+        if (result instanceof ExpressionException) {
+            throw (ExpressionException) result;
+        }
+        return (Expression) result;
+    }
+
+    private Object doParse(String expressionText, FunctionResolver functionResolver) {
+        if (functionResolver == null) {
+            functionResolver = (name, args) -> {
+                throw new ParseException("Function not found: " + name);
+            };
+        }
+        try {
+            Parser parser = new Parser(new StringReader(expressionText));
+            parser.functionResolver = functionResolver;
+            return parser.parse();
+        } catch (Throwable e) {
+            return new ExpressionException(expressionText, e);
+        }
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    public int getSize() {
+        return cache.getSize();
+    }
+
+    public int getMaxSize() {
+        return cache.getMaxSize();
+    }
+
+    public void setMaxSize(int maxSize) {
+        cache.setMaxSize(maxSize);
+    }
+
+    public long getHitCount() {
+        return cache.getHitCount();
+    }
+
+    public long getMissCount() {
+        return cache.getMissCount();
+    }
+
+    public long getEvictionCount() {
+        return cache.getEvictionCount();
+    }
+
+}
@@ -0,0 +1,115 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.expression.internal;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * A thread safe, size bounded cache. When the cache is full the oldest entries are evicted first.
+ * Lookups are lock free, and the value might be computed more than once for the same key when
+ * it's requested concurrently, then the first one cached wins.
+ *
+ * @param <K> key type
+ * @param <V> value type
+ */
+public class BoundedCache<K, V> {
+
+    private final Map<K, V> cache = new ConcurrentHashMap<>();
+    private final Queue<K> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private volatile int maxSize;
+
+    public BoundedCache(int maxSize) {
+        setMaxSize(maxSize);
+    }
+
+    /**
+     * Returns the cached value, or computes and caches it if it's not yet cached.
+     *
+     * @param key key
+     * @param factory computes the value for the key, must not return null
+     * @return value
+     */
+    public V get(K key, Function<? super K, ? extends V> factory) {
+        V value = cache.get(key);
+        if (value != null) {
+            hitCount.increment();
+            return value;
+        }
+        missCount.increment();
+        value = factory.apply(key);
+        V existing = cache.putIfAbsent(key, value);
+        if (existing != null) {
+            return existing;
+        }
+        insertionOrder.add(key);
+        evict();
+        return value;
+    }
+
+    private void evict() {
+        while (cache.size() > maxSize) {
+            K eldest = insertionOrder.poll();
+            if (eldest == null) {
+                return;
+            }
+            if (cache.remove(eldest) != null) {
+                evictionCount.increment();
+            }
+        }
+    }
+
+    public void clear() {
+        cache.clear();
+        insertionOrder.clear();
+    }
+
+    public int getSize() {
+        return cache.size();
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    public void setMaxSize(int maxSize) {
+        if (maxSize < 0) {
+            throw new IllegalArgumentException("Maximum cache size must be >= 0");
+        }
+        this.maxSize = maxSize;
+        evict();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+}
@@ -0,0 +1,100 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.expression;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class ExpressionCacheTest {
+
+    @Test
+    public void testHitAndMiss() throws Exception {
+        ExpressionCache cache = new ExpressionCache(10);
+        Expression first = cache.parse("${x} == 1", null);
+        Expression second = cache.parse("${x} == 1", null);
+        assertSame(first, second);
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+        assertEquals(1, cache.getSize());
+    }
+
+    @Test
+    public void testParseErrorIsCached() throws Exception {
+        ExpressionCache cache = new ExpressionCache(10);
+        for (int i = 0; i < 2; i++) {
+            try {
+                cache.parse("${x} ==", null);
+                fail("ExpressionException is expected");
+            } catch (ExpressionException e) {
+                assertTrue(e.getMessage().contains("${x} =="));
+            }
+        }
+        assertEquals(1, cache.getHitCount());
+        assertEquals(1, cache.getMissCount());
+    }
+
+    @Test
+    public void testEviction() throws Exception {
+        ExpressionCache cache = new ExpressionCache(2);
+        cache.parse("${a} == 1", null);
+        cache.parse("${b} == 1", null);
+        cache.parse("${c} == 1", null);
+        assertEquals(2, cache.getSize());
+        assertEquals(1, cache.getEvictionCount());
+
+        cache.setMaxSize(1);
+        assertEquals(1, cache.getSize());
+        assertEquals(2, cache.getEvictionCount());
+        cache.parse("${c} == 1", null);
+        assertEquals(1, cache.getHitCount());
+    }
+
+    @Test
+    public void testConcurrentAccess() throws Exception {
+        ExpressionCache cache = new ExpressionCache(20);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 1000; i++) {
+                        cache.parse("${x} == " + (i % 40), null);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertTrue(cache.getSize() <= 20);
+        assertEquals(8000, cache.getHitCount() + cache.getMissCount());
+    }
+
+}
@@ -15,9 +15,13 @@
  */
 package io.atlasmap.itests.core;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.net.URL;
 import java.util.Arrays;
 import java.util.List;
@@ -30,6 +34,7 @@ import io.atlasmap.api.AtlasContext;
 import io.atlasmap.api.AtlasSession;
 import io.atlasmap.core.AtlasMappingService;
 import io.atlasmap.core.DefaultAtlasContextFactory;
+import io.atlasmap.csv.module.CsvStreamProcessor;
 import io.atlasmap.v2.AtlasMapping;
 import io.atlasmap.v2.Collection;
 import io.atlasmap.v2.Mapping;
@@ -80,6 +85,34 @@ public class CsvMappingTest {
         assertThat(csv, CoreMatchers.is("first\r\nBob\r\nAndrew\r\n"));
     }
 
+    @Test
+    public void testStreamRecords() throws Exception {
+        AtlasContext context = createContext(MAPPINGS_JSON, "1", "2");
+        CsvStreamProcessor processor = new CsvStreamProcessor(context, "source", "target-csv");
+        StringWriter out = new StringWriter();
+        long count = processor.process(new StringReader("first_name,last_name\r\nBob,Johnson\r\nAndrew,Smith\r\n"), out);
+
+        assertEquals(2, count);
+        assertThat(out.toString(), CoreMatchers.is("first,last\r\nBob,Johnson\r\nAndrew,Smith\r\n"));
+    }
+
+    @Test
+    public void testWriterTarget() throws Exception {
+        AtlasContext context = createContext(MAPPINGS_JSON, "1", "2");
+        AtlasSession session = context.createSession();
+        StringWriter out = new StringWriter();
+        for (String record : Arrays.asList("Bob,Johnson", "Andrew,Smith")) {
+            session.setSourceDocument("source", "first_name,last_name\r\n" + record + "\r\n");
+            session.setTargetDocument("target-csv", out);
+            context.process(session);
+            assertFalse(session.hasErrors());
+        }
+
+        // each process call writes a whole document, and the session properties are left untouched
+        assertThat(out.toString(), CoreMatchers.is("first,last\r\nBob,Johnson\r\nfirst,last\r\nAndrew,Smith\r\n"));
+        assertTrue(session.getTargetProperties().isEmpty());
+    }
+
     public AtlasContext createContext(String file, String... mappingIds) throws Exception {
         URL url = Thread.currentThread().getContextClassLoader().getResource("mappings/atlasmapping-csv.json");
         AtlasMapping mapping = mappingService.loadMapping(url);
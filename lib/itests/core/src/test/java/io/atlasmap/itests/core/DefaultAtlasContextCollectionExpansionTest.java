@@ -23,6 +23,7 @@ import java.util.List;
 
 import org.junit.Test;
 
+import io.atlasmap.core.AtlasExecutionPlan;
 import io.atlasmap.core.DefaultAtlasContext;
 import io.atlasmap.core.DefaultAtlasContextFactory;
 import io.atlasmap.core.DefaultAtlasSession;
@@ -65,11 +66,11 @@ public class DefaultAtlasContextCollectionExpansionTest {
         mappings.getMapping().add(singleMapping);
         baseMapping.setMappings(mappings);
 
-        Method m = DefaultAtlasContext.class.getDeclaredMethod("unwrapCollectionMappings", new Class[] {DefaultAtlasSession.class, BaseMapping.class});
+        Method m = AtlasExecutionPlan.class.getDeclaredMethod("unwrapCollectionMappings", new Class[] {BaseMapping.class});
         m.setAccessible(true);
-        assertEquals(1, List.class.cast(m.invoke(context, new Object[] {session, baseMapping})).size());
-        assertEquals(1, List.class.cast(m.invoke(context, new Object[] {session, baseMapping})).size());
-        assertEquals(1, List.class.cast(m.invoke(context, new Object[] {session, baseMapping})).size());
+        assertEquals(1, List.class.cast(m.invoke(null, new Object[] {baseMapping})).size());
+        assertEquals(1, List.class.cast(m.invoke(null, new Object[] {baseMapping})).size());
+        assertEquals(1, List.class.cast(m.invoke(null, new Object[] {baseMapping})).size());
     }
 
 }
@@ -0,0 +1,173 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.itests.reference.java_to_java;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import io.atlasmap.api.AtlasSession;
+import io.atlasmap.core.AtlasExecutionPlan.CompiledMapping;
+import io.atlasmap.core.DefaultAtlasContext;
+import io.atlasmap.core.DefaultAtlasContextFactory;
+import io.atlasmap.itests.reference.AtlasMappingBaseTest;
+import io.atlasmap.itests.reference.AtlasTestUtil;
+import io.atlasmap.java.test.BaseFlatPrimitiveClass;
+import io.atlasmap.java.test.BaseOrder;
+import io.atlasmap.java.test.SourceAddress;
+import io.atlasmap.java.test.SourceContact;
+import io.atlasmap.java.test.SourceFlatPrimitiveClass;
+import io.atlasmap.java.test.SourceOrder;
+import io.atlasmap.java.test.TargetContact;
+import io.atlasmap.java.test.TargetFlatPrimitiveClass;
+import io.atlasmap.java.test.TargetTestClass;
+
+public class JavaJavaDirectMapperTest extends AtlasMappingBaseTest {
+
+    protected DefaultAtlasContext createDirectContext(String fileName) throws Exception {
+        DefaultAtlasContextFactory factory = (DefaultAtlasContextFactory) atlasContextFactory;
+        Map<String, String> properties = factory.getProperties();
+        Map<String, String> enabled = properties != null ? new HashMap<>(properties) : new HashMap<>();
+        enabled.put(DefaultAtlasContextFactory.PROPERTY_DIRECT_MAPPERS, "true");
+        factory.setProperties(enabled);
+        try {
+            DefaultAtlasContext context = (DefaultAtlasContext) factory.createContext(new File(fileName).toURI());
+            // the execution plan is compiled on initialization, which the first session triggers
+            context.createSession();
+            return context;
+        } finally {
+            factory.setProperties(properties);
+        }
+    }
+
+    protected int countDirectMappers(DefaultAtlasContext context) throws Exception {
+        int count = 0;
+        for (CompiledMapping compiled : context.getExecutionPlan().getCompiledMappings()) {
+            if (compiled.getDirectMapper() != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    protected TargetFlatPrimitiveClass executeFlatMapping(String fileName) throws Exception {
+        DefaultAtlasContext context = createDirectContext(fileName);
+        assertTrue(countDirectMappers(context) > 0);
+        AtlasSession session = context.createSession();
+        BaseFlatPrimitiveClass sourceObject = AtlasTestUtil.generateFlatPrimitiveClass(SourceFlatPrimitiveClass.class);
+        session.setDefaultSourceDocument(sourceObject);
+        context.process(session);
+
+        assertFalse(printAudit(session), session.hasErrors());
+        Object object = session.getDefaultTargetDocument();
+        assertNotNull(object);
+        assertTrue(object instanceof TargetFlatPrimitiveClass);
+        return (TargetFlatPrimitiveClass) object;
+    }
+
+    @Test
+    public void testDisabledByDefault() throws Exception {
+        DefaultAtlasContext context = (DefaultAtlasContext) atlasContextFactory
+                .createContext(new File("src/test/resources/javaToJava/atlasmapping-complex-simple.json").toURI());
+        context.createSession();
+        assertEquals(0, countDirectMappers(context));
+    }
+
+    @Test
+    public void testProcessComplexBasic() throws Exception {
+        DefaultAtlasContext context = createDirectContext(
+                "src/test/resources/javaToJava/atlasmapping-complex-simple.json");
+        assertEquals(context.getExecutionPlan().getCompiledMappings().size(), countDirectMappers(context));
+        AtlasSession session = context.createSession();
+        BaseOrder sourceOrder = AtlasTestUtil.generateOrderClass(SourceOrder.class, SourceAddress.class,
+                SourceContact.class);
+        session.setDefaultSourceDocument(sourceOrder);
+        context.process(session);
+
+        assertFalse(printAudit(session), session.hasErrors());
+        TargetTestClass object = (TargetTestClass) session.getDefaultTargetDocument();
+        assertEquals(TargetContact.class.getName(), object.getContact().getClass().getName());
+        assertEquals("Ozzie", object.getContact().getFirstName());
+    }
+
+    @Test
+    public void testProcessComplexBasicNullContact() throws Exception {
+        DefaultAtlasContext context = createDirectContext(
+                "src/test/resources/javaToJava/atlasmapping-complex-simple.json");
+        AtlasSession session = context.createSession();
+        BaseOrder sourceOrder = AtlasTestUtil.generateOrderClass(SourceOrder.class, SourceAddress.class,
+                SourceContact.class);
+        sourceOrder.setContact(null);
+        session.setDefaultSourceDocument(sourceOrder);
+        context.process(session);
+
+        assertFalse(printAudit(session), session.hasErrors());
+        TargetTestClass object = (TargetTestClass) session.getDefaultTargetDocument();
+        assertEquals(TargetContact.class.getName(), object.getContact().getClass().getName());
+        assertNull(object.getContact().getFirstName());
+    }
+
+    @Test
+    public void testProcessFlatFieldMappingAutoConversion1() throws Exception {
+        AtlasTestUtil.validateFlatPrimitiveClassPrimitiveFieldAutoConversion1(executeFlatMapping(
+                "src/test/resources/javaToJava/atlasmapping-flatprimitive-autoconversion-1.json"));
+    }
+
+    @Test
+    public void testProcessFlatFieldMappingAutoConversion2() throws Exception {
+        AtlasTestUtil.validateFlatPrimitiveClassPrimitiveFieldAutoConversion2(executeFlatMapping(
+                "src/test/resources/javaToJava/atlasmapping-flatprimitive-autoconversion-2.json"));
+    }
+
+    @Test
+    public void testProcessFlatFieldMappingAutoConversion3() throws Exception {
+        AtlasTestUtil.validateFlatPrimitiveClassPrimitiveFieldAutoConversion3(executeFlatMapping(
+                "src/test/resources/javaToJava/atlasmapping-flatprimitive-autoconversion-3.json"));
+    }
+
+    @Test
+    public void testProcessFlatFieldMappingAutoConversion4() throws Exception {
+        AtlasTestUtil.validateFlatPrimitiveClassPrimitiveFieldAutoConversion4(executeFlatMapping(
+                "src/test/resources/javaToJava/atlasmapping-flatprimitive-autoconversion-4.json"));
+    }
+
+    @Test
+    public void testProcessFlatFieldMappingAutoConversion5() throws Exception {
+        AtlasTestUtil.validateFlatPrimitiveClassPrimitiveFieldAutoConversion5(executeFlatMapping(
+                "src/test/resources/javaToJava/atlasmapping-flatprimitive-autoconversion-5.json"));
+    }
+
+    @Test
+    public void testProcessFlatFieldMappingAutoConversion6() throws Exception {
+        AtlasTestUtil.validateFlatPrimitiveClassPrimitiveFieldAutoConversion6(executeFlatMapping(
+                "src/test/resources/javaToJava/atlasmapping-flatprimitive-autoconversion-6.json"));
+    }
+
+    @Test
+    public void testProcessFlatFieldMappingAutoConversion7() throws Exception {
+        AtlasTestUtil.validateFlatPrimitiveClassPrimitiveFieldAutoConversion7(executeFlatMapping(
+                "src/test/resources/javaToJava/atlasmapping-flatprimitive-autoconversion-7.json"));
+    }
+
+}
@@ -15,14 +15,21 @@
  */
 package io.atlasmap.itests.reference.json_to_json;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Test;
 
+import io.atlasmap.api.AtlasBatchResult;
+import io.atlasmap.api.AtlasConstants;
 import io.atlasmap.api.AtlasContext;
 import io.atlasmap.api.AtlasSession;
 import io.atlasmap.core.AtlasMappingService;
@@ -119,6 +126,29 @@ public class JsonJsonFlatMappingTest extends AtlasMappingBaseTest {
         AtlasTestUtil.validateJsonFlatPrimitivePrimitiveFields(targetObject);
     }
 
+    @Test
+    public void testProcessBatchJsonJsonFlatPrimitiveUnrooted() throws Exception {
+        AtlasContext context = atlasContextFactory
+                .createContext(new File("src/test/resources/jsonToJson/atlasmapping-flatprimitive-unrooted.json"));
+        String source = AtlasTestUtil
+                .loadFileAsString("src/test/resources/jsonToJson/atlas-json-flatprimitive-unrooted.json");
+        List<Map<String, Object>> batch = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            batch.add(Collections.singletonMap(AtlasConstants.DEFAULT_SOURCE_DOCUMENT_ID, source));
+        }
+
+        List<AtlasBatchResult> results = context.processBatch(batch);
+        assertEquals(3, results.size());
+        AtlasJsonTestUnrootedMapper testMapper = new AtlasJsonTestUnrootedMapper();
+        for (AtlasBatchResult result : results) {
+            assertFalse(result.hasErrors());
+            Object object = result.getDefaultTargetDocument();
+            assertTrue(object instanceof String);
+            TargetFlatPrimitive targetObject = testMapper.readValue((String) object, TargetFlatPrimitive.class);
+            AtlasTestUtil.validateJsonFlatPrimitivePrimitiveFields(targetObject);
+        }
+    }
+
     @Test
     public void testProcessJsonJsonFlatPrimitiveRooted() throws Exception {
         AtlasContext context = atlasContextFactory
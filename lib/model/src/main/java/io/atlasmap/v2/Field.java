@@ -8,7 +8,7 @@ import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 @JsonTypeInfo(include = JsonTypeInfo.As.PROPERTY, use = JsonTypeInfo.Id.CLASS, property = "jsonType")
 public abstract class Field
-    implements Serializable
+    implements Serializable, Cloneable
 {
 
     private static final long serialVersionUID = 1L;
@@ -422,4 +422,20 @@ public abstract class Field
     public void setName(String value) {
         this.name = value;
     }
+
+    /**
+     * Creates a shallow copy of this field. The actions list is shared with the original
+     * since actions are not modified while processing, while the other properties including
+     * the value can be modified independently on the copy.
+     *
+     * @return A copy of this field
+     */
+    @Override
+    public Field clone() {
+        try {
+            return (Field) super.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
 }
@@ -40,4 +40,21 @@ public class FieldGroup extends Field implements Serializable
         return this.field;
     }
 
+    /**
+     * Creates a copy of this field group, children are cloned recursively.
+     *
+     * @return A copy of this field group
+     */
+    @Override
+    public FieldGroup clone() {
+        FieldGroup clone = (FieldGroup) super.clone();
+        if (field != null) {
+            clone.field = new ArrayList<Field>(field.size());
+            for (Field child : field) {
+                clone.field.add(child.clone());
+            }
+        }
+        return clone;
+    }
+
 }
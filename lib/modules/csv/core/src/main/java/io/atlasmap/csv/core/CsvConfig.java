@@ -99,7 +99,7 @@ public class CsvConfig {
         return csvConfig;
     }
 
-    CSVFormat newCsvFormat() {
+    public CSVFormat newCsvFormat() {
         CSVFormat csvFormat;
         csvFormat = (format != null) ? CSVFormat.valueOf(format) : CSVFormat.DEFAULT;
         csvFormat = (delimiter != null) ? csvFormat.withDelimiter(delimiter) : csvFormat;
@@ -20,6 +20,8 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 
 import org.apache.commons.csv.CSVFormat;
@@ -45,13 +47,18 @@ import io.atlasmap.v2.Fields;
 
 /**
  * It accepts InputStream as a document in order to process big files efficiently.
- * It uses the mark operation of the InputStream to reset the stream and read consecutive fields.
+ * The document is parsed only once, lazily as far as the fields read need it, and the records
+ * parsed so far are kept for consecutive fields since the stream can't be read again.
+ * Reading a schema uses the mark operation of the InputStream to reset the stream afterwards.
  * If InputStream does not support the mark operation it is wrapped in BufferedInputStream.
+ * In streaming mode a single {@link CSVRecord} is set as a document instead.
  */
 public class CsvFieldReader implements AtlasFieldReader {
 
     private final CsvConfig csvConfig;
     private InputStream document;
+    private List<CSVRecord> records;
+    private Iterator<CSVRecord> unparsed;
 
     public CsvFieldReader(CsvConfig csvConfig) {
         this.csvConfig = csvConfig;
@@ -63,13 +70,26 @@ public class CsvFieldReader implements AtlasFieldReader {
         } else {
             this.document = inputStream;
         }
+        this.records = null;
+        this.unparsed = null;
+    }
+
+    /**
+     * Sets a single record as a document, which is used to process a big CSV document record by record.
+     *
+     * @param record CSV record
+     */
+    public void setRecord(CSVRecord record) {
+        this.document = null;
+        this.records = record != null ? Collections.singletonList(record) : null;
+        this.unparsed = null;
     }
 
     @Override
     public Field read(AtlasInternalSession session) throws AtlasException {
         Field field = session.head().getSourceField();
 
-        if (document == null) {
+        if (document == null && records == null) {
             AtlasUtil.addAudit(session, field.getDocId(),
                 String.format("Cannot read field '%s' of document '%s', document is null",
                     field.getPath(), field.getDocId()),
@@ -115,55 +135,28 @@ public class CsvFieldReader implements AtlasFieldReader {
     private Field readFields(CsvField field) throws AtlasException {
         List<Field> fields = new ArrayList<>();
         CsvField csvField = field;
-        CSVFormat csvFormat = csvConfig.newCsvFormat();
-        try {
-            document.mark(Integer.MAX_VALUE);
 
-            CSVParser parser = csvFormat.parse(new InputStreamReader(document));
-
-            AtlasPath atlasPath = new AtlasPath(csvField.getPath());
-            int i = 0;
-            Integer fieldIndex = atlasPath.getRootSegment().getCollectionIndex();
-            if (fieldIndex != null) {
-                for (CSVRecord record: parser) {
-                    if (i == fieldIndex) {
-                        CsvField newField = CsvField.cloneOf(csvField);
-                        String value;
-                        if (csvField.getColumn() != null) {
-                            value = record.get(csvField.getColumn());
-                        } else {
-                            value = record.get(csvField.getName());
-                        }
-                        newField.setValue(value);
-                        fields.add(newField);
-                        break;
-                    }
-                    i++;
-                }
-            } else {
-                for (CSVRecord record: parser) {
-                    CsvField collectionField = CsvField.cloneOf(csvField);
-                    String value;
-                    if (csvField.getColumn() != null) {
-                        value = record.get(csvField.getColumn());
-                    } else {
-                        value = record.get(csvField.getName());
-                    }
-                    collectionField.setValue(value);
-                    AtlasPath collectionFieldPath = new AtlasPath(collectionField.getPath());
-                    collectionFieldPath.setCollectionIndex(0, i);
-                    collectionField.setPath(collectionFieldPath.toString());
-                    fields.add(collectionField);
-                    i++;
-                }
+        AtlasPath atlasPath = new AtlasPath(csvField.getPath());
+        Integer fieldIndex = atlasPath.getRootSegment().getCollectionIndex();
+        if (fieldIndex != null) {
+            CSVRecord record = fieldIndex >= 0 ? getRecord(fieldIndex) : null;
+            if (record != null) {
+                CsvField newField = CsvField.cloneOf(csvField);
+                newField.setValue(getValue(record, csvField));
+                fields.add(newField);
+            }
+        } else {
+            CSVRecord record;
+            for (int i = 0; (record = getRecord(i)) != null; i++) {
+                CsvField collectionField = CsvField.cloneOf(csvField);
+                collectionField.setValue(getValue(record, csvField));
+                atlasPath.setCollectionIndex(0, i);
+                collectionField.setPath(atlasPath.toString());
+                fields.add(collectionField);
             }
-
-            document.reset();
-        } catch (IOException e) {
-            throw new AtlasException(e);
         }
 
-        if (fields.size() == 1) {
+        if (fieldIndex != null && fields.size() == 1) {
             return fields.get(0);
         } else {
             FieldGroup fieldGroup = AtlasModelFactory.createFieldGroupFrom(field, true);
@@ -173,6 +166,40 @@ public class CsvFieldReader implements AtlasFieldReader {
 
     }
 
+    private String getValue(CSVRecord record, CsvField csvField) {
+        if (csvField.getColumn() != null) {
+            return record.get(csvField.getColumn());
+        }
+        return record.get(csvField.getName());
+    }
+
+    /**
+     * Gets the record at the index, parsing the document only up to that record. The document is
+     * parsed in a single pass over consecutive calls.
+     *
+     * @return record, or null if the document has fewer records
+     */
+    private CSVRecord getRecord(int index) throws AtlasException {
+        if (records == null) {
+            CSVFormat csvFormat = csvConfig.newCsvFormat();
+            try {
+                unparsed = csvFormat.parse(new InputStreamReader(document)).iterator();
+            } catch (IOException e) {
+                throw new AtlasException(e);
+            }
+            records = new ArrayList<>();
+        }
+        try {
+            while (records.size() <= index && unparsed != null && unparsed.hasNext()) {
+                records.add(unparsed.next());
+            }
+        } catch (IllegalStateException e) {
+            // CSVParser wraps the IOException while iterating
+            throw new AtlasException(e.getCause() != null ? e.getCause() : e);
+        }
+        return index < records.size() ? records.get(index) : null;
+    }
+
     /**
      * Reads only the first row of the document.
      *
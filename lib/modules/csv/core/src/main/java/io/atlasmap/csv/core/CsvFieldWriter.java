@@ -18,6 +18,7 @@ package io.atlasmap.csv.core;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -82,15 +83,36 @@ public class CsvFieldWriter implements AtlasFieldWriter {
     }
 
     public String toCsv() throws AtlasException {
-        CSVFormat csvFormat = csvConfig.newCsvFormat();
         ByteArrayOutputStream out = new ByteArrayOutputStream();
         try {
             OutputStreamWriter writer = new OutputStreamWriter(out, "UTF-8");
+            toCsv(writer, true);
+            String csv = out.toString();
+            return csv;
+        } catch (IOException e) {
+            throw new AtlasException(e);
+        }
+    }
+
+    /**
+     * Writes the records into the writer. It allows to append the records of consecutive sessions
+     * to the same output when a big CSV document is processed record by record.
+     *
+     * @param writer writer to append the records to, it's flushed but not closed
+     * @param withHeader whether the header should be written if it's configured
+     * @throws AtlasException if it fails
+     */
+    public void toCsv(Writer writer, boolean withHeader) throws AtlasException {
+        CSVFormat csvFormat = csvConfig.newCsvFormat();
+        if (!withHeader) {
+            csvFormat = csvFormat.withSkipHeaderRecord();
+        }
+        try {
             CSVPrinter printer = new CSVPrinter(writer, csvFormat);
 
             List<Field> fields = document.getFields().getField();
 
-            if (csvConfig.isFirstRecordAsHeader()) {
+            if (withHeader && csvConfig.isFirstRecordAsHeader()) {
                 List<String> headers = new ArrayList<>();
                 for (Field field: fields) {
                     headers.add(field.getName());
@@ -117,9 +139,7 @@ public class CsvFieldWriter implements AtlasFieldWriter {
                 printer.printRecord(values);
             }
 
-            writer.flush();
-            String csv = out.toString();
-            return csv;
+            printer.flush();
         } catch (IOException e) {
             throw new AtlasException(e);
         }
@@ -18,13 +18,17 @@ package io.atlasmap.csv.core;
 import static org.hamcrest.CoreMatchers.is;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import java.io.ByteArrayInputStream;
+import java.io.IOException;
 
 import org.junit.Test;
 
+import io.atlasmap.api.AtlasException;
 import io.atlasmap.csv.v2.CsvField;
 import io.atlasmap.spi.AtlasInternalSession;
 import io.atlasmap.v2.AuditStatus;
@@ -129,4 +133,70 @@ public class CsvFieldReaderTest {
         assertThat(field.getField().get(1).getValue(), is("Johnson"));
         assertThat(field.getField().get(1).getPath(), is("/<1>/familyName"));
     }
+
+    @Test
+    public void testReadMultipleFieldsFromNonResettableStream() throws Exception {
+        CsvConfig csvConfig = new CsvConfig();
+        csvConfig.setFirstRecordAsHeader(true);
+        CsvFieldReader csvFieldReader = new CsvFieldReader(csvConfig);
+        csvFieldReader.setDocument(new ByteArrayInputStream("givenName,familyName\nBob,Smith\nAndrew,Johnson".getBytes()) {
+            @Override
+            public synchronized void reset() {
+                throw new IllegalStateException("The document is expected to be parsed only once");
+            }
+        });
+        AtlasInternalSession session = mock(AtlasInternalSession.class);
+        when(session.head()).thenReturn(mock(AtlasInternalSession.Head.class));
+        Audits audits = new Audits();
+        when(session.getAudits()).thenReturn(audits);
+
+        CsvField givenName = new CsvField();
+        givenName.setName("givenName");
+        givenName.setPath("/<>/givenName");
+        when(session.head().getSourceField()).thenReturn(givenName);
+        FieldGroup givenNames = (FieldGroup) csvFieldReader.read(session);
+
+        CsvField familyName = new CsvField();
+        familyName.setName("familyName");
+        familyName.setPath("/<1>/familyName");
+        when(session.head().getSourceField()).thenReturn(familyName);
+        CsvField secondFamilyName = (CsvField) csvFieldReader.read(session);
+
+        assertEquals(0, audits.getAudit().size());
+        assertThat(givenNames.getField().get(0).getValue(), is("Bob"));
+        assertThat(givenNames.getField().get(1).getValue(), is("Andrew"));
+        assertThat(givenNames.getField().get(1).getPath(), is("/<1>/givenName"));
+        assertThat(secondFamilyName.getValue(), is("Johnson"));
+    }
+
+    @Test
+    public void testReadIndexedFieldParsesOnlyUpToRecord() throws Exception {
+        CsvConfig csvConfig = new CsvConfig();
+        csvConfig.setFirstRecordAsHeader(true);
+        CsvFieldReader csvFieldReader = new CsvFieldReader(csvConfig);
+        csvFieldReader.setDocument(new ByteArrayInputStream(
+            "givenName,familyName\nBob,Smith\nAndrew,Johnson\n\"unterminated".getBytes()));
+        AtlasInternalSession session = mock(AtlasInternalSession.class);
+        when(session.head()).thenReturn(mock(AtlasInternalSession.Head.class));
+        Audits audits = new Audits();
+        when(session.getAudits()).thenReturn(audits);
+
+        CsvField familyName = new CsvField();
+        familyName.setName("familyName");
+        familyName.setPath("/<1>/familyName");
+        when(session.head().getSourceField()).thenReturn(familyName);
+        CsvField secondFamilyName = (CsvField) csvFieldReader.read(session);
+        assertThat(secondFamilyName.getValue(), is("Johnson"));
+
+        CsvField givenName = new CsvField();
+        givenName.setName("givenName");
+        givenName.setPath("/<>/givenName");
+        when(session.head().getSourceField()).thenReturn(givenName);
+        try {
+            csvFieldReader.read(session);
+            fail("AtlasException expected");
+        } catch (AtlasException e) {
+            assertTrue(e.getCause() instanceof IOException);
+        }
+    }
 }
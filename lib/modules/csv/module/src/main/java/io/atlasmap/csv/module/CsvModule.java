@@ -17,7 +17,9 @@ package io.atlasmap.csv.module;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.io.Writer;
 
+import org.apache.commons.csv.CSVRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,10 +50,21 @@ public class CsvModule extends BaseAtlasModule {
     public void processPreSourceExecution(AtlasInternalSession session) throws AtlasException {
         Object sourceDocument = session.getSourceDocument(getDocId());
         InputStream sourceInputStream = null;
+        CsvConfig csvConfig = CsvConfig.newConfig(getUriParameters());
+        CsvFieldReader reader = new CsvFieldReader(csvConfig);
+
+        if (sourceDocument instanceof CSVRecord) {
+            reader.setRecord((CSVRecord) sourceDocument);
+            session.setFieldReader(getDocId(), reader);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("{}: processPreSourceExecution completed for a single record", getDocId());
+            }
+            return;
+        }
 
         if (sourceDocument == null || !((sourceDocument instanceof String) || (sourceDocument instanceof InputStream))) {
             AtlasUtil.addAudit(session, getDocId(), String.format(
-                "Null, non-String or non-Stream source document: docId='%s'", getDocId()),
+                "Null, non-String, non-Stream or non-CSVRecord source document: docId='%s'", getDocId()),
                 null, AuditStatus.WARN, null);
         } else if (sourceDocument instanceof String){
             String sourceDocumentString = String.class.cast(sourceDocument);
@@ -60,8 +73,6 @@ public class CsvModule extends BaseAtlasModule {
             sourceInputStream = (InputStream) sourceDocument;
         }
 
-        CsvConfig csvConfig = CsvConfig.newConfig(getUriParameters());
-        CsvFieldReader reader = new CsvFieldReader(csvConfig);
         reader.setDocument(sourceInputStream);
         session.setFieldReader(getDocId(), reader);
 
@@ -119,7 +130,17 @@ public class CsvModule extends BaseAtlasModule {
     @Override
     public void processPostTargetExecution(AtlasInternalSession session) throws AtlasException {
         CsvFieldWriter writer = session.getFieldWriter(getDocId(), CsvFieldWriter.class);
-        if (writer != null && writer.getDocument() != null) {
+        Object targetDocument = session.hasTargetDocument(getDocId()) ? session.getTargetDocument(getDocId()) : null;
+        if (writer != null && writer.getDocument() != null && targetDocument instanceof Writer) {
+            // append the records to the existing target writer, the stream processor writes the header only once
+            boolean writeHeader = true;
+            if (targetDocument instanceof CsvStreamProcessor.RecordWriter) {
+                CsvStreamProcessor.RecordWriter recordWriter = (CsvStreamProcessor.RecordWriter) targetDocument;
+                writeHeader = !recordWriter.isHeaderWritten();
+                recordWriter.setHeaderWritten(true);
+            }
+            writer.toCsv((Writer) targetDocument, writeHeader);
+        } else if (writer != null && writer.getDocument() != null) {
             String targetDocumentString = writer.toCsv();
             session.setTargetDocument(getDocId(), targetDocumentString);
         } else {
@@ -0,0 +1,159 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.csv.module;
+
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Collectors;
+
+import org.apache.commons.csv.CSVParser;
+import org.apache.commons.csv.CSVRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.atlasmap.api.AtlasConstants;
+import io.atlasmap.api.AtlasContext;
+import io.atlasmap.api.AtlasException;
+import io.atlasmap.api.AtlasSession;
+import io.atlasmap.core.DefaultAtlasContext;
+import io.atlasmap.csv.core.CsvConfig;
+import io.atlasmap.spi.AtlasModule;
+import io.atlasmap.v2.AuditStatus;
+
+/**
+ * Processes a CSV source document record by record. Each {@link CSVRecord} is mapped with the same
+ * session and the result is written to the output before the next record is read, so that the memory
+ * consumption doesn't depend on the size of the source document. The mapping definition is the same
+ * as the one used to process the whole document at once, collection fields like {@code /<>/column}
+ * just contain a single item on each round.
+ * <p>
+ * If the target is also a CSV document, the records are appended to the output and the header is
+ * written only once. Any other target document is written to the output followed by a line separator.
+ */
+public class CsvStreamProcessor {
+    private static final Logger LOG = LoggerFactory.getLogger(CsvStreamProcessor.class);
+
+    private final AtlasContext context;
+    private final String sourceDocId;
+    private final String targetDocId;
+
+    public CsvStreamProcessor(AtlasContext context) {
+        this(context, AtlasConstants.DEFAULT_SOURCE_DOCUMENT_ID, AtlasConstants.DEFAULT_TARGET_DOCUMENT_ID);
+    }
+
+    public CsvStreamProcessor(AtlasContext context, String sourceDocId, String targetDocId) {
+        this.context = context;
+        this.sourceDocId = sourceDocId;
+        this.targetDocId = targetDocId;
+    }
+
+    /**
+     * Processes the CSV document read from the input stream and writes the result into the output stream.
+     *
+     * @param in CSV source document encoded in UTF-8
+     * @param out output stream to write the target documents to, it's flushed but not closed
+     * @return the number of processed records
+     * @throws AtlasException if it fails
+     */
+    public long process(InputStream in, OutputStream out) throws AtlasException {
+        return process(new InputStreamReader(in, StandardCharsets.UTF_8),
+                new OutputStreamWriter(out, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Processes the CSV document read from the reader and writes the result into the writer.
+     *
+     * @param in CSV source document
+     * @param out writer to write the target documents to, it's flushed but not closed
+     * @return the number of processed records
+     * @throws AtlasException if it fails
+     */
+    public long process(Reader in, Writer out) throws AtlasException {
+        if (!(context instanceof DefaultAtlasContext)) {
+            throw new AtlasException(String.format("Unsupported context class '%s'", context.getClass().getName()));
+        }
+        DefaultAtlasContext defaultContext = (DefaultAtlasContext) context;
+        AtlasSession session = context.createSession();
+        AtlasModule sourceModule = defaultContext.getSourceModules().get(sourceDocId);
+        if (!(sourceModule instanceof CsvModule)) {
+            throw new AtlasException(String.format("Source document '%s' is not a CSV document", sourceDocId));
+        }
+        boolean csvTarget = defaultContext.getTargetModules().get(targetDocId) instanceof CsvModule;
+        if (csvTarget) {
+            session.setTargetDocument(targetDocId, new RecordWriter(out));
+        }
+
+        CsvConfig csvConfig = CsvConfig.newConfig(((CsvModule) sourceModule).getUriParameters());
+        long count = 0;
+        try {
+            CSVParser parser = csvConfig.newCsvFormat().parse(in);
+            for (CSVRecord record : parser) {
+                session.setSourceDocument(sourceDocId, record);
+                context.process(session);
+                if (session.hasErrors()) {
+                    throw new AtlasException(String.format("Failed to process CSV record %s: %s",
+                            record.getRecordNumber(), session.getAudits().getAudit().stream()
+                                .filter(a -> a.getStatus() == AuditStatus.ERROR)
+                                .map(a -> a.getMessage())
+                                .collect(Collectors.joining(", "))));
+                }
+                if (!csvTarget) {
+                    Object targetDocument = session.getTargetDocument(targetDocId);
+                    if (targetDocument != null) {
+                        out.write(targetDocument.toString());
+                        out.write(System.lineSeparator());
+                    }
+                }
+                count++;
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new AtlasException(e);
+        }
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("{}: Processed {} records", sourceDocId, count);
+        }
+        return count;
+    }
+
+    /**
+     * The CSV target document of the records, which keeps track of whether the header has been written.
+     */
+    static final class RecordWriter extends FilterWriter {
+        private boolean headerWritten;
+
+        RecordWriter(Writer out) {
+            super(out);
+        }
+
+        boolean isHeaderWritten() {
+            return headerWritten;
+        }
+
+        void setHeaderWritten(boolean headerWritten) {
+            this.headerWritten = headerWritten;
+        }
+    }
+
+}
@@ -22,14 +22,12 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.ServiceLoader;
 
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerFactory;
-import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 
 import org.w3c.dom.Document;
 
 import io.atlasmap.api.AtlasException;
+import io.atlasmap.xml.core.XmlIOHelper;
 
 /**
  * DFDL schema resolver resolves DFDL schema file to be used to process DFDL document.
@@ -40,9 +38,15 @@ public class DfdlSchemaResolver {
 
     private ClassLoader classLoader;
     private Map<String, DfdlSchemaGenerator> dfdlGenerators;
+    private XmlIOHelper xmlHelper;
 
     public DfdlSchemaResolver(ClassLoader loader) {
+        this(loader, XmlIOHelper.getInstance(loader));
+    }
+
+    public DfdlSchemaResolver(ClassLoader loader, XmlIOHelper xmlHelper) {
         this.classLoader = loader;
+        this.xmlHelper = xmlHelper;
         this.dfdlGenerators = new HashMap<>();
         ServiceLoader<DfdlSchemaGenerator> schemaGenLoader = ServiceLoader.load(DfdlSchemaGenerator.class, this.classLoader);
         for (DfdlSchemaGenerator generator : schemaGenLoader) {
@@ -67,10 +71,7 @@ public class DfdlSchemaResolver {
             Document xsd = generator.generate(classLoader, options);
             File f = File.createTempFile(dfdlSchemaName, ".dfdl.xsd");
             f.deleteOnExit();
-            Transformer transformer = TransformerFactory.newInstance().newTransformer();
-            DOMSource source = new DOMSource(xsd);
-            StreamResult result = new StreamResult(f);
-            transformer.transform(source, result);
+            xmlHelper.transform(xsd, new StreamResult(f));
             return f.toURI();
         }
 
@@ -25,7 +25,6 @@ import java.util.Map;
 import java.util.Map.Entry;
 
 import javax.xml.namespace.NamespaceContext;
-import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathFactory;
@@ -56,7 +55,7 @@ public class CsvDfdlSchemaGenerator implements DfdlSchemaGenerator {
     private static final String NS_DFDL = "http://www.ogf.org/dfdl/dfdl-1.0/";
     private static final String NS_ATLAS = "http://atlasmap.io/dfdl/csv";
 
-    private XmlIOHelper helper = new XmlIOHelper(CsvDfdlSchemaGenerator.class.getClassLoader());
+    private XmlIOHelper helper = XmlIOHelper.getInstance(CsvDfdlSchemaGenerator.class.getClassLoader());
 
     public enum Options {
         HEADER(DfdlConstants.OPTION_PREFIX + ".csv.header"),
@@ -100,9 +99,7 @@ public class CsvDfdlSchemaGenerator implements DfdlSchemaGenerator {
         String[] fieldNames = header.split(delimiter);
 
         InputStream is = classLoader.getResourceAsStream(TEMPLATE_FILE);
-        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-        factory.setNamespaceAware(true);
-        Document xsd = factory.newDocumentBuilder().parse(is);
+        Document xsd = helper.parseDocument(is, true);
         XPath xpath = XPathFactory.newInstance().newXPath();
         xpath.setNamespaceContext(new NamespaceResolver());
         String targetPath = "//xs:schema/xs:element[@name='file']/xs:complexType/xs:sequence"
@@ -40,16 +40,16 @@ import io.atlasmap.xml.v2.XmlDocument;
 public class DfdlInspector {
     private static final Logger LOG = LoggerFactory.getLogger(DfdlInspector.class);
 
-    private ClassLoader classLoader;
     private DfdlSchemaResolver schemaResolver;
+    private XmlIOHelper xmlHelper;
     private XmlInstanceInspector xmlInstanceInspector = new XmlInstanceInspector();
     private XmlSchemaInspector xmlSchemaInspector = new XmlSchemaInspector();
     private XmlDocument output;
 
     public DfdlInspector(ClassLoader loader) {
-        this.classLoader = loader;
+        this.xmlHelper = XmlIOHelper.getInstance(loader);
         xmlSchemaInspector.setClassLoader(loader);
-        this.schemaResolver = new DfdlSchemaResolver(loader);
+        this.schemaResolver = new DfdlSchemaResolver(loader, this.xmlHelper);
     }
 
     public void inspectInstance(String dfdlSchemaName, Map<String, String> options) throws Exception {
@@ -74,7 +74,7 @@ public class DfdlInspector {
 
         if (LOG.isTraceEnabled()) {
             try {
-                LOG.trace(new XmlIOHelper(classLoader).writeDocumentToString(false, output.getResult()));
+                LOG.trace(xmlHelper.writeDocumentToString(false, output.getResult()));
             } catch (Exception e) {}
         }
         xmlInstanceInspector.inspect(output.getResult());
@@ -52,7 +52,7 @@ public class DfdlModule extends XmlModule {
     @Override
     public void init() throws AtlasException {
         super.init();
-        this.schemaResolver = new DfdlSchemaResolver(getClassLoader());
+        this.schemaResolver = new DfdlSchemaResolver(getClassLoader(), getXmlIOHelper());
         String type = getUriDataType();
 
         // FIXME temporary hack until we get a room for carrying DFDL options in catalog file
@@ -90,6 +90,18 @@ public class DfdlModule extends XmlModule {
         return dfdlValidationService;
     }
 
+    @Override
+    protected boolean isStreaming() {
+        // the source document is not XML, it's always converted through the DOM
+        return false;
+    }
+
+    @Override
+    protected boolean isStreaming(Object targetDocument) {
+        // the target document is not XML, it's always converted from the DOM
+        return false;
+    }
+
     @Override
     protected Document convertToXmlDocument(String source, boolean namespaced) throws AtlasException {
         W3CDOMInfosetOutputter output = new W3CDOMInfosetOutputter();
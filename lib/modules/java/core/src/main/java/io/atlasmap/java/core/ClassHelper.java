@@ -185,51 +185,35 @@ public class ClassHelper {
     }
 
     public static Method lookupGetterMethod(Object object, String name) {
-        List<String> getters = getterMethodNames(name);
-        Method getterMethod = null;
-        for (String getter : getters) {
-            try {
-                getterMethod = detectGetterMethod(object.getClass(), getter);
-                break;
-            } catch (NoSuchMethodException e) {
-                // exhaust options
-            }
-        }
-
-        if (getterMethod == null) {
+        ClassMetadata.Accessor getter = ClassMetadata.of(object.getClass()).getGetter(name);
+        if (getter == null) {
             return null;
-        } else {
-            getterMethod.setAccessible(true);
-            return getterMethod;
         }
+        Method getterMethod = getter.getMethod();
+        getterMethod.setAccessible(true);
+        return getterMethod;
     }
 
     public static Field lookupJavaField(Object source, String fieldName) {
-        Class<?> targetClazz = source != null ? source.getClass() : null;
-        while (targetClazz != null && targetClazz != Object.class) {
-            try {
-                Field field = targetClazz.getDeclaredField(fieldName);
-                field.setAccessible(true);
-                return field;
-            } catch (Exception e) {
-                e.getMessage(); // ignore
-                targetClazz = targetClazz.getSuperclass();
-            }
+        if (source == null) {
+            return null;
         }
-        return null;
+        ClassMetadata.Accessor field = ClassMetadata.of(source.getClass()).findField(fieldName);
+        return field != null ? field.getField() : null;
     }
 
     public static JavaChildAccessor lookupAccessor(Object source, String name) {
         if (source == null || AtlasUtil.isEmpty(name)) {
             return null;
         }
-        Method m = lookupGetterMethod(source, name);
-        if (m != null) {
-            return new GetterAccessor(source, name, m);
+        ClassMetadata metadata = ClassMetadata.of(source.getClass());
+        ClassMetadata.Accessor getter = metadata.getGetter(name);
+        if (getter != null) {
+            return new GetterAccessor(source, name, getter);
         }
-        Field f = lookupJavaField(source, name);
-        if (f != null) {
-            return new FieldAccessor(source, name, f);
+        ClassMetadata.Accessor field = metadata.findField(name);
+        if (field != null) {
+            return new FieldAccessor(source, name, field);
         }
         return null;
     }
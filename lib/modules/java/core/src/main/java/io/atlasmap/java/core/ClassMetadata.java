@@ -0,0 +1,342 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.java.core;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The reflective metadata of a class the Java reader and writer look up by name, i.e. the getters, setters,
+ * declared fields and the default constructor. Each of them is resolved once, bound into a {@link MethodHandle}
+ * and cached, including the misses. The metadata is held in a {@link ClassValue}, so that the cache doesn't
+ * prevent the class and its class loader from being unloaded.
+ */
+public final class ClassMetadata {
+
+    private static final ClassValue<ClassMetadata> CACHE = new ClassValue<ClassMetadata>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            return new ClassMetadata(type);
+        }
+    };
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+    /** The key of the setters looked up without a parameter type, as the map doesn't take null. */
+    private static final Class<?> ANY_PARAM_TYPE = void.class;
+
+    private final Class<?> type;
+    private final List<Class<?>> mappableClasses;
+    private final ConcurrentMap<String, Optional<Accessor>> getters = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, ConcurrentMap<Class<?>, Optional<Accessor>>> setters =
+            new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Optional<Accessor>> declaredFields = new ConcurrentHashMap<>();
+    private volatile MethodHandle constructor;
+
+    private ClassMetadata(Class<?> type) {
+        this.type = type;
+        List<Class<?>> classTree = new ArrayList<>();
+        classTree.add(type);
+        Class<?> superClazz = type.getSuperclass();
+        while (superClazz != null && (superClazz.getPackage() == null
+                || !JdkPackages.contains(superClazz.getPackage().getName()))) {
+            classTree.add(superClazz);
+            superClazz = superClazz.getSuperclass();
+        }
+        this.mappableClasses = Collections.unmodifiableList(classTree);
+    }
+
+    public static ClassMetadata of(Class<?> type) {
+        return CACHE.get(type);
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    /**
+     * Gets the class and its superclasses up to the first one in a JDK package, child first.
+     *
+     * @return mappable classes
+     */
+    public List<Class<?>> getMappableClasses() {
+        return mappableClasses;
+    }
+
+    /**
+     * Gets the public {@code get} or {@code is} method of the field, see {@link ClassHelper#getterMethodNames(String)}.
+     *
+     * @param fieldName field name
+     * @return getter accessor, or null if there's none
+     */
+    public Accessor getGetter(String fieldName) {
+        Optional<Accessor> answer = getters.get(fieldName);
+        if (answer == null) {
+            answer = getters.computeIfAbsent(fieldName, name -> {
+                for (String getter : ClassHelper.getterMethodNames(name)) {
+                    try {
+                        return Optional.of(new Accessor(ClassHelper.detectGetterMethod(type, getter)));
+                    } catch (NoSuchMethodException e) {
+                        // exhaust options
+                    }
+                }
+                return Optional.empty();
+            });
+        }
+        return answer.orElse(null);
+    }
+
+    /**
+     * Gets the public setter method declared or inherited by this class, see
+     * {@link ClassHelper#detectSetterMethod(Class, String, Class)}.
+     *
+     * @param methodName setter method name
+     * @param paramType parameter type, or null to detect it from the getter
+     * @return setter accessor, or null if there's none
+     */
+    public Accessor getSetter(String methodName, Class<?> paramType) {
+        ConcurrentMap<Class<?>, Optional<Accessor>> byType = setters.get(methodName);
+        if (byType == null) {
+            byType = setters.computeIfAbsent(methodName, name -> new ConcurrentHashMap<>());
+        }
+        Class<?> key = paramType != null ? paramType : ANY_PARAM_TYPE;
+        Optional<Accessor> answer = byType.get(key);
+        if (answer == null) {
+            answer = byType.computeIfAbsent(key, k -> {
+                try {
+                    return Optional.of(new Accessor(ClassHelper.detectSetterMethod(type, methodName, paramType)));
+                } catch (NoSuchMethodException e) {
+                    return Optional.empty();
+                }
+            });
+        }
+        return answer.orElse(null);
+    }
+
+    /**
+     * Gets the field declared by this class, regardless of its visibility.
+     *
+     * @param name field name
+     * @return field accessor, or null if there's none
+     */
+    public Accessor getDeclaredField(String name) {
+        Optional<Accessor> answer = declaredFields.get(name);
+        if (answer == null) {
+            answer = declaredFields.computeIfAbsent(name, n -> {
+                try {
+                    return Optional.of(new Accessor(type.getDeclaredField(n)));
+                } catch (Exception e) {
+                    return Optional.empty();
+                }
+            });
+        }
+        return answer.orElse(null);
+    }
+
+    /**
+     * Gets the field declared by this class or the nearest superclass below {@link Object}.
+     *
+     * @param name field name
+     * @return field accessor, or null if there's none
+     */
+    public Accessor findField(String name) {
+        for (Class<?> clazz = type; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+            Accessor answer = of(clazz).getDeclaredField(name);
+            if (answer != null) {
+                return answer;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Creates a new instance through the default constructor. The instance of the enclosing class a non-static
+     * nested class requires is created the same way.
+     *
+     * @return new instance
+     * @throws Exception no default constructor or it failed
+     */
+    public Object newInstance() throws Exception {
+        MethodHandle handle = constructor;
+        if (handle == null) {
+            handle = bindConstructor();
+            constructor = handle;
+        }
+        try {
+            return (Object) handle.invokeExact();
+        } catch (Throwable t) {
+            throw rethrow(t);
+        }
+    }
+
+    private MethodHandle bindConstructor() throws Exception {
+        Class<?> enclosing = type.getEnclosingClass();
+        if (enclosing != null && !Modifier.isStatic(type.getModifiers())) {
+            Constructor<?> c = type.getDeclaredConstructor(enclosing);
+            c.setAccessible(true);
+            MethodHandle handle = MethodHandles.lookup().unreflectConstructor(c)
+                    .asType(MethodType.methodType(Object.class, Object.class));
+            ClassMetadata enclosingMetadata = of(enclosing);
+            MethodHandle enclosingInstance = MethodHandles.lookup().findVirtual(ClassMetadata.class, "newInstance",
+                    CONSTRUCTOR_TYPE).bindTo(enclosingMetadata);
+            return MethodHandles.collectArguments(handle, 0, enclosingInstance);
+        }
+        Constructor<?> c = type.getDeclaredConstructor();
+        c.setAccessible(true);
+        return MethodHandles.lookup().unreflectConstructor(c).asType(CONSTRUCTOR_TYPE);
+    }
+
+    private static Exception rethrow(Throwable t) {
+        if (t instanceof Error) {
+            throw (Error) t;
+        }
+        return t instanceof Exception ? (Exception) t : new IllegalStateException(t);
+    }
+
+    /**
+     * A getter, setter or field bound into {@link MethodHandle}s which take and return {@link Object}s,
+     * so that they can be invoked without reflection.
+     */
+    public static final class Accessor {
+        private final Member member;
+        private final Class<?> type;
+        private final Type genericType;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+
+        public Accessor(Method method) {
+            this.member = method;
+            MethodHandle handle = unreflect(method);
+            if (Modifier.isStatic(method.getModifiers())) {
+                handle = MethodHandles.dropArguments(handle, 0, Object.class);
+            }
+            if (method.getParameterCount() == 0) {
+                this.type = method.getReturnType();
+                this.genericType = method.getGenericReturnType();
+                this.getter = handle.asType(GETTER_TYPE);
+                this.setter = null;
+            } else {
+                this.type = method.getParameterTypes()[0];
+                this.genericType = method.getGenericParameterTypes()[0];
+                this.getter = null;
+                this.setter = handle.asType(SETTER_TYPE);
+            }
+        }
+
+        public Accessor(Field field) {
+            this.member = field;
+            this.type = field.getType();
+            this.genericType = field.getGenericType();
+            field.setAccessible(true);
+            MethodHandles.Lookup lookup = MethodHandles.lookup();
+            try {
+                boolean isStatic = Modifier.isStatic(field.getModifiers());
+                MethodHandle g = lookup.unreflectGetter(field);
+                if (isStatic) {
+                    g = MethodHandles.dropArguments(g, 0, Object.class);
+                }
+                this.getter = g.asType(GETTER_TYPE);
+                MethodHandle s;
+                try {
+                    s = lookup.unreflectSetter(field);
+                    if (isStatic) {
+                        s = MethodHandles.dropArguments(s, 0, Object.class);
+                    }
+                } catch (IllegalAccessException e) {
+                    // final fields can't be bound, but Field#set() still takes an accessible one
+                    s = lookup.findVirtual(Field.class, "set", SETTER_TYPE).bindTo(field);
+                }
+                this.setter = s.asType(SETTER_TYPE);
+            } catch (ReflectiveOperationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        public Method getMethod() {
+            return member instanceof Method ? (Method) member : null;
+        }
+
+        public Field getField() {
+            return member instanceof Field ? (Field) member : null;
+        }
+
+        public String getName() {
+            return member.getName();
+        }
+
+        /**
+         * Gets the return type of the getter, the parameter type of the setter or the type of the field.
+         *
+         * @return type
+         */
+        public Class<?> getType() {
+            return type;
+        }
+
+        public Type getGenericType() {
+            return genericType;
+        }
+
+        public Object get(Object target) throws Exception {
+            if (getter == null) {
+                throw new UnsupportedOperationException("Not a getter: " + member);
+            }
+            try {
+                return (Object) getter.invokeExact(target);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+
+        public void set(Object target, Object value) throws Exception {
+            if (setter == null) {
+                throw new UnsupportedOperationException("Not a setter: " + member);
+            }
+            try {
+                setter.invokeExact(target, value);
+            } catch (Throwable t) {
+                throw rethrow(t);
+            }
+        }
+
+        private static MethodHandle unreflect(Method method) {
+            try {
+                return MethodHandles.publicLookup().unreflect(method);
+            } catch (IllegalAccessException e) {
+                method.setAccessible(true);
+                try {
+                    return MethodHandles.lookup().unreflect(method);
+                } catch (IllegalAccessException e2) {
+                    throw new IllegalStateException(e2);
+                }
+            }
+        }
+    }
+
+}
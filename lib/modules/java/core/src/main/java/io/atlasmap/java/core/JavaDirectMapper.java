@@ -0,0 +1,206 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.java.core;
+
+import java.lang.reflect.Modifier;
+import java.util.List;
+
+import io.atlasmap.core.AtlasPath;
+import io.atlasmap.core.AtlasPath.SegmentContext;
+import io.atlasmap.java.v2.JavaField;
+import io.atlasmap.spi.AtlasConversionService;
+import io.atlasmap.spi.AtlasDirectMapper;
+import io.atlasmap.spi.AtlasInternalSession;
+import io.atlasmap.v2.CollectionType;
+import io.atlasmap.v2.Field;
+import io.atlasmap.v2.FieldType;
+
+/**
+ * An {@link AtlasDirectMapper} which copies a simple value from a Java source document into a Java target
+ * document through the {@link ClassMetadata.Accessor}s resolved at compile time, i.e. it calls the getters,
+ * the converter and the setter directly without creating any {@link Field} nor parsing the paths.
+ * It only supports the paths without collection, and returns false for the generic processing to take over
+ * if the documents are not of the compiled classes, or the source value is null.
+ */
+public final class JavaDirectMapper implements AtlasDirectMapper {
+
+    private final AtlasConversionService conversionService;
+    private final String sourceDocId;
+    private final Class<?> sourceClass;
+    private final ClassMetadata.Accessor[] sourceAccessors;
+    private final String targetDocId;
+    private final Class<?> targetClass;
+    private final ClassMetadata.Accessor[] targetGetters;
+    private final ClassMetadata.Accessor[] targetSetters;
+    private final ClassMetadata[] targetChildren;
+    private final Class<?> targetValueClass;
+
+    private JavaDirectMapper(AtlasConversionService conversionService, String sourceDocId, Class<?> sourceClass,
+            ClassMetadata.Accessor[] sourceAccessors, String targetDocId, Class<?> targetClass,
+            ClassMetadata.Accessor[] targetGetters, ClassMetadata.Accessor[] targetSetters,
+            ClassMetadata[] targetChildren, Class<?> targetValueClass) {
+        this.conversionService = conversionService;
+        this.sourceDocId = sourceDocId;
+        this.sourceClass = sourceClass;
+        this.sourceAccessors = sourceAccessors;
+        this.targetDocId = targetDocId;
+        this.targetClass = targetClass;
+        this.targetGetters = targetGetters;
+        this.targetSetters = targetSetters;
+        this.targetChildren = targetChildren;
+        this.targetValueClass = targetValueClass;
+    }
+
+    /**
+     * Compiles a direct mapper from the source field to the target field.
+     *
+     * @param conversionService conversion service
+     * @param sourceDocId source document ID
+     * @param sourceClass class of the source document
+     * @param sourceField source field
+     * @param targetDocId target document ID
+     * @param targetClass class of the target document
+     * @param targetField target field
+     * @return direct mapper, or null if the fields are not supported
+     */
+    public static JavaDirectMapper compile(AtlasConversionService conversionService, String sourceDocId,
+            Class<?> sourceClass, Field sourceField, String targetDocId, Class<?> targetClass, Field targetField) {
+        if (!isSupported(sourceField) || !isSupported(targetField)) {
+            return null;
+        }
+
+        List<SegmentContext> sourceSegments = new AtlasPath(sourceField.getPath()).getSegments(false);
+        ClassMetadata.Accessor[] sourceAccessors = new ClassMetadata.Accessor[sourceSegments.size()];
+        ClassMetadata metadata = ClassMetadata.of(sourceClass);
+        for (int i = 0; i < sourceAccessors.length; i++) {
+            String name = sourceSegments.get(i).getName();
+            ClassMetadata.Accessor accessor = metadata.getGetter(name);
+            sourceAccessors[i] = accessor != null ? accessor : metadata.findField(name);
+            if (sourceAccessors[i] == null) {
+                return null;
+            }
+            metadata = ClassMetadata.of(sourceAccessors[i].getType());
+        }
+        FieldType sourceType = simpleFieldType(conversionService, metadata.getType());
+        if (sourceType == null || (sourceField.getFieldType() != null && sourceField.getFieldType() != sourceType)) {
+            return null;
+        }
+
+        List<SegmentContext> targetSegments = new AtlasPath(targetField.getPath()).getSegments(false);
+        int depth = targetSegments.size();
+        ClassMetadata.Accessor[] targetGetters = new ClassMetadata.Accessor[depth - 1];
+        ClassMetadata.Accessor[] targetSetters = new ClassMetadata.Accessor[depth];
+        ClassMetadata[] targetChildren = new ClassMetadata[depth - 1];
+        metadata = ClassMetadata.of(targetClass);
+        for (int i = 0; i < depth; i++) {
+            String name = targetSegments.get(i).getName();
+            targetSetters[i] = metadata.getSetter("set" + StringUtil.capitalizeFirstLetter(name), null);
+            if (targetSetters[i] == null) {
+                return null;
+            }
+            if (i == depth - 1) {
+                break;
+            }
+            // the generic writer creates the missing parents from the setter parameter type as well
+            targetGetters[i] = metadata.getGetter(name);
+            Class<?> childClass = targetSetters[i].getType();
+            if (targetGetters[i] == null || childClass.isInterface() || Modifier.isAbstract(childClass.getModifiers())
+                    || simpleFieldType(conversionService, childClass) != null) {
+                return null;
+            }
+            metadata = ClassMetadata.of(childClass);
+            targetChildren[i] = metadata;
+        }
+        Class<?> setterType = targetSetters[depth - 1].getType();
+        FieldType targetType = simpleFieldType(conversionService, setterType);
+        Class<?> targetValueClass = setterType.isPrimitive() ? conversionService.boxOrUnboxPrimitive(setterType)
+                : setterType;
+        String targetClassName = targetField instanceof JavaField ? ((JavaField) targetField).getClassName() : null;
+        if (targetType == null || (targetField.getFieldType() != null && targetField.getFieldType() != targetType)
+                || (targetClassName != null && !targetClassName.equals(setterType.getName()))
+                || conversionService.classFromFieldType(targetType) != targetValueClass) {
+            return null;
+        }
+
+        return new JavaDirectMapper(conversionService, sourceDocId, sourceClass, sourceAccessors, targetDocId,
+                targetClass, targetGetters, targetSetters, targetChildren, targetValueClass);
+    }
+
+    @Override
+    public boolean map(AtlasInternalSession session) throws Exception {
+        Object value = session.getSourceDocument(sourceDocId);
+        if (value == null || value.getClass() != sourceClass) {
+            return false;
+        }
+        for (ClassMetadata.Accessor accessor : sourceAccessors) {
+            value = accessor.get(value);
+            if (value == null) {
+                return false;
+            }
+        }
+        if (!targetValueClass.isInstance(value)) {
+            if (!conversionService.isConvertionAvailableFor(value, targetValueClass)) {
+                return false;
+            }
+            value = conversionService.convertType(value, null, targetValueClass, null);
+        }
+
+        JavaFieldWriter writer = session.getFieldWriter(targetDocId, JavaFieldWriter.class);
+        Object parent = writer != null ? writer.getRootObject() : null;
+        if (parent == null || parent.getClass() != targetClass) {
+            return false;
+        }
+        for (int i = 0; i < targetGetters.length; i++) {
+            Object child = targetGetters[i].get(parent);
+            if (child == null) {
+                child = targetChildren[i].newInstance();
+                targetSetters[i].set(parent, child);
+            } else if (child.getClass() != targetChildren[i].getType()) {
+                return false;
+            }
+            parent = child;
+        }
+        targetSetters[targetSetters.length - 1].set(parent, value);
+        return true;
+    }
+
+    private static boolean isSupported(Field field) {
+        if (!(field instanceof JavaField) || field.getIndex() != null || field.getFormat() != null
+                || field.getPath() == null) {
+            return false;
+        }
+        AtlasPath path = new AtlasPath(field.getPath());
+        if (path.isRoot() || path.hasCollection()) {
+            return false;
+        }
+        for (SegmentContext segment : path.getSegments(false)) {
+            if (segment.isAttribute() || segment.getCollectionType() != CollectionType.NONE) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static FieldType simpleFieldType(AtlasConversionService conversionService, Class<?> clazz) {
+        if (clazz.isArray() || clazz.isEnum()) {
+            return null;
+        }
+        FieldType type = conversionService.fieldTypeFromClass(clazz);
+        return type == null || type == FieldType.COMPLEX || type == FieldType.NONE || type == FieldType.ANY
+                || type == FieldType.UNSUPPORTED ? null : type;
+    }
+
+}
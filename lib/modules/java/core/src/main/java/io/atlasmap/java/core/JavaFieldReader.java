@@ -127,17 +127,16 @@ public class JavaFieldReader implements AtlasFieldReader {
             for (int i = 0; i < items.size(); i++) {
                 //include the array index within the path
                 Field itemField;
+                AtlasPath itemPath = path.withCollectionIndex(depth, i);
                 if (field instanceof FieldGroup) {
                     itemField = AtlasJavaModelFactory.cloneFieldGroup((FieldGroup)field);
                     AtlasPath.setCollectionIndexRecursively((FieldGroup)itemField, depth, i);
                 } else {
                     itemField = AtlasJavaModelFactory.cloneJavaField(field, false);
-                    AtlasPath itemPath = new AtlasPath(field.getPath());
-                    itemPath.setCollectionIndex(depth, i);
                     itemField.setPath(itemPath.toString());
                 }
                 List<Field> arrayFields = getFieldsForPath(
-                    session, items.get(i), itemField, new AtlasPath(itemField.getPath()), depth + 1);
+                    session, items.get(i), itemField, itemPath, depth + 1);
                 fields.addAll(arrayFields);
             }
         }
@@ -233,10 +232,10 @@ public class JavaFieldReader implements AtlasFieldReader {
         }
         FieldGroup group = field instanceof FieldGroup ?
          (FieldGroup)field : AtlasModelFactory.createFieldGroupFrom(field, true);
+        AtlasPath groupPath = new AtlasPath(group.getPath());
+        List<SegmentContext> segments = groupPath.getSegments(true);
         for (int i=0; i<accessor.getCollectionValues().size(); i++) {
-            AtlasPath itemPath = new AtlasPath(group.getPath());
-            List<SegmentContext> segments = itemPath.getSegments(true);
-            itemPath.setCollectionIndex(segments.size() - 1, i);
+            AtlasPath itemPath = groupPath.withCollectionIndex(segments.size() - 1, i);
             if (field instanceof FieldGroup) {
                 FieldGroup itemGroup = AtlasJavaModelFactory.cloneFieldGroup((FieldGroup)field);
                 AtlasPath.setCollectionIndexRecursively(itemGroup, segments.size(), i);
@@ -19,13 +19,9 @@ import java.beans.beancontext.BeanContext;
 import java.beans.beancontext.BeanContextServices;
 import java.beans.beancontext.BeanContextServicesSupport;
 import java.lang.reflect.Array;
-import java.lang.reflect.Constructor;
-import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
 import java.util.ArrayDeque;
-import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Deque;
 import java.util.HashMap;
@@ -107,20 +103,8 @@ public class JavaFieldWriterUtil {
             clazz = this.defaultCollectionImplClasses.get(clazz);
         }
         try {
-            Constructor<?> constructor = null;
-            if (clazz.getEnclosingClass() != null && !Modifier.isStatic(clazz.getModifiers())) {
-                // Nested class requires an instance of enclosing class to instantiate
-                Object enclosing = clazz.getEnclosingClass()
-                                        .getDeclaredConstructor(new Class[0])
-                                        .newInstance(new Object[0]);
-                constructor = clazz.getDeclaredConstructor(new Class[] { enclosing.getClass() });
-                constructor.setAccessible(true);
-                return constructor.newInstance(new Object[] { enclosing });
-            } else {
-                constructor = clazz.getDeclaredConstructor(new Class[0]);
-                constructor.setAccessible(true);
-                return constructor.newInstance(new Object[0]);
-            }
+            // Nested class requires an instance of enclosing class to instantiate, ClassMetadata takes care of it
+            return ClassMetadata.of(clazz).newInstance();
         } catch (Exception e) {
             throw new AtlasException("Could not instantiate class: " + clazz.getName(), e);
         }
@@ -157,8 +141,8 @@ public class JavaFieldWriterUtil {
             return null;
         }
 
-        Method getterMethod = resolveGetterMethod(parentObject.getClass(), fieldName);
-        if (getterMethod == null) {
+        ClassMetadata.Accessor getter = resolveGetter(parentObject.getClass(), fieldName);
+        if (getter == null) {
             if (LOG.isDebugEnabled()) {
                 LOG.debug(String.format(
                         "Unable to detect getter method for: %s on parent: %s",
@@ -167,10 +151,9 @@ public class JavaFieldWriterUtil {
             return null;
         }
 
-        getterMethod.setAccessible(true);
         Object childObject;
         try {
-            childObject = getterMethod.invoke(parentObject);
+            childObject = getter.get(parentObject);
         } catch (Exception e) {
             throw new AtlasException(e);
         }
@@ -193,15 +176,13 @@ public class JavaFieldWriterUtil {
         }
 
         try {
-            Method setterMethod = resolveSetterMethod(parentObject, segmentContext, null);
+            ClassMetadata.Accessor setter = resolveSetter(parentObject, segmentContext, null);
             Object targetObject = instantiateObject(clazz);
-            setterMethod.setAccessible(true);
-            setterMethod.invoke(parentObject, targetObject);
+            setter.set(parentObject, targetObject);
             return targetObject;
         } catch (Exception e) {
             try {
-                java.lang.reflect.Field field = resolveField(parentObject.getClass(), segmentContext.getName());
-                field.setAccessible(true);
+                ClassMetadata.Accessor field = resolveField(parentObject.getClass(), segmentContext.getName());
                 Object targetObject = instantiateObject(clazz);
                 field.set(parentObject, targetObject);
                 return targetObject;
@@ -220,16 +201,14 @@ public class JavaFieldWriterUtil {
 
         Class<?> clazz;
         try {
-            Method setterMethod = resolveSetterMethod(parentObject, segmentContext, null);
-            clazz = setterMethod.getParameterTypes()[0];
+            ClassMetadata.Accessor setter = resolveSetter(parentObject, segmentContext, null);
+            clazz = setter.getType();
             Object targetObject = instantiateObject(clazz);
-            setterMethod.setAccessible(true);
-            setterMethod.invoke(parentObject, targetObject);
+            setter.set(parentObject, targetObject);
             return targetObject;
         } catch (Exception e) {
             try {
-                java.lang.reflect.Field field = resolveField(parentObject.getClass(), segmentContext.getName());
-                field.setAccessible(true);
+                ClassMetadata.Accessor field = resolveField(parentObject.getClass(), segmentContext.getName());
                 clazz = field.getType();
                 Object targetObject = instantiateObject(clazz);
                 field.set(parentObject, targetObject);
@@ -252,8 +231,8 @@ public class JavaFieldWriterUtil {
             Class<?> childClass = childObject == null ? null : childObject.getClass();
             Object targetObject = parentObject;
             try {
-                Method setterMethod = resolveSetterMethod(parentObject, segmentContext, childClass);
-                Class<?> targetClass = setterMethod.getParameterTypes()[0];
+                ClassMetadata.Accessor setter = resolveSetter(parentObject, segmentContext, childClass);
+                Class<?> targetClass = setter.getType();
 
                 if (childObject != null) {
                     childObject = conversionService.convertType(childObject, null, targetClass, null);
@@ -267,10 +246,9 @@ public class JavaFieldWriterUtil {
                     }
                     return;
                 }
-                setterMethod.setAccessible(true);
-                setterMethod.invoke(targetObject, childObject);
+                setter.set(targetObject, childObject);
             } catch (Exception e) {
-                java.lang.reflect.Field field = resolveField(targetObject.getClass(), segmentContext.getName());
+                ClassMetadata.Accessor field = resolveField(targetObject.getClass(), segmentContext.getName());
                 if (field == null) {
                     String parentClassName = parentObject == null ? null : parentObject.getClass().getName();
                     String childClassName = childObject == null ? null : childObject.getClass().getName();
@@ -288,7 +266,6 @@ public class JavaFieldWriterUtil {
                     }
                     return;
                 }
-                field.setAccessible(true);
                 field.set(targetObject, childObject);
             }
         } catch (Exception e) {
@@ -302,13 +279,10 @@ public class JavaFieldWriterUtil {
 
     public Class<?> resolveChildClass(Object parentObject, SegmentContext segment) throws AtlasException {
         try {
-            Method setterMethod = resolveSetterMethod(parentObject, segment, null);
-            return setterMethod.getParameterTypes()[0];
+            return resolveSetter(parentObject, segment, null).getType();
         } catch (NoSuchMethodException e) {
             try {
-                java.lang.reflect.Field field = resolveField(parentObject.getClass(), segment.getName());
-                field.setAccessible(true);
-                return field.getType();
+                return resolveField(parentObject.getClass(), segment.getName()).getType();
             } catch (Exception e2) {
                 String parentClassName = parentObject == null ? null : parentObject.getClass().getName();
                 throw new AtlasException("Unable to create value for segment: " + segment + " parentObject: "
@@ -428,13 +402,13 @@ public class JavaFieldWriterUtil {
 
     public Class<?> resolveCollectionItemClass(Object parentObject, SegmentContext segmentContext) throws AtlasException {
         Class<?> itemType = null;
-        Method getterMethod = resolveGetterMethod(parentObject.getClass(), segmentContext.getName());
+        ClassMetadata.Accessor getter = resolveGetter(parentObject.getClass(), segmentContext.getName());
         try {
             Type genericType = null;
-            if (getterMethod != null) {
-                genericType = getterMethod.getGenericReturnType();
+            if (getter != null) {
+                genericType = getter.getGenericType();
             } else {
-                java.lang.reflect.Field field = resolveField(parentObject.getClass(), segmentContext.getName());
+                ClassMetadata.Accessor field = resolveField(parentObject.getClass(), segmentContext.getName());
                 if (field == null) {
                     throw new AtlasException(String.format(
                         "Failed to create a collection item, parent class={}, field name={}",
@@ -515,69 +489,46 @@ public class JavaFieldWriterUtil {
         return this.defaultCollectionImplClasses;
     }
 
-    private Method resolveGetterMethod(Class<?> clz, String fieldName) {
-        List<String> getters = ClassHelper.getterMethodNames(fieldName);
-        List<Class<?>> classTree = resolveMappableClasses(clz);
-        Method getterMethod = null;
-        for (Class<?> clazz : classTree) {
-            for (String getter : getters) {
-                try {
-                    return ClassHelper.detectGetterMethod(clazz, getter);
-                } catch (NoSuchMethodException e) {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("Looking for getter for '{}' on this class: {}",
-                            fieldName, clazz.getName(), e);
-                    }
-                }
-            }
+    private ClassMetadata.Accessor resolveGetter(Class<?> clz, String fieldName) {
+        // getMethods() of the class covers the public getters of the superclasses as well
+        ClassMetadata.Accessor getter = ClassMetadata.of(clz).getGetter(fieldName);
+        if (getter == null && LOG.isDebugEnabled()) {
+            LOG.debug("No getter for '{}' on this class: {}", fieldName, clz.getName());
         }
-        return getterMethod;
+        return getter;
     }
 
-    private Method resolveSetterMethod(Object sourceObject, SegmentContext segmentContext, Class<?> targetType)
-            throws NoSuchMethodException {
+    private ClassMetadata.Accessor resolveSetter(Object sourceObject, SegmentContext segmentContext,
+            Class<?> targetType) throws NoSuchMethodException {
         String setterMethodName = "set" + capitalizeFirstLetter(segmentContext.getName());
         List<Class<?>> classTree = resolveMappableClasses(sourceObject.getClass());
 
-        Method m = null;
+        ClassMetadata.Accessor m = null;
         for (Class<?> clazz : classTree) {
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Looking for setter '" + setterMethodName + "' on this class: " + clazz.getName());
             }
-            try {
-                m = ClassHelper.detectSetterMethod(clazz, setterMethodName, targetType);
-                if (m != null) {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("Found setter '" + setterMethodName + "' on this class: " + clazz.getName());
-                    }
-                    return m;
-                }
-            } catch (NoSuchMethodException e) {
+            ClassMetadata metadata = ClassMetadata.of(clazz);
+            m = metadata.getSetter(setterMethodName, targetType);
+            if (m != null) {
                 if (LOG.isDebugEnabled()) {
-                    LOG.debug("Did not find setter '" + setterMethodName + "' on this class: " + clazz.getName(), e);
+                    LOG.debug("Found setter '" + setterMethodName + "' on this class: " + clazz.getName());
                 }
+                return m;
             }
 
             // Try the boxUnboxed version
             if (conversionService.isPrimitive(targetType) || conversionService.isBoxedPrimitive(targetType)) {
-                try {
-                    if (LOG.isDebugEnabled()) {
-                        LOG.debug("Looking for boxed setter '" + setterMethodName + "' on this class: "
-                                + clazz.getName());
-                    }
-                    m = ClassHelper.detectSetterMethod(clazz, setterMethodName,
-                            conversionService.boxOrUnboxPrimitive(targetType));
-                    if (m != null) {
-                        if (LOG.isDebugEnabled()) {
-                            LOG.debug("Found setter '" + setterMethodName + "' on this class: " + clazz.getName());
-                        }
-                        return m;
-                    }
-                } catch (NoSuchMethodException e) {
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("Looking for boxed setter '" + setterMethodName + "' on this class: "
+                            + clazz.getName());
+                }
+                m = metadata.getSetter(setterMethodName, conversionService.boxOrUnboxPrimitive(targetType));
+                if (m != null) {
                     if (LOG.isDebugEnabled()) {
-                        LOG.debug("Did not find setter '" + setterMethodName + "' on this class: " + clazz.getName(),
-                                e);
+                        LOG.debug("Found setter '" + setterMethodName + "' on this class: " + clazz.getName());
                     }
+                    return m;
                 }
             }
         }
@@ -586,13 +537,12 @@ public class JavaFieldWriterUtil {
                 + segmentContext.getExpression() + ", on object: " + sourceObject);
     }
 
-    private java.lang.reflect.Field resolveField(Class<?> clz, String name) {
+    private ClassMetadata.Accessor resolveField(Class<?> clz, String name) {
         List<Class<?>> classTree = resolveMappableClasses(clz);
         for (Class<?> clazz : classTree) {
-            try {
-                return clazz.getDeclaredField(name);
-            } catch (Exception e) {
-                continue;
+            ClassMetadata.Accessor field = ClassMetadata.of(clazz).getDeclaredField(name);
+            if (field != null) {
+                return field;
             }
         }
         return null;
@@ -609,28 +559,12 @@ public class JavaFieldWriterUtil {
     }
 
     private List<Class<?>> resolveMappableClasses(Class<?> clazz) {
-        List<Class<?>> classTree = new ArrayList<>();
-        classTree.add(clazz);
-        Class<?> superClazz = clazz.getSuperclass();
-        while (superClazz != null) {
-            if (JdkPackages.contains(superClazz.getPackage().getName())) {
-                superClazz = null;
-            } else {
-                classTree.add(superClazz);
-                superClazz = superClazz.getSuperclass();
-            }
-        }
-
-        // DON'T reverse.. prefer child -> parent -> grandparent
-        // List<Class<?>> reverseTree = classTree.subList(0, classTree.size());
-        // Collections.reverse(reverseTree);
-        // return reverseTree;
-
+        // prefer child -> parent -> grandparent
+        List<Class<?>> classTree = ClassMetadata.of(clazz).getMappableClasses();
         if (LOG.isDebugEnabled()) {
             LOG.debug("Found " + classTree.size() + " mappable classes for class '"
                     + clazz.getName() + "': " + classTree);
         }
-
         return classTree;
     }
 
@@ -9,6 +9,8 @@ import io.atlasmap.api.AtlasException;
 import io.atlasmap.core.AtlasPath;
 import io.atlasmap.core.AtlasPath.SegmentContext;
 import io.atlasmap.core.AtlasUtil;
+import io.atlasmap.core.BaseAtlasModule;
+import io.atlasmap.core.CompiledLookupTable;
 import io.atlasmap.java.v2.JavaEnumField;
 import io.atlasmap.java.v2.JavaField;
 import io.atlasmap.spi.AtlasConversionService;
@@ -17,7 +19,6 @@ import io.atlasmap.v2.AuditStatus;
 import io.atlasmap.v2.CollectionType;
 import io.atlasmap.v2.Field;
 import io.atlasmap.v2.FieldType;
-import io.atlasmap.v2.LookupEntry;
 import io.atlasmap.v2.LookupTable;
 
 /**
@@ -177,11 +178,9 @@ public class TargetValueConverter {
         String sourceValue = ((Enum<?>) sourceField.getValue()).name();
         String targetValue = sourceValue;
         if (lookupTable != null) {
-            for (LookupEntry e : lookupTable.getLookupEntry()) {
-                if (e.getSourceValue().equals(sourceValue)) {
-                    targetValue = e.getTargetValue();
-                    break;
-                }
+            CompiledLookupTable.Target target = BaseAtlasModule.findLookupTarget(session, lookupTable, sourceValue);
+            if (target != null) {
+                targetValue = target.getValue();
             }
         }
 
@@ -19,14 +19,18 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Type;
 
 import io.atlasmap.api.AtlasException;
+import io.atlasmap.java.core.ClassMetadata;
 
 public class FieldAccessor extends JavaChildAccessor {
 
-    private Field field;
+    private ClassMetadata.Accessor field;
 
     public FieldAccessor(Object parent, String name, Field field) {
+        this(parent, name, new ClassMetadata.Accessor(field));
+    }
+
+    public FieldAccessor(Object parent, String name, ClassMetadata.Accessor field) {
         super(parent, name);
-        field.setAccessible(true);
         this.field = field;
     }
 
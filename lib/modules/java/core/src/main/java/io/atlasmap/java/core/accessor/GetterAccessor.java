@@ -19,21 +19,25 @@ import java.lang.reflect.Method;
 import java.lang.reflect.Type;
 
 import io.atlasmap.api.AtlasException;
+import io.atlasmap.java.core.ClassMetadata;
 
 public class GetterAccessor extends JavaChildAccessor {
 
-    private Method getter;
+    private ClassMetadata.Accessor getter;
 
     public GetterAccessor(Object parent, String name, Method getter) {
+        this(parent, name, new ClassMetadata.Accessor(getter));
+    }
+
+    public GetterAccessor(Object parent, String name, ClassMetadata.Accessor getter) {
         super(parent, name);
-        getter.setAccessible(true);
         this.getter = getter;
     }
 
     @Override
     public Object getRawValue() throws AtlasException {
         try {
-            return getter.invoke(getParentObject(), new Object[0]);
+            return getter.get(getParentObject());
         } catch (Exception e) {
             throw new AtlasException(e);
         }
@@ -41,12 +45,12 @@ public class GetterAccessor extends JavaChildAccessor {
 
     @Override
     public Class<?> getRawClass() {
-        return getter.getReturnType();
+        return getter.getType();
     }
 
     @Override
     public Type getRawGenericType() throws AtlasException {
-        return getter.getGenericReturnType();
+        return getter.getGenericType();
     }
 
 }
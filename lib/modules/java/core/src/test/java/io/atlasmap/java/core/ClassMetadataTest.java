@@ -0,0 +1,116 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.java.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+public class ClassMetadataTest {
+
+    @Test
+    public void testCached() {
+        ClassMetadata metadata = ClassMetadata.of(Child.class);
+        assertSame(metadata, ClassMetadata.of(Child.class));
+        assertSame(metadata.getGetter("name"), metadata.getGetter("name"));
+        assertSame(metadata.getSetter("setName", String.class), metadata.getSetter("setName", String.class));
+        assertSame(metadata.getDeclaredField("count"), metadata.getDeclaredField("count"));
+        assertNull(metadata.getGetter("missing"));
+        assertNull(metadata.getGetter("missing"));
+        assertEquals(Arrays.asList(Child.class, Parent.class), metadata.getMappableClasses());
+    }
+
+    @Test
+    public void testGetterAndSetter() throws Exception {
+        ClassMetadata metadata = ClassMetadata.of(Child.class);
+        Child child = new Child();
+        metadata.getSetter("setName", null).set(child, "foo");
+        assertEquals("foo", metadata.getGetter("name").get(child));
+        metadata.getSetter("setActive", boolean.class).set(child, Boolean.TRUE);
+        ClassMetadata.Accessor active = metadata.getGetter("active");
+        assertEquals("isActive", active.getName());
+        assertEquals(boolean.class, active.getType());
+        assertEquals(Boolean.TRUE, active.get(child));
+        assertNull(metadata.getSetter("setName", Integer.class));
+    }
+
+    @Test
+    public void testField() throws Exception {
+        ClassMetadata metadata = ClassMetadata.of(Child.class);
+        Child child = new Child();
+        assertNull(metadata.getDeclaredField("id"));
+        ClassMetadata.Accessor id = metadata.findField("id");
+        assertNotNull(id);
+        assertEquals(Parent.class, id.getField().getDeclaringClass());
+        id.set(child, 3);
+        assertEquals(3, id.get(child));
+        ClassMetadata.Accessor constant = metadata.findField("constant");
+        constant.set(child, "bar");
+        assertEquals("bar", constant.get(child));
+    }
+
+    @Test
+    public void testNewInstance() throws Exception {
+        assertTrue(ClassMetadata.of(Child.class).newInstance() instanceof Child);
+        assertTrue(ClassMetadata.of(Parent.Inner.class).newInstance() instanceof Parent.Inner);
+    }
+
+    @Test(expected = NoSuchMethodException.class)
+    public void testNewInstanceNoDefaultConstructor() throws Exception {
+        ClassMetadata.of(Integer.class).newInstance();
+    }
+
+    public static class Parent {
+        private int id;
+
+        public class Inner {
+        }
+    }
+
+    public static class Child extends Parent {
+        private final String constant = "foo";
+        private String name;
+        private boolean active;
+        private int count;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public String getConstant() {
+            return constant;
+        }
+    }
+
+}
@@ -26,6 +26,7 @@ import io.atlasmap.api.AtlasValidationException;
 import io.atlasmap.core.AtlasPath;
 import io.atlasmap.core.AtlasUtil;
 import io.atlasmap.core.BaseAtlasModule;
+import io.atlasmap.java.core.JavaDirectMapper;
 import io.atlasmap.java.core.JavaFieldReader;
 import io.atlasmap.java.core.JavaFieldWriter;
 import io.atlasmap.java.core.JavaFieldWriterUtil;
@@ -33,18 +34,23 @@ import io.atlasmap.java.core.TargetValueConverter;
 import io.atlasmap.java.v2.AtlasJavaModelFactory;
 import io.atlasmap.java.v2.JavaEnumField;
 import io.atlasmap.java.v2.JavaField;
+import io.atlasmap.spi.AtlasDirectMapper;
+import io.atlasmap.spi.AtlasDirectMapperCompiler;
 import io.atlasmap.spi.AtlasInternalSession;
+import io.atlasmap.spi.AtlasModule;
 import io.atlasmap.spi.AtlasModuleDetail;
+import io.atlasmap.spi.AtlasModuleMode;
 import io.atlasmap.v2.AtlasModelFactory;
 import io.atlasmap.v2.AuditStatus;
 import io.atlasmap.v2.CollectionType;
 import io.atlasmap.v2.Field;
 import io.atlasmap.v2.FieldGroup;
+import io.atlasmap.v2.Mapping;
 import io.atlasmap.v2.Validation;
 
 @AtlasModuleDetail(name = "JavaModule", uri = "atlas:java", modes = { "SOURCE", "TARGET" }, dataFormats = {
         "java" }, configPackages = { "io.atlasmap.java.v2" })
-public class JavaModule extends BaseAtlasModule {
+public class JavaModule extends BaseAtlasModule implements AtlasDirectMapperCompiler {
     public static final String DEFAULT_LIST_CLASS = "java.util.ArrayList";
     private static final Logger LOG = LoggerFactory.getLogger(JavaModule.class);
 
@@ -69,7 +75,7 @@ public class JavaModule extends BaseAtlasModule {
 
     @Override
     public void processPreValidation(AtlasInternalSession atlasSession) throws AtlasException {
-        if (atlasSession == null || atlasSession.getMapping() == null) {
+        if (atlasSession == null || atlasSession.getReadOnlyMapping() == null) {
             LOG.error("Invalid session: Session and AtlasMapping must be specified");
             throw new AtlasValidationException("Invalid session");
         }
@@ -77,7 +83,7 @@ public class JavaModule extends BaseAtlasModule {
         JavaValidationService javaValidator = new JavaValidationService(getConversionService(), getFieldActionService());
         javaValidator.setMode(getMode());
         javaValidator.setDocId(getDocId());
-        List<Validation> javaValidations = javaValidator.validateMapping(atlasSession.getMapping());
+        List<Validation> javaValidations = javaValidator.validateMapping(atlasSession.getReadOnlyMapping());
         atlasSession.getValidations().getValidation().addAll(javaValidations);
 
         if (LOG.isDebugEnabled()) {
@@ -91,8 +97,8 @@ public class JavaModule extends BaseAtlasModule {
 
     @Override
     public void processPreSourceExecution(AtlasInternalSession atlasSession) throws AtlasException {
-        if (atlasSession == null || atlasSession.getMapping() == null || atlasSession.getMapping().getMappings() == null
-                || atlasSession.getMapping().getMappings().getMapping() == null) {
+        if (atlasSession == null || atlasSession.getReadOnlyMapping() == null || atlasSession.getReadOnlyMapping().getMappings() == null
+                || atlasSession.getReadOnlyMapping().getMappings().getMapping() == null) {
             throw new AtlasException("AtlasSession not properly intialized with a mapping that contains field mappings");
         }
 
@@ -115,8 +121,8 @@ public class JavaModule extends BaseAtlasModule {
 
     @Override
     public void processPreTargetExecution(AtlasInternalSession atlasSession) throws AtlasException {
-        if (atlasSession == null || atlasSession.getMapping() == null || atlasSession.getMapping().getMappings() == null
-                || atlasSession.getMapping().getMappings().getMapping() == null) {
+        if (atlasSession == null || atlasSession.getReadOnlyMapping() == null || atlasSession.getReadOnlyMapping().getMappings() == null
+                || atlasSession.getReadOnlyMapping().getMappings().getMapping() == null) {
             throw new AtlasException("AtlasSession not properly intialized with a mapping that contains field mappings");
         }
 
@@ -236,8 +242,7 @@ public class JavaModule extends BaseAtlasModule {
         } else {
             Field targetSubField = targetField instanceof JavaEnumField ? new JavaEnumField() : new JavaField();
             AtlasJavaModelFactory.copyField(targetField, targetSubField, false);
-            path.setVacantCollectionIndex(0);
-            targetSubField.setPath(path.toString());
+            targetSubField.setPath(path.withVacantCollectionIndex(0).toString());
             targetFieldGroup.getField().add(targetSubField);
             session.head().setTargetField(targetSubField);
             Object parentObject = writer.prepareParentObject(session);
@@ -287,6 +292,30 @@ public class JavaModule extends BaseAtlasModule {
         }
     }
 
+    /**
+     * Compiles a {@link JavaDirectMapper} if the source field is read from a Java document as well, and neither
+     * document is a collection.
+     */
+    @Override
+    public AtlasDirectMapper compileDirectMapper(Mapping mapping, AtlasModule sourceModule) throws AtlasException {
+        if (getMode() != AtlasModuleMode.TARGET || !(sourceModule instanceof JavaModule)
+                || getDocumentClassName(sourceModule) == null || getDocumentClassName(this) == null) {
+            return null;
+        }
+        return JavaDirectMapper.compile(getConversionService(), sourceModule.getDocId(),
+                writerUtil.loadClass(getDocumentClassName(sourceModule)), mapping.getInputField().get(0),
+                getDocId(), writerUtil.loadClass(getDocumentClassName(this)), mapping.getOutputField().get(0));
+    }
+
+    private static String getDocumentClassName(AtlasModule module) {
+        String collectionType = AtlasUtil.getUriParameterValue(module.getUri(), "collectionType");
+        if (collectionType != null && CollectionType.fromValue(AtlasUtil.unescapeFromUri(collectionType))
+                != CollectionType.NONE) {
+            return null;
+        }
+        return AtlasUtil.unescapeFromUri(AtlasUtil.getUriParameterValue(module.getUri(), "className"));
+    }
+
     @Override
     public Boolean isSupportedField(Field field) {
         if (super.isSupportedField(field)) {
@@ -15,13 +15,14 @@
  */
 package io.atlasmap.json.core;
 
+import java.io.InputStream;
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -46,6 +47,8 @@ import io.atlasmap.v2.FieldType;
 
 public class JsonFieldReader implements AtlasFieldReader {
 
+    /** Shared by the readers and the streaming writers, it's thread safe and never reconfigured. */
+    static final ObjectMapper MAPPER = new ObjectMapper();
     private static final Logger LOG = LoggerFactory.getLogger(JsonFieldReader.class);
 
     private AtlasConversionService conversionService;
@@ -152,17 +155,16 @@ public class JsonFieldReader implements AtlasFieldReader {
             //if index not included, iterate over all
             for (int i=0; i<child.size(); i++) {
                 Field itemField;
+                AtlasPath itemPath = path.withCollectionIndex(depth, i);
                 if (field instanceof FieldGroup) {
                     itemField = AtlasJsonModelFactory.cloneFieldGroup((FieldGroup)field);
                     AtlasPath.setCollectionIndexRecursively((FieldGroup)itemField, depth, i);
                  } else {
                     itemField = AtlasJsonModelFactory.cloneField((JsonField)field, false);
-                    AtlasPath itemPath = new AtlasPath(field.getPath());
-                    itemPath.setCollectionIndex(depth, i);
                     itemField.setPath(itemPath.toString());
                  }
                 List<Field> arrayFields = getJsonFieldsForPath(
-                    session, child.get(i), itemField, new AtlasPath(itemField.getPath()), depth + 1);
+                    session, child.get(i), itemField, itemPath, depth + 1);
                 fields.addAll(arrayFields);
             }
         }
@@ -201,10 +203,10 @@ public class JsonFieldReader implements AtlasFieldReader {
         FieldGroup group = field instanceof FieldGroup ?
          (FieldGroup)field : AtlasModelFactory.createFieldGroupFrom(field, true);
         ArrayNode arrayNode = (ArrayNode)node;
+        AtlasPath groupPath = new AtlasPath(group.getPath());
+        List<SegmentContext> segments = groupPath.getSegments(true);
         for (int i=0; i<arrayNode.size(); i++) {
-            AtlasPath itemPath = new AtlasPath(group.getPath());
-            List<SegmentContext> segments = itemPath.getSegments(true);
-            itemPath.setCollectionIndex(segments.size() - 1, i);
+            AtlasPath itemPath = groupPath.withCollectionIndex(segments.size() - 1, i);
             if (field instanceof FieldGroup) {
                 FieldGroup itemGroup = AtlasJsonModelFactory.cloneFieldGroup((FieldGroup)field);
                 AtlasPath.setCollectionIndexRecursively(itemGroup, segments.size(), i);
@@ -343,13 +345,49 @@ public class JsonFieldReader implements AtlasFieldReader {
         }
 
         try {
-            JsonFactory factory = new JsonFactory();
-            ObjectMapper mapper = new ObjectMapper();
-            JsonParser parser = factory.createParser(document);
-            this.rootNode = mapper.readTree(parser);
+            this.rootNode = MAPPER.readTree(MAPPER.getFactory().createParser(document));
         } catch (Exception e) {
             throw new AtlasException(e);
         }
     }
 
+    /**
+     * Sets the source document reading only the values on the paths compiled into the filter,
+     * in a single streaming pass.
+     *
+     * @param document source document, either of {@link String}, {@link Reader} or {@link InputStream}
+     * @param filter paths to read, or null to read the whole document
+     * @throws AtlasException failed to read the document
+     */
+    public void setDocument(Object document, JsonPathFilter filter) throws AtlasException {
+        if (filter == null && (document == null || document instanceof String)) {
+            setDocument((String) document);
+            return;
+        }
+        if (document == null || (document instanceof String && ((String) document).isEmpty())) {
+            this.rootNode = null;
+            return;
+        }
+
+        try (JsonParser parser = createParser(document)) {
+            this.rootNode = filter != null ? filter.read(MAPPER, parser) : MAPPER.readTree(parser);
+        } catch (AtlasException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new AtlasException(e);
+        }
+    }
+
+    private JsonParser createParser(Object document) throws Exception {
+        if (document instanceof String) {
+            return MAPPER.getFactory().createParser((String) document);
+        } else if (document instanceof Reader) {
+            // the caller owns the stream
+            return MAPPER.getFactory().createParser((Reader) document).disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        } else if (document instanceof InputStream) {
+            return MAPPER.getFactory().createParser((InputStream) document).disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        }
+        throw new AtlasException(String.format("Unsupported JSON document class '%s'", document.getClass().getName()));
+    }
+
 }
@@ -0,0 +1,129 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.json.core;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.atlasmap.core.AtlasPath;
+import io.atlasmap.core.AtlasPath.SegmentContext;
+
+/**
+ * A compiled set of field paths which reads only the matching parts of a JSON document
+ * in a single streaming pass. The subtrees which are not on any of the paths are skipped
+ * by the parser and never materialized. The resulting tree keeps the shape of the original
+ * document on the paths, including all the array items, so that {@link JsonFieldReader} can
+ * read it as if it was the whole document.
+ * <p>
+ * A rooted object like {@code { source: { orderId: 123 } }} is only peeled off for the path
+ * {@code /orderId} if it's the only field of the root object. So the first unmatched field of the
+ * root object is read with the filter applied to its content. Once the root object turns out to
+ * have more fields, the unmatched ones are skipped by the parser and kept as null placeholders, so
+ * that the root object keeps the same field names as in the original document.
+ */
+public class JsonPathFilter {
+
+    private final Map<String, JsonPathFilter> children = new HashMap<>();
+    private boolean all;
+
+    private JsonPathFilter() {
+    }
+
+    /**
+     * Compiles the field paths into a filter.
+     *
+     * @param paths field paths to read
+     * @return compiled filter
+     */
+    public static JsonPathFilter compile(Collection<String> paths) {
+        JsonPathFilter root = new JsonPathFilter();
+        for (String path : paths) {
+            JsonPathFilter node = root;
+            List<SegmentContext> segments = new AtlasPath(path).getSegments(false);
+            for (SegmentContext segment : segments) {
+                node = node.children.computeIfAbsent(segment.getName(), k -> new JsonPathFilter());
+            }
+            node.all = true;
+        }
+        return root;
+    }
+
+    /**
+     * Reads the document from the parser, keeping only the values on the compiled paths.
+     *
+     * @param mapper ObjectMapper to create the value nodes with
+     * @param parser parser positioned before the document
+     * @return filtered document, or null if the document is empty
+     * @throws IOException failed to read the document
+     */
+    public JsonNode read(ObjectMapper mapper, JsonParser parser) throws IOException {
+        if (parser.nextToken() == null) {
+            return null;
+        }
+        return readValue(mapper, parser, true);
+    }
+
+    private JsonNode readValue(ObjectMapper mapper, JsonParser parser, boolean root) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (all || !token.isStructStart()) {
+            return mapper.readTree(parser);
+        }
+        if (token == JsonToken.START_ARRAY) {
+            ArrayNode array = mapper.getNodeFactory().arrayNode();
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                array.add(readValue(mapper, parser, false));
+            }
+            return array;
+        }
+        ObjectNode object = mapper.getNodeFactory().objectNode();
+        String rooted = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.getCurrentName();
+            parser.nextToken();
+            JsonPathFilter child = children.get(name);
+            if (child != null) {
+                object.set(name, child.readValue(mapper, parser, false));
+            } else if (root && object.size() == 0) {
+                // possibly a rooted object to be peeled off
+                rooted = name;
+                object.set(name, readValue(mapper, parser, false));
+            } else {
+                parser.skipChildren();
+                if (root) {
+                    object.set(name, NullNode.getInstance());
+                }
+            }
+            if (rooted != null && object.size() > 1) {
+                // not the only field, it's not peeled off
+                object.set(rooted, NullNode.getInstance());
+                rooted = null;
+            }
+        }
+        return object;
+    }
+
+}
@@ -0,0 +1,316 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.json.core;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import io.atlasmap.api.AtlasException;
+import io.atlasmap.core.AtlasPath;
+import io.atlasmap.core.AtlasPath.SegmentContext;
+import io.atlasmap.spi.AtlasInternalSession;
+import io.atlasmap.v2.CollectionType;
+
+/**
+ * A {@link JsonFieldWriter} which emits the target document through a {@link JsonGenerator} into
+ * a caller-supplied {@link Writer} or {@link OutputStream} instead of keeping the whole tree until
+ * the end. The items of the outermost target collection, which is determined by the {@link StreamPlan}
+ * compiled from the target paths in mapping order, are written out and released as soon as they are
+ * complete, that is when the last mapping into the collection moves on to the next item.
+ * <p>
+ * The mappings are processed one after another, each of them going through the whole collection. With
+ * several mappings into the collection, the earlier ones create every item before the last one starts,
+ * so all N items are pending in the tree at that point and the memory is O(N) as in
+ * {@link JsonFieldWriter}; only the items already released by the last mapping are saved.
+ * <p>
+ * The other fields are kept in the tree and written after the collection, so the field order
+ * of the enclosing objects may differ from the one {@link JsonFieldWriter} produces.
+ */
+public class JsonStreamingFieldWriter extends JsonFieldWriter {
+    private static final Logger LOG = LoggerFactory.getLogger(JsonStreamingFieldWriter.class);
+
+    private final JsonGenerator generator;
+    private final StreamPlan plan;
+    private boolean started;
+    private int flushedCount;
+
+    public JsonStreamingFieldWriter(Writer sink, StreamPlan plan) throws AtlasException {
+        this(JsonFieldReader.MAPPER, plan, mapper -> mapper.getFactory().createGenerator(sink));
+    }
+
+    public JsonStreamingFieldWriter(OutputStream sink, StreamPlan plan) throws AtlasException {
+        this(JsonFieldReader.MAPPER, plan, mapper -> mapper.getFactory().createGenerator(sink, JsonEncoding.UTF8));
+    }
+
+    private JsonStreamingFieldWriter(ObjectMapper objectMapper, StreamPlan plan, GeneratorFactory factory)
+            throws AtlasException {
+        super(objectMapper);
+        this.plan = plan;
+        try {
+            this.generator = factory.create(objectMapper);
+        } catch (IOException e) {
+            throw new AtlasException("Failed to create JSON generator", e);
+        }
+        // the sink is owned by the caller
+        this.generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    /**
+     * Compiles the target paths in mapping order into a {@link StreamPlan}.
+     *
+     * @param targetPaths target field paths in the order the mappings are processed
+     * @return compiled plan
+     */
+    public static StreamPlan compile(List<String> targetPaths) {
+        List<String> chain = null;
+        String lastTemplate = null;
+        for (String p : targetPaths) {
+            AtlasPath path = new AtlasPath(p);
+            if (chain == null) {
+                chain = collectionChain(path);
+            }
+            if (chain != null && itemIndexOf(path, chain) != null) {
+                lastTemplate = templateOf(path);
+            }
+        }
+        return new StreamPlan(chain, lastTemplate);
+    }
+
+    @Override
+    public void write(AtlasInternalSession session) throws AtlasException {
+        if (plan.chain == null) {
+            super.write(session);
+            return;
+        }
+        AtlasPath path = new AtlasPath(session.head().getTargetField().getPath());
+        Integer index = itemIndexOf(path, plan.chain);
+        if (index != null && index >= 0 && index < flushedCount) {
+            throw new AtlasException(String.format(
+                    "Cannot write to '%s', the collection item has already been written out", path));
+        }
+        super.write(session);
+        if (index != null && index > flushedCount && templateOf(path).equals(plan.lastTemplate)) {
+            flushItems(index);
+        }
+    }
+
+    /**
+     * Writes out the rest of the document and flushes the sink. The sink is not closed.
+     *
+     * @return true if anything was written
+     * @throws AtlasException failed to write the document
+     */
+    public boolean close() throws AtlasException {
+        try {
+            boolean written = started || getRootNode() != null;
+            if (!started) {
+                if (getRootNode() != null) {
+                    generator.writeTree(getRootNode());
+                }
+            } else {
+                ArrayNode items = findItems();
+                if (items == null) {
+                    throw new AtlasException("The streamed collection has been replaced in the target document");
+                }
+                for (int i = flushedCount; i < items.size(); i++) {
+                    generator.writeTree(items.get(i));
+                }
+                generator.writeEndArray();
+                List<ObjectNode> parents = findParents();
+                for (int i = parents.size() - 1; i >= 0; i--) {
+                    Iterator<Map.Entry<String, JsonNode>> fields = parents.get(i).fields();
+                    while (fields.hasNext()) {
+                        Map.Entry<String, JsonNode> entry = fields.next();
+                        if (!entry.getKey().equals(plan.chain.get(i))) {
+                            generator.writeFieldName(entry.getKey());
+                            generator.writeTree(entry.getValue());
+                        }
+                    }
+                    generator.writeEndObject();
+                }
+            }
+            generator.close();
+            return written;
+        } catch (IOException e) {
+            throw new AtlasException("Failed to write JSON target document", e);
+        }
+    }
+
+    private void flushItems(int toIndex) throws AtlasException {
+        ArrayNode items = findItems();
+        if (items == null) {
+            return;
+        }
+        try {
+            if (!started) {
+                startDocument();
+            }
+            for (int i = flushedCount; i < toIndex; i++) {
+                generator.writeTree(items.get(i));
+                items.set(i, NullNode.getInstance());
+            }
+            flushedCount = toIndex;
+            generator.flush();
+        } catch (IOException e) {
+            throw new AtlasException("Failed to write JSON target document", e);
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Streamed out {} collection items", toIndex);
+        }
+    }
+
+    private void startDocument() throws IOException {
+        if (plan.isRootCollection()) {
+            generator.writeStartArray();
+        } else {
+            for (int i = 0; i < plan.chain.size(); i++) {
+                if (i == 0) {
+                    generator.writeStartObject();
+                }
+                generator.writeFieldName(plan.chain.get(i));
+                if (i == plan.chain.size() - 1) {
+                    generator.writeStartArray();
+                } else {
+                    generator.writeStartObject();
+                }
+            }
+        }
+        started = true;
+    }
+
+    private List<ObjectNode> findParents() {
+        List<ObjectNode> parents = new ArrayList<>(plan.chain.size());
+        JsonNode node = getRootNode();
+        for (int i = 0; i < plan.chain.size(); i++) {
+            if (!(node instanceof ObjectNode)) {
+                return null;
+            }
+            parents.add((ObjectNode) node);
+            node = node.get(plan.chain.get(i));
+        }
+        return parents;
+    }
+
+    private ArrayNode findItems() {
+        if (plan.isRootCollection()) {
+            return getRootNode() instanceof ArrayNode ? (ArrayNode) getRootNode() : null;
+        }
+        List<ObjectNode> parents = findParents();
+        if (parents == null) {
+            return null;
+        }
+        JsonNode items = parents.get(parents.size() - 1).get(plan.chain.get(plan.chain.size() - 1));
+        return items instanceof ArrayNode ? (ArrayNode) items : null;
+    }
+
+    /**
+     * Gets the names of the segments from the root down to the outermost collection, or null if
+     * there's no collection on the path. An empty list means the root is the collection.
+     */
+    private static List<String> collectionChain(AtlasPath path) {
+        List<String> chain = new ArrayList<>();
+        for (SegmentContext segment : path.getSegments(true)) {
+            if (!segment.isRoot()) {
+                chain.add(segment.getName());
+            }
+            if (segment.getCollectionType() != CollectionType.NONE) {
+                return Collections.unmodifiableList(chain);
+            }
+        }
+        return null;
+    }
+
+    private static Integer itemIndexOf(AtlasPath path, List<String> chain) {
+        List<SegmentContext> segments = path.getSegments(true);
+        if (segments.size() <= chain.size()
+                || (!chain.isEmpty() && segments.get(0).getCollectionType() != CollectionType.NONE)) {
+            return null;
+        }
+        for (int i = 0; i < chain.size(); i++) {
+            SegmentContext segment = segments.get(i + 1);
+            if (!segment.getName().equals(chain.get(i))
+                    || (segment.getCollectionType() != CollectionType.NONE) != (i == chain.size() - 1)) {
+                return null;
+            }
+        }
+        SegmentContext collection = segments.get(chain.size());
+        if (collection.getCollectionType() == CollectionType.NONE) {
+            return null;
+        }
+        return collection.getCollectionIndex() != null ? collection.getCollectionIndex() : -1;
+    }
+
+    private static String templateOf(AtlasPath path) {
+        StringBuilder buf = new StringBuilder();
+        for (SegmentContext segment : path.getSegments(true)) {
+            buf.append('/').append(segment.getName());
+            if (segment.getCollectionType() != CollectionType.NONE) {
+                buf.append("<>");
+            }
+        }
+        return buf.toString();
+    }
+
+    @FunctionalInterface
+    private interface GeneratorFactory {
+        JsonGenerator create(ObjectMapper mapper) throws IOException;
+    }
+
+    /**
+     * The compiled form of the target paths. It's immutable and shared by all the writers
+     * for the same mapping definition.
+     */
+    public static final class StreamPlan {
+        private final List<String> chain;
+        private final String lastTemplate;
+
+        private StreamPlan(List<String> chain, String lastTemplate) {
+            this.chain = chain;
+            this.lastTemplate = lastTemplate;
+        }
+
+        /**
+         * Whether the document has a collection whose items are streamed out.
+         *
+         * @return true if streaming collection items
+         */
+        public boolean hasCollection() {
+            return chain != null && lastTemplate != null;
+        }
+
+        private boolean isRootCollection() {
+            return chain != null && chain.isEmpty();
+        }
+    }
+
+}
@@ -0,0 +1,106 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.json.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.atlasmap.core.DefaultAtlasConversionService;
+import io.atlasmap.json.v2.AtlasJsonModelFactory;
+import io.atlasmap.json.v2.JsonField;
+import io.atlasmap.spi.AtlasInternalSession;
+import io.atlasmap.spi.AtlasInternalSession.Head;
+
+public class JsonPathFilterTest {
+
+    private ObjectMapper mapper = new ObjectMapper();
+
+    @Test
+    public void testReadOnlyMappedValues() throws Exception {
+        JsonPathFilter filter = JsonPathFilter.compile(Arrays.asList("/id", "/batters/batter<>/type"));
+        String document = new String(Files.readAllBytes(Paths.get("src/test/resources/highly-nested-object.json")));
+        JsonNode node = filter.read(mapper, mapper.getFactory().createParser(document));
+
+        assertEquals("0001", node.get("id").asText());
+        // unmatched fields of the root object are skipped and kept as placeholders
+        assertTrue(node.has("type"));
+        assertTrue(node.get("type").isNull());
+        assertTrue(node.get("topping").isNull());
+        JsonNode batter = node.get("batters").get("batter");
+        assertEquals(4, batter.size());
+        assertEquals("Regular", batter.get(0).get("type").asText());
+        assertFalse(batter.get(0).has("id"));
+    }
+
+    @Test
+    public void testReadRootedObject() throws Exception {
+        JsonPathFilter filter = JsonPathFilter.compile(Arrays.asList("/orderId"));
+        String document = "{\"source\":{\"orderId\":123,\"address\":{\"city\":\"Raleigh\"}}}";
+        JsonNode node = filter.read(mapper, mapper.getFactory().createParser(document));
+
+        assertEquals(123, node.get("source").get("orderId").asInt());
+        assertFalse(node.get("source").has("address"));
+    }
+
+    @Test
+    public void testSkipUnmatchedRootFields() throws Exception {
+        JsonPathFilter filter = JsonPathFilter.compile(Arrays.asList("/orderId"));
+        String document = "{\"source\":{\"orderId\":123},\"other\":{\"orderId\":456},\"more\":[1,2]}";
+        JsonNode node = filter.read(mapper, mapper.getFactory().createParser(document));
+
+        assertEquals(3, node.size());
+        assertTrue(node.get("source").isNull());
+        assertTrue(node.get("other").isNull());
+        assertTrue(node.get("more").isNull());
+    }
+
+    @Test
+    public void testReadEmptyDocument() throws Exception {
+        JsonPathFilter filter = JsonPathFilter.compile(Arrays.asList("/id"));
+        assertEquals(null, filter.read(mapper, mapper.getFactory().createParser("")));
+    }
+
+    @Test
+    public void testFieldReaderWithFilter() throws Exception {
+        JsonFieldReader reader = new JsonFieldReader(DefaultAtlasConversionService.getInstance());
+        JsonPathFilter filter = JsonPathFilter.compile(Arrays.asList("/array<>"));
+        StringReader document = new StringReader(
+                new String(Files.readAllBytes(Paths.get("src/test/resources/array-under-root.json"))));
+        reader.setDocument(document, filter);
+
+        JsonField field = AtlasJsonModelFactory.createJsonField();
+        field.setPath("/array[1]");
+        AtlasInternalSession session = mock(AtlasInternalSession.class);
+        when(session.head()).thenReturn(mock(Head.class));
+        when(session.head().getSourceField()).thenReturn(field);
+        reader.read(session);
+        assertEquals("array-one", field.getValue());
+    }
+
+}
@@ -0,0 +1,142 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.json.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import io.atlasmap.api.AtlasException;
+import io.atlasmap.json.core.JsonStreamingFieldWriter.StreamPlan;
+import io.atlasmap.json.v2.AtlasJsonModelFactory;
+import io.atlasmap.json.v2.JsonField;
+import io.atlasmap.spi.AtlasInternalSession;
+import io.atlasmap.spi.AtlasInternalSession.Head;
+import io.atlasmap.v2.FieldType;
+
+public class JsonStreamingFieldWriterTest {
+
+    @Test
+    public void testStreamCollectionItems() throws Exception {
+        StreamPlan plan = JsonStreamingFieldWriter.compile(
+                Arrays.asList("/count", "/orders<>/id", "/orders<>/name"));
+        assertTrue(plan.hasCollection());
+        StringWriter sink = new StringWriter();
+        JsonStreamingFieldWriter writer = new JsonStreamingFieldWriter(sink, plan);
+
+        write(writer, "/count", 2, FieldType.INTEGER);
+        write(writer, "/orders<0>/id", 1, FieldType.INTEGER);
+        write(writer, "/orders<1>/id", 2, FieldType.INTEGER);
+        write(writer, "/orders<0>/name", "first", FieldType.STRING);
+        assertEquals("", sink.toString());
+        write(writer, "/orders<1>/name", "second", FieldType.STRING);
+        assertEquals("{\"orders\":[{\"id\":1,\"name\":\"first\"}", sink.toString());
+
+        assertTrue(writer.close());
+        assertEquals("{\"orders\":[{\"id\":1,\"name\":\"first\"},{\"id\":2,\"name\":\"second\"}],\"count\":2}",
+                sink.toString());
+    }
+
+    @Test
+    public void testMultipleMappingsKeepItemsUntilLastMapping() throws Exception {
+        StreamPlan plan = JsonStreamingFieldWriter.compile(Arrays.asList("/orders<>/id", "/orders<>/name"));
+        StringWriter sink = new StringWriter();
+        JsonStreamingFieldWriter writer = new JsonStreamingFieldWriter(sink, plan);
+
+        for (int i = 0; i < 3; i++) {
+            write(writer, "/orders<" + i + ">/id", i, FieldType.INTEGER);
+        }
+        // every item is pending until the last mapping reaches it
+        assertEquals("", sink.toString());
+
+        write(writer, "/orders<0>/name", "n0", FieldType.STRING);
+        assertEquals("", sink.toString());
+        write(writer, "/orders<1>/name", "n1", FieldType.STRING);
+        assertEquals("{\"orders\":[{\"id\":0,\"name\":\"n0\"}", sink.toString());
+        assertTrue(writer.getRootNode().get("orders").get(0).isNull());
+        write(writer, "/orders<2>/name", "n2", FieldType.STRING);
+        assertTrue(writer.getRootNode().get("orders").get(1).isNull());
+
+        assertTrue(writer.close());
+        assertEquals("{\"orders\":[{\"id\":0,\"name\":\"n0\"},{\"id\":1,\"name\":\"n1\"},"
+                + "{\"id\":2,\"name\":\"n2\"}]}", sink.toString());
+    }
+
+    @Test
+    public void testSharedObjectMapper() throws Exception {
+        StreamPlan plan = JsonStreamingFieldWriter.compile(Arrays.asList("/<>/id"));
+        assertSame(new JsonStreamingFieldWriter(new StringWriter(), plan).getObjectMapper(),
+                new JsonStreamingFieldWriter(new ByteArrayOutputStream(), plan).getObjectMapper());
+    }
+
+    @Test
+    public void testStreamRootCollection() throws Exception {
+        StreamPlan plan = JsonStreamingFieldWriter.compile(Arrays.asList("/<>/id"));
+        StringWriter sink = new StringWriter();
+        JsonStreamingFieldWriter writer = new JsonStreamingFieldWriter(sink, plan);
+
+        write(writer, "/<0>/id", 1, FieldType.INTEGER);
+        write(writer, "/<1>/id", 2, FieldType.INTEGER);
+        assertEquals("[{\"id\":1}", sink.toString());
+        writer.close();
+        assertEquals("[{\"id\":1},{\"id\":2}]", sink.toString());
+    }
+
+    @Test
+    public void testNoCollection() throws Exception {
+        StreamPlan plan = JsonStreamingFieldWriter.compile(Arrays.asList("/car/brand"));
+        assertFalse(plan.hasCollection());
+        StringWriter sink = new StringWriter();
+        JsonStreamingFieldWriter writer = new JsonStreamingFieldWriter(sink, plan);
+        assertFalse(writer.close());
+        assertEquals("", sink.toString());
+
+        writer = new JsonStreamingFieldWriter(sink, plan);
+        write(writer, "/car/brand", "Mercedes", FieldType.STRING);
+        assertTrue(writer.close());
+        assertEquals("{\"car\":{\"brand\":\"Mercedes\"}}", sink.toString());
+    }
+
+    @Test(expected = AtlasException.class)
+    public void testWriteToFlushedItem() throws Exception {
+        StreamPlan plan = JsonStreamingFieldWriter.compile(Arrays.asList("/orders<>/id"));
+        JsonStreamingFieldWriter writer = new JsonStreamingFieldWriter(new StringWriter(), plan);
+        write(writer, "/orders<0>/id", 1, FieldType.INTEGER);
+        write(writer, "/orders<1>/id", 2, FieldType.INTEGER);
+        write(writer, "/orders<0>/id", 3, FieldType.INTEGER);
+    }
+
+    private void write(JsonFieldWriter writer, String path, Object value, FieldType type) throws Exception {
+        JsonField field = AtlasJsonModelFactory.createJsonField();
+        field.setPath(path);
+        field.setValue(value);
+        field.setFieldType(type);
+        AtlasInternalSession session = mock(AtlasInternalSession.class);
+        when(session.head()).thenReturn(mock(Head.class));
+        when(session.head().getTargetField()).thenReturn(field);
+        writer.write(session);
+    }
+
+}
@@ -15,7 +15,14 @@
  */
 package io.atlasmap.json.module;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,25 +34,37 @@ import io.atlasmap.core.AtlasUtil;
 import io.atlasmap.core.BaseAtlasModule;
 import io.atlasmap.json.core.JsonFieldReader;
 import io.atlasmap.json.core.JsonFieldWriter;
+import io.atlasmap.json.core.JsonPathFilter;
+import io.atlasmap.json.core.JsonStreamingFieldWriter;
+import io.atlasmap.json.core.JsonStreamingFieldWriter.StreamPlan;
 import io.atlasmap.json.v2.AtlasJsonModelFactory;
 import io.atlasmap.json.v2.JsonField;
 import io.atlasmap.spi.AtlasInternalSession;
 import io.atlasmap.spi.AtlasModuleDetail;
+import io.atlasmap.v2.AtlasMapping;
 import io.atlasmap.v2.AtlasModelFactory;
 import io.atlasmap.v2.AuditStatus;
+import io.atlasmap.v2.BaseMapping;
+import io.atlasmap.v2.Collection;
 import io.atlasmap.v2.Field;
 import io.atlasmap.v2.FieldGroup;
+import io.atlasmap.v2.Mapping;
 import io.atlasmap.v2.Validation;
 import io.atlasmap.v2.Validations;
 
 @AtlasModuleDetail(name = "JsonModule", uri = "atlas:json", modes = { "SOURCE", "TARGET" }, dataFormats = {
         "json" }, configPackages = { "io.atlasmap.json.v2" })
 public class JsonModule extends BaseAtlasModule {
+    /** URI parameter to read only the mapped values of the source document in a streaming pass. */
+    public static final String STREAMING_PARAMETER = "streaming";
     private static final Logger LOG = LoggerFactory.getLogger(JsonModule.class);
 
+    private volatile SourcePathFilter sourcePathFilter;
+    private volatile TargetStreamPlan targetStreamPlan;
+
     @Override
     public void processPreValidation(AtlasInternalSession atlasSession) throws AtlasException {
-        if (atlasSession == null || atlasSession.getMapping() == null) {
+        if (atlasSession == null || atlasSession.getReadOnlyMapping() == null) {
             throw new AtlasValidationException("Invalid session: Session and AtlasMapping must be specified");
         }
 
@@ -53,7 +72,7 @@ public class JsonModule extends BaseAtlasModule {
         JsonValidationService jsonValidationService = new JsonValidationService(getConversionService(), getFieldActionService());
         jsonValidationService.setMode(getMode());
         jsonValidationService.setDocId(getDocId());
-        List<Validation> jsonValidations = jsonValidationService.validateMapping(atlasSession.getMapping());
+        List<Validation> jsonValidations = jsonValidationService.validateMapping(atlasSession.getReadOnlyMapping());
         if (jsonValidations != null && !jsonValidations.isEmpty()) {
             validations.getValidation().addAll(jsonValidations);
         }
@@ -70,6 +89,17 @@ public class JsonModule extends BaseAtlasModule {
     @Override
     public void processPreSourceExecution(AtlasInternalSession session) throws AtlasException {
         Object sourceDocument = session.getSourceDocument(getDocId());
+        if (isStreaming() && (sourceDocument instanceof String || sourceDocument instanceof Reader
+                || sourceDocument instanceof InputStream)) {
+            JsonFieldReader fieldReader = new JsonFieldReader(getConversionService());
+            fieldReader.setDocument(sourceDocument, getSourcePathFilter(session.getReadOnlyMapping()));
+            session.setFieldReader(getDocId(), fieldReader);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("{} processPreSourceExcution completed in streaming mode", getDocId());
+            }
+            return;
+        }
+
         String sourceDocumentString = null;
         if (sourceDocument == null || !(sourceDocument instanceof String)) {
             AtlasUtil.addAudit(session, getDocId(), String.format(
@@ -87,9 +117,128 @@ public class JsonModule extends BaseAtlasModule {
         }
     }
 
+    private boolean isStreaming() {
+        return "true".equalsIgnoreCase(getUriParameters().get(STREAMING_PARAMETER));
+    }
+
+    /**
+     * Gets the filter of the source paths mapped from this document. It's compiled once per
+     * mapping definition. Returns null if the whole document needs to be read, i.e. an expression
+     * refers to this document.
+     */
+    private JsonPathFilter getSourcePathFilter(AtlasMapping mapping) {
+        SourcePathFilter cached = this.sourcePathFilter;
+        if (cached != null && cached.mapping == mapping) {
+            return cached.filter;
+        }
+        Set<String> paths = new LinkedHashSet<>();
+        boolean fullDocument = mapping == null || mapping.getMappings() == null;
+        if (!fullDocument) {
+            for (BaseMapping baseMapping : mapping.getMappings().getMapping()) {
+                if (!collectSourcePaths(baseMapping, paths)) {
+                    fullDocument = true;
+                    break;
+                }
+            }
+        }
+        JsonPathFilter filter = fullDocument ? null : JsonPathFilter.compile(paths);
+        this.sourcePathFilter = new SourcePathFilter(mapping, filter);
+        return filter;
+    }
+
+    private boolean collectSourcePaths(BaseMapping baseMapping, Set<String> paths) {
+        if (baseMapping instanceof Collection) {
+            Collection collection = (Collection) baseMapping;
+            if (collection.getMappings() != null) {
+                for (BaseMapping m : collection.getMappings().getMapping()) {
+                    if (!collectSourcePaths(m, paths)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        if (!(baseMapping instanceof Mapping)) {
+            return true;
+        }
+        Mapping mapping = (Mapping) baseMapping;
+        Set<String> mappingPaths = new LinkedHashSet<>();
+        if (mapping.getInputFieldGroup() != null) {
+            collectSourcePaths(mapping.getInputFieldGroup(), mappingPaths);
+        }
+        for (Field f : mapping.getInputField()) {
+            collectSourcePaths(f, mappingPaths);
+        }
+        if (mapping.getExpression() != null && !mappingPaths.isEmpty()) {
+            // expressions may access the document randomly
+            return false;
+        }
+        paths.addAll(mappingPaths);
+        return true;
+    }
+
+    private void collectSourcePaths(Field field, Set<String> paths) {
+        if (field.getDocId() != null && !field.getDocId().equals(getDocId())) {
+            return;
+        }
+        if (field instanceof FieldGroup && !((FieldGroup) field).getField().isEmpty()) {
+            for (Field child : ((FieldGroup) field).getField()) {
+                collectSourcePaths(child, paths);
+            }
+        } else if (field.getPath() != null) {
+            paths.add(field.getPath());
+        }
+    }
+
+    /**
+     * Gets the plan to stream the target document, compiled once per mapping definition
+     * from the paths of the output fields of this document in mapping order.
+     */
+    private StreamPlan getTargetStreamPlan(AtlasMapping mapping) {
+        TargetStreamPlan cached = this.targetStreamPlan;
+        if (cached != null && cached.mapping == mapping) {
+            return cached.plan;
+        }
+        List<String> paths = new ArrayList<>();
+        if (mapping != null && mapping.getMappings() != null) {
+            for (BaseMapping baseMapping : mapping.getMappings().getMapping()) {
+                collectTargetPaths(baseMapping, paths);
+            }
+        }
+        StreamPlan plan = JsonStreamingFieldWriter.compile(paths);
+        this.targetStreamPlan = new TargetStreamPlan(mapping, plan);
+        return plan;
+    }
+
+    private void collectTargetPaths(BaseMapping baseMapping, List<String> paths) {
+        if (baseMapping instanceof Collection) {
+            Collection collection = (Collection) baseMapping;
+            if (collection.getMappings() != null) {
+                for (BaseMapping m : collection.getMappings().getMapping()) {
+                    collectTargetPaths(m, paths);
+                }
+            }
+        } else if (baseMapping instanceof Mapping) {
+            for (Field f : ((Mapping) baseMapping).getOutputField()) {
+                if ((f.getDocId() == null || f.getDocId().equals(getDocId())) && f.getPath() != null) {
+                    paths.add(f.getPath());
+                }
+            }
+        }
+    }
+
     @Override
     public void processPreTargetExecution(AtlasInternalSession session) throws AtlasException {
-        JsonFieldWriter writer = new JsonFieldWriter();
+        Object targetDocument = session.hasTargetDocument(getDocId()) ? session.getTargetDocument(getDocId()) : null;
+        JsonFieldWriter writer;
+        if (targetDocument instanceof Writer) {
+            writer = new JsonStreamingFieldWriter((Writer) targetDocument, getTargetStreamPlan(session.getReadOnlyMapping()));
+        } else if (targetDocument instanceof OutputStream) {
+            writer = new JsonStreamingFieldWriter((OutputStream) targetDocument,
+                    getTargetStreamPlan(session.getReadOnlyMapping()));
+        } else {
+            writer = new JsonFieldWriter();
+        }
         session.setFieldWriter(getDocId(), writer);
 
         if (LOG.isDebugEnabled()) {
@@ -173,8 +322,7 @@ public class JsonModule extends BaseAtlasModule {
         } else {
             JsonField targetSubField = new JsonField();
             AtlasJsonModelFactory.copyField(targetField, targetSubField, false);
-            path.setVacantCollectionIndex(0);
-            targetSubField.setPath(path.toString());
+            targetSubField.setPath(path.withVacantCollectionIndex(0).toString());
             targetFieldGroup.getField().add(targetSubField);
             session.head().setTargetField(targetSubField);
             super.populateTargetField(session);
@@ -217,7 +365,14 @@ public class JsonModule extends BaseAtlasModule {
     @Override
     public void processPostTargetExecution(AtlasInternalSession session) throws AtlasException {
         JsonFieldWriter writer = session.getFieldWriter(getDocId(), JsonFieldWriter.class);
-        if (writer != null && writer.getRootNode() != null) {
+        if (writer instanceof JsonStreamingFieldWriter) {
+            // streaming, the target document is the caller-supplied sink
+            if (!((JsonStreamingFieldWriter) writer).close()) {
+                AtlasUtil.addAudit(session, getDocId(), String.format(
+                        "No target document created for DataSource:[id=%s, uri=%s]", getDocId(), this.getUri()),
+                        null, AuditStatus.WARN, null);
+            }
+        } else if (writer != null && writer.getRootNode() != null) {
             String outputBody = writer.getRootNode().toString();
             session.setTargetDocument(getDocId(), outputBody);
             if (LOG.isDebugEnabled()) {
@@ -248,4 +403,25 @@ public class JsonModule extends BaseAtlasModule {
     public Field cloneField(Field field) throws AtlasException {
         return AtlasJsonModelFactory.cloneField((JsonField)field, true);
     }
+
+    private static final class SourcePathFilter {
+        private final AtlasMapping mapping;
+        private final JsonPathFilter filter;
+
+        private SourcePathFilter(AtlasMapping mapping, JsonPathFilter filter) {
+            this.mapping = mapping;
+            this.filter = filter;
+        }
+    }
+
+    private static final class TargetStreamPlan {
+        private final AtlasMapping mapping;
+        private final StreamPlan plan;
+
+        private TargetStreamPlan(AtlasMapping mapping, StreamPlan plan) {
+            this.mapping = mapping;
+            this.plan = plan;
+        }
+    }
+
 }
@@ -16,6 +16,7 @@
 package io.atlasmap.xml.core;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -66,6 +67,11 @@ public class XmlFieldReader extends XmlFieldTransformer implements AtlasFieldRea
         this.conversionService = conversionService;
     }
 
+    public XmlFieldReader(ClassLoader cl, XmlIOHelper xmlHelper, AtlasConversionService conversionService) {
+        super(cl, xmlHelper, new HashMap<>());
+        this.conversionService = conversionService;
+    }
+
     public Field read(AtlasInternalSession session) throws AtlasException {
         Field field = session.head().getSourceField();
         if (document == null) {
@@ -191,17 +197,16 @@ public class XmlFieldReader extends XmlFieldTransformer implements AtlasFieldRea
             //if index not included, iterate over all
             for (int i=0; i<children.size(); i++) {
                 Field itemField;
+                XmlPath itemPath = path.withCollectionIndex(depth + 1, i);
                 if (field instanceof FieldGroup) {
                     itemField = AtlasXmlModelFactory.cloneFieldGroup((FieldGroup)field);
                     AtlasPath.setCollectionIndexRecursively((FieldGroup)itemField, depth + 1, i);
                  } else {
                     itemField = AtlasXmlModelFactory.cloneField((XmlField)field, false);
-                    AtlasPath itemPath = new AtlasPath(field.getPath());
-                    itemPath.setCollectionIndex(depth + 1, i);
                     itemField.setPath(itemPath.toString());
                  }
                 List<Field> arrayFields = getFieldsForPath(
-                    session, xmlNamespaces, children.get(i), itemField, new XmlPath(itemField.getPath()), depth + 1);
+                    session, xmlNamespaces, children.get(i), itemField, itemPath, depth + 1);
                 fields.addAll(arrayFields);
             }
         }
@@ -236,10 +241,10 @@ public class XmlFieldReader extends XmlFieldTransformer implements AtlasFieldRea
      List<Element> elements, Field field) throws AtlasException {
         FieldGroup group = field instanceof FieldGroup ?
          (FieldGroup)field : AtlasModelFactory.createFieldGroupFrom(field, true);
+        XmlPath groupPath = new XmlPath(group.getPath());
+        List<SegmentContext> segments = groupPath.getSegments(true);
         for (int i=0; i<elements.size(); i++) {
-            XmlPath itemPath = new XmlPath(group.getPath());
-            List<SegmentContext> segments = itemPath.getSegments(true);
-            itemPath.setCollectionIndex(segments.size() - 1, i);
+            XmlPath itemPath = groupPath.withCollectionIndex(segments.size() - 1, i);
             if (field instanceof FieldGroup) {
                 FieldGroup itemGroup = AtlasXmlModelFactory.cloneFieldGroup((FieldGroup)field);
                 AtlasPath.setCollectionIndexRecursively(itemGroup, segments.size(), i);
@@ -295,7 +300,7 @@ public class XmlFieldReader extends XmlFieldTransformer implements AtlasFieldRea
 
     private Optional<XmlNamespaces> getSourceNamespaces(AtlasInternalSession session, Field field) {
         DataSource dataSource = null;
-        AtlasMapping mapping = session.getMapping();
+        AtlasMapping mapping = session.getReadOnlyMapping();
         // this is to simplify tests which uses mocks
         if (mapping == null || mapping.getDataSource() == null || field.getDocId() == null) {
             return Optional.empty();
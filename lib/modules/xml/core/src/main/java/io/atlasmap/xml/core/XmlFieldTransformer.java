@@ -35,8 +35,12 @@ public abstract class XmlFieldTransformer {
     }
 
     public XmlFieldTransformer(ClassLoader cl, Map<String, String> namespaces) {
+        this(cl, XmlIOHelper.getInstance(cl), namespaces);
+    }
+
+    public XmlFieldTransformer(ClassLoader cl, XmlIOHelper xmlHelper, Map<String, String> namespaces) {
         this.classLoader = cl;
-        this.xmlHelper = new XmlIOHelper(cl);
+        this.xmlHelper = xmlHelper;
         this.namespaces = namespaces;
     }
 
@@ -20,9 +20,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-
 import org.slf4j.LoggerFactory;
 import org.w3c.dom.Document;
 import org.w3c.dom.Element;
@@ -50,8 +47,12 @@ public class XmlFieldWriter extends XmlFieldTransformer implements AtlasFieldWri
     }
 
     public XmlFieldWriter(ClassLoader classLoader, Map<String, String> namespaces, String seedDocument) throws AtlasException {
-        super(classLoader, namespaces);
-        this.classLoader = classLoader;
+        this(classLoader, XmlIOHelper.getInstance(classLoader), namespaces, seedDocument);
+    }
+
+    public XmlFieldWriter(ClassLoader classLoader, XmlIOHelper xmlHelper, Map<String, String> namespaces,
+            String seedDocument) throws AtlasException {
+        super(classLoader, xmlHelper, namespaces);
         this.document = createDocument(namespaces, seedDocument);
         // check to see if the seed document has namespaces
         seedDocumentNamespaces(document);
@@ -306,13 +307,10 @@ public class XmlFieldWriter extends XmlFieldTransformer implements AtlasFieldWri
 
     private Document createDocument(Map<String, String> namespaces, String seedDocument) throws AtlasException {
         try {
-            DocumentBuilderFactory documentBuilderFactory = DocumentBuilderFactory.newInstance();
-            if (namespaces != null && !namespaces.isEmpty()) {
-                documentBuilderFactory.setNamespaceAware(true);
-            }
-            DocumentBuilder documentBuilder = documentBuilderFactory.newDocumentBuilder();
+            boolean namespaced = namespaces != null && !namespaces.isEmpty();
             if (seedDocument != null && !seedDocument.isEmpty()) {
-                Document document = documentBuilder.parse(new ByteArrayInputStream(seedDocument.getBytes("UTF-8")));
+                Document document = xmlHelper.parseDocument(
+                        new ByteArrayInputStream(seedDocument.getBytes("UTF-8")), namespaced);
 
                 Element rootNode = document.getDocumentElement();
 
@@ -345,7 +343,7 @@ public class XmlFieldWriter extends XmlFieldTransformer implements AtlasFieldWri
 
                 return document;
             }
-            return documentBuilder.newDocument();
+            return xmlHelper.newDocument(namespaced);
         } catch (Exception e) {
             throw new AtlasException(e);
         }
@@ -15,36 +15,256 @@
  */
 package io.atlasmap.xml.core;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
 import java.io.StringWriter;
+import java.io.Writer;
+import java.lang.ref.WeakReference;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
 
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParserFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
+import javax.xml.transform.Result;
 import javax.xml.transform.Transformer;
 import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 
+import org.w3c.dom.Document;
 import org.w3c.dom.Element;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
+import org.xml.sax.SAXException;
 
 import io.atlasmap.api.AtlasException;
 
+/**
+ * XML I/O utilities. An instance holds the JAXP factories looked up with the specified class loader
+ * and a bounded pool of the {@link DocumentBuilder}s and {@link Transformer}s created from them, so
+ * that parsing and writing a document doesn't need to look up a factory nor create a parser each time.
+ * It's thread safe and meant to be shared, {@link #getInstance(ClassLoader)} returns the instance
+ * shared by everything which uses the same class loader.
+ */
 public final class XmlIOHelper {
 
+    private static final int POOL_SIZE = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+    private static final Map<ClassLoader, WeakReference<XmlIOHelper>> INSTANCES = new WeakHashMap<>();
+
     private TransformerFactory transformerFactory;
+    private DocumentBuilderFactory documentBuilderFactory;
+    private DocumentBuilderFactory namespacedDocumentBuilderFactory;
+    private XMLInputFactory inputFactory;
+    private XMLInputFactory namespacedInputFactory;
+    private XMLOutputFactory outputFactory;
+    private SAXParserFactory saxParserFactory;
+    private final BlockingQueue<Transformer> transformers = new ArrayBlockingQueue<>(POOL_SIZE);
+    private final BlockingQueue<DocumentBuilder> documentBuilders = new ArrayBlockingQueue<>(POOL_SIZE);
+    private final BlockingQueue<DocumentBuilder> namespacedDocumentBuilders = new ArrayBlockingQueue<>(POOL_SIZE);
 
     public XmlIOHelper(ClassLoader cl) {
         ClassLoader origTccl = Thread.currentThread().getContextClassLoader();
         try {
             Thread.currentThread().setContextClassLoader(cl);
             this.transformerFactory = TransformerFactory.newInstance();
+            this.documentBuilderFactory = DocumentBuilderFactory.newInstance();
+            this.namespacedDocumentBuilderFactory = DocumentBuilderFactory.newInstance();
+            this.namespacedDocumentBuilderFactory.setNamespaceAware(true);
+            this.inputFactory = createInputFactory(false);
+            this.namespacedInputFactory = createInputFactory(true);
+            this.outputFactory = XMLOutputFactory.newInstance();
+            this.saxParserFactory = SAXParserFactory.newInstance();
+            this.saxParserFactory.setNamespaceAware(true);
         } finally {
             Thread.currentThread().setContextClassLoader(origTccl);
         }
     }
 
+    /**
+     * Gets the instance shared by the callers with the same class loader, or creates it. The instance
+     * is held weakly, so it's released once nothing uses it anymore.
+     *
+     * @param cl class loader to look up the JAXP factories with
+     * @return shared instance
+     */
+    public static XmlIOHelper getInstance(ClassLoader cl) {
+        synchronized (INSTANCES) {
+            WeakReference<XmlIOHelper> ref = INSTANCES.get(cl);
+            XmlIOHelper answer = ref != null ? ref.get() : null;
+            if (answer == null) {
+                answer = new XmlIOHelper(cl);
+                INSTANCES.put(cl, new WeakReference<>(answer));
+            }
+            return answer;
+        }
+    }
+
+    /**
+     * Parses an XML document with a pooled {@link DocumentBuilder}.
+     *
+     * @param in input stream to read the document from
+     * @param namespaced whether to enable namespace support
+     * @return parsed document
+     * @throws ParserConfigurationException failed to create a document builder
+     * @throws SAXException failed to parse the document
+     * @throws IOException failed to read the document
+     */
+    public Document parseDocument(InputStream in, boolean namespaced)
+            throws ParserConfigurationException, SAXException, IOException {
+        DocumentBuilder builder = borrowDocumentBuilder(namespaced);
+        try {
+            return builder.parse(in);
+        } finally {
+            releaseDocumentBuilder(builder, namespaced);
+        }
+    }
+
+    /**
+     * Creates an empty XML document with a pooled {@link DocumentBuilder}.
+     *
+     * @param namespaced whether to enable namespace support
+     * @return new document
+     * @throws ParserConfigurationException failed to create a document builder
+     */
+    public Document newDocument(boolean namespaced) throws ParserConfigurationException {
+        DocumentBuilder builder = borrowDocumentBuilder(namespaced);
+        try {
+            return builder.newDocument();
+        } finally {
+            releaseDocumentBuilder(builder, namespaced);
+        }
+    }
+
+    /**
+     * Creates a StAX stream reader. The input factories are configured once and shared.
+     *
+     * @param in input stream to read the document from
+     * @param namespaced whether to enable namespace support
+     * @return stream reader
+     * @throws XMLStreamException failed to create the reader
+     */
+    public XMLStreamReader createXMLStreamReader(InputStream in, boolean namespaced) throws XMLStreamException {
+        return (namespaced ? namespacedInputFactory : inputFactory).createXMLStreamReader(in);
+    }
+
+    /**
+     * Creates a StAX stream reader. The input factories are configured once and shared.
+     *
+     * @param in reader to read the document from
+     * @param namespaced whether to enable namespace support
+     * @return stream reader
+     * @throws XMLStreamException failed to create the reader
+     */
+    public XMLStreamReader createXMLStreamReader(Reader in, boolean namespaced) throws XMLStreamException {
+        return (namespaced ? namespacedInputFactory : inputFactory).createXMLStreamReader(in);
+    }
+
+    /**
+     * Creates a StAX stream writer encoding in UTF-8. The output factory is created once and shared.
+     *
+     * @param out output stream to write the document into, which is not closed by the writer
+     * @return stream writer
+     * @throws XMLStreamException failed to create the writer
+     */
+    public XMLStreamWriter createXMLStreamWriter(OutputStream out) throws XMLStreamException {
+        return outputFactory.createXMLStreamWriter(out, "UTF-8");
+    }
+
+    /**
+     * Creates a StAX stream writer. The output factory is created once and shared.
+     *
+     * @param out writer to write the document into, which is not closed by the stream writer
+     * @return stream writer
+     * @throws XMLStreamException failed to create the writer
+     */
+    public XMLStreamWriter createXMLStreamWriter(Writer out) throws XMLStreamException {
+        return outputFactory.createXMLStreamWriter(out);
+    }
+
+    /**
+     * Gets the namespace aware SAX parser factory, e.g. for the XML schema parser. It's configured once
+     * and shared, so it must not be reconfigured by the caller.
+     *
+     * @return SAX parser factory
+     */
+    public SAXParserFactory getSAXParserFactory() {
+        return saxParserFactory;
+    }
+
+    /**
+     * Writes the node into the result with a pooled {@link Transformer}.
+     *
+     * @param node node to write
+     * @param result result to write into
+     * @throws AtlasException failed to write the node
+     */
+    public void transform(Node node, Result result) throws AtlasException {
+        try {
+            Transformer transformer = borrowTransformer();
+            try {
+                transformer.transform(new DOMSource(node), result);
+            } finally {
+                releaseTransformer(transformer);
+            }
+        } catch (Exception e) {
+            throw new AtlasException(e);
+        }
+    }
+
+    private static XMLInputFactory createInputFactory(boolean namespaced) {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, namespaced);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    private DocumentBuilder borrowDocumentBuilder(boolean namespaced) throws ParserConfigurationException {
+        DocumentBuilder builder = (namespaced ? namespacedDocumentBuilders : documentBuilders).poll();
+        if (builder != null) {
+            return builder;
+        }
+        // JAXP factories are not guaranteed to be thread safe
+        DocumentBuilderFactory factory = namespaced ? namespacedDocumentBuilderFactory : documentBuilderFactory;
+        synchronized (factory) {
+            return factory.newDocumentBuilder();
+        }
+    }
+
+    private void releaseDocumentBuilder(DocumentBuilder builder, boolean namespaced) {
+        builder.reset();
+        (namespaced ? namespacedDocumentBuilders : documentBuilders).offer(builder);
+    }
+
+    private Transformer borrowTransformer() throws Exception {
+        Transformer transformer = transformers.poll();
+        if (transformer != null) {
+            return transformer;
+        }
+        synchronized (transformerFactory) {
+            return transformerFactory.newTransformer();
+        }
+    }
+
+    private void releaseTransformer(Transformer transformer) {
+        transformer.reset();
+        transformers.offer(transformer);
+    }
+
     public static List<Element> getChildrenWithName(String name, Element parentNode) {
         List<Element> children = new LinkedList<>();
         if (parentNode == null) {
@@ -81,23 +301,18 @@ public final class XmlIOHelper {
     }
 
     public String writeDocumentToString(boolean stripSpaces, Node node) throws AtlasException {
-        try {
-            if (node == null) {
-                return "";
-            }
-            Transformer transformer = transformerFactory.newTransformer();
-            StringWriter writer = new StringWriter();
-            transformer.transform(new DOMSource(node), new StreamResult(writer));
-
-            String result = writer.getBuffer().toString();
-            if (stripSpaces) {
-                result = result.replaceAll("\n|\r", "");
-                result = result.replaceAll("> *?<", "><");
-            }
-            return result;
-        } catch (Exception e) {
-            throw new AtlasException(e);
+        if (node == null) {
+            return "";
+        }
+        StringWriter writer = new StringWriter();
+        transform(node, new StreamResult(writer));
+
+        String result = writer.getBuffer().toString();
+        if (stripSpaces) {
+            result = result.replaceAll("\n|\r", "");
+            result = result.replaceAll("> *?<", "><");
         }
+        return result;
     }
 
     public static String getNodeNameWithoutNamespaceAlias(Node child) {
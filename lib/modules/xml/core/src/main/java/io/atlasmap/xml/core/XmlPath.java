@@ -44,6 +44,16 @@ public class XmlPath extends AtlasPath {
         return Collections.unmodifiableList(answer);
     }
 
+    @Override
+    public XmlPath withCollectionIndex(int segmentIndex, Integer collectionIndex) {
+        return (XmlPath) super.withCollectionIndex(segmentIndex, collectionIndex);
+    }
+
+    @Override
+    public XmlPath withVacantCollectionIndex(Integer collectionIndex) {
+        return (XmlPath) super.withVacantCollectionIndex(collectionIndex);
+    }
+
     public XmlSegmentContext getLastSegment() {
         return (XmlSegmentContext) super.getLastSegment();
     }
@@ -140,21 +150,14 @@ public class XmlPath extends AtlasPath {
             return qname;
         }
 
-        protected XmlSegmentContext rebuild() {
-            StringBuilder buf = new StringBuilder();
-            if (isAttribute()) {
-                buf.append(PATH_ATTRIBUTE_PREFIX);
-            }
-            buf.append(qname);
-            String index = getCollectionIndex() != null ? getCollectionIndex().toString() : "";
-            if (getCollectionType() == CollectionType.ARRAY) {
-                buf.append(PATH_ARRAY_START).append(index).append(PATH_ARRAY_END);
-            } else if (getCollectionType() == CollectionType.LIST) {
-                buf.append(PATH_LIST_START).append(index).append(PATH_LIST_END);
-            } else if (getCollectionType() == CollectionType.MAP) {
-                buf.append(PATH_LIST_START).append(getMapKey()).append(PATH_LIST_END);
-            }
-            return new XmlSegmentContext(buf.toString());
+        @Override
+        protected XmlSegmentContext withCollectionIndex(Integer index) {
+            return (XmlSegmentContext) super.withCollectionIndex(index);
+        }
+
+        @Override
+        protected String buildExpression() {
+            return buildExpression(qname);
         }
 
         @Override
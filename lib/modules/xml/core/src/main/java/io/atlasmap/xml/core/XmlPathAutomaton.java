@@ -0,0 +1,396 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.xml.core;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import io.atlasmap.v2.CollectionType;
+import io.atlasmap.xml.core.XmlPath.XmlSegmentContext;
+
+/**
+ * A compiled set of XML field paths which pulls the matching values out of a document in a
+ * single StAX pass, without building a DOM. Only the values on the compiled paths are kept,
+ * together with the position of each repeating element.
+ * <p>
+ * The matched values are not emitted while the parser goes through the collection items, all of
+ * them are kept in {@link Values} until the end of the document. The mapping engine reads each
+ * source field as a whole once the document has been read, so the memory is O(number of matched
+ * values) rather than O(document size). A document with a large mapped collection still holds
+ * every mapped item text in memory.
+ * <p>
+ * The paths are matched the same way {@link XmlFieldReader} does: the first segment is taken
+ * as the root element if it matches, otherwise the path is relative to the root element, and a
+ * non-collection segment only matches the first element of that name.
+ */
+public final class XmlPathAutomaton {
+
+    private static final int MAX_CACHED_ROOTS = 16;
+
+    private final List<XmlPath> paths;
+    private final Map<String, String> namespaces;
+    private final Map<String, State> statesByRoot = new ConcurrentHashMap<>();
+
+    private XmlPathAutomaton(List<XmlPath> paths, Map<String, String> namespaces) {
+        this.paths = paths;
+        this.namespaces = namespaces;
+    }
+
+    /**
+     * Compiles the field paths into an automaton.
+     *
+     * @param paths field paths to read
+     * @param namespaces namespace URIs keyed by the alias used in the paths, null key for the default namespace
+     * @return compiled automaton
+     */
+    public static XmlPathAutomaton compile(Collection<String> paths, Map<String, String> namespaces) {
+        List<XmlPath> xmlPaths = new ArrayList<>(paths.size());
+        for (String path : paths) {
+            xmlPaths.add(new XmlPath(path));
+        }
+        return new XmlPathAutomaton(Collections.unmodifiableList(xmlPaths),
+                namespaces != null ? new HashMap<>(namespaces) : Collections.emptyMap());
+    }
+
+    /**
+     * Reads the document from the stream reader and collects the values on the compiled paths.
+     *
+     * @param reader stream reader positioned before the root element
+     * @param namespaced whether the reader is namespace aware
+     * @return collected values
+     * @throws XMLStreamException failed to read the document
+     */
+    public Values read(XMLStreamReader reader, boolean namespaced) throws XMLStreamException {
+        Values values = null;
+        Deque<List<Match>> stack = new ArrayDeque<>();
+        List<StringBuilder> openTexts = new ArrayList<>();
+        while (reader.hasNext()) {
+            switch (reader.next()) {
+            case XMLStreamConstants.START_ELEMENT:
+                String localName = localNameOf(reader.getLocalName(), namespaced);
+                String uri = namespaced ? emptyToNull(reader.getNamespaceURI()) : null;
+                List<Match> frame;
+                if (values == null) {
+                    values = new Values(this, localName, uri, getRootState(localName, uri));
+                    frame = Collections.singletonList(new Match(values.root, new int[0]));
+                } else {
+                    frame = null;
+                    for (Match parent : stack.peek()) {
+                        for (State child : parent.state.elements) {
+                            if (!child.matches(localName, uri)) {
+                                continue;
+                            }
+                            int count = parent.nextCount(child);
+                            if (child.collection || count == 0) {
+                                if (frame == null) {
+                                    frame = new ArrayList<>(2);
+                                }
+                                frame.add(new Match(child, append(parent.indexes, count)));
+                            }
+                        }
+                    }
+                    if (frame == null) {
+                        frame = Collections.emptyList();
+                    }
+                }
+                for (Match m : frame) {
+                    for (State attribute : m.state.attributes) {
+                        values.add(attribute, m.indexes, attributeValue(reader, attribute.name));
+                    }
+                    if (m.state.terminal) {
+                        m.text = new StringBuilder();
+                        openTexts.add(m.text);
+                    }
+                }
+                stack.push(frame);
+                break;
+            case XMLStreamConstants.CHARACTERS:
+            case XMLStreamConstants.CDATA:
+            case XMLStreamConstants.SPACE:
+                if (!openTexts.isEmpty()) {
+                    String text = reader.getText();
+                    for (StringBuilder buf : openTexts) {
+                        buf.append(text);
+                    }
+                }
+                break;
+            case XMLStreamConstants.END_ELEMENT:
+                for (Match m : stack.pop()) {
+                    if (m.text != null) {
+                        values.add(m.state, m.indexes, m.text.toString());
+                        openTexts.remove(openTexts.size() - 1);
+                    }
+                }
+                break;
+            default:
+                break;
+            }
+        }
+        return values;
+    }
+
+    private State getRootState(String localName, String uri) {
+        String key = uri + '}' + localName;
+        State root = statesByRoot.get(key);
+        if (root != null) {
+            return root;
+        }
+        root = new State(null, null);
+        for (XmlPath path : paths) {
+            List<XmlSegmentContext> segments = path.getXmlSegments(false);
+            State state = root;
+            for (int i = rootOffset(segments, localName, uri); i < segments.size(); i++) {
+                XmlSegmentContext segment = segments.get(i);
+                state = state.getOrCreateChild(segment, namespaces.get(segment.getNamespace()));
+            }
+            state.terminal = true;
+        }
+        if (statesByRoot.size() < MAX_CACHED_ROOTS) {
+            statesByRoot.putIfAbsent(key, root);
+        }
+        return root;
+    }
+
+    private int rootOffset(List<XmlSegmentContext> segments, String rootLocalName, String rootUri) {
+        if (segments.size() < 2 || !segments.get(0).getName().startsWith(rootLocalName)) {
+            return 0;
+        }
+        String alias = segments.get(0).getNamespace();
+        String uri = alias != null ? namespaces.get(alias) : null;
+        return uri == null || uri.equals(rootUri) ? 1 : 0;
+    }
+
+    private static String attributeValue(XMLStreamReader reader, String qname) {
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            String prefix = reader.getAttributePrefix(i);
+            String name = reader.getAttributeLocalName(i);
+            if (prefix != null && !prefix.isEmpty()) {
+                name = prefix + XmlPath.PATH_NAMESPACE_SEPARATOR + name;
+            }
+            if (name.equals(qname)) {
+                return reader.getAttributeValue(i);
+            }
+        }
+        // same as Element.getAttribute()
+        return "";
+    }
+
+    private static String localNameOf(String name, boolean namespaced) {
+        if (namespaced) {
+            return name;
+        }
+        int index = name.indexOf(XmlPath.PATH_NAMESPACE_SEPARATOR);
+        return index >= 0 ? name.substring(index + 1) : name;
+    }
+
+    private static String emptyToNull(String uri) {
+        return uri == null || uri.isEmpty() ? null : uri;
+    }
+
+    private static int[] append(int[] indexes, int index) {
+        int[] answer = Arrays.copyOf(indexes, indexes.length + 1);
+        answer[indexes.length] = index;
+        return answer;
+    }
+
+    /**
+     * The values collected from a document.
+     */
+    public static final class Values {
+        private final XmlPathAutomaton automaton;
+        private final String rootLocalName;
+        private final String rootUri;
+        private final State root;
+        private final Map<State, List<Value>> values = new IdentityHashMap<>();
+
+        private Values(XmlPathAutomaton automaton, String rootLocalName, String rootUri, State root) {
+            this.automaton = automaton;
+            this.rootLocalName = rootLocalName;
+            this.rootUri = rootUri;
+            this.root = root;
+        }
+
+        private void add(State state, int[] indexes, String text) {
+            values.computeIfAbsent(state, k -> new ArrayList<>()).add(new Value(indexes, text));
+        }
+
+        /**
+         * Gets the values on the path in document order. If the path has a collection without
+         * an index, the returned values carry the path of each item.
+         *
+         * @param path field path, which needs to be one of the compiled paths or an indexed form of it
+         * @return matching values
+         */
+        public List<Value> get(XmlPath path) {
+            List<XmlSegmentContext> segments = path.getXmlSegments(false);
+            int offset = automaton.rootOffset(segments, rootLocalName, rootUri);
+            State state = root;
+            for (int i = offset; i < segments.size() && state != null; i++) {
+                XmlSegmentContext segment = segments.get(i);
+                state = state.getChild(segment, automaton.namespaces.get(segment.getNamespace()));
+            }
+            List<Value> candidates = state != null ? values.get(state) : null;
+            if (candidates == null) {
+                return Collections.emptyList();
+            }
+            List<Value> answer = new ArrayList<>(candidates.size());
+            for (Value candidate : candidates) {
+                XmlPath itemPath = path;
+                boolean matched = true;
+                for (int i = 0; i < candidate.indexes.length && matched; i++) {
+                    XmlSegmentContext segment = segments.get(offset + i);
+                    int index = candidate.indexes[i];
+                    if (segment.getCollectionType() == CollectionType.NONE) {
+                        matched = index == 0;
+                    } else if (segment.getCollectionIndex() != null) {
+                        matched = index == segment.getCollectionIndex();
+                    } else {
+                        itemPath = itemPath.withCollectionIndex(offset + i + 1, index);
+                    }
+                }
+                if (matched) {
+                    answer.add(itemPath == path ? candidate : new Value(candidate.indexes, candidate.text, itemPath));
+                }
+            }
+            return answer;
+        }
+    }
+
+    /**
+     * A value found in the document.
+     */
+    public static final class Value {
+        private final int[] indexes;
+        private final String text;
+        private final XmlPath path;
+
+        private Value(int[] indexes, String text) {
+            this(indexes, text, null);
+        }
+
+        private Value(int[] indexes, String text, XmlPath path) {
+            this.indexes = indexes;
+            this.text = text;
+            this.path = path;
+        }
+
+        /**
+         * Gets the text content of the element or the value of the attribute.
+         *
+         * @return text
+         */
+        public String getText() {
+            return text;
+        }
+
+        /**
+         * Gets the path of the collection item, or null if the value was not looked up with
+         * a non-indexed collection path.
+         *
+         * @return item path or null
+         */
+        public XmlPath getPath() {
+            return path;
+        }
+    }
+
+    private static final class State {
+        private final String name;
+        private final String uri;
+        private final List<State> elements = new ArrayList<>(2);
+        private final List<State> attributes = new ArrayList<>(0);
+        private boolean collection;
+        private boolean terminal;
+
+        private State(String name, String uri) {
+            this.name = name;
+            this.uri = uri;
+        }
+
+        private boolean matches(String localName, String elementUri) {
+            return name.equals(localName) && (uri == null || uri.equals(elementUri));
+        }
+
+        private State getChild(XmlSegmentContext segment, String segmentUri) {
+            if (segment.isAttribute()) {
+                for (State s : attributes) {
+                    if (s.name.equals(segment.getQName())) {
+                        return s;
+                    }
+                }
+                return null;
+            }
+            for (State s : elements) {
+                if (s.name.equals(segment.getName()) && (s.uri == null ? segmentUri == null : s.uri.equals(segmentUri))) {
+                    return s;
+                }
+            }
+            return null;
+        }
+
+        private State getOrCreateChild(XmlSegmentContext segment, String segmentUri) {
+            State child = getChild(segment, segmentUri);
+            if (child == null) {
+                if (segment.isAttribute()) {
+                    // matched by the qualified name like Element.getAttribute()
+                    child = new State(segment.getQName(), null);
+                    attributes.add(child);
+                } else {
+                    child = new State(segment.getName(), segmentUri);
+                    elements.add(child);
+                }
+            }
+            if (segment.getCollectionType() != CollectionType.NONE) {
+                child.collection = true;
+            }
+            return child;
+        }
+    }
+
+    private static final class Match {
+        private final State state;
+        private final int[] indexes;
+        private Map<State, int[]> counts;
+        private StringBuilder text;
+
+        private Match(State state, int[] indexes) {
+            this.state = state;
+            this.indexes = indexes;
+        }
+
+        private int nextCount(State child) {
+            if (counts == null) {
+                counts = new IdentityHashMap<>();
+            }
+            int[] count = counts.computeIfAbsent(child, k -> new int[1]);
+            return count[0]++;
+        }
+    }
+
+}
@@ -0,0 +1,157 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.xml.core;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.List;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.atlasmap.api.AtlasConversionException;
+import io.atlasmap.api.AtlasException;
+import io.atlasmap.core.AtlasUtil;
+import io.atlasmap.spi.AtlasConversionService;
+import io.atlasmap.spi.AtlasFieldReader;
+import io.atlasmap.spi.AtlasInternalSession;
+import io.atlasmap.v2.AtlasModelFactory;
+import io.atlasmap.v2.AuditStatus;
+import io.atlasmap.v2.Field;
+import io.atlasmap.v2.FieldGroup;
+import io.atlasmap.v2.FieldType;
+import io.atlasmap.xml.v2.AtlasXmlModelFactory;
+import io.atlasmap.xml.v2.XmlField;
+
+/**
+ * An {@link AtlasFieldReader} which reads the source XML document with a StAX parser in a single
+ * pass, keeping only the values on the paths compiled into the {@link XmlPathAutomaton}. It reads
+ * simple fields and collections of them, the complex field groups need {@link XmlFieldReader}.
+ */
+public class XmlStreamingFieldReader implements AtlasFieldReader {
+
+    private static final Logger LOG = LoggerFactory.getLogger(XmlStreamingFieldReader.class);
+
+    private final XmlIOHelper xmlHelper;
+    private final AtlasConversionService conversionService;
+    private final XmlPathAutomaton automaton;
+    private XmlPathAutomaton.Values values;
+
+    public XmlStreamingFieldReader(XmlIOHelper xmlHelper, AtlasConversionService conversionService,
+            XmlPathAutomaton automaton) {
+        this.xmlHelper = xmlHelper;
+        this.conversionService = conversionService;
+        this.automaton = automaton;
+    }
+
+    /**
+     * Reads the document and collects the values on the compiled paths.
+     *
+     * @param document String, {@link Reader} or {@link InputStream} to read the document from,
+     * which is not closed
+     * @param namespaced whether to enable namespace support
+     * @throws AtlasException failed to read the document
+     */
+    public void setDocument(Object document, boolean namespaced) throws AtlasException {
+        if (document == null) {
+            this.values = null;
+            return;
+        }
+        XMLStreamReader reader = null;
+        try {
+            if (document instanceof String) {
+                reader = xmlHelper.createXMLStreamReader(new StringReader((String) document), namespaced);
+            } else if (document instanceof Reader) {
+                reader = xmlHelper.createXMLStreamReader((Reader) document, namespaced);
+            } else if (document instanceof InputStream) {
+                reader = xmlHelper.createXMLStreamReader((InputStream) document, namespaced);
+            } else {
+                throw new AtlasException(String.format("Unsupported document type '%s'", document.getClass()));
+            }
+            this.values = automaton.read(reader, namespaced);
+        } catch (XMLStreamException e) {
+            throw new AtlasException("Failed to read XML document", e);
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (XMLStreamException e) {
+                    LOG.debug("Failed to close XML stream reader", e);
+                }
+            }
+        }
+    }
+
+    @Override
+    public Field read(AtlasInternalSession session) throws AtlasException {
+        Field field = session.head().getSourceField();
+        if (field == null) {
+            throw new AtlasException(new IllegalArgumentException("Argument 'field' cannot be null"));
+        }
+        if (values == null) {
+            AtlasUtil.addAudit(session, field.getDocId(),
+                    String.format("Cannot read field '%s' of document '%s', document is null",
+                            field.getPath(), field.getDocId()),
+                    field.getPath(), AuditStatus.ERROR, null);
+            return field;
+        }
+        if (!(field instanceof XmlField)) {
+            throw new AtlasException(String.format("Unsupported field type '%s'", field.getClass()));
+        }
+
+        XmlPath path = new XmlPath(field.getPath());
+        List<XmlPathAutomaton.Value> found = values.get(path);
+        if (path.hasCollection() && !path.isIndexedCollection()) {
+            FieldGroup fieldGroup = AtlasModelFactory.createFieldGroupFrom(field, true);
+            for (XmlPathAutomaton.Value value : found) {
+                XmlField itemField = AtlasXmlModelFactory.cloneField((XmlField) field, false);
+                itemField.setPath(value.getPath().toString());
+                itemField.setIndex(null);
+                copyValue(session, value.getText(), itemField);
+                fieldGroup.getField().add(itemField);
+            }
+            session.head().setSourceField(fieldGroup);
+            return fieldGroup;
+        } else if (found.size() == 1) {
+            XmlField xmlField = AtlasXmlModelFactory.cloneField((XmlField) field, true);
+            copyValue(session, found.get(0).getText(), xmlField);
+            field.setValue(xmlField.getValue());
+        }
+        return field;
+    }
+
+    private void copyValue(AtlasInternalSession session, String value, XmlField xmlField) {
+        if (xmlField.getFieldType() == null) {
+            xmlField.setFieldType(FieldType.STRING);
+        }
+        if (xmlField.getFieldType() == FieldType.STRING) {
+            xmlField.setValue(value);
+            return;
+        }
+        try {
+            xmlField.setValue(conversionService.convertType(value, xmlField.getFormat(), xmlField.getFieldType(), null));
+        } catch (AtlasConversionException e) {
+            AtlasUtil.addAudit(session, xmlField.getDocId(),
+                    String.format("Failed to convert field value '%s' into type '%s'", value, xmlField.getFieldType()),
+                    xmlField.getPath(), AuditStatus.ERROR, value);
+        }
+    }
+
+}
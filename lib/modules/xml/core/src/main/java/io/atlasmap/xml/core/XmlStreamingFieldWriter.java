@@ -0,0 +1,431 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.xml.core;
+
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.w3c.dom.Attr;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.ProcessingInstruction;
+
+import io.atlasmap.api.AtlasException;
+import io.atlasmap.spi.AtlasInternalSession;
+import io.atlasmap.v2.CollectionType;
+import io.atlasmap.v2.Field;
+import io.atlasmap.xml.core.XmlPath.XmlSegmentContext;
+
+/**
+ * A {@link XmlFieldWriter} which emits the target document in document order through a StAX
+ * {@link XMLStreamWriter} into a caller-supplied {@link OutputStream} or {@link Writer}, instead of
+ * keeping the whole DOM until the end. Once the first item of the outermost target collection is
+ * complete, which is determined by the {@link StreamPlan} compiled from the target paths in mapping
+ * order, the enclosing elements are opened together with their attributes and the children preceding
+ * the collection, and from then on the items are written out and released as soon as the last mapping
+ * into the collection moves on to the next item. Only the open elements and the pending items are kept.
+ * <p>
+ * The mappings are processed one after another, each of them going through the whole collection, so an
+ * item is complete only when the last mapping into the collection has reached it. With a single mapping
+ * into the collection the items are released one by one. With several, the earlier mappings create every
+ * item before the last one starts, so all N items are pending in the DOM at that point and the memory is
+ * O(N) as in {@link XmlFieldWriter}; only the enclosing elements and the items already released by the
+ * last mapping are saved.
+ * <p>
+ * Since the opened elements can't be changed anymore, writing an attribute of them or an element
+ * which has already been written out fails. The target schema is not enforced on the streamed document.
+ */
+public class XmlStreamingFieldWriter extends XmlFieldWriter {
+    private static final Logger LOG = LoggerFactory.getLogger(XmlStreamingFieldWriter.class);
+
+    private final XMLStreamWriter writer;
+    private final String encoding;
+    private final StreamPlan plan;
+    private final List<Element> openElements = new ArrayList<>();
+    private final List<Set<String>> writtenNames = new ArrayList<>();
+    private boolean started;
+    private int flushedCount;
+
+    public XmlStreamingFieldWriter(ClassLoader classLoader, XmlIOHelper xmlHelper, Map<String, String> namespaces,
+            String seedDocument, OutputStream sink, StreamPlan plan) throws AtlasException {
+        super(classLoader, xmlHelper, namespaces, seedDocument);
+        this.plan = plan;
+        this.encoding = "UTF-8";
+        try {
+            this.writer = xmlHelper.createXMLStreamWriter(sink);
+        } catch (XMLStreamException e) {
+            throw new AtlasException("Failed to create XML stream writer", e);
+        }
+    }
+
+    public XmlStreamingFieldWriter(ClassLoader classLoader, XmlIOHelper xmlHelper, Map<String, String> namespaces,
+            String seedDocument, Writer sink, StreamPlan plan) throws AtlasException {
+        super(classLoader, xmlHelper, namespaces, seedDocument);
+        this.plan = plan;
+        this.encoding = null;
+        try {
+            this.writer = xmlHelper.createXMLStreamWriter(sink);
+        } catch (XMLStreamException e) {
+            throw new AtlasException("Failed to create XML stream writer", e);
+        }
+    }
+
+    /**
+     * Compiles the target paths in mapping order into a {@link StreamPlan}.
+     *
+     * @param targetPaths target field paths in the order the mappings are processed
+     * @return compiled plan
+     */
+    public static StreamPlan compile(List<String> targetPaths) {
+        List<String> chain = null;
+        String lastTemplate = null;
+        for (String p : targetPaths) {
+            XmlPath path = new XmlPath(p);
+            if (chain == null) {
+                chain = collectionChain(path);
+            }
+            if (chain != null && itemIndexOf(path, chain) != null) {
+                lastTemplate = templateOf(path);
+            }
+        }
+        return new StreamPlan(chain, lastTemplate);
+    }
+
+    @Override
+    public void write(AtlasInternalSession session) throws AtlasException {
+        if (plan.chain == null) {
+            super.write(session);
+            return;
+        }
+        Field targetField = session.head().getTargetField();
+        if (targetField == null) {
+            throw new AtlasException(new IllegalArgumentException("Argument 'field' cannot be null"));
+        }
+        String originalPath = targetField.getPath();
+        XmlPath path = new XmlPath(originalPath);
+        Integer index = itemIndexOf(path, plan.chain);
+        if (index != null && index >= 0 && index < flushedCount) {
+            throw new AtlasException(String.format(
+                    "Cannot write to '%s', the collection item has already been written out", originalPath));
+        }
+        if (started && index == null) {
+            checkNotWritten(path);
+        }
+        if (index != null && index >= 0 && flushedCount > 0) {
+            // the items written out are no longer in the document
+            targetField.setPath(path.withCollectionIndex(plan.chain.size(), index - flushedCount).toString());
+        }
+        try {
+            super.write(session);
+        } finally {
+            targetField.setPath(originalPath);
+        }
+        if (index != null && index > flushedCount && templateOf(path).equals(plan.lastTemplate)) {
+            flushItems(index);
+        }
+    }
+
+    /**
+     * Writes out the rest of the document and flushes the sink. The sink is not closed.
+     *
+     * @return true if anything was written
+     * @throws AtlasException failed to write the document
+     */
+    public boolean close() throws AtlasException {
+        try {
+            Element root = getDocument().getDocumentElement();
+            boolean written = started || root != null;
+            if (!started) {
+                if (root != null) {
+                    writeStartDocument();
+                    writeNode(root);
+                    writer.writeEndDocument();
+                }
+            } else {
+                for (int i = openElements.size() - 1; i >= 0; i--) {
+                    Element element = openElements.get(i);
+                    Node opened = i + 1 < openElements.size() ? openElements.get(i + 1) : null;
+                    for (Node child = element.getFirstChild(); child != null; child = child.getNextSibling()) {
+                        if (child != opened) {
+                            writeNode(child);
+                        }
+                    }
+                    writer.writeEndElement();
+                }
+                writer.writeEndDocument();
+            }
+            writer.flush();
+            writer.close();
+            return written;
+        } catch (XMLStreamException e) {
+            throw new AtlasException("Failed to write XML target document", e);
+        }
+    }
+
+    private void checkNotWritten(XmlPath path) throws AtlasException {
+        List<XmlSegmentContext> segments = path.getXmlSegments(false);
+        for (int i = 1; i < segments.size(); i++) {
+            XmlSegmentContext segment = segments.get(i);
+            if (!segment.isAttribute() && i < openElements.size()
+                    && segment.getCollectionType() == CollectionType.NONE
+                    && segment.getQName().equals(plan.chain.get(i))) {
+                continue;
+            }
+            if (!segment.isAttribute() && !writtenNames.get(i - 1).contains(segment.getQName())) {
+                return;
+            }
+            break;
+        }
+        throw new AtlasException(String.format(
+                "Cannot write to '%s', the element has already been written out", path));
+    }
+
+    private void flushItems(int toIndex) throws AtlasException {
+        try {
+            if (!started && !startDocument()) {
+                return;
+            }
+            Element parent = openElements.get(openElements.size() - 1);
+            List<Element> items = XmlIOHelper.getChildrenWithName(plan.chain.get(plan.chain.size() - 1), parent);
+            for (int i = 0; i < toIndex - flushedCount && i < items.size(); i++) {
+                writeNode(items.get(i));
+                parent.removeChild(items.get(i));
+            }
+            flushedCount = toIndex;
+            writer.flush();
+        } catch (XMLStreamException e) {
+            throw new AtlasException("Failed to write XML target document", e);
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Streamed out {} collection items", toIndex);
+        }
+    }
+
+    private boolean startDocument() throws XMLStreamException {
+        List<Element> elements = new ArrayList<>(plan.chain.size() - 1);
+        Element element = getDocument().getDocumentElement();
+        for (int i = 0; i < plan.chain.size() - 1; i++) {
+            if (i > 0) {
+                List<Element> children = XmlIOHelper.getChildrenWithName(plan.chain.get(i), element);
+                element = children.isEmpty() ? null : children.get(0);
+            }
+            if (element == null || !element.getNodeName().equals(plan.chain.get(i))) {
+                return false;
+            }
+            elements.add(element);
+        }
+
+        writeStartDocument();
+        for (int i = 0; i < elements.size(); i++) {
+            element = elements.get(i);
+            writeStartElement(element);
+            Node stop = i + 1 < elements.size() ? elements.get(i + 1) : null;
+            if (stop == null) {
+                List<Element> items = XmlIOHelper.getChildrenWithName(plan.chain.get(i + 1), element);
+                stop = items.isEmpty() ? null : items.get(0);
+            }
+            Set<String> names = new HashSet<>();
+            Node child = element.getFirstChild();
+            while (child != null && child != stop) {
+                Node next = child.getNextSibling();
+                writeNode(child);
+                if (child instanceof Element) {
+                    names.add(child.getNodeName());
+                }
+                element.removeChild(child);
+                child = next;
+            }
+            writtenNames.add(names);
+        }
+        openElements.addAll(elements);
+        started = true;
+        return true;
+    }
+
+    private void writeStartDocument() throws XMLStreamException {
+        if (encoding != null) {
+            writer.writeStartDocument(encoding, "1.0");
+        } else {
+            writer.writeStartDocument("1.0");
+        }
+    }
+
+    private void writeNode(Node node) throws XMLStreamException {
+        switch (node.getNodeType()) {
+        case Node.ELEMENT_NODE:
+            writeStartElement((Element) node);
+            for (Node child = node.getFirstChild(); child != null; child = child.getNextSibling()) {
+                writeNode(child);
+            }
+            writer.writeEndElement();
+            break;
+        case Node.TEXT_NODE:
+            writer.writeCharacters(node.getNodeValue());
+            break;
+        case Node.CDATA_SECTION_NODE:
+            writer.writeCData(node.getNodeValue());
+            break;
+        case Node.COMMENT_NODE:
+            writer.writeComment(node.getNodeValue());
+            break;
+        case Node.PROCESSING_INSTRUCTION_NODE:
+            ProcessingInstruction pi = (ProcessingInstruction) node;
+            writer.writeProcessingInstruction(pi.getTarget(), pi.getData());
+            break;
+        default:
+            break;
+        }
+    }
+
+    private void writeStartElement(Element element) throws XMLStreamException {
+        String localName = element.getLocalName();
+        String prefix = element.getPrefix() != null ? element.getPrefix() : XMLConstants.DEFAULT_NS_PREFIX;
+        String uri = element.getNamespaceURI();
+        if (localName == null || uri == null) {
+            writer.writeStartElement(element.getNodeName());
+        } else {
+            writer.writeStartElement(prefix, localName, uri);
+        }
+
+        NamedNodeMap attributes = element.getAttributes();
+        List<Attr> values = new ArrayList<>(attributes.getLength());
+        for (int i = 0; i < attributes.getLength(); i++) {
+            Attr attr = (Attr) attributes.item(i);
+            String name = attr.getName();
+            if (XMLConstants.XMLNS_ATTRIBUTE.equals(name)) {
+                writer.writeDefaultNamespace(attr.getValue());
+                writer.setDefaultNamespace(attr.getValue());
+            } else if (name.startsWith(XMLConstants.XMLNS_ATTRIBUTE + ":")) {
+                String alias = name.substring(XMLConstants.XMLNS_ATTRIBUTE.length() + 1);
+                writer.writeNamespace(alias, attr.getValue());
+                writer.setPrefix(alias, attr.getValue());
+            } else {
+                values.add(attr);
+            }
+        }
+        if (localName != null && uri != null) {
+            declareIfMissing(prefix, uri);
+        }
+        for (Attr attr : values) {
+            if (attr.getLocalName() == null || attr.getNamespaceURI() == null) {
+                writer.writeAttribute(attr.getName(), attr.getValue());
+            } else {
+                String attrPrefix = attr.getPrefix() != null ? attr.getPrefix() : XMLConstants.DEFAULT_NS_PREFIX;
+                declareIfMissing(attrPrefix, attr.getNamespaceURI());
+                writer.writeAttribute(attrPrefix, attr.getNamespaceURI(), attr.getLocalName(), attr.getValue());
+            }
+        }
+    }
+
+    private void declareIfMissing(String prefix, String uri) throws XMLStreamException {
+        if (uri.equals(writer.getNamespaceContext().getNamespaceURI(prefix))) {
+            return;
+        }
+        if (XMLConstants.DEFAULT_NS_PREFIX.equals(prefix)) {
+            writer.writeDefaultNamespace(uri);
+            writer.setDefaultNamespace(uri);
+        } else {
+            writer.writeNamespace(prefix, uri);
+            writer.setPrefix(prefix, uri);
+        }
+    }
+
+    /**
+     * Gets the qualified names of the elements from the root down to the outermost collection, or
+     * null if there's no collection below the root element on the path.
+     */
+    private static List<String> collectionChain(XmlPath path) {
+        List<String> chain = new ArrayList<>();
+        for (XmlSegmentContext segment : path.getXmlSegments(false)) {
+            if (segment.isAttribute()) {
+                return null;
+            }
+            chain.add(segment.getQName());
+            if (segment.getCollectionType() != CollectionType.NONE) {
+                return chain.size() > 1 ? Collections.unmodifiableList(chain) : null;
+            }
+        }
+        return null;
+    }
+
+    private static Integer itemIndexOf(XmlPath path, List<String> chain) {
+        List<XmlSegmentContext> segments = path.getXmlSegments(false);
+        if (segments.size() < chain.size()) {
+            return null;
+        }
+        for (int i = 0; i < chain.size(); i++) {
+            XmlSegmentContext segment = segments.get(i);
+            if (segment.isAttribute() || !segment.getQName().equals(chain.get(i))
+                    || (segment.getCollectionType() != CollectionType.NONE) != (i == chain.size() - 1)) {
+                return null;
+            }
+        }
+        XmlSegmentContext collection = segments.get(chain.size() - 1);
+        return collection.getCollectionIndex() != null ? collection.getCollectionIndex() : -1;
+    }
+
+    private static String templateOf(XmlPath path) {
+        StringBuilder buf = new StringBuilder();
+        for (XmlSegmentContext segment : path.getXmlSegments(false)) {
+            buf.append('/');
+            if (segment.isAttribute()) {
+                buf.append('@');
+            }
+            buf.append(segment.getQName());
+            if (segment.getCollectionType() != CollectionType.NONE) {
+                buf.append("<>");
+            }
+        }
+        return buf.toString();
+    }
+
+    /**
+     * The compiled form of the target paths. It's immutable and shared by all the writers
+     * for the same mapping definition.
+     */
+    public static final class StreamPlan {
+        private final List<String> chain;
+        private final String lastTemplate;
+
+        private StreamPlan(List<String> chain, String lastTemplate) {
+            this.chain = chain;
+            this.lastTemplate = lastTemplate;
+        }
+
+        /**
+         * Whether the document has a collection whose items are streamed out.
+         *
+         * @return true if streaming collection items
+         */
+        public boolean hasCollection() {
+            return chain != null && lastTemplate != null;
+        }
+    }
+
+}
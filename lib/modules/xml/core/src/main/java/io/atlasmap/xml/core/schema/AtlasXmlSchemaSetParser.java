@@ -25,12 +25,7 @@ import java.util.LinkedList;
 import java.util.List;
 
 import javax.xml.XMLConstants;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.parsers.SAXParserFactory;
 import javax.xml.transform.Source;
-import javax.xml.transform.Transformer;
-import javax.xml.transform.TransformerFactory;
 import javax.xml.transform.dom.DOMSource;
 import javax.xml.transform.stream.StreamResult;
 import javax.xml.validation.Schema;
@@ -57,6 +52,7 @@ import com.sun.xml.xsom.util.DomAnnotationParserFactory;
 
 import io.atlasmap.api.AtlasException;
 import io.atlasmap.xml.core.AtlasXmlNamespaceContext;
+import io.atlasmap.xml.core.XmlIOHelper;
 
 public class AtlasXmlSchemaSetParser {
 
@@ -64,22 +60,16 @@ public class AtlasXmlSchemaSetParser {
     private ClassLoader classLoader;
     private AtlasXmlNamespaceContext namespaceContext;
     private String rootNamespace;
-    private SAXParserFactory saxParserFactory;
-    private Transformer transformer;
-    private DocumentBuilder documentBuilder;
+    private XmlIOHelper xmlHelper;
 
     public AtlasXmlSchemaSetParser(ClassLoader cl) throws AtlasException {
+        this(cl, XmlIOHelper.getInstance(cl));
+    }
+
+    public AtlasXmlSchemaSetParser(ClassLoader cl, XmlIOHelper xmlHelper) {
         this.classLoader = cl;
         this.namespaceContext = new AtlasXmlNamespaceContext();
-        this.saxParserFactory = SAXParserFactory.newInstance();
-        try {
-            this.transformer = TransformerFactory.newInstance().newTransformer();
-            DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-            dbf.setNamespaceAware(true);
-            this.documentBuilder = dbf.newDocumentBuilder();
-        } catch (Exception e) {
-            throw new AtlasException(e);
-        }
+        this.xmlHelper = xmlHelper;
     }
 
     /**
@@ -114,7 +104,7 @@ public class AtlasXmlSchemaSetParser {
      */
     public XSSchemaSet parse(InputStream in) throws AtlasException {
         try {
-            Document doc = this.documentBuilder.parse(in);
+            Document doc = this.xmlHelper.parseDocument(in, true);
             return parse(doc);
         } catch (Exception e) {
             throw new AtlasException(e);
@@ -133,7 +123,7 @@ public class AtlasXmlSchemaSetParser {
         List<Source> schemaSources = new LinkedList<>();
         Document doc;
         try {
-            doc = this.documentBuilder.parse(in);
+            doc = this.xmlHelper.parseDocument(in, true);
             parseInternal(doc, n -> {
                 DOMSource s = new DOMSource(n);
                 schemaSources.add(s);
@@ -247,7 +237,7 @@ public class AtlasXmlSchemaSetParser {
     }
 
     private XSOMParser createXSOMParser() {
-        XSOMParser parser = new XSOMParser(this.saxParserFactory);
+        XSOMParser parser = new XSOMParser(this.xmlHelper.getSAXParserFactory());
         parser.setEntityResolver(new XSOMClasspathEntityResolver(this.classLoader));
         parser.setAnnotationParser(new DomAnnotationParserFactory());
         parser.setErrorHandler(new XSOMErrorHandler());
@@ -275,7 +265,7 @@ public class AtlasXmlSchemaSetParser {
 
     private ByteArrayInputStream toInputStream(Node n) throws Exception {
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        this.transformer.transform(new DOMSource(n), new StreamResult(baos));
+        this.xmlHelper.transform(n, new StreamResult(baos));
         byte[] output = baos.toByteArray();
         if (LOG.isTraceEnabled()) {
             LOG.trace(">>> {}", new String(output));
@@ -21,17 +21,18 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
 
 import org.w3c.dom.Document;
 import org.xml.sax.SAXException;
 
+import io.atlasmap.xml.core.XmlIOHelper;
 import io.atlasmap.xml.v2.XmlDocument;
 
 public class XmlInspectionService {
 
+    private static final XmlIOHelper XML_HELPER = XmlIOHelper.getInstance(XmlInspectionService.class.getClassLoader());
+
     public XmlDocument inspectXmlDocument(String sourceDocument) throws XmlInspectionException {
         if (sourceDocument == null || sourceDocument.isEmpty()) {
             throw new IllegalArgumentException("Source must be specified");
@@ -87,9 +88,6 @@ public class XmlInspectionService {
 
     private Document getDocument(InputStream is, boolean namespaced)
             throws ParserConfigurationException, SAXException, IOException {
-        DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-        dbf.setNamespaceAware(namespaced); // this must be done to use namespaces
-        DocumentBuilder b = dbf.newDocumentBuilder();
-        return b.parse(is);
+        return XML_HELPER.parseDocument(is, namespaced);
     }
 }
@@ -808,7 +808,7 @@ public class XmlFieldReaderTest {
         xmlDataSource.setXmlNamespaces(atlasNamespaces);
         dataSources.add(xmlDataSource);
         when(atlasMapping.getDataSource()).thenReturn(dataSources);
-        when(session.getMapping()).thenReturn(atlasMapping);
+        when(session.getReadOnlyMapping()).thenReturn(atlasMapping);
     }
 
 }
@@ -0,0 +1,100 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.xml.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+public class XmlIOHelperTest {
+
+    private XmlIOHelper helper = new XmlIOHelper(XmlIOHelperTest.class.getClassLoader());
+
+    @Test
+    public void testParseDocument() throws Exception {
+        String xml = "<ns:order xmlns:ns=\"urn:test\"><ns:id>1</ns:id></ns:order>";
+        Document namespaced = helper.parseDocument(stream(xml), true);
+        assertEquals("urn:test", namespaced.getDocumentElement().getNamespaceURI());
+        assertEquals("order", namespaced.getDocumentElement().getLocalName());
+
+        Document plain = helper.parseDocument(stream(xml), false);
+        assertNull(plain.getDocumentElement().getNamespaceURI());
+        assertEquals("ns:order", plain.getDocumentElement().getTagName());
+
+        // the pooled builders are reset between uses
+        namespaced = helper.parseDocument(stream(xml), true);
+        assertEquals("urn:test", namespaced.getDocumentElement().getNamespaceURI());
+    }
+
+    @Test
+    public void testSharedInstance() throws Exception {
+        ClassLoader cl = XmlIOHelperTest.class.getClassLoader();
+        XmlIOHelper shared = XmlIOHelper.getInstance(cl);
+        assertSame(shared, XmlIOHelper.getInstance(cl));
+        assertSame(shared, new XmlFieldWriter(cl, new HashMap<>(), null).xmlHelper);
+        assertSame(shared, new XmlFieldReader(cl, null).xmlHelper);
+        assertTrue(shared.getSAXParserFactory().isNamespaceAware());
+    }
+
+    @Test
+    public void testConcurrentParseAndWrite() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                final int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 200; i++) {
+                        Document doc = helper.newDocument(true);
+                        Element root = doc.createElement("order");
+                        root.setTextContent(thread + "-" + i);
+                        doc.appendChild(root);
+                        String written = helper.writeDocumentToString(true, doc);
+                        assertTrue(written, written.endsWith("<order>" + thread + "-" + i + "</order>"));
+                        Document parsed = helper.parseDocument(stream(written), true);
+                        assertEquals(thread + "-" + i, parsed.getDocumentElement().getTextContent());
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> f : futures) {
+                f.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private ByteArrayInputStream stream(String xml) {
+        return new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8));
+    }
+
+}
@@ -39,4 +39,14 @@ public class XmlPathTest {
 
     }
 
+    @Test
+    public void testWithCollectionIndex() {
+        XmlPath path = new XmlPath("/x:orders/x:order<>/@y:id");
+        XmlPath indexed = path.withCollectionIndex(2, 1);
+        assertEquals("/x:orders/x:order<1>/@y:id", indexed.toString());
+        assertEquals("x", indexed.getXmlSegments(false).get(1).getNamespace());
+        assertEquals("x:order", indexed.getXmlSegments(false).get(1).getQName());
+        assertEquals("/x:orders/x:order<>/@y:id", path.toString());
+    }
+
 }
@@ -0,0 +1,178 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.xml.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.w3c.dom.Document;
+
+import io.atlasmap.core.DefaultAtlasConversionService;
+import io.atlasmap.spi.AtlasInternalSession;
+import io.atlasmap.spi.AtlasInternalSession.Head;
+import io.atlasmap.v2.AtlasMapping;
+import io.atlasmap.v2.DataSourceType;
+import io.atlasmap.v2.Field;
+import io.atlasmap.v2.FieldGroup;
+import io.atlasmap.v2.FieldType;
+import io.atlasmap.xml.v2.AtlasXmlModelFactory;
+import io.atlasmap.xml.v2.XmlDataSource;
+import io.atlasmap.xml.v2.XmlField;
+import io.atlasmap.xml.v2.XmlNamespace;
+import io.atlasmap.xml.v2.XmlNamespaces;
+
+public class XmlStreamingFieldReaderTest {
+
+    private XmlIOHelper xmlHelper = new XmlIOHelper(XmlStreamingFieldReaderTest.class.getClassLoader());
+
+    @Test
+    public void testReadSameAsDom() throws Exception {
+        List<String> paths = Arrays.asList("/orders/@totalCost", "/orders/order/id", "/orders/order[2]/id[1]/@custId",
+                "/orders/order<>/id<>", "/orders/order<>/id<>/@custId", "/orders/order[3]/id<>", "/order<>/id",
+                "/orders/order/missing");
+        assertSameAsDom("src/test/resources/complex_example.xml", paths, new HashMap<>(), false);
+    }
+
+    @Test
+    public void testReadSameAsDomWithNamespaces() throws Exception {
+        Map<String, String> namespaces = new HashMap<>();
+        namespaces.put("q", "http://www.example.com/q/");
+        namespaces.put("y", "http://www.example.com/y/");
+        List<String> paths = Arrays.asList("/orders/q:order[0]/id[0]/@y:custId", "/orders/order/id/@y:custId",
+                "/orders/q:order[1]/id/@y:custId", "/orders/q:order<>/id", "/orders/order<>/id<>");
+        assertSameAsDom("src/test/resources/complex_example_multiple_ns.xml", paths, namespaces, true);
+    }
+
+    @Test
+    public void testReadConvertedCollection() throws Exception {
+        XmlPathAutomaton automaton = XmlPathAutomaton.compile(Arrays.asList("/orders/order<>/id"), null);
+        XmlStreamingFieldReader reader = new XmlStreamingFieldReader(xmlHelper,
+                DefaultAtlasConversionService.getInstance(), automaton);
+        reader.setDocument("<orders><order><id>1</id></order><other/><order><id>2</id><id>3</id></order></orders>",
+                false);
+
+        XmlField field = AtlasXmlModelFactory.createXmlField();
+        field.setPath("/orders/order<>/id");
+        field.setFieldType(FieldType.INTEGER);
+        Field answer = read(reader, field);
+        assertTrue(answer instanceof FieldGroup);
+        List<Field> items = ((FieldGroup) answer).getField();
+        assertEquals(2, items.size());
+        assertEquals("/orders/order<0>/id", items.get(0).getPath());
+        assertEquals(1, items.get(0).getValue());
+        assertEquals("/orders/order<1>/id", items.get(1).getPath());
+        assertEquals(2, items.get(1).getValue());
+    }
+
+    @Test
+    public void testReadTextContent() throws Exception {
+        XmlPathAutomaton automaton = XmlPathAutomaton.compile(Arrays.asList("/a/b", "/a/b/c"), null);
+        XmlStreamingFieldReader reader = new XmlStreamingFieldReader(xmlHelper,
+                DefaultAtlasConversionService.getInstance(), automaton);
+        reader.setDocument("<a><b>x<c>y</c><![CDATA[<z>]]></b></a>", true);
+
+        XmlField b = AtlasXmlModelFactory.createXmlField();
+        b.setPath("/a/b");
+        assertEquals("xy<z>", read(reader, b).getValue());
+        XmlField c = AtlasXmlModelFactory.createXmlField();
+        c.setPath("/a/b/c");
+        assertEquals("y", read(reader, c).getValue());
+        XmlField d = AtlasXmlModelFactory.createXmlField();
+        d.setPath("/a/d");
+        assertNull(read(reader, d).getValue());
+    }
+
+    private void assertSameAsDom(String file, List<String> paths, Map<String, String> namespaces,
+            boolean namespaced) throws Exception {
+        XmlFieldReader domReader = new XmlFieldReader(XmlFieldReader.class.getClassLoader(),
+                DefaultAtlasConversionService.getInstance());
+        Document doc;
+        try (InputStream in = new FileInputStream(file)) {
+            doc = xmlHelper.parseDocument(in, namespaced);
+        }
+        domReader.setDocument(doc);
+
+        XmlStreamingFieldReader streamingReader = new XmlStreamingFieldReader(xmlHelper,
+                DefaultAtlasConversionService.getInstance(), XmlPathAutomaton.compile(paths, namespaces));
+        try (InputStream in = new FileInputStream(file)) {
+            streamingReader.setDocument(in, namespaced);
+        }
+
+        for (String path : paths) {
+            XmlField domField = AtlasXmlModelFactory.createXmlField();
+            domField.setPath(path);
+            XmlField streamingField = AtlasXmlModelFactory.createXmlField();
+            streamingField.setPath(path);
+            AtlasInternalSession session = mockSession(domField);
+            if (!namespaces.isEmpty()) {
+                mockNamespaces(session, namespaces);
+            }
+            assertEquals(path, describe(domReader.read(session)), describe(read(streamingReader, streamingField)));
+        }
+    }
+
+    private Field read(XmlStreamingFieldReader reader, XmlField field) throws Exception {
+        return reader.read(mockSession(field));
+    }
+
+    private AtlasInternalSession mockSession(XmlField field) {
+        AtlasInternalSession session = mock(AtlasInternalSession.class);
+        when(session.head()).thenReturn(mock(Head.class));
+        when(session.head().getSourceField()).thenReturn(field);
+        return session;
+    }
+
+    private void mockNamespaces(AtlasInternalSession session, Map<String, String> namespaces) {
+        XmlNamespaces xmlNamespaces = new XmlNamespaces();
+        namespaces.forEach((alias, uri) -> {
+            XmlNamespace ns = new XmlNamespace();
+            ns.setAlias(alias);
+            ns.setUri(uri);
+            xmlNamespaces.getXmlNamespace().add(ns);
+        });
+        XmlDataSource dataSource = new XmlDataSource();
+        dataSource.setId("docId");
+        dataSource.setDataSourceType(DataSourceType.SOURCE);
+        dataSource.setXmlNamespaces(xmlNamespaces);
+        AtlasMapping mapping = new AtlasMapping();
+        mapping.getDataSource().add(dataSource);
+        when(session.getReadOnlyMapping()).thenReturn(mapping);
+        session.head().getSourceField().setDocId("docId");
+    }
+
+    private String describe(Field field) {
+        if (field instanceof FieldGroup) {
+            StringBuilder buf = new StringBuilder("[");
+            for (Field item : ((FieldGroup) field).getField()) {
+                buf.append(describe(item)).append(';');
+            }
+            return buf.append(']').toString();
+        }
+        return field.getPath() + "=" + field.getValue();
+    }
+
+}
@@ -0,0 +1,174 @@
+/**
+ * Copyright (C) 2017 Red Hat, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *         http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atlasmap.xml.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import io.atlasmap.api.AtlasException;
+import io.atlasmap.spi.AtlasInternalSession;
+import io.atlasmap.spi.AtlasInternalSession.Head;
+import io.atlasmap.v2.FieldType;
+import io.atlasmap.xml.core.XmlStreamingFieldWriter.StreamPlan;
+import io.atlasmap.xml.v2.AtlasXmlModelFactory;
+import io.atlasmap.xml.v2.XmlField;
+
+public class XmlStreamingFieldWriterTest {
+
+    private static final String DECLARATION = "<?xml version=\"1.0\"?>";
+
+    private XmlIOHelper xmlHelper = new XmlIOHelper(XmlStreamingFieldWriterTest.class.getClassLoader());
+
+    @Test
+    public void testStreamCollectionItems() throws Exception {
+        StreamPlan plan = XmlStreamingFieldWriter.compile(
+                Arrays.asList("/orders/@count", "/orders/order<>/id", "/orders/order<>/@name", "/orders/total"));
+        assertTrue(plan.hasCollection());
+        StringWriter sink = new StringWriter();
+        XmlStreamingFieldWriter writer = createWriter(new HashMap<>(), plan, sink);
+
+        write(writer, "/orders/@count", "2");
+        write(writer, "/orders/order<0>/id", "1");
+        write(writer, "/orders/order<1>/id", "2");
+        write(writer, "/orders/order<0>/@name", "first");
+        assertEquals("", sink.toString());
+        write(writer, "/orders/order<1>/@name", "second");
+        assertEquals(DECLARATION + "<orders count=\"2\"><order name=\"first\"><id>1</id></order>", sink.toString());
+        write(writer, "/orders/total", "3");
+
+        assertTrue(writer.close());
+        assertEquals(DECLARATION + "<orders count=\"2\"><order name=\"first\"><id>1</id></order>"
+                + "<order name=\"second\"><id>2</id></order><total>3</total></orders>", sink.toString());
+    }
+
+    @Test
+    public void testMultipleMappingsKeepItemsUntilLastMapping() throws Exception {
+        StreamPlan plan = XmlStreamingFieldWriter.compile(Arrays.asList("/orders/order<>/id", "/orders/order<>/name"));
+        StringWriter sink = new StringWriter();
+        XmlStreamingFieldWriter writer = createWriter(new HashMap<>(), plan, sink);
+
+        for (int i = 0; i < 3; i++) {
+            write(writer, "/orders/order<" + i + ">/id", Integer.toString(i));
+        }
+        // every item is pending until the last mapping reaches it
+        assertEquals("", sink.toString());
+        assertEquals(3, writer.getDocument().getElementsByTagName("order").getLength());
+
+        write(writer, "/orders/order<0>/name", "n0");
+        assertEquals("", sink.toString());
+        write(writer, "/orders/order<1>/name", "n1");
+        assertEquals(DECLARATION + "<orders><order><id>0</id><name>n0</name></order>", sink.toString());
+        assertEquals(2, writer.getDocument().getElementsByTagName("order").getLength());
+        write(writer, "/orders/order<2>/name", "n2");
+        assertEquals(1, writer.getDocument().getElementsByTagName("order").getLength());
+
+        assertTrue(writer.close());
+        assertEquals(DECLARATION + "<orders><order><id>0</id><name>n0</name></order>"
+                + "<order><id>1</id><name>n1</name></order><order><id>2</id><name>n2</name></order></orders>",
+                sink.toString());
+    }
+
+    @Test
+    public void testStreamWithNamespaces() throws Exception {
+        Map<String, String> namespaces = new HashMap<>();
+        namespaces.put("ns", "urn:test");
+        StreamPlan plan = XmlStreamingFieldWriter.compile(
+                Arrays.asList("/ns:orders/ns:header", "/ns:orders/ns:order<>/ns:id"));
+        ByteArrayOutputStream sink = new ByteArrayOutputStream();
+        XmlStreamingFieldWriter writer = createWriter(namespaces, plan, sink);
+
+        write(writer, "/ns:orders/ns:header", "h");
+        write(writer, "/ns:orders/ns:order<0>/ns:id", "1");
+        write(writer, "/ns:orders/ns:order<1>/ns:id", "2");
+        write(writer, "/ns:orders/ns:order<2>/ns:id", "3");
+        writer.close();
+
+        String answer = new String(sink.toByteArray(), StandardCharsets.UTF_8);
+        assertEquals("<?xml version=\"1.0\" encoding=\"UTF-8\"?><ns:orders xmlns:ns=\"urn:test\">"
+                + "<ns:header>h</ns:header><ns:order><ns:id>1</ns:id></ns:order><ns:order><ns:id>2</ns:id></ns:order>"
+                + "<ns:order><ns:id>3</ns:id></ns:order></ns:orders>", answer);
+        assertEquals("1", xmlHelper.parseDocument(new ByteArrayInputStream(sink.toByteArray()), true)
+                .getElementsByTagNameNS("urn:test", "id").item(0).getTextContent());
+    }
+
+    @Test
+    public void testNoCollection() throws Exception {
+        StreamPlan plan = XmlStreamingFieldWriter.compile(Arrays.asList("/car/brand"));
+        assertFalse(plan.hasCollection());
+        StringWriter sink = new StringWriter();
+        XmlStreamingFieldWriter writer = createWriter(new HashMap<>(), plan, sink);
+        assertFalse(writer.close());
+        assertEquals("", sink.toString());
+
+        writer = createWriter(new HashMap<>(), plan, sink);
+        write(writer, "/car/brand", "Mercedes");
+        assertTrue(writer.close());
+        assertEquals(DECLARATION + "<car><brand>Mercedes</brand></car>", sink.toString());
+    }
+
+    @Test(expected = AtlasException.class)
+    public void testWriteToFlushedItem() throws Exception {
+        StreamPlan plan = XmlStreamingFieldWriter.compile(Arrays.asList("/orders/order<>/id"));
+        XmlStreamingFieldWriter writer = createWriter(new HashMap<>(), plan, new StringWriter());
+        write(writer, "/orders/order<0>/id", "1");
+        write(writer, "/orders/order<1>/id", "2");
+        write(writer, "/orders/order<0>/id", "3");
+    }
+
+    @Test(expected = AtlasException.class)
+    public void testWriteToOpenedElement() throws Exception {
+        StreamPlan plan = XmlStreamingFieldWriter.compile(Arrays.asList("/orders/order<>/id"));
+        XmlStreamingFieldWriter writer = createWriter(new HashMap<>(), plan, new StringWriter());
+        write(writer, "/orders/order<0>/id", "1");
+        write(writer, "/orders/order<1>/id", "2");
+        write(writer, "/orders/@count", "2");
+    }
+
+    private XmlStreamingFieldWriter createWriter(Map<String, String> namespaces, StreamPlan plan, Object sink)
+            throws Exception {
+        if (sink instanceof StringWriter) {
+            return new XmlStreamingFieldWriter(getClass().getClassLoader(), xmlHelper, namespaces, null,
+                    (StringWriter) sink, plan);
+        }
+        return new XmlStreamingFieldWriter(getClass().getClassLoader(), xmlHelper, namespaces, null,
+                (ByteArrayOutputStream) sink, plan);
+    }
+
+    private void write(XmlFieldWriter writer, String path, String value) throws Exception {
+        XmlField field = AtlasXmlModelFactory.createXmlField();
+        field.setPath(path);
+        field.setValue(value);
+        field.setFieldType(FieldType.STRING);
+        AtlasInternalSession session = mock(AtlasInternalSession.class);
+        when(session.head()).thenReturn(mock(Head.class));
+        when(session.head().getTargetField()).thenReturn(field);
+        writer.write(session);
+    }
+
+}
@@ -16,13 +16,22 @@
 package io.atlasmap.xml.module;
 
 import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import javax.xml.XMLConstants;
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.namespace.QName;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,20 +45,32 @@ import io.atlasmap.api.AtlasException;
 import io.atlasmap.api.AtlasValidationException;
 import io.atlasmap.core.AtlasUtil;
 import io.atlasmap.core.BaseAtlasModule;
+import io.atlasmap.spi.AtlasFieldReader;
 import io.atlasmap.spi.AtlasInternalSession;
 import io.atlasmap.spi.AtlasModuleDetail;
+import io.atlasmap.spi.AtlasModuleMode;
+import io.atlasmap.v2.AtlasMapping;
 import io.atlasmap.v2.AtlasModelFactory;
 import io.atlasmap.v2.AuditStatus;
+import io.atlasmap.v2.BaseMapping;
+import io.atlasmap.v2.Collection;
 import io.atlasmap.v2.DataSource;
+import io.atlasmap.v2.DataSourceMetadata;
 import io.atlasmap.v2.DataSourceType;
 import io.atlasmap.v2.Field;
 import io.atlasmap.v2.FieldGroup;
+import io.atlasmap.v2.FieldType;
 import io.atlasmap.v2.InspectionType;
+import io.atlasmap.v2.Mapping;
 import io.atlasmap.v2.Validation;
 import io.atlasmap.xml.core.XmlFieldReader;
 import io.atlasmap.xml.core.XmlFieldWriter;
 import io.atlasmap.xml.core.XmlIOHelper;
 import io.atlasmap.xml.core.XmlPath;
+import io.atlasmap.xml.core.XmlPathAutomaton;
+import io.atlasmap.xml.core.XmlStreamingFieldReader;
+import io.atlasmap.xml.core.XmlStreamingFieldWriter;
+import io.atlasmap.xml.core.XmlStreamingFieldWriter.StreamPlan;
 import io.atlasmap.xml.core.schema.AtlasRewritingXSVisitor;
 import io.atlasmap.xml.core.schema.AtlasXmlSchemaSetParser;
 import io.atlasmap.xml.v2.AtlasXmlModelFactory;
@@ -61,24 +82,32 @@ import io.atlasmap.xml.v2.XmlNamespaces;
 @AtlasModuleDetail(name = "XmlModule", uri = "atlas:xml", modes = { "SOURCE", "TARGET" }, dataFormats = {
         "xml" }, configPackages = { "io.atlasmap.xml.v2" })
 public class XmlModule extends BaseAtlasModule {
+    /** URI parameter to read only the mapped values of the source document in a streaming pass. */
+    public static final String STREAMING_PARAMETER = "streaming";
     private static final Logger LOG = LoggerFactory.getLogger(XmlModule.class);
 
     private XmlIOHelper ioHelper;
+    private volatile TargetSchema targetSchema;
+    private volatile SourceAutomaton sourceAutomaton;
+    private volatile TargetStreamPlan targetStreamPlan;
 
     @Override
     public void init() throws AtlasException {
         super.init();
-        this.ioHelper = new XmlIOHelper(this.getClassLoader());
+        this.ioHelper = XmlIOHelper.getInstance(this.getClassLoader());
+        if (getMode() == AtlasModuleMode.TARGET) {
+            this.targetSchema = compileTargetSchema(getDataSourceMetadata());
+        }
     }
 
     @Override
     public void processPreValidation(AtlasInternalSession atlasSession) throws AtlasException {
-        if (atlasSession == null || atlasSession.getMapping() == null) {
+        if (atlasSession == null || atlasSession.getReadOnlyMapping() == null) {
             LOG.error("Invalid session: Session and AtlasMapping must be specified");
             throw new AtlasValidationException("Invalid session");
         }
 
-        List<Validation> xmlValidations = createValidationService().validateMapping(atlasSession.getMapping());
+        List<Validation> xmlValidations = createValidationService().validateMapping(atlasSession.getReadOnlyMapping());
         atlasSession.getValidations().getValidation().addAll(xmlValidations);
 
         if (LOG.isDebugEnabled()) {
@@ -100,6 +129,21 @@ public class XmlModule extends BaseAtlasModule {
     @Override
     public void processPreSourceExecution(AtlasInternalSession session) throws AtlasException {
         Object sourceDocument = session.getSourceDocument(getDocId());
+        if (isStreaming() && (sourceDocument instanceof String || sourceDocument instanceof Reader
+                || sourceDocument instanceof InputStream)) {
+            XmlPathAutomaton automaton = getSourceAutomaton(session.getReadOnlyMapping());
+            if (automaton != null) {
+                XmlStreamingFieldReader reader = new XmlStreamingFieldReader(getXmlIOHelper(),
+                        getConversionService(), automaton);
+                reader.setDocument(sourceDocument, !"true".equalsIgnoreCase(getUriParameters().get("disableNamespaces")));
+                session.setFieldReader(getDocId(), reader);
+                if (LOG.isDebugEnabled()) {
+                    LOG.debug("{}: processPreSourceExecution completed in streaming mode", getDocId());
+                }
+                return;
+            }
+        }
+
         String sourceDocumentString = null;
         boolean enableNamespaces = false;
         if (sourceDocument == null || !(sourceDocument instanceof String)) {
@@ -118,7 +162,7 @@ public class XmlModule extends BaseAtlasModule {
             sourceDocumentString = String.class.cast(sourceDocument);
         }
         Document sourceXmlDocument = convertToXmlDocument(sourceDocumentString, enableNamespaces);
-        XmlFieldReader reader = new XmlFieldReader(getClassLoader(), getConversionService());
+        XmlFieldReader reader = new XmlFieldReader(getClassLoader(), getXmlIOHelper(), getConversionService());
         reader.setDocument(sourceXmlDocument);
         session.setFieldReader(getDocId(), reader);
 
@@ -127,6 +171,157 @@ public class XmlModule extends BaseAtlasModule {
         }
     }
 
+    /**
+     * Whether to read the source document in a streaming pass. The modules extending this class
+     * can override this if the source document is not XML.
+     * @return true if streaming is enabled with the URI parameter
+     */
+    protected boolean isStreaming() {
+        return "true".equalsIgnoreCase(getUriParameters().get(STREAMING_PARAMETER));
+    }
+
+    /**
+     * Whether to write the target document in a streaming pass, which is when the caller supplies
+     * an {@link OutputStream} or {@link Writer} as the target document. The modules extending this
+     * class can override this if the target document is not XML.
+     * @param targetDocument target document set before the execution
+     * @return true if the target document is a sink to stream into
+     */
+    protected boolean isStreaming(Object targetDocument) {
+        return targetDocument instanceof OutputStream || targetDocument instanceof Writer;
+    }
+
+    /**
+     * Gets the plan to stream the target document, compiled once per mapping definition
+     * from the paths of the output fields of this document in mapping order.
+     */
+    private StreamPlan getTargetStreamPlan(AtlasMapping mapping) {
+        TargetStreamPlan cached = this.targetStreamPlan;
+        if (cached != null && cached.mapping == mapping) {
+            return cached.plan;
+        }
+        List<String> paths = new ArrayList<>();
+        if (mapping != null && mapping.getMappings() != null) {
+            for (BaseMapping baseMapping : mapping.getMappings().getMapping()) {
+                collectTargetPaths(baseMapping, paths);
+            }
+        }
+        StreamPlan plan = XmlStreamingFieldWriter.compile(paths);
+        this.targetStreamPlan = new TargetStreamPlan(mapping, plan);
+        return plan;
+    }
+
+    private void collectTargetPaths(BaseMapping baseMapping, List<String> paths) {
+        if (baseMapping instanceof Collection) {
+            Collection collection = (Collection) baseMapping;
+            if (collection.getMappings() != null) {
+                for (BaseMapping m : collection.getMappings().getMapping()) {
+                    collectTargetPaths(m, paths);
+                }
+            }
+        } else if (baseMapping instanceof Mapping) {
+            for (Field f : ((Mapping) baseMapping).getOutputField()) {
+                if ((f.getDocId() == null || f.getDocId().equals(getDocId())) && f.getPath() != null) {
+                    paths.add(f.getPath());
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the automaton of the source paths mapped from this document. It's compiled once per
+     * mapping definition. Returns null if the document needs to be read as a DOM, i.e. an expression
+     * refers to this document or a complex field is mapped.
+     */
+    private XmlPathAutomaton getSourceAutomaton(AtlasMapping mapping) {
+        SourceAutomaton cached = this.sourceAutomaton;
+        if (cached != null && cached.mapping == mapping) {
+            return cached.automaton;
+        }
+        Set<String> paths = new LinkedHashSet<>();
+        boolean domRequired = mapping == null || mapping.getMappings() == null;
+        if (!domRequired) {
+            for (BaseMapping baseMapping : mapping.getMappings().getMapping()) {
+                if (!collectSourcePaths(baseMapping, paths)) {
+                    domRequired = true;
+                    break;
+                }
+            }
+        }
+        XmlPathAutomaton automaton = domRequired ? null
+                : XmlPathAutomaton.compile(paths, getSourceNamespaces(mapping));
+        this.sourceAutomaton = new SourceAutomaton(mapping, automaton);
+        return automaton;
+    }
+
+    private boolean collectSourcePaths(BaseMapping baseMapping, Set<String> paths) {
+        if (baseMapping instanceof Collection) {
+            Collection collection = (Collection) baseMapping;
+            if (collection.getMappings() != null) {
+                for (BaseMapping m : collection.getMappings().getMapping()) {
+                    if (!collectSourcePaths(m, paths)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        if (!(baseMapping instanceof Mapping)) {
+            return true;
+        }
+        Mapping mapping = (Mapping) baseMapping;
+        Set<String> mappingPaths = new LinkedHashSet<>();
+        if (mapping.getInputFieldGroup() != null && !collectSourcePaths(mapping.getInputFieldGroup(), mappingPaths)) {
+            return false;
+        }
+        for (Field f : mapping.getInputField()) {
+            if (!collectSourcePaths(f, mappingPaths)) {
+                return false;
+            }
+        }
+        if (mapping.getExpression() != null && !mappingPaths.isEmpty()) {
+            // expressions may access the document randomly
+            return false;
+        }
+        paths.addAll(mappingPaths);
+        return true;
+    }
+
+    private boolean collectSourcePaths(Field field, Set<String> paths) {
+        if (field.getDocId() != null && !field.getDocId().equals(getDocId())) {
+            return true;
+        }
+        if (field instanceof FieldGroup && (field.getDocId() == null || field.getPath() == null)) {
+            // a group of source fields, not a complex field
+            for (Field child : ((FieldGroup) field).getField()) {
+                if (!collectSourcePaths(child, paths)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (field instanceof FieldGroup || field.getFieldType() == FieldType.COMPLEX) {
+            return false;
+        }
+        if (field.getPath() != null) {
+            paths.add(field.getPath());
+        }
+        return true;
+    }
+
+    private Map<String, String> getSourceNamespaces(AtlasMapping mapping) {
+        Map<String, String> namespaces = new LinkedHashMap<>();
+        for (DataSource ds : mapping.getDataSource()) {
+            if (DataSourceType.SOURCE.equals(ds.getDataSourceType()) && ds instanceof XmlDataSource
+                    && getDocId().equals(ds.getId()) && ((XmlDataSource) ds).getXmlNamespaces() != null) {
+                for (XmlNamespace ns : ((XmlDataSource) ds).getXmlNamespaces().getXmlNamespace()) {
+                    namespaces.putIfAbsent(ns.getAlias(), ns.getUri());
+                }
+            }
+        }
+        return namespaces;
+    }
+
     /**
      * Convert a source document into XML. The modules extending this class can
      * override this to convert some format into XML so that XML field reader can read it.
@@ -139,10 +334,7 @@ public class XmlModule extends BaseAtlasModule {
         }
 
         try {
-            DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-            dbf.setNamespaceAware(namespaced); // this must be done to use namespaces
-            DocumentBuilder b = dbf.newDocumentBuilder();
-            return b.parse(new ByteArrayInputStream(source.getBytes("UTF-8")));
+            return getXmlIOHelper().parseDocument(new ByteArrayInputStream(source.getBytes("UTF-8")), namespaced);
         } catch (Exception e) {
             LOG.warn("Failed to parse XML document", e);
             return null;
@@ -153,7 +345,7 @@ public class XmlModule extends BaseAtlasModule {
     public void processPreTargetExecution(AtlasInternalSession session) throws AtlasException {
         XmlNamespaces xmlNs = null;
         String template = null;
-        for (DataSource ds : session.getMapping().getDataSource()) {
+        for (DataSource ds : session.getReadOnlyMapping().getDataSource()) {
             if (DataSourceType.TARGET.equals(ds.getDataSourceType()) && ds instanceof XmlDataSource
                     && (ds.getId() == null || ds.getId().equals(getDocId()))) {
                 xmlNs = ((XmlDataSource) ds).getXmlNamespaces();
@@ -168,7 +360,17 @@ public class XmlModule extends BaseAtlasModule {
             }
         }
 
-        XmlFieldWriter writer = new XmlFieldWriter(getClassLoader(), nsMap, template);
+        Object targetDocument = session.hasTargetDocument(getDocId()) ? session.getTargetDocument(getDocId()) : null;
+        XmlFieldWriter writer;
+        if (isStreaming(targetDocument) && targetDocument instanceof OutputStream) {
+            writer = new XmlStreamingFieldWriter(getClassLoader(), getXmlIOHelper(), nsMap, template,
+                    (OutputStream) targetDocument, getTargetStreamPlan(session.getReadOnlyMapping()));
+        } else if (isStreaming(targetDocument) && targetDocument instanceof Writer) {
+            writer = new XmlStreamingFieldWriter(getClassLoader(), getXmlIOHelper(), nsMap, template,
+                    (Writer) targetDocument, getTargetStreamPlan(session.getReadOnlyMapping()));
+        } else {
+            writer = new XmlFieldWriter(getClassLoader(), getXmlIOHelper(), nsMap, template);
+        }
         session.setFieldWriter(getDocId(), writer);
 
         if (LOG.isDebugEnabled()) {
@@ -179,7 +381,7 @@ public class XmlModule extends BaseAtlasModule {
     @Override
     public void readSourceValue(AtlasInternalSession session) throws AtlasException {
         Field sourceField = session.head().getSourceField();
-        XmlFieldReader reader = session.getFieldReader(getDocId(), XmlFieldReader.class);
+        AtlasFieldReader reader = session.getFieldReader(getDocId());
         if (reader == null) {
             AtlasUtil.addAudit(session, sourceField.getDocId(), String.format(
                     "Source document '%s' doesn't exist", getDocId()),
@@ -256,8 +458,7 @@ public class XmlModule extends BaseAtlasModule {
         } else {
             XmlField targetSubField = new XmlField();
             AtlasXmlModelFactory.copyField(targetField, targetSubField, false);
-            path.setVacantCollectionIndex(0);
-            targetSubField.setPath(path.toString());
+            targetSubField.setPath(path.withVacantCollectionIndex(0).toString());
             targetFieldGroup.getField().add(targetSubField);
             session.head().setTargetField(targetSubField);
             super.populateTargetField(session);
@@ -301,7 +502,14 @@ public class XmlModule extends BaseAtlasModule {
     @Override
     public void processPostTargetExecution(AtlasInternalSession session) throws AtlasException {
         XmlFieldWriter writer = session.getFieldWriter(getDocId(), XmlFieldWriter.class);
-        if (writer != null && writer.getDocument() != null) {
+        if (writer instanceof XmlStreamingFieldWriter) {
+            // streaming, the target document is the caller-supplied sink
+            if (!((XmlStreamingFieldWriter) writer).close()) {
+                AtlasUtil.addAudit(session, getDocId(), String.format(
+                        "No target document created for DataSource:[id=%s, uri=%s]", getDocId(), this.getUri()),
+                        null, AuditStatus.WARN, null);
+            }
+        } else if (writer != null && writer.getDocument() != null) {
             Document doc = enforceSchema(writer.getDocument());
             String targetDocumentString = convertFromXmlDocument(doc);
             session.setTargetDocument(getDocId(), targetDocumentString);
@@ -345,36 +553,31 @@ public class XmlModule extends BaseAtlasModule {
     }
 
     private Document enforceSchema(Document doc) {
-        if (getDataSourceMetadata() == null || getDataSourceMetadata().getInspectionType() != InspectionType.SCHEMA
-            || getDataSourceMetadata().getSpecification() == null || getDataSourceMetadata().getSpecification().length == 0) {
+        TargetSchema schema = getTargetSchema();
+        if (schema.rootElements.isEmpty()) {
+            return doc;
+        }
+        Element sourceRoot = doc.getDocumentElement();
+        String namespaceUri = sourceRoot.getNamespaceURI();
+        if (namespaceUri == null) {
+            namespaceUri = XMLConstants.NULL_NS_URI;
+        }
+        String localName = sourceRoot.getLocalName();
+        if (XMLConstants.NULL_NS_URI.equals(namespaceUri)) {
+            localName = sourceRoot.getTagName();
+        }
+        XSElementDecl rootDecl = schema.getRootElement(namespaceUri, localName);
+        if (rootDecl == null) {
+            LOG.warn("Declaration of the root element '{}' was not found in the schema",
+                    namespaceUri != null ? namespaceUri + ":" + localName : localName);
             return doc;
         }
         try {
-            byte[] bytes = getDataSourceMetadata().getSpecification();
-            AtlasXmlSchemaSetParser schemaParser = new AtlasXmlSchemaSetParser(getClassLoader());
-            XSSchemaSet schemaSet = schemaParser.parse(new ByteArrayInputStream(bytes));
-            Element sourceRoot = doc.getDocumentElement();
-            String namespaceUri = sourceRoot.getNamespaceURI();
-            if (namespaceUri == null) {
-                namespaceUri = XMLConstants.NULL_NS_URI;
-            }
-            String localName = sourceRoot.getLocalName();
-            if (XMLConstants.NULL_NS_URI.equals(namespaceUri)) {
-                localName = sourceRoot.getTagName();
-            }
-            XSElementDecl rootDecl = schemaSet.getElementDecl(namespaceUri, localName);
-            if (rootDecl == null) {
-                LOG.warn("Declaration of the root element '{}' was not found in the schema",
-                        namespaceUri != null ? namespaceUri + ":" + localName : localName);
-                return doc;
-            }
-            DocumentBuilderFactory dbf = DocumentBuilderFactory.newInstance();
-            dbf.setNamespaceAware(true);
-            Document targetDoc = dbf.newDocumentBuilder().newDocument();
+            Document targetDoc = getXmlIOHelper().newDocument(true);
             rootDecl.visit(new AtlasRewritingXSVisitor(doc, targetDoc));
             return targetDoc;
         } catch (Exception e) {
-            LOG.warn("Failed to load XML schema for the document '{}': {} - ignoring", getDocId(), e.getMessage());
+            LOG.warn("Failed to enforce XML schema for the document '{}': {} - ignoring", getDocId(), e.getMessage());
             if (LOG.isDebugEnabled()) {
                 LOG.debug("", e);
             }
@@ -382,4 +585,83 @@ public class XmlModule extends BaseAtlasModule {
         }
     }
 
+    /**
+     * Gets the target schema compiled at {@link #init()}, or compiles it again if the data source
+     * metadata has been replaced since then.
+     */
+    TargetSchema getTargetSchema() {
+        TargetSchema schema = this.targetSchema;
+        if (schema == null || schema.metadata != getDataSourceMetadata()) {
+            schema = compileTargetSchema(getDataSourceMetadata());
+            this.targetSchema = schema;
+        }
+        return schema;
+    }
+
+    private TargetSchema compileTargetSchema(DataSourceMetadata metadata) {
+        if (metadata == null || metadata.getInspectionType() != InspectionType.SCHEMA
+            || metadata.getSpecification() == null || metadata.getSpecification().length == 0) {
+            return new TargetSchema(metadata, Collections.emptyMap());
+        }
+        try {
+            AtlasXmlSchemaSetParser schemaParser = new AtlasXmlSchemaSetParser(getClassLoader(), getXmlIOHelper());
+            XSSchemaSet schemaSet = schemaParser.parse(new ByteArrayInputStream(metadata.getSpecification()));
+            Map<QName, XSElementDecl> rootElements = new HashMap<>();
+            Iterator<XSElementDecl> it = schemaSet.iterateElementDecls();
+            while (it.hasNext()) {
+                XSElementDecl decl = it.next();
+                rootElements.put(new QName(decl.getTargetNamespace(), decl.getName()), decl);
+            }
+            return new TargetSchema(metadata, Collections.unmodifiableMap(rootElements));
+        } catch (Exception e) {
+            LOG.warn("Failed to load XML schema for the document '{}': {} - ignoring", getDocId(), e.getMessage());
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("", e);
+            }
+            return new TargetSchema(metadata, Collections.emptyMap());
+        }
+    }
+
+    /**
+     * The source path automaton compiled for a mapping definition, null automaton if the
+     * document needs to be read as a DOM.
+     */
+    private static final class SourceAutomaton {
+        private final AtlasMapping mapping;
+        private final XmlPathAutomaton automaton;
+
+        private SourceAutomaton(AtlasMapping mapping, XmlPathAutomaton automaton) {
+            this.mapping = mapping;
+            this.automaton = automaton;
+        }
+    }
+
+    private static final class TargetStreamPlan {
+        private final AtlasMapping mapping;
+        private final StreamPlan plan;
+
+        private TargetStreamPlan(AtlasMapping mapping, StreamPlan plan) {
+            this.mapping = mapping;
+            this.plan = plan;
+        }
+    }
+
+    /**
+     * The target XML schema compiled from the data source metadata, with the top level element
+     * declarations indexed by qualified name. It's immutable and shared by all the sessions.
+     */
+    static final class TargetSchema {
+        private final DataSourceMetadata metadata;
+        private final Map<QName, XSElementDecl> rootElements;
+
+        private TargetSchema(DataSourceMetadata metadata, Map<QName, XSElementDecl> rootElements) {
+            this.metadata = metadata;
+            this.rootElements = rootElements;
+        }
+
+        XSElementDecl getRootElement(String namespaceUri, String localName) {
+            return rootElements.get(new QName(namespaceUri, localName));
+        }
+    }
+
 }
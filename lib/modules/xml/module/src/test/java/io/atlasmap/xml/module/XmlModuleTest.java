@@ -1,13 +1,22 @@
 package io.atlasmap.xml.module;
 
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.nio.charset.StandardCharsets;
+
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import io.atlasmap.spi.AtlasModuleMode;
 import io.atlasmap.v2.ConstantField;
+import io.atlasmap.v2.DataSourceMetadata;
+import io.atlasmap.v2.InspectionType;
 import io.atlasmap.v2.PropertyField;
 import io.atlasmap.v2.SimpleField;
 import io.atlasmap.xml.v2.XmlField;
@@ -34,4 +43,31 @@ public class XmlModuleTest {
         assertTrue(module.isSupportedField(new SimpleField()));
     }
 
+    @Test
+    public void testTargetSchemaCompiledOnce() throws Exception {
+        String xsd = "<xs:schema xmlns:xs=\"http://www.w3.org/2001/XMLSchema\" targetNamespace=\"urn:test\">"
+                + "<xs:element name=\"order\" type=\"xs:string\"/></xs:schema>";
+        module.setMode(AtlasModuleMode.TARGET);
+        module.setDataSourceMetadata(createMetadata(xsd));
+        module.init();
+
+        XmlModule.TargetSchema schema = module.getTargetSchema();
+        assertSame(schema, module.getTargetSchema());
+        assertNotNull(schema.getRootElement("urn:test", "order"));
+        assertNull(schema.getRootElement("urn:test", "invoice"));
+
+        module.setDataSourceMetadata(createMetadata("not a schema"));
+        XmlModule.TargetSchema broken = module.getTargetSchema();
+        assertNotSame(schema, broken);
+        assertNull(broken.getRootElement("urn:test", "order"));
+        assertSame(broken, module.getTargetSchema());
+    }
+
+    private DataSourceMetadata createMetadata(String specification) {
+        DataSourceMetadata metadata = new DataSourceMetadata();
+        metadata.setInspectionType(InspectionType.SCHEMA);
+        metadata.setSpecification(specification.getBytes(StandardCharsets.UTF_8));
+        return metadata;
+    }
+
 }